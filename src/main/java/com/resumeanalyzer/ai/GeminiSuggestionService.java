@@ -1,32 +1,44 @@
 package com.resumeanalyzer.ai;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.List;
-import java.util.Set;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Value;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.MediaType;
-import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestClientException;
-import org.springframework.web.client.RestTemplate;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.Callable;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestTemplate;
 
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.concurrent.SingleFlight;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
+import com.resumeanalyzer.exception.AnalysisException;
 
 /**
  * LLM-powered suggestion service using Google Gemini API.
  * Safe, null-checked, and fallback-friendly.
+ * Identical requests in flight at the same time share one Gemini call.
+ * Connecting to and reading from Gemini are each bounded by
+ * resume.analyzer.ai-suggestions.timeout-seconds.
  */
 @Service
 public class GeminiSuggestionService {
 
     private static final Logger logger = LoggerFactory.getLogger(GeminiSuggestionService.class);
+    private static final String SUGGESTIONS_CACHE = "resume-suggestions";
 
     @Value("${gemini.api.url}")
     private String geminiApiUrl;
@@ -34,24 +46,37 @@ public class GeminiSuggestionService {
     @Value("${gemini.api.key:}")
     private String apiKey;
 
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper = new ObjectMapper();
+    private final SingleFlight<List<String>> geminiCalls;
+    private final ObjectProvider<CacheManager> cacheManager;
+
+    public GeminiSuggestionService(SingleFlightRegistry singleFlightRegistry,
+                                   ObjectProvider<CacheManager> cacheManager,
+                                   @Value("${resume.analyzer.ai-suggestions.timeout-seconds:30}") int timeoutSeconds) {
+        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
+        requestFactory.setConnectTimeout(Duration.ofSeconds(timeoutSeconds));
+        requestFactory.setReadTimeout(Duration.ofSeconds(timeoutSeconds));
+        this.restTemplate = new RestTemplate(requestFactory);
+        this.geminiCalls = singleFlightRegistry.get("ai-suggestions");
+        this.cacheManager = cacheManager;
+    }
 
-    /**
-     * Public entry point for AI suggestions.
-     * Results are cached for identical resume/job description combinations.
-     */
-    @Cacheable(
-        value = "resume-suggestions",
-        key = "#resumeText.hashCode() + '-' + #jobDescriptionText.hashCode() + '-' + #matchPercentage",
-        unless = "#result == null || #result.isEmpty()"
-    )
-    public List<String> generateAISuggestions(
-            String resumeText,
-            String jobDescriptionText,
-            Set<String> matchedSkills,
-            Set<String> missingSkills,
-            double matchPercentage) {
+    /**
+     * Public entry point for AI suggestions.
+     * Results are cached for identical resume/job description combinations
+     * in the "resume-suggestions" cache, which may serve a stale entry while
+     * it refreshes and keeps the last good suggestions when Gemini fails.
+     *
+     * @throws AnalysisException if Gemini failed and no cached suggestions
+     *         could be served instead
+     */
+    public List<String> generateAISuggestions(
+            String resumeText,
+            String jobDescriptionText,
+            Set<String> matchedSkills,
+            Set<String> missingSkills,
+            double matchPercentage) {
 
         if (apiKey == null || apiKey.isBlank()) {
             logger.warn("Gemini API key not configured. Skipping AI suggestions.");
@@ -65,15 +90,34 @@ public class GeminiSuggestionService {
                     matchedSkills,
                     missingSkills,
                     matchPercentage);
-            return callGemini(prompt);
+            String key = SingleFlight.contentKey(resumeText, jobDescriptionText, matchPercentage);
+            Callable<List<String>> loader = () -> geminiCalls.execute(key, () -> requireSuggestions(callGemini(prompt)));
+
+            CacheManager manager = cacheManager.getIfAvailable();
+            Cache cache = manager != null ? manager.getCache(SUGGESTIONS_CACHE) : null;
+            if (cache == null) {
+                return loader.call();
+            }
+            return cache.get(key, loader);
         } catch (Exception e) {
-            logger.error("Gemini API failed, falling back to rule-based suggestions", e);
-            return Collections.emptyList();
+            logger.error("Gemini API failed, no AI suggestions available", e);
+            throw new AnalysisException("AI suggestions failed", e);
         }
     }
 
     // -------------------- INTERNAL METHODS --------------------
 
+    /**
+     * An empty answer means the call failed; throwing keeps it out of the
+     * cache so the previous suggestions stay in place.
+     */
+    private List<String> requireSuggestions(List<String> suggestions) {
+        if (suggestions == null || suggestions.isEmpty()) {
+            throw new IllegalStateException("Gemini returned no suggestions");
+        }
+        return suggestions;
+    }
+
     private String buildPrompt(
             String resumeText,
             String jobDescriptionText,
@@ -1,5 +1,7 @@
 package com.resumeanalyzer.analysis;
 
+import com.resumeanalyzer.concurrent.SingleFlight;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cache.annotation.Cacheable;
@@ -13,31 +15,49 @@ import java.util.Set;
  * This service provides caching capabilities for skill extraction operations.
  * Identical resume/job description text will return cached results,
  * significantly improving performance for repeated analyses.
+ * Concurrent cache misses for the same text share one extraction.
  */
 @Service
 public class CacheableSkillExtractor {
     private static final Logger log = LoggerFactory.getLogger(CacheableSkillExtractor.class);
     
     private final SkillExtractor skillExtractor;
+    private final SingleFlight<Set<String>> extractions;
 
-    public CacheableSkillExtractor() {
+    public CacheableSkillExtractor(SingleFlightRegistry singleFlightRegistry) {
         this.skillExtractor = new SkillExtractor();
+        this.extractions = singleFlightRegistry.get("skill-extraction");
         log.info("CacheableSkillExtractor initialized with {} known skills", 
                  skillExtractor.getSkillCount());
     }
 
     /**
      * Extracts skills with caching.
-     * Results are cached based on the hash of the input text.
+     * Results are cached by the SHA-256 content key of the input text.
      */
     @Cacheable(
         value = "skills",
-        key = "#text.hashCode()",
+        key = "T(com.resumeanalyzer.concurrent.SingleFlight).contentKey(#text)",
         unless = "#result == null || #result.isEmpty()"
     )
     public Set<String> extractSkills(String text) {
         log.debug("Extracting skills from text ({}B)", text.length());
-        return skillExtractor.extractSkills(text);
+        return extractions.execute(SingleFlight.contentKey(text), () -> skillExtractor.extractSkills(text));
+    }
+
+    /**
+     * Extracts skills from already tokenized text with caching.
+     * Shares cache entries and in-flight extractions with
+     * {@link #extractSkills(String)} for the same text.
+     */
+    @Cacheable(
+        value = "skills",
+        key = "T(com.resumeanalyzer.concurrent.SingleFlight).contentKey(#tokens.text)",
+        unless = "#result == null || #result.isEmpty()"
+    )
+    public Set<String> extractSkillsFromTokens(TokenStream tokens) {
+        log.debug("Extracting skills from {} tokens", tokens.size());
+        return extractions.execute(SingleFlight.contentKey(tokens.getText()), () -> skillExtractor.extractSkillsFromTokens(tokens));
     }
 
     /**
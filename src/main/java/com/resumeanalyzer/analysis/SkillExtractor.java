@@ -3,7 +3,6 @@ package com.resumeanalyzer.analysis;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
@@ -36,22 +35,28 @@ public class SkillExtractor {
      * @return set of detected skill display names
      */
     public Set<String> extractSkills(String rawText) {
-        Set<String> detected = new HashSet<>();
-        
         if (rawText == null || rawText.isEmpty()) {
             log.debug("Raw text is null or empty, returning empty skill set");
-            return detected;
+            return new HashSet<>();
         }
-        
-        log.debug("Starting skill extraction from text of {} characters", rawText.length());
-        String normalizedText = normalizeText(rawText);
+        return extractSkillsFromTokens(TokenStream.of(rawText));
+    }
 
-        // For each known skill (normalized), check presence via word-boundary match
-        for (Map.Entry<String, String> entry : normalizedToDisplay.entrySet()) {
-            String normalizedSkill = entry.getKey();
-            String display = entry.getValue();
-            
-            if (containsWord(normalizedText, normalizedSkill)) {
+    /**
+     * Extracts skills from already tokenized text.
+     * A skill is detected when one of the text's tokens equals its normalized
+     * name, so each distinct token is looked up once in the registry.
+     *
+     * @param tokens tokenized resume or job description
+     * @return set of detected skill display names
+     */
+    public Set<String> extractSkillsFromTokens(TokenStream tokens) {
+        Set<String> detected = new HashSet<>();
+        log.debug("Starting skill extraction from {} tokens", tokens.size());
+
+        for (String token : tokens.tokenSet()) {
+            String display = normalizedToDisplay.get(token);
+            if (display != null) {
                 detected.add(display);
                 log.debug("Detected skill: {}", display);
             }
@@ -88,41 +93,4 @@ public class SkillExtractor {
     public int getSkillCount() {
         return skillRegistry.getSkillCount();
     }
-
-    // --- Helpers ---
-
-    /**
-     * Normalizes the entire text: lowercase, remove special characters, compress whitespace.
-     *
-     * @param text the text to normalize
-     * @return the normalized text
-     */
-    private String normalizeText(String text) {
-        String lower = text.toLowerCase();
-        String cleaned = lower.replaceAll("[^a-z0-9\\s]", " ");
-        return cleaned.replaceAll("\\s+", " ").trim();
-    }
-
-    /**
-     * Checks if the normalized text contains the skill token via token-based matching.
-     * Ensures whole-word matching to avoid partial matches.
-     *
-     * @param normalizedText the normalized text to search in
-     * @param normalizedSkill the normalized skill token to find
-     * @return true if the skill is found as a whole word, false otherwise
-     */
-    private boolean containsWord(String normalizedText, String normalizedSkill) {
-        if (normalizedSkill == null || normalizedSkill.isEmpty()) {
-            return false;
-        }
-        
-        // normalizedText is already compressed to single spaces; split into tokens
-        String[] tokens = normalizedText.split(" ");
-        for (String token : tokens) {
-            if (token.equals(normalizedSkill)) {
-                return true;
-            }
-        }
-        return false;
-    }
 }
@@ -0,0 +1,173 @@
+package com.resumeanalyzer.analysis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Pairwise skill similarity of a set of profiles.
+ *
+ * Every distinct skill gets a bit position and each profile becomes a bitset
+ * of its skills, so intersections are word-wise ANDs counted with
+ * {@link Long#bitCount}. The full matrix costs n² × (skills / 64) word
+ * operations: for 200 profiles and a few hundred distinct skills that is
+ * well under a million, i.e. a few milliseconds.
+ *
+ * Similarities are Jaccard (|A ∩ B| / |A ∪ B|) and overlap
+ * (|A ∩ B| / min(|A|, |B|)); two empty profiles are 0 apart, not 1.
+ */
+public final class SkillSimilarityMatrix {
+
+    private final List<String> skills;
+    private final long[][] bits;
+    private final int[] sizes;
+    private final double[][] jaccard;
+    private final double[][] overlap;
+    private final long[] unique;
+
+    private SkillSimilarityMatrix(List<String> skills, long[][] bits) {
+        int n = bits.length;
+        int words = bits.length > 0 ? bits[0].length : 0;
+        this.skills = skills;
+        this.bits = bits;
+        this.sizes = new int[n];
+        this.jaccard = new double[n][n];
+        this.overlap = new double[n][n];
+
+        // Skills held by exactly one profile: seen once but not twice
+        long[] once = new long[words];
+        long[] twice = new long[words];
+        for (int i = 0; i < n; i++) {
+            for (int w = 0; w < words; w++) {
+                sizes[i] += Long.bitCount(bits[i][w]);
+                twice[w] |= once[w] & bits[i][w];
+                once[w] |= bits[i][w];
+            }
+        }
+        this.unique = new long[words];
+        for (int w = 0; w < words; w++) {
+            unique[w] = once[w] & ~twice[w];
+        }
+
+        for (int i = 0; i < n; i++) {
+            jaccard[i][i] = sizes[i] > 0 ? 1.0 : 0.0;
+            overlap[i][i] = jaccard[i][i];
+            for (int j = i + 1; j < n; j++) {
+                int common = 0;
+                for (int w = 0; w < words; w++) {
+                    common += Long.bitCount(bits[i][w] & bits[j][w]);
+                }
+                int union = sizes[i] + sizes[j] - common;
+                int smaller = Math.min(sizes[i], sizes[j]);
+                jaccard[i][j] = jaccard[j][i] = union > 0 ? (double) common / union : 0.0;
+                overlap[i][j] = overlap[j][i] = smaller > 0 ? (double) common / smaller : 0.0;
+            }
+        }
+    }
+
+    /**
+     * Build the matrix for the given profiles.
+     *
+     * @param profiles skill sets, one per profile; the index is the profile's position
+     * @return the similarity matrix
+     */
+    public static SkillSimilarityMatrix of(List<? extends Collection<String>> profiles) {
+        Set<String> distinct = new TreeSet<>();
+        profiles.forEach(distinct::addAll);
+        List<String> skills = new ArrayList<>(distinct);
+        Map<String, Integer> positions = new HashMap<>(skills.size() * 2);
+        for (int i = 0; i < skills.size(); i++) {
+            positions.put(skills.get(i), i);
+        }
+
+        int words = (skills.size() + 63) / 64;
+        long[][] bits = new long[profiles.size()][words];
+        for (int i = 0; i < profiles.size(); i++) {
+            for (String skill : profiles.get(i)) {
+                int position = positions.get(skill);
+                bits[i][position >>> 6] |= 1L << position;
+            }
+        }
+        return new SkillSimilarityMatrix(skills, bits);
+    }
+
+    public int size() {
+        return bits.length;
+    }
+
+    public int skillCount(int profile) {
+        return sizes[profile];
+    }
+
+    public double jaccard(int first, int second) {
+        return jaccard[first][second];
+    }
+
+    public double overlap(int first, int second) {
+        return overlap[first][second];
+    }
+
+    /**
+     * @return skills of the profile that no other profile has, in name order
+     */
+    public List<String> uniqueSkills(int profile) {
+        List<String> result = new ArrayList<>();
+        long[] profileBits = bits[profile];
+        for (int w = 0; w < profileBits.length; w++) {
+            long word = profileBits[w] & unique[w];
+            while (word != 0) {
+                result.add(skills.get((w << 6) + Long.numberOfTrailingZeros(word)));
+                word &= word - 1;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Group profiles whose Jaccard similarity reaches the threshold, directly
+     * or through a chain of such profiles (single linkage).
+     *
+     * @param threshold minimum Jaccard similarity linking two profiles
+     * @return clusters of profile indexes, largest first; unlinked profiles form their own cluster
+     */
+    public List<List<Integer>> clusters(double threshold) {
+        int n = size();
+        int[] parent = new int[n];
+        for (int i = 0; i < n; i++) {
+            parent[i] = i;
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                if (jaccard[i][j] >= threshold) {
+                    parent[find(parent, i)] = find(parent, j);
+                }
+            }
+        }
+
+        Map<Integer, List<Integer>> byRoot = new HashMap<>();
+        Set<Integer> roots = new LinkedHashSet<>();
+        for (int i = 0; i < n; i++) {
+            int root = find(parent, i);
+            roots.add(root);
+            byRoot.computeIfAbsent(root, key -> new ArrayList<>()).add(i);
+        }
+        List<List<Integer>> clusters = new ArrayList<>(roots.size());
+        roots.forEach(root -> clusters.add(byRoot.get(root)));
+        clusters.sort(Comparator.comparingInt((List<Integer> cluster) -> -cluster.size()));
+        return clusters;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+}
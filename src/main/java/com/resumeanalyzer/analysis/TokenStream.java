@@ -0,0 +1,229 @@
+package com.resumeanalyzer.analysis;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Text split into normalized tokens in a single pass.
+ *
+ * A token is a maximal run of ASCII letters and digits, lowercased; every
+ * other character separates tokens. This is the same normalization the
+ * skill extractor has always applied, so the token set can be matched
+ * against the skill registry directly. Each token keeps its offsets into the
+ * original text and the line it is on, so later readers (validation,
+ * section detection, structured fields) work on the tokens and look at the
+ * original text only around them instead of scanning it again.
+ */
+public final class TokenStream {
+
+    private static final Set<String> SECTION_HEADINGS = Set.of(
+            "summary", "profile", "objective", "experience", "employment", "work", "history",
+            "education", "skills", "technical", "projects", "certifications", "achievements",
+            "responsibilities", "requirements", "qualifications", "about", "professional");
+    private static final int MAX_HEADING_TOKENS = 3;
+
+    private final String text;
+    private final String[] tokens;
+    private final int[] starts;
+    private final int[] ends;
+    private final int[] lines;
+    private final boolean nullByte;
+
+    private Set<String> tokenSet;
+    private List<Section> sections;
+
+    private TokenStream(String text, String[] tokens, int[] starts, int[] ends, int[] lines, boolean nullByte) {
+        this.text = text;
+        this.tokens = tokens;
+        this.starts = starts;
+        this.ends = ends;
+        this.lines = lines;
+        this.nullByte = nullByte;
+    }
+
+    /**
+     * Tokenize the text.
+     *
+     * @param text text to tokenize; null is treated as empty
+     * @return the token stream
+     */
+    public static TokenStream of(String text) {
+        String source = text != null ? text : "";
+        int capacity = Math.max(16, source.length() / 6);
+        String[] tokens = new String[capacity];
+        int[] starts = new int[capacity];
+        int[] ends = new int[capacity];
+        int[] lines = new int[capacity];
+        int count = 0;
+        int line = 0;
+        boolean nullByte = false;
+        StringBuilder token = new StringBuilder(32);
+        int start = -1;
+
+        for (int i = 0, n = source.length(); i <= n; i++) {
+            char c = i < n ? source.charAt(i) : ' ';
+            char lower = c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+            if ((lower >= 'a' && lower <= 'z') || (lower >= '0' && lower <= '9')) {
+                if (start < 0) {
+                    start = i;
+                }
+                token.append(lower);
+                continue;
+            }
+            if (start >= 0) {
+                if (count == tokens.length) {
+                    int grown = count * 2;
+                    tokens = Arrays.copyOf(tokens, grown);
+                    starts = Arrays.copyOf(starts, grown);
+                    ends = Arrays.copyOf(ends, grown);
+                    lines = Arrays.copyOf(lines, grown);
+                }
+                tokens[count] = token.toString();
+                starts[count] = start;
+                ends[count] = i;
+                lines[count] = line;
+                count++;
+                token.setLength(0);
+                start = -1;
+            }
+            if (c == '\n') {
+                line++;
+            } else if (c == '\0') {
+                nullByte = true;
+            }
+        }
+
+        return new TokenStream(source, Arrays.copyOf(tokens, count), Arrays.copyOf(starts, count),
+                Arrays.copyOf(ends, count), Arrays.copyOf(lines, count), nullByte);
+    }
+
+    /**
+     * @return the original text
+     */
+    public String getText() {
+        return text;
+    }
+
+    public int size() {
+        return tokens.length;
+    }
+
+    public String token(int index) {
+        return tokens[index];
+    }
+
+    /**
+     * @return offset of the token's first character in the original text
+     */
+    public int start(int index) {
+        return starts[index];
+    }
+
+    /**
+     * @return offset just past the token's last character in the original text
+     */
+    public int end(int index) {
+        return ends[index];
+    }
+
+    /**
+     * @return zero-based line number of the token
+     */
+    public int line(int index) {
+        return lines[index];
+    }
+
+    public boolean containsNullByte() {
+        return nullByte;
+    }
+
+    /**
+     * Whether the original text has {@code literal} starting at the given offset.
+     */
+    public boolean textMatches(int offset, String literal) {
+        return offset >= 0 && text.startsWith(literal, offset);
+    }
+
+    /**
+     * @return distinct tokens
+     */
+    public Set<String> tokenSet() {
+        if (tokenSet == null) {
+            tokenSet = Collections.unmodifiableSet(new HashSet<>(Arrays.asList(tokens)));
+        }
+        return tokenSet;
+    }
+
+    /**
+     * Sections of the text, each starting at a short line made of heading
+     * words such as "Experience" or "Technical Skills". Text before the first
+     * heading is not part of any section.
+     */
+    public List<Section> sections() {
+        if (sections == null) {
+            List<String> headings = new ArrayList<>();
+            List<int[]> bounds = new ArrayList<>();
+            int i = 0;
+            while (i < tokens.length) {
+                int lineEnd = i;
+                boolean heading = SECTION_HEADINGS.contains(tokens[i]);
+                while (lineEnd < tokens.length && lines[lineEnd] == lines[i]) {
+                    heading &= SECTION_HEADINGS.contains(tokens[lineEnd]) || "and".equals(tokens[lineEnd]);
+                    lineEnd++;
+                }
+                if (heading && lineEnd - i <= MAX_HEADING_TOKENS) {
+                    headings.add(String.join(" ", Arrays.copyOfRange(tokens, i, lineEnd)));
+                    bounds.add(new int[] {i, lineEnd});
+                }
+                i = lineEnd;
+            }
+            List<Section> found = new ArrayList<>(headings.size());
+            for (int h = 0; h < headings.size(); h++) {
+                int to = h + 1 < bounds.size() ? bounds.get(h + 1)[0] : tokens.length;
+                found.add(new Section(headings.get(h), bounds.get(h)[1], to));
+            }
+            sections = Collections.unmodifiableList(found);
+        }
+        return sections;
+    }
+
+    /**
+     * A titled range of tokens.
+     */
+    public static final class Section {
+        private final String heading;
+        private final int from;
+        private final int to;
+
+        private Section(String heading, int from, int to) {
+            this.heading = heading;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * @return normalized heading, e.g. "technical skills"
+         */
+        public String getHeading() {
+            return heading;
+        }
+
+        /**
+         * @return index of the first token after the heading
+         */
+        public int getFrom() {
+            return from;
+        }
+
+        /**
+         * @return index just past the last token of the section
+         */
+        public int getTo() {
+            return to;
+        }
+    }
+}
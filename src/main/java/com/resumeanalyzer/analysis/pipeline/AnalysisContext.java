@@ -0,0 +1,88 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+import java.util.List;
+import java.util.Set;
+
+import com.resumeanalyzer.analysis.TokenStream;
+
+/**
+ * One document going through the {@link AnalysisPipeline}: its text, the
+ * token stream shared by all stages, and what the stages found.
+ *
+ * The text is tokenized on first use, so a stage that rejects the document
+ * before looking at its content (e.g. because it is too large) costs no
+ * tokenization. A context belongs to one analysis and is not shared between
+ * threads while stages run.
+ */
+public class AnalysisContext {
+
+    /**
+     * Kind of document being analyzed.
+     */
+    public enum DocumentType {
+        RESUME, JOB_DESCRIPTION
+    }
+
+    private final DocumentType type;
+    private final String text;
+    private TokenStream tokens;
+    private Set<String> skills;
+    private Integer yearsOfExperience;
+    private List<String> sections;
+
+    public AnalysisContext(DocumentType type, String text) {
+        this.type = type;
+        this.text = text;
+    }
+
+    public DocumentType getType() {
+        return type;
+    }
+
+    public String getText() {
+        return text;
+    }
+
+    /**
+     * @return the document's tokens, tokenizing the text on first call
+     */
+    public TokenStream tokens() {
+        if (tokens == null) {
+            tokens = TokenStream.of(text);
+        }
+        return tokens;
+    }
+
+    /**
+     * @return skills found in the document, or null if not extracted
+     */
+    public Set<String> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(Set<String> skills) {
+        this.skills = skills;
+    }
+
+    /**
+     * @return years of experience stated in the document, or null if none was found
+     */
+    public Integer getYearsOfExperience() {
+        return yearsOfExperience;
+    }
+
+    public void setYearsOfExperience(Integer yearsOfExperience) {
+        this.yearsOfExperience = yearsOfExperience;
+    }
+
+    /**
+     * @return headings of the document's sections in order, or null if not extracted
+     */
+    public List<String> getSections() {
+        return sections;
+    }
+
+    public void setSections(List<String> sections) {
+        this.sections = sections;
+    }
+}
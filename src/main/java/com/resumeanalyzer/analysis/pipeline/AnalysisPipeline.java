@@ -0,0 +1,47 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Runs a document through the registered {@link AnalysisStage}s.
+ *
+ * The document is tokenized at most once and every stage reads that token
+ * stream: validation, skill extraction and structured field extraction
+ * share it instead of each normalizing the text again. Scoring a resume
+ * against a job description combines the skills of two analyzed contexts.
+ */
+@Component
+public class AnalysisPipeline {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisPipeline.class);
+
+    private final List<AnalysisStage> stages;
+
+    public AnalysisPipeline(List<AnalysisStage> stages) {
+        this.stages = List.copyOf(stages);
+        log.info("Analysis pipeline initialized with stages {}",
+                stages.stream().map(stage -> stage.getClass().getSimpleName()).toList());
+    }
+
+    /**
+     * Analyze one document.
+     *
+     * @param type kind of document
+     * @param text document text
+     * @return the context with every stage's findings
+     * @throws com.resumeanalyzer.exception.ValidationException if a stage rejects the document
+     */
+    public AnalysisContext analyze(AnalysisContext.DocumentType type, String text) {
+        AnalysisContext context = new AnalysisContext(type, text);
+        for (AnalysisStage stage : stages) {
+            if (stage.supports(type)) {
+                stage.process(context);
+            }
+        }
+        return context;
+    }
+}
@@ -0,0 +1,21 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+/**
+ * A step of the {@link AnalysisPipeline}.
+ *
+ * Stages are Spring beans, run in {@link org.springframework.core.annotation.Order}
+ * order. They read the context's shared token stream rather than the raw
+ * text, so adding a stage does not add a pass over the document, and record
+ * what they find on the context. A stage rejects a document by throwing.
+ */
+public interface AnalysisStage {
+
+    /**
+     * @return whether this stage applies to documents of the given type
+     */
+    default boolean supports(AnalysisContext.DocumentType type) {
+        return true;
+    }
+
+    void process(AnalysisContext context);
+}
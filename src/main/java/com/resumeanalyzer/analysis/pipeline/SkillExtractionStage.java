@@ -0,0 +1,25 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+
+/**
+ * Detects known skills in the document's tokens, through the skills cache.
+ */
+@Component
+@Order(200)
+public class SkillExtractionStage implements AnalysisStage {
+
+    private final CacheableSkillExtractor skillExtractor;
+
+    public SkillExtractionStage(CacheableSkillExtractor skillExtractor) {
+        this.skillExtractor = skillExtractor;
+    }
+
+    @Override
+    public void process(AnalysisContext context) {
+        context.setSkills(skillExtractor.extractSkillsFromTokens(context.tokens()));
+    }
+}
@@ -0,0 +1,57 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+import java.util.Set;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.resumeanalyzer.analysis.TokenStream;
+
+/**
+ * Extracts structured fields from a resume's tokens: its section headings
+ * and the years of experience, read from phrases like "5 years" or "3+ yrs".
+ */
+@Component
+@Order(300)
+public class StructuredFieldsStage implements AnalysisStage {
+
+    private static final Set<String> YEAR_WORDS = Set.of("year", "years", "yr", "yrs");
+    private static final int MAX_YEARS = 50;
+
+    @Override
+    public boolean supports(AnalysisContext.DocumentType type) {
+        return type == AnalysisContext.DocumentType.RESUME;
+    }
+
+    @Override
+    public void process(AnalysisContext context) {
+        TokenStream tokens = context.tokens();
+        context.setSections(tokens.sections().stream().map(TokenStream.Section::getHeading).toList());
+        context.setYearsOfExperience(yearsOfExperience(tokens));
+    }
+
+    /**
+     * The largest number of years stated in the text.
+     *
+     * @param tokens tokenized text
+     * @return years of experience, or null if the text states none
+     */
+    public static Integer yearsOfExperience(TokenStream tokens) {
+        Integer years = null;
+        for (int i = 0; i + 1 < tokens.size(); i++) {
+            String token = tokens.token(i);
+            if (token.length() <= 2 && Character.isDigit(token.charAt(0))
+                    && YEAR_WORDS.contains(tokens.token(i + 1))) {
+                try {
+                    int value = Integer.parseInt(token);
+                    if (value > 0 && value <= MAX_YEARS && (years == null || value > years)) {
+                        years = value;
+                    }
+                } catch (NumberFormatException e) {
+                    // Letters mixed with digits, e.g. "2x"
+                }
+            }
+        }
+        return years;
+    }
+}
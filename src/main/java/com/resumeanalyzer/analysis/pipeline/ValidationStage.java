@@ -0,0 +1,25 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.resumeanalyzer.validation.RequestValidator;
+
+/**
+ * Rejects empty, oversized or suspicious documents before any other stage runs.
+ */
+@Component
+@Order(100)
+public class ValidationStage implements AnalysisStage {
+
+    private final RequestValidator requestValidator = new RequestValidator();
+
+    @Override
+    public void process(AnalysisContext context) {
+        if (context.getType() == AnalysisContext.DocumentType.RESUME) {
+            requestValidator.validateResumeText(context.getText(), context::tokens);
+        } else {
+            requestValidator.validateJobDescriptionText(context.getText(), context::tokens);
+        }
+    }
+}
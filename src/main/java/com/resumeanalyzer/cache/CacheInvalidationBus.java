@@ -0,0 +1,121 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.concurrent.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Broadcasts near-cache invalidations between nodes over Redis pub/sub.
+ *
+ * Every node publishes an event when it writes, evicts or clears an entry;
+ * the other nodes drop the matching L1 entry so the next read falls through
+ * to Redis. Messages published by this node are ignored on receipt.
+ *
+ * Wire format: {@code nodeId|op|cacheName|key}, where op is {@code E}
+ * (evict one key) or {@code C} (clear the cache, key empty).
+ */
+public class CacheInvalidationBus implements MessageListener {
+
+    private static final Logger log = LoggerFactory.getLogger(CacheInvalidationBus.class);
+    private static final char EVICT = 'E';
+    private static final char CLEAR = 'C';
+
+    private final StringRedisTemplate redisTemplate;
+    private final ChannelTopic topic;
+    private final CircuitBreaker circuitBreaker;
+    private final String nodeId = UUID.randomUUID().toString();
+    private final List<Consumer<Invalidation>> listeners = new CopyOnWriteArrayList<>();
+
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel) {
+        this(redisTemplate, channel, null);
+    }
+
+    /**
+     * @param circuitBreaker Breaker guarding Redis; while open, nothing is published
+     */
+    public CacheInvalidationBus(StringRedisTemplate redisTemplate, String channel, CircuitBreaker circuitBreaker) {
+        this.redisTemplate = redisTemplate;
+        this.topic = new ChannelTopic(channel);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    /**
+     * An invalidation received from another node. A null key means the whole cache.
+     */
+    public record Invalidation(String cacheName, String key) {
+    }
+
+    public ChannelTopic getTopic() {
+        return topic;
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * Register a consumer for invalidations published by other nodes.
+     */
+    public void addListener(Consumer<Invalidation> listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Tell other nodes to drop one key from their L1.
+     */
+    public void publishEvict(String cacheName, String key) {
+        publish(EVICT, cacheName, key);
+    }
+
+    /**
+     * Tell other nodes to drop every L1 entry of a cache.
+     */
+    public void publishClear(String cacheName) {
+        publish(CLEAR, cacheName, "");
+    }
+
+    private void publish(char op, String cacheName, String key) {
+        String message = nodeId + '|' + op + '|' + cacheName + '|' + key;
+        try {
+            if (circuitBreaker != null) {
+                circuitBreaker.run(() -> redisTemplate.convertAndSend(topic.getTopic(), message));
+            } else {
+                redisTemplate.convertAndSend(topic.getTopic(), message);
+            }
+        } catch (CircuitBreaker.OpenException e) {
+            log.debug("Redis circuit open, not publishing cache invalidation for {}", cacheName);
+        } catch (Exception e) {
+            // Peers fall back to their L1 TTL; a lost message only widens the staleness window
+            log.warn("Failed to publish cache invalidation for {}: {}", cacheName, e.getMessage());
+        }
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|", 4);
+        if (parts.length < 4 || parts[1].length() != 1) {
+            log.warn("Ignoring malformed cache invalidation message: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+
+        Invalidation invalidation = new Invalidation(parts[2], parts[1].charAt(0) == CLEAR ? null : parts[3]);
+        log.debug("Received cache invalidation from node {}: {}", parts[0], invalidation);
+        for (Consumer<Invalidation> listener : listeners) {
+            listener.accept(invalidation);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.resumeanalyzer.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Operation counters for one cache, kept by {@link InstrumentedCache}.
+ *
+ * Entry count and bytes are read on demand from the caches this process
+ * holds: Caffeine caches (whose weights are {@link CacheWeigher} byte
+ * estimates), the near-cache L1 of a {@link TwoTierCache}, off-heap text
+ * stores and disk stores. Entries held only in Redis are not counted.
+ */
+public class CacheStatistics {
+
+    private final String name;
+    private final Cache cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+    private final LongAdder writes = new LongAdder();
+    private final LongAdder removals = new LongAdder();
+
+    public CacheStatistics(String name, Cache cache) {
+        this.name = name;
+        this.cache = cache;
+    }
+
+    void recordHit() {
+        hits.increment();
+    }
+
+    void recordMiss() {
+        misses.increment();
+    }
+
+    void recordLoad(long nanos, boolean success) {
+        loads.increment();
+        loadNanos.add(nanos);
+        if (!success) {
+            loadFailures.increment();
+        }
+    }
+
+    void recordWrite() {
+        writes.increment();
+    }
+
+    void recordRemoval() {
+        removals.increment();
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getHits() {
+        return hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    public double getHitRatio() {
+        long hitCount = hits.sum();
+        long total = hitCount + misses.sum();
+        return total > 0 ? (double) hitCount / total : 0.0;
+    }
+
+    public long getLoads() {
+        return loads.sum();
+    }
+
+    public long getLoadFailures() {
+        return loadFailures.sum();
+    }
+
+    public double getAverageLoadMillis() {
+        long count = loads.sum();
+        return count > 0 ? (double) loadNanos.sum() / count / TimeUnit.MILLISECONDS.toNanos(1) : 0.0;
+    }
+
+    public long getWrites() {
+        return writes.sum();
+    }
+
+    public long getRemovals() {
+        return removals.sum();
+    }
+
+    public long getEntryCount() {
+        return footprint(cache).entries();
+    }
+
+    public long getEstimatedBytes() {
+        return footprint(cache).bytes();
+    }
+
+    private record Footprint(long entries, long bytes) {
+        static final Footprint NONE = new Footprint(0, 0);
+
+        Footprint plus(long moreEntries, long moreBytes) {
+            return new Footprint(entries + moreEntries, bytes + moreBytes);
+        }
+    }
+
+    private static Footprint footprint(Cache cache) {
+        if (cache instanceof StaleWhileRevalidateCache swr) {
+            return footprint(swr.getDelegate());
+        }
+        if (cache instanceof CircuitBreakingCache breaking) {
+            return footprint(breaking.getDelegate());
+        }
+        if (cache instanceof OffHeapTextCache offHeap) {
+            return footprint(offHeap.getDelegate())
+                .plus(offHeap.getStore().size(), offHeap.getStore().storedBytes());
+        }
+        if (cache instanceof TwoTierCache twoTier) {
+            return footprint(twoTier.getLocalCache());
+        }
+        if (cache instanceof CaffeineCache caffeine) {
+            return footprint(caffeine.getNativeCache());
+        }
+        if (cache instanceof DiskCache disk) {
+            return new Footprint(disk.getNativeCache().size(), disk.getNativeCache().logSize());
+        }
+        return Footprint.NONE;
+    }
+
+    private static Footprint footprint(com.github.benmanes.caffeine.cache.Cache<Object, Object> caffeine) {
+        long bytes = caffeine.policy().eviction()
+            .map(eviction -> eviction.weightedSize().orElse(0))
+            .orElse(0L);
+        return new Footprint(caffeine.estimatedSize(), bytes);
+    }
+}
@@ -0,0 +1,57 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.config.CacheMetrics;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Per-cache statistics of the application cache manager, by cache name.
+ *
+ * {@link #instrument} wraps a cache manager so that every cache it hands out
+ * is an {@link InstrumentedCache} registered here; PerformanceService reads
+ * the numbers back for /api/performance/cache-stats.
+ */
+public class CacheStatisticsRegistry {
+
+    private final CacheMetrics metrics;
+    private final Map<String, CacheStatistics> statistics = new ConcurrentHashMap<>();
+
+    /**
+     * @param metrics Micrometer recorder, or null to keep statistics in-process only
+     */
+    public CacheStatisticsRegistry(CacheMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * Wrap every cache of the manager in an {@link InstrumentedCache}.
+     */
+    public CacheManager instrument(CacheManager cacheManager) {
+        return new DecoratingCacheManager(cacheManager, cache -> new InstrumentedCache(cache, register(cache), metrics));
+    }
+
+    /**
+     * Statistics for every cache used so far, sorted by name.
+     */
+    public Map<String, CacheStatistics> getAll() {
+        return new TreeMap<>(statistics);
+    }
+
+    public CacheStatistics get(String cacheName) {
+        return statistics.get(cacheName);
+    }
+
+    private CacheStatistics register(Cache cache) {
+        return statistics.computeIfAbsent(cache.getName(), name -> {
+            CacheStatistics created = new CacheStatistics(name, cache);
+            if (metrics != null) {
+                metrics.monitor(created);
+            }
+            return created;
+        });
+    }
+}
@@ -0,0 +1,77 @@
+package com.resumeanalyzer.cache;
+
+import com.github.benmanes.caffeine.cache.Weigher;
+import com.resumeanalyzer.analysis.SkillMatcher;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Estimates the retained heap size of cache entries in bytes.
+ *
+ * The estimate follows the shallow layout of a 64-bit JVM with compressed
+ * oops: object headers, references and backing arrays. It is deliberately
+ * cheap and slightly pessimistic so byte budgets are honoured under load.
+ * Values the weigher does not recognise are charged a flat default.
+ */
+public class CacheWeigher implements Weigher<Object, Object> {
+
+    static final int OBJECT_HEADER = 16;
+    static final int REFERENCE = 4;
+    static final int STRING_OVERHEAD = 24 + OBJECT_HEADER;
+    static final int HASH_ENTRY = 32;
+    static final int DEFAULT_WEIGHT = 1024;
+
+    /** Per-entry cost of the cache's own node, key wrapper and frequency sketch slot. */
+    static final int ENTRY_OVERHEAD = 64;
+
+    @Override
+    public int weigh(Object key, Object value) {
+        long total = ENTRY_OVERHEAD + estimate(key) + estimate(value);
+        return (int) Math.min(Integer.MAX_VALUE, total);
+    }
+
+    /**
+     * Estimate the bytes retained by a single object graph.
+     *
+     * @param value the cached object (may be null)
+     * @return estimated size in bytes
+     */
+    public static long estimate(Object value) {
+        if (value == null) {
+            return 0;
+        }
+        if (value instanceof String s) {
+            return STRING_OVERHEAD + s.length();
+        }
+        if (value instanceof Number || value instanceof Boolean || value instanceof Character) {
+            return OBJECT_HEADER + 8;
+        }
+        if (value instanceof Collection<?> c) {
+            long size = OBJECT_HEADER + 32 + (long) c.size() * HASH_ENTRY;
+            for (Object element : c) {
+                size += estimate(element);
+            }
+            return size;
+        }
+        if (value instanceof Map<?, ?> m) {
+            long size = OBJECT_HEADER + 48 + (long) m.size() * HASH_ENTRY;
+            for (Map.Entry<?, ?> entry : m.entrySet()) {
+                size += estimate(entry.getKey()) + estimate(entry.getValue());
+            }
+            return size;
+        }
+        if (value instanceof SkillMatcher.Result r) {
+            return OBJECT_HEADER + 3 * REFERENCE + 8
+                + estimate(r.getMatchedSkills())
+                + estimate(r.getMissingSkills());
+        }
+        if (value instanceof byte[] bytes) {
+            return OBJECT_HEADER + bytes.length;
+        }
+        if (value instanceof StaleWhileRevalidateCache.Entry e) {
+            return OBJECT_HEADER + REFERENCE + 8 + estimate(e.value());
+        }
+        return DEFAULT_WEIGHT;
+    }
+}
@@ -0,0 +1,197 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.concurrent.CircuitBreaker;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+/**
+ * Cache decorator that stops calling a remote cache while its circuit is open.
+ *
+ * Every operation on the remote cache goes through a shared
+ * {@link CircuitBreaker}. When a call fails, or the circuit is open, the
+ * operation is answered by the fallback cache instead (a bounded local
+ * cache), or skipped if there is none: reads miss, writes are dropped and
+ * loaders run directly. A Redis outage therefore lowers the hit rate but
+ * does not add timeouts to requests.
+ *
+ * Evictions made while the circuit is open do not reach the remote cache;
+ * the affected entries age out by their TTL.
+ */
+public class CircuitBreakingCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreakingCache.class);
+
+    private final Cache delegate;
+    private final Cache fallback;
+    private final CircuitBreaker circuitBreaker;
+
+    public CircuitBreakingCache(Cache delegate, Cache fallback, CircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        return guarded(() -> delegate.get(key), () -> fallback != null ? fallback.get(key) : null);
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return guarded(() -> delegate.get(key, type), () -> fallback != null ? fallback.get(key, type) : null);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        if (!circuitBreaker.tryAcquire()) {
+            return loadLocally(key, valueLoader);
+        }
+        TrackedLoader<T> loader = new TrackedLoader<>(valueLoader);
+        long start = System.nanoTime();
+        try {
+            T value = delegate.get(key, loader);
+            circuitBreaker.onSuccess(System.nanoTime() - start - loader.nanos);
+            return value;
+        } catch (RuntimeException e) {
+            if (loader.failure != null) {
+                circuitBreaker.onSuccess(System.nanoTime() - start - loader.nanos);
+                throw new ValueRetrievalException(key, valueLoader, loader.failure);
+            }
+            circuitBreaker.onError();
+            log.warn("Cache '{}' unavailable, serving {} locally: {}", getName(), key, e.getMessage());
+            if (loader.loaded) {
+                if (fallback != null) {
+                    fallback.put(key, loader.value);
+                }
+                return (T) loader.value;
+            }
+            return loadLocally(key, valueLoader);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        guarded(() -> {
+            delegate.put(key, value);
+            return null;
+        }, () -> {
+            if (fallback != null) {
+                fallback.put(key, value);
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        return guarded(() -> delegate.putIfAbsent(key, value),
+            () -> fallback != null ? fallback.putIfAbsent(key, value) : null);
+    }
+
+    @Override
+    public void evict(Object key) {
+        if (fallback != null) {
+            fallback.evict(key);
+        }
+        guarded(() -> {
+            delegate.evict(key);
+            return null;
+        }, () -> null);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean local = fallback != null && fallback.evictIfPresent(key);
+        return guarded(() -> delegate.evictIfPresent(key), () -> false) || local;
+    }
+
+    @Override
+    public void clear() {
+        if (fallback != null) {
+            fallback.clear();
+        }
+        guarded(() -> {
+            delegate.clear();
+            return null;
+        }, () -> null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean local = fallback != null && fallback.invalidate();
+        return guarded(delegate::invalidate, () -> false) || local;
+    }
+
+    private <T> T guarded(Supplier<T> operation, Supplier<T> whenUnavailable) {
+        try {
+            return circuitBreaker.execute(operation);
+        } catch (CircuitBreaker.OpenException e) {
+            return whenUnavailable.get();
+        } catch (RuntimeException e) {
+            log.warn("Cache '{}' unavailable, falling back: {}", getName(), e.getMessage());
+            return whenUnavailable.get();
+        }
+    }
+
+    private <T> T loadLocally(Object key, Callable<T> valueLoader) {
+        if (fallback != null) {
+            return fallback.get(key, valueLoader);
+        }
+        try {
+            return valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    /**
+     * Records whether the loader ran, its result or failure, and its duration,
+     * so loader time and loader errors are not charged to the remote cache.
+     */
+    private static final class TrackedLoader<T> implements Callable<T> {
+        private final Callable<T> loader;
+        private boolean loaded;
+        private Object value;
+        private Exception failure;
+        private long nanos;
+
+        TrackedLoader(Callable<T> loader) {
+            this.loader = loader;
+        }
+
+        @Override
+        public T call() throws Exception {
+            long start = System.nanoTime();
+            try {
+                T result = loader.call();
+                value = result;
+                loaded = true;
+                return result;
+            } catch (Exception e) {
+                failure = e;
+                throw e;
+            } finally {
+                nanos += System.nanoTime() - start;
+            }
+        }
+    }
+}
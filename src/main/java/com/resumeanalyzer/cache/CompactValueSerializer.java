@@ -0,0 +1,383 @@
+package com.resumeanalyzer.cache;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.analysis.SkillMatcher;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.Serializable;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Compact binary codec for cached values.
+ *
+ * The values this application caches are almost always strings, sets and
+ * lists of skill names, numbers and {@link SkillMatcher.Result}s, possibly
+ * wrapped in a {@link StaleWhileRevalidateCache.Entry}. These get a
+ * tagged encoding with varint lengths and UTF-8 text, which is several times
+ * smaller than JDK serialization or JSON with type hints. Other values fall
+ * back to JDK serialization (if Serializable) or JSON with the class name.
+ *
+ * Layout: {@code [header][tag][payload]}. The header's low bit marks a
+ * Deflate-compressed body ({@code [tag][payload]}), applied only when the
+ * encoded value exceeds the threshold and compression actually saves bytes.
+ * Entries written by the previous JDK serializer are still readable.
+ */
+public class CompactValueSerializer implements RedisSerializer<Object> {
+
+    /**
+     * Compression applied to large values.
+     */
+    public enum Compression {
+        NONE,
+        DEFLATE
+    }
+
+    private static final int HEADER = 0xC0;
+    private static final int FLAG_DEFLATE = 0x01;
+    private static final int JDK_STREAM_MAGIC = 0xAC;
+
+    private static final byte TAG_NULL = 0;
+    private static final byte TAG_STRING = 1;
+    private static final byte TAG_STRING_SET = 2;
+    private static final byte TAG_STRING_LIST = 3;
+    private static final byte TAG_INT = 4;
+    private static final byte TAG_LONG = 5;
+    private static final byte TAG_DOUBLE = 6;
+    private static final byte TAG_BOOLEAN = 7;
+    private static final byte TAG_MATCH_RESULT = 8;
+    private static final byte TAG_JDK = 9;
+    private static final byte TAG_JSON = 10;
+    private static final byte TAG_REVALIDATE_ENTRY = 11;
+
+    private final Compression compression;
+    private final int compressionThreshold;
+    private final ObjectMapper objectMapper;
+
+    public CompactValueSerializer() {
+        this(Compression.DEFLATE, 1024);
+    }
+
+    public CompactValueSerializer(Compression compression, int compressionThreshold) {
+        this.compression = compression;
+        this.compressionThreshold = compressionThreshold;
+        this.objectMapper = new ObjectMapper().findAndRegisterModules();
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        try {
+            Writer body = new Writer();
+            writeValue(body, value);
+            byte[] encoded = body.toByteArray();
+
+            if (compression == Compression.DEFLATE && encoded.length > compressionThreshold) {
+                byte[] deflated = deflate(encoded);
+                if (deflated.length + 1 < encoded.length) {
+                    return withHeader(HEADER | FLAG_DEFLATE, deflated);
+                }
+            }
+            return withHeader(HEADER, encoded);
+        } catch (IOException e) {
+            throw new SerializationException("Cannot serialize cache value of type "
+                + value.getClass().getName(), e);
+        }
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        try {
+            int header = bytes[0] & 0xFF;
+            if (header == JDK_STREAM_MAGIC) {
+                return readJdk(bytes, 0, bytes.length);
+            }
+            if ((header & 0xF0) != HEADER) {
+                throw new SerializationException("Unknown cache value header: " + header);
+            }
+            byte[] body = (header & FLAG_DEFLATE) != 0
+                ? inflate(bytes, 1, bytes.length - 1)
+                : bytes;
+            Reader reader = new Reader(body, (header & FLAG_DEFLATE) != 0 ? 0 : 1);
+            return readValue(reader);
+        } catch (IOException | ClassNotFoundException | DataFormatException e) {
+            throw new SerializationException("Cannot deserialize cache value", e);
+        }
+    }
+
+    // -------------------- ENCODING --------------------
+
+    private void writeValue(Writer out, Object value) throws IOException {
+        if (value == null || value instanceof NullValue) {
+            out.write(TAG_NULL);
+        } else if (value instanceof String s) {
+            out.write(TAG_STRING);
+            out.writeString(s);
+        } else if (value instanceof Set<?> set && containsOnlyStrings(set)) {
+            out.write(TAG_STRING_SET);
+            out.writeStrings(set);
+        } else if (value instanceof List<?> list && containsOnlyStrings(list)) {
+            out.write(TAG_STRING_LIST);
+            out.writeStrings(list);
+        } else if (value instanceof Integer i) {
+            out.write(TAG_INT);
+            out.writeVarLong(zigZag(i));
+        } else if (value instanceof Long l) {
+            out.write(TAG_LONG);
+            out.writeVarLong(zigZag(l));
+        } else if (value instanceof Double d) {
+            out.write(TAG_DOUBLE);
+            out.writeLong(Double.doubleToRawLongBits(d));
+        } else if (value instanceof Boolean b) {
+            out.write(TAG_BOOLEAN);
+            out.write(b ? 1 : 0);
+        } else if (value instanceof SkillMatcher.Result r) {
+            out.write(TAG_MATCH_RESULT);
+            out.writeStrings(r.getMatchedSkills());
+            out.writeStrings(r.getMissingSkills());
+            out.writeLong(Double.doubleToRawLongBits(r.getMatchPercentage()));
+        } else if (value instanceof StaleWhileRevalidateCache.Entry entry) {
+            out.write(TAG_REVALIDATE_ENTRY);
+            out.writeVarLong(entry.writtenAt());
+            writeValue(out, entry.value());
+        } else if (value instanceof Serializable) {
+            out.write(TAG_JDK);
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            try (ObjectOutputStream oos = new ObjectOutputStream(buffer)) {
+                oos.writeObject(value);
+            }
+            out.writeBlob(buffer.toByteArray());
+        } else {
+            out.write(TAG_JSON);
+            out.writeString(value.getClass().getName());
+            out.writeBlob(objectMapper.writeValueAsBytes(value));
+        }
+    }
+
+    private Object readValue(Reader in) throws IOException, ClassNotFoundException {
+        byte tag = in.read();
+        switch (tag) {
+            case TAG_NULL:
+                return NullValue.INSTANCE;
+            case TAG_STRING:
+                return in.readString();
+            case TAG_STRING_SET:
+                return in.readStrings(new LinkedHashSet<>());
+            case TAG_STRING_LIST:
+                return in.readStrings(new ArrayList<>());
+            case TAG_INT:
+                return (int) unZigZag(in.readVarLong());
+            case TAG_LONG:
+                return unZigZag(in.readVarLong());
+            case TAG_DOUBLE:
+                return Double.longBitsToDouble(in.readLong());
+            case TAG_BOOLEAN:
+                return in.read() != 0;
+            case TAG_MATCH_RESULT:
+                Set<String> matched = in.readStrings(new LinkedHashSet<>());
+                Set<String> missing = in.readStrings(new LinkedHashSet<>());
+                return new SkillMatcher.Result(matched, missing, Double.longBitsToDouble(in.readLong()));
+            case TAG_REVALIDATE_ENTRY:
+                long writtenAt = in.readVarLong();
+                Object value = readValue(in);
+                return new StaleWhileRevalidateCache.Entry(value instanceof NullValue ? null : value, writtenAt);
+            case TAG_JDK:
+                byte[] serialized = in.readBlob();
+                return readJdk(serialized, 0, serialized.length);
+            case TAG_JSON:
+                Class<?> type = Class.forName(in.readString(), false, getClass().getClassLoader());
+                return objectMapper.readValue(in.readBlob(), type);
+            default:
+                throw new SerializationException("Unknown cache value tag: " + tag);
+        }
+    }
+
+    private static boolean containsOnlyStrings(Collection<?> values) {
+        for (Object value : values) {
+            if (!(value instanceof String)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static Object readJdk(byte[] bytes, int offset, int length) throws IOException, ClassNotFoundException {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes, offset, length))) {
+            return in.readObject();
+        }
+    }
+
+    private static long zigZag(long value) {
+        return (value << 1) ^ (value >> 63);
+    }
+
+    private static long unZigZag(long value) {
+        return (value >>> 1) ^ -(value & 1);
+    }
+
+    private static byte[] withHeader(int header, byte[] body) {
+        byte[] result = new byte[body.length + 1];
+        result[0] = (byte) header;
+        System.arraycopy(body, 0, result, 1, body.length);
+        return result;
+    }
+
+    // -------------------- COMPRESSION --------------------
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(input.length / 2 + 16);
+            byte[] buffer = new byte[4096];
+            while (!deflater.finished()) {
+                int n = deflater.deflate(buffer);
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static byte[] inflate(byte[] input, int offset, int length) throws DataFormatException {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input, offset, length);
+            ByteArrayOutputStream out = new ByteArrayOutputStream(length * 3);
+            byte[] buffer = new byte[4096];
+            while (!inflater.finished()) {
+                int n = inflater.inflate(buffer);
+                if (n == 0 && inflater.needsInput()) {
+                    throw new DataFormatException("Truncated compressed cache value");
+                }
+                out.write(buffer, 0, n);
+            }
+            return out.toByteArray();
+        } finally {
+            inflater.end();
+        }
+    }
+
+    // -------------------- BUFFERS --------------------
+
+    private static final class Writer extends ByteArrayOutputStream {
+
+        Writer() {
+            super(128);
+        }
+
+        void writeVarLong(long value) {
+            while ((value & ~0x7FL) != 0) {
+                write((int) ((value & 0x7F) | 0x80));
+                value >>>= 7;
+            }
+            write((int) value);
+        }
+
+        void writeLong(long value) {
+            for (int shift = 56; shift >= 0; shift -= 8) {
+                write((int) (value >>> shift));
+            }
+        }
+
+        void writeBlob(byte[] bytes) {
+            writeVarLong(bytes.length);
+            write(bytes, 0, bytes.length);
+        }
+
+        void writeString(String value) {
+            writeBlob(value.getBytes(StandardCharsets.UTF_8));
+        }
+
+        void writeStrings(Collection<?> values) {
+            writeVarLong(values.size());
+            for (Object value : values) {
+                writeString((String) value);
+            }
+        }
+    }
+
+    private static final class Reader {
+        private final byte[] buffer;
+        private int position;
+
+        Reader(byte[] buffer, int position) {
+            this.buffer = buffer;
+            this.position = position;
+        }
+
+        byte read() throws IOException {
+            if (position >= buffer.length) {
+                throw new IOException("Unexpected end of cache value");
+            }
+            return buffer[position++];
+        }
+
+        long readVarLong() throws IOException {
+            long result = 0;
+            for (int shift = 0; shift < 64; shift += 7) {
+                byte b = read();
+                result |= (long) (b & 0x7F) << shift;
+                if ((b & 0x80) == 0) {
+                    return result;
+                }
+            }
+            throw new IOException("Malformed varint in cache value");
+        }
+
+        long readLong() throws IOException {
+            long result = 0;
+            for (int i = 0; i < 8; i++) {
+                result = (result << 8) | (read() & 0xFF);
+            }
+            return result;
+        }
+
+        byte[] readBlob() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IOException("Invalid length in cache value: " + length);
+            }
+            byte[] bytes = new byte[(int) length];
+            System.arraycopy(buffer, position, bytes, 0, bytes.length);
+            position += bytes.length;
+            return bytes;
+        }
+
+        String readString() throws IOException {
+            long length = readVarLong();
+            if (length < 0 || length > buffer.length - position) {
+                throw new IOException("Invalid length in cache value: " + length);
+            }
+            String value = new String(buffer, position, (int) length, StandardCharsets.UTF_8);
+            position += (int) length;
+            return value;
+        }
+
+        <C extends Collection<String>> C readStrings(C target) throws IOException {
+            long count = readVarLong();
+            for (long i = 0; i < count; i++) {
+                target.add(readString());
+            }
+            return target;
+        }
+    }
+}
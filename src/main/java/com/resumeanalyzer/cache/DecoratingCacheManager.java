@@ -0,0 +1,60 @@
+package com.resumeanalyzer.cache;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that wraps each cache of a delegate manager with a decorator.
+ *
+ * Decorated caches are created once per name and reused; the delegate keeps
+ * ownership of the cache names. A decorator may return the cache unchanged
+ * for caches it does not apply to.
+ */
+public class DecoratingCacheManager implements CacheManager {
+
+    /**
+     * Wraps one cache; returns the argument itself when not applicable.
+     */
+    @FunctionalInterface
+    public interface CacheDecorator {
+        Cache decorate(Cache cache);
+    }
+
+    private final CacheManager delegate;
+    private final CacheDecorator decorator;
+    private final Map<String, Cache> caches = new ConcurrentHashMap<>();
+
+    public DecoratingCacheManager(CacheManager delegate, CacheDecorator decorator) {
+        this.delegate = delegate;
+        this.decorator = decorator;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        Cache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> decorator.decorate(target));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    /**
+     * The undecorated manager.
+     */
+    public CacheManager getDelegate() {
+        return delegate;
+    }
+}
@@ -0,0 +1,106 @@
+package com.resumeanalyzer.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Spring cache over a {@link DiskCacheStore}.
+ *
+ * Values are encoded with {@link CompactValueSerializer}; keys use their
+ * string form, as in {@link TwoTierCache}. An entry that can no longer be
+ * decoded (for example after a class changed shape) is dropped and treated
+ * as a miss.
+ */
+public class DiskCache extends AbstractValueAdaptingCache {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCache.class);
+
+    private final String name;
+    private final DiskCacheStore store;
+    private final CompactValueSerializer serializer;
+    private final Duration ttl;
+
+    public DiskCache(String name, DiskCacheStore store, CompactValueSerializer serializer, Duration ttl) {
+        super(true);
+        this.name = name;
+        this.store = store;
+        this.serializer = serializer;
+        this.ttl = ttl;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public DiskCacheStore getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String storeKey = String.valueOf(key);
+        byte[] bytes = store.get(storeKey);
+        if (bytes == null) {
+            return null;
+        }
+        try {
+            return serializer.deserialize(bytes);
+        } catch (SerializationException e) {
+            log.warn("Dropping undecodable entry '{}' from disk cache '{}': {}", storeKey, name, e.getMessage());
+            store.remove(storeKey);
+            return null;
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper stored = get(key);
+        if (stored != null) {
+            return (T) stored.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long expiresAt = ttl == null || ttl.isZero() ? 0 : System.currentTimeMillis() + ttl.toMillis();
+        store.put(String.valueOf(key), serializer.serialize(toStoreValue(value)), expiresAt);
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove(String.valueOf(key));
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return store.remove(String.valueOf(key));
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = store.size() > 0;
+        store.clear();
+        return notEmpty;
+    }
+}
@@ -0,0 +1,75 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.config.CachingProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Cache manager for persistent local caches, one {@link DiskCacheStore}
+ * (log + index file pair) per cache under cache.disk.directory.
+ *
+ * Only the configured cache names are served. Stores are opened on first
+ * use and closed with the manager. Their compactions run on the given executor.
+ */
+public class DiskCacheManager implements CacheManager, Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCacheManager.class);
+
+    private final CachingProperties.Disk properties;
+    private final Set<String> cacheNames;
+    private final Executor compactionExecutor;
+    private final CompactValueSerializer serializer = new CompactValueSerializer();
+    private final Map<String, DiskCache> caches = new ConcurrentHashMap<>();
+
+    public DiskCacheManager(CachingProperties.Disk properties, Collection<String> cacheNames,
+                            Executor compactionExecutor) {
+        this.properties = properties;
+        this.cacheNames = Collections.unmodifiableSet(new LinkedHashSet<>(cacheNames));
+        this.compactionExecutor = compactionExecutor;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        if (!cacheNames.contains(name)) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, this::createCache);
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return cacheNames;
+    }
+
+    @Override
+    public void close() {
+        caches.forEach((name, cache) -> {
+            try {
+                cache.getNativeCache().close();
+            } catch (IOException e) {
+                log.warn("Failed to close disk cache '{}': {}", name, e.getMessage());
+            }
+        });
+        caches.clear();
+    }
+
+    private DiskCache createCache(String name) {
+        DiskCacheStore store = new DiskCacheStore(Path.of(properties.getDirectory()), name,
+            properties.getMaxSize().toBytes(), properties.getCompactionRatio(), compactionExecutor);
+        log.info("Opened disk cache '{}' with {} entries", name, store.size());
+        return new DiskCache(name, store, serializer, properties.getTtl());
+    }
+}
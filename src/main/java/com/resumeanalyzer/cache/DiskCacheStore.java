@@ -0,0 +1,844 @@
+package com.resumeanalyzer.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.zip.CRC32;
+
+/**
+ * Persistent key/value store backing one disk cache: an append-only log of
+ * records and a memory-mapped hash index pointing into it.
+ *
+ * Log ({@code name.log}): a header {@code [magic][generation]} followed by
+ * records {@code [magic][keyLength][valueLength][expiresAt][key][value][crc32]}.
+ * A value length of -1 is a tombstone. Records are never rewritten in place.
+ *
+ * Index ({@code name.idx}): a header {@code [magic][capacity][used][live]
+ * [generation][logLength][deadBytes]} followed by open-addressing slots of
+ * {@code [keyHash][logOffset]}; hash 0 marks an empty slot and offset -1 a
+ * removed key. Because the index is mapped, every update reaches the page
+ * cache immediately and survives a process restart.
+ *
+ * On open, an index whose generation does not match the log is rebuilt by
+ * scanning the log; records appended after the index's recorded log length
+ * are replayed, and a torn record at the tail is truncated.
+ *
+ * When dead records make up more than the compaction ratio of the log, or
+ * the log outgrows its byte budget, live records are copied to a new log
+ * generation on the compaction executor. Records are streamed file to file
+ * without holding the lock; only records appended meanwhile are copied, and
+ * the new log and index swapped in, under the write lock. If live data alone
+ * exceeds the budget, the oldest entries are dropped until it fits within
+ * {@value #EVICTION_TARGET} of it.
+ */
+public class DiskCacheStore implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(DiskCacheStore.class);
+
+    private static final int LOG_MAGIC = 0x52414C47;
+    private static final int LOG_HEADER = 12;
+    private static final int RECORD_MAGIC = 0x52414352;
+    private static final int RECORD_HEADER = 20;
+    private static final int RECORD_TRAILER = 4;
+
+    private static final int INDEX_MAGIC = 0x52414958;
+    private static final int INDEX_HEADER = 48;
+    private static final int SLOT_SIZE = 16;
+    private static final int MIN_CAPACITY = 1024;
+    private static final double MAX_LOAD = 0.7;
+    private static final long MIN_COMPACTION_BYTES = 1024 * 1024;
+    private static final double EVICTION_TARGET = 0.75;
+
+    private final Path logPath;
+    private final Path indexPath;
+    private final long maxBytes;
+    private final double compactionRatio;
+    private final Executor compactionExecutor;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    // Held by whoever replaces the log (compaction, clear), outside of and before the read/write lock
+    private final ReentrantLock compactionLock = new ReentrantLock();
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    private FileChannel logChannel;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int capacity;
+    private long generation;
+    private boolean closed;
+
+    /**
+     * @param compactionExecutor Runs compactions triggered by writes
+     */
+    public DiskCacheStore(Path directory, String name, long maxBytes, double compactionRatio,
+                          Executor compactionExecutor) {
+        this.logPath = directory.resolve(name + ".log");
+        this.indexPath = directory.resolve(name + ".idx");
+        this.maxBytes = maxBytes;
+        this.compactionRatio = compactionRatio;
+        this.compactionExecutor = compactionExecutor;
+        try {
+            Files.createDirectories(directory);
+            open();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot open disk cache " + logPath, e);
+        }
+    }
+
+    /**
+     * Value stored for a key, or null if absent or expired.
+     */
+    public byte[] get(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        lock.readLock().lock();
+        try {
+            int slot = findSlot(keyBytes, hash(keyBytes));
+            if (slot < 0) {
+                return null;
+            }
+            Record record = readRecord(slotOffset(slot), true);
+            if (record == null || record.expired(System.currentTimeMillis())) {
+                return null;
+            }
+            return record.value;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Store a value; {@code expiresAt} is epoch millis, or 0 for no expiry.
+     */
+    public void put(String key, byte[] value, long expiresAt) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            long offset = append(keyBytes, value, expiresAt);
+            upsert(keyBytes, hash(keyBytes), offset);
+            compact = needsCompaction();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            scheduleCompaction();
+        }
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @return true if the key was present
+     */
+    public boolean remove(String key) {
+        byte[] keyBytes = key.getBytes(StandardCharsets.UTF_8);
+        boolean compact;
+        lock.writeLock().lock();
+        try {
+            int slot = findSlot(keyBytes, hash(keyBytes));
+            if (slot < 0) {
+                return false;
+            }
+            long tombstone = append(keyBytes, null, 0);
+            long removed = recordSizeAt(slotOffset(slot));
+            setSlotOffset(slot, -1);
+            setLive(live() - 1);
+            setDeadBytes(deadBytes() + removed + (logLength() - tombstone));
+            compact = needsCompaction();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            lock.writeLock().unlock();
+        }
+        if (compact) {
+            scheduleCompaction();
+        }
+        return true;
+    }
+
+    /**
+     * Remove every entry, starting a new, empty log generation.
+     */
+    public void clear() {
+        compactionLock.lock();
+        try {
+            lock.writeLock().lock();
+            try {
+                long newGeneration = ThreadLocalRandom.current().nextLong();
+                Path tmpLog = compactionLogPath();
+                try (FileChannel out = openCompactionLog(tmpLog, newGeneration)) {
+                    out.force(false);
+                }
+                swapLog(tmpLog, newGeneration);
+                Path tmpIndex = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+                createIndex(tmpIndex, MIN_CAPACITY);
+                replaceIndex(tmpIndex);
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    /**
+     * Copy live entries to a new log generation on the calling thread,
+     * dropping dead records, expired entries and, if over budget, the oldest
+     * entries. Waits for a compaction already in progress to finish first.
+     */
+    public void compact() {
+        try {
+            compactLog();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return live();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Current log size in bytes, including dead records.
+     */
+    public long logSize() {
+        lock.readLock().lock();
+        try {
+            return logLength();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.writeLock().lock();
+        try {
+            closed = true;
+            index.force();
+            logChannel.force(false);
+            releaseIndex();
+            logChannel.close();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // -------------------- OPEN / RECOVERY --------------------
+
+    private void open() throws IOException {
+        logChannel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        if (logChannel.size() < LOG_HEADER || readLogGeneration() == null) {
+            generation = ThreadLocalRandom.current().nextLong();
+            logChannel.truncate(0);
+            writeLogHeader(logChannel, generation);
+        } else {
+            generation = readLogGeneration();
+        }
+
+        if (!mapExistingIndex()) {
+            createIndex(indexPath, MIN_CAPACITY);
+            replay(LOG_HEADER);
+            log.info("Rebuilt disk cache index {} ({} entries)", indexPath, live());
+        } else if (logLength() < logChannel.size()) {
+            replay(logLength());
+        } else if (logLength() > logChannel.size()) {
+            createIndex(indexPath, MIN_CAPACITY);
+            replay(LOG_HEADER);
+        }
+    }
+
+    private Long readLogGeneration() throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER);
+        logChannel.read(header, 0);
+        header.flip();
+        if (header.remaining() < LOG_HEADER || header.getInt() != LOG_MAGIC) {
+            return null;
+        }
+        return header.getLong();
+    }
+
+    private boolean mapExistingIndex() throws IOException {
+        if (!Files.exists(indexPath) || Files.size(indexPath) < INDEX_HEADER) {
+            return false;
+        }
+        mapIndex(indexPath);
+        boolean valid = index.getInt(0) == INDEX_MAGIC
+            && capacity >= MIN_CAPACITY
+            && Integer.bitCount(capacity) == 1
+            && indexChannel.size() == INDEX_HEADER + (long) capacity * SLOT_SIZE
+            && index.getLong(16) == generation;
+        if (!valid) {
+            releaseIndex();
+        }
+        return valid;
+    }
+
+    /**
+     * Apply log records from {@code position} to the end, truncating a torn tail.
+     */
+    private void replay(long position) throws IOException {
+        long end = logChannel.size();
+        while (position < end) {
+            Record record = readRecord(position, false);
+            if (record == null) {
+                log.warn("Truncating disk cache log {} at offset {} (incomplete record)", logPath, position);
+                logChannel.truncate(position);
+                break;
+            }
+            long size = recordSize(record.keyLength, record.valueLength);
+            setLogLength(position + size);
+            byte[] keyBytes = readKey(position, record.keyLength);
+            if (record.valueLength < 0) {
+                int slot = findSlot(keyBytes, hash(keyBytes));
+                if (slot >= 0) {
+                    setDeadBytes(deadBytes() + recordSizeAt(slotOffset(slot)));
+                    setSlotOffset(slot, -1);
+                    setLive(live() - 1);
+                }
+                setDeadBytes(deadBytes() + size);
+            } else {
+                upsert(keyBytes, hash(keyBytes), position);
+            }
+            position += size;
+        }
+        setLogLength(position);
+    }
+
+    // -------------------- LOG --------------------
+
+    private long append(byte[] key, byte[] value, long expiresAt) throws IOException {
+        int valueLength = value != null ? value.length : -1;
+        ByteBuffer record = ByteBuffer.allocate((int) recordSize(key.length, valueLength));
+        record.putInt(RECORD_MAGIC).putInt(key.length).putInt(valueLength).putLong(expiresAt).put(key);
+        if (value != null) {
+            record.put(value);
+        }
+        CRC32 crc = new CRC32();
+        crc.update(record.array(), 0, record.position());
+        record.putInt((int) crc.getValue());
+        record.flip();
+
+        long offset = logLength();
+        long position = offset;
+        while (record.hasRemaining()) {
+            position += logChannel.write(record, position);
+        }
+        setLogLength(position);
+        return offset;
+    }
+
+    /**
+     * Read a record. With {@code withValue} false only the header is
+     * checked; the CRC is always verified. Returns null for a torn record.
+     */
+    private Record readRecord(long offset, boolean withValue) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(RECORD_HEADER);
+        if (readFully(header, offset) < RECORD_HEADER) {
+            return null;
+        }
+        header.flip();
+        if (header.getInt() != RECORD_MAGIC) {
+            return null;
+        }
+        int keyLength = header.getInt();
+        int valueLength = header.getInt();
+        long expiresAt = header.getLong();
+        if (keyLength < 0 || valueLength < -1) {
+            return null;
+        }
+        long size = recordSize(keyLength, valueLength);
+        if (offset + size > logChannel.size()) {
+            return null;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate((int) size);
+        readFully(body, offset);
+        CRC32 crc = new CRC32();
+        crc.update(body.array(), 0, (int) size - RECORD_TRAILER);
+        if ((int) crc.getValue() != ByteBuffer.wrap(body.array(), (int) size - RECORD_TRAILER, RECORD_TRAILER).getInt()) {
+            return null;
+        }
+        byte[] value = null;
+        if (withValue && valueLength >= 0) {
+            value = Arrays.copyOfRange(body.array(), RECORD_HEADER + keyLength, RECORD_HEADER + keyLength + valueLength);
+        }
+        return new Record(keyLength, valueLength, expiresAt, value);
+    }
+
+    private byte[] readKey(long offset, int keyLength) throws IOException {
+        ByteBuffer key = ByteBuffer.allocate(keyLength);
+        readFully(key, offset + RECORD_HEADER);
+        return key.array();
+    }
+
+    private int keyLengthAt(long offset) throws IOException {
+        ByteBuffer length = ByteBuffer.allocate(4);
+        readFully(length, offset + 4);
+        length.flip();
+        return length.getInt();
+    }
+
+    private long recordSizeAt(long offset) throws IOException {
+        ByteBuffer lengths = ByteBuffer.allocate(8);
+        readFully(lengths, offset + 4);
+        lengths.flip();
+        return recordSize(lengths.getInt(), lengths.getInt());
+    }
+
+    private int readFully(ByteBuffer buffer, long position) throws IOException {
+        int total = 0;
+        while (buffer.hasRemaining()) {
+            int n = logChannel.read(buffer, position + total);
+            if (n < 0) {
+                break;
+            }
+            total += n;
+        }
+        return total;
+    }
+
+    private static long recordSize(int keyLength, int valueLength) {
+        return RECORD_HEADER + keyLength + Math.max(valueLength, 0) + RECORD_TRAILER;
+    }
+
+    private static void writeLogHeader(FileChannel channel, long generation) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(LOG_HEADER).putInt(LOG_MAGIC).putLong(generation);
+        header.flip();
+        channel.write(header, 0);
+    }
+
+    // -------------------- INDEX --------------------
+
+    private void createIndex(Path path, int slots) throws IOException {
+        releaseIndex();
+        indexChannel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+            StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+        capacity = slots;
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, INDEX_HEADER + (long) slots * SLOT_SIZE);
+        index.putInt(0, INDEX_MAGIC);
+        index.putInt(4, capacity);
+        index.putLong(16, generation);
+        setLogLength(LOG_HEADER);
+    }
+
+    private int findSlot(byte[] key, long hash) throws IOException {
+        int mask = capacity - 1;
+        for (int i = (int) hash & mask, probes = 0; probes < capacity; i = (i + 1) & mask, probes++) {
+            long slotHash = index.getLong(slotPosition(i));
+            if (slotHash == 0) {
+                return -1;
+            }
+            long offset = slotOffset(i);
+            if (slotHash == hash && offset >= 0 && keyLengthAt(offset) == key.length
+                    && Arrays.equals(key, readKey(offset, key.length))) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private void upsert(byte[] key, long hash, long offset) throws IOException {
+        int existing = findSlot(key, hash);
+        if (existing >= 0) {
+            setDeadBytes(deadBytes() + recordSizeAt(slotOffset(existing)));
+            setSlotOffset(existing, offset);
+            return;
+        }
+        if (used() + 1 > capacity * MAX_LOAD) {
+            resizeIndex(capacity * 2);
+        }
+        int mask = capacity - 1;
+        for (int i = (int) hash & mask; ; i = (i + 1) & mask) {
+            long slotHash = index.getLong(slotPosition(i));
+            if (slotHash == 0 || slotOffset(i) < 0) {
+                if (slotHash == 0) {
+                    setUsed(used() + 1);
+                }
+                index.putLong(slotPosition(i), hash);
+                setSlotOffset(i, offset);
+                setLive(live() + 1);
+                return;
+            }
+        }
+    }
+
+    private void resizeIndex(int newCapacity) throws IOException {
+        List<long[]> slots = liveSlots();
+        long logLength = logLength();
+        long deadBytes = deadBytes();
+        Path tmp = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+        createIndex(tmp, newCapacity);
+        for (long[] slot : slots) {
+            insertFresh(slot[0], slot[1]);
+        }
+        setLogLength(logLength);
+        setDeadBytes(deadBytes);
+        replaceIndex(tmp);
+    }
+
+    private void mapIndex(Path path) throws IOException {
+        indexChannel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        index = indexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexChannel.size());
+        capacity = index.getInt(4);
+    }
+
+    /**
+     * Move the index built at {@code tmp} over the current one and map it.
+     * Both mappings are released first: Windows refuses to replace, rename
+     * or truncate a file that is still mapped.
+     */
+    private void replaceIndex(Path tmp) throws IOException {
+        index.force();
+        releaseIndex();
+        Files.move(tmp, indexPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        mapIndex(indexPath);
+    }
+
+    /**
+     * Unmap and close the current index. The caller holds the write lock
+     * (or is opening the store) and maps a new index before it is used again.
+     */
+    private void releaseIndex() throws IOException {
+        if (index != null) {
+            unmap(index);
+            index = null;
+        }
+        if (indexChannel != null && indexChannel.isOpen()) {
+            indexChannel.close();
+        }
+    }
+
+    /**
+     * Release a mapping now instead of whenever the buffer is garbage
+     * collected. Without access to the JDK's cleaner the mapping is left to
+     * the garbage collector, which is fine everywhere but Windows.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field theUnsafe = unsafeClass.getDeclaredField("theUnsafe");
+            theUnsafe.setAccessible(true);
+            unsafeClass.getMethod("invokeCleaner", ByteBuffer.class).invoke(theUnsafe.get(null), buffer);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            log.debug("Cannot unmap disk cache index, leaving it to the garbage collector: {}", e.toString());
+        }
+    }
+
+    private void insertFresh(long hash, long offset) {
+        int mask = capacity - 1;
+        int i = (int) hash & mask;
+        while (index.getLong(slotPosition(i)) != 0) {
+            i = (i + 1) & mask;
+        }
+        index.putLong(slotPosition(i), hash);
+        setSlotOffset(i, offset);
+        setUsed(used() + 1);
+        setLive(live() + 1);
+    }
+
+    /**
+     * {hash, offset} of every live slot.
+     */
+    private List<long[]> liveSlots() {
+        List<long[]> slots = new ArrayList<>(live());
+        for (int i = 0; i < capacity; i++) {
+            long hash = index.getLong(slotPosition(i));
+            long offset = slotOffset(i);
+            if (hash != 0 && offset >= 0) {
+                slots.add(new long[] {hash, offset});
+            }
+        }
+        return slots;
+    }
+
+    private static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b;
+            h *= 0x100000001b3L;
+        }
+        return h == 0 ? 1 : h;
+    }
+
+    private static int slotPosition(int slot) {
+        return INDEX_HEADER + slot * SLOT_SIZE;
+    }
+
+    private long slotOffset(int slot) {
+        return index.getLong(slotPosition(slot) + 8);
+    }
+
+    private void setSlotOffset(int slot, long offset) {
+        index.putLong(slotPosition(slot) + 8, offset);
+    }
+
+    private int used() {
+        return index.getInt(8);
+    }
+
+    private void setUsed(int used) {
+        index.putInt(8, used);
+    }
+
+    private int live() {
+        return index.getInt(12);
+    }
+
+    private void setLive(int live) {
+        index.putInt(12, live);
+    }
+
+    private long logLength() {
+        return index.getLong(24);
+    }
+
+    private void setLogLength(long length) {
+        index.putLong(24, length);
+    }
+
+    private long deadBytes() {
+        return index.getLong(32);
+    }
+
+    private void setDeadBytes(long bytes) {
+        index.putLong(32, bytes);
+    }
+
+    // -------------------- COMPACTION --------------------
+
+    private boolean needsCompaction() {
+        long length = logLength();
+        boolean tooMuchGarbage = length > MIN_COMPACTION_BYTES && deadBytes() > length * compactionRatio;
+        return tooMuchGarbage || length > maxBytes;
+    }
+
+    /**
+     * Hand a compaction to the executor unless one is already queued. If the
+     * executor is saturated the compaction is skipped; the next write that
+     * finds the log over its limits schedules it again.
+     */
+    private void scheduleCompaction() {
+        if (!compactionScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            compactionExecutor.execute(() -> {
+                try {
+                    compactLog();
+                } catch (IOException | RuntimeException e) {
+                    log.warn("Compaction of disk cache {} failed: {}", logPath.getFileName(), e.toString());
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            compactionScheduled.set(false);
+            log.debug("Compaction of disk cache {} deferred, executor is busy", logPath.getFileName());
+        }
+    }
+
+    /**
+     * Copy the live records to a new log generation and swap it in.
+     *
+     * Live slots are read under the read lock. Their records sit below the
+     * log length at that moment and are never modified, so they are copied,
+     * one record at a time, without holding the lock; only the log's own
+     * replacement is excluded, by the compaction lock. Under the write lock
+     * the records appended meanwhile are copied as they are and the index is
+     * rebuilt from the current slots, so writes made during the copy are kept.
+     */
+    private void compactLog() throws IOException {
+        compactionLock.lock();
+        try {
+            List<long[]> slots;
+            long snapshotLength;
+            lock.readLock().lock();
+            try {
+                if (closed) {
+                    return;
+                }
+                slots = liveSlots();
+                snapshotLength = logLength();
+            } finally {
+                lock.readLock().unlock();
+            }
+            slots.sort(Comparator.comparingLong(slot -> slot[1]));
+
+            // Sizes of the records to keep, oldest first; 0 marks a record to drop
+            long now = System.currentTimeMillis();
+            long[] offsets = new long[slots.size()];
+            long[] sizes = new long[slots.size()];
+            long liveBytes = 0;
+            for (int i = 0; i < offsets.length; i++) {
+                offsets[i] = slots.get(i)[1];
+                Record record = readRecord(offsets[i], false);
+                if (record != null && !record.expired(now)) {
+                    sizes[i] = recordSize(record.keyLength, record.valueLength);
+                    liveBytes += sizes[i];
+                }
+            }
+            int evicted = 0;
+            long target = (long) (maxBytes * EVICTION_TARGET);
+            for (int i = 0; i < sizes.length && liveBytes > target; i++) {
+                if (sizes[i] > 0) {
+                    liveBytes -= sizes[i];
+                    sizes[i] = 0;
+                    evicted++;
+                }
+            }
+
+            long newGeneration = ThreadLocalRandom.current().nextLong();
+            Path tmpLog = compactionLogPath();
+            long before;
+            try (FileChannel out = openCompactionLog(tmpLog, newGeneration)) {
+                long[] newOffsets = new long[offsets.length];
+                long position = LOG_HEADER;
+                for (int i = 0; i < offsets.length; i++) {
+                    newOffsets[i] = sizes[i] > 0 ? position : -1;
+                    if (sizes[i] > 0) {
+                        transfer(logChannel, offsets[i], sizes[i], out, position);
+                        position += sizes[i];
+                    }
+                }
+
+                lock.writeLock().lock();
+                try {
+                    if (closed) {
+                        return;
+                    }
+                    before = logLength();
+                    long tailStart = position;
+                    transfer(logChannel, snapshotLength, before - snapshotLength, out, position);
+                    position += before - snapshotLength;
+                    out.force(false);
+
+                    // Current slots, pointed at the new log; entries dropped above are left out
+                    List<long[]> current = liveSlots();
+                    List<long[]> moved = new ArrayList<>(current.size());
+                    long movedBytes = 0;
+                    for (long[] slot : current) {
+                        long offset = slot[1];
+                        if (offset >= snapshotLength) {
+                            moved.add(new long[] {slot[0], tailStart + offset - snapshotLength});
+                            movedBytes += recordSizeAt(offset);
+                        } else {
+                            int i = Arrays.binarySearch(offsets, offset);
+                            if (i >= 0 && newOffsets[i] >= 0) {
+                                moved.add(new long[] {slot[0], newOffsets[i]});
+                                movedBytes += sizes[i];
+                            }
+                        }
+                    }
+
+                    // Closed before the move; closing it again on leaving the block is a no-op
+                    out.close();
+                    swapLog(tmpLog, newGeneration);
+                    int capacityNeeded = MIN_CAPACITY;
+                    while (moved.size() + 1 > capacityNeeded * MAX_LOAD) {
+                        capacityNeeded *= 2;
+                    }
+                    Path tmpIndex = indexPath.resolveSibling(indexPath.getFileName() + ".tmp");
+                    createIndex(tmpIndex, capacityNeeded);
+                    for (long[] slot : moved) {
+                        insertFresh(slot[0], slot[1]);
+                    }
+                    setLogLength(position);
+                    setDeadBytes(position - LOG_HEADER - movedBytes);
+                    replaceIndex(tmpIndex);
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            log.debug("Compacted disk cache {}: {} -> {} bytes, {} entries evicted",
+                logPath.getFileName(), before, logSize(), evicted);
+        } finally {
+            compactionLock.unlock();
+        }
+    }
+
+    private Path compactionLogPath() {
+        return logPath.resolveSibling(logPath.getFileName() + ".compact");
+    }
+
+    private static FileChannel openCompactionLog(Path path, long generation) throws IOException {
+        FileChannel out = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING);
+        writeLogHeader(out, generation);
+        return out;
+    }
+
+    /**
+     * Copy {@code count} bytes between the channels without staging them on the heap.
+     */
+    private static void transfer(FileChannel from, long position, long count, FileChannel to, long target)
+            throws IOException {
+        to.position(target);
+        long done = 0;
+        while (done < count) {
+            long n = from.transferTo(position + done, count - done, to);
+            if (n <= 0) {
+                throw new IOException("Disk cache log ended " + (count - done) + " bytes early while compacting");
+            }
+            done += n;
+        }
+    }
+
+    private void swapLog(Path tmpLog, long newGeneration) throws IOException {
+        logChannel.close();
+        Files.move(tmpLog, logPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        logChannel = FileChannel.open(logPath, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        generation = newGeneration;
+    }
+
+    private static final class Record {
+        final int keyLength;
+        final int valueLength;
+        final long expiresAt;
+        final byte[] value;
+
+        Record(int keyLength, int valueLength, long expiresAt, byte[] value) {
+            this.keyLength = keyLength;
+            this.valueLength = valueLength;
+            this.expiresAt = expiresAt;
+            this.value = value;
+        }
+
+        boolean expired(long now) {
+            return expiresAt > 0 && expiresAt <= now;
+        }
+    }
+}
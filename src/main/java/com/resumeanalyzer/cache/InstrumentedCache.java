@@ -0,0 +1,158 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.config.CacheMetrics;
+import org.springframework.cache.Cache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that counts hits, misses, loader time, writes and
+ * removals into {@link CacheStatistics}, and into Micrometer through
+ * {@link CacheMetrics} when a registry is available.
+ *
+ * A read through {@link #get(Object, Callable)} is a hit if the loader did
+ * not run, and a miss plus one timed load if it did. Decorators underneath
+ * (stale-while-revalidate, circuit breaking) are therefore measured by what
+ * the caller experienced.
+ */
+public class InstrumentedCache implements Cache {
+
+    private final Cache delegate;
+    private final CacheStatistics statistics;
+    private final CacheMetrics metrics;
+
+    public InstrumentedCache(Cache delegate, CacheStatistics statistics, CacheMetrics metrics) {
+        this.delegate = delegate;
+        this.statistics = statistics;
+        this.metrics = metrics;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper wrapper = delegate.get(key);
+        recordLookup(wrapper != null);
+        return wrapper;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        T value = delegate.get(key, type);
+        recordLookup(value != null);
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        boolean[] loaded = new boolean[1];
+        T value = delegate.get(key, () -> {
+            loaded[0] = true;
+            long start = System.nanoTime();
+            boolean success = false;
+            try {
+                T result = valueLoader.call();
+                success = true;
+                return result;
+            } finally {
+                recordLoad(System.nanoTime() - start, success);
+            }
+        });
+        recordLookup(!loaded[0]);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, value);
+        recordWrite();
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, value);
+        if (existing == null) {
+            recordWrite();
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+        recordRemoval();
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean present = delegate.evictIfPresent(key);
+        if (present) {
+            recordRemoval();
+        }
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+        recordRemoval();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = delegate.invalidate();
+        recordRemoval();
+        return present;
+    }
+
+    private void recordLookup(boolean hit) {
+        if (hit) {
+            statistics.recordHit();
+            if (metrics != null) {
+                metrics.recordCacheHit(getName());
+            }
+        } else {
+            statistics.recordMiss();
+            if (metrics != null) {
+                metrics.recordCacheMiss(getName());
+            }
+        }
+    }
+
+    private void recordLoad(long nanos, boolean success) {
+        statistics.recordLoad(nanos, success);
+        if (metrics != null) {
+            metrics.recordCacheLoad(getName(), nanos, success);
+        }
+    }
+
+    private void recordWrite() {
+        statistics.recordWrite();
+        if (metrics != null) {
+            metrics.recordCacheWrite(getName());
+        }
+    }
+
+    private void recordRemoval() {
+        statistics.recordRemoval();
+        if (metrics != null) {
+            metrics.recordCacheRemoval(getName());
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.resumeanalyzer.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeanalyzer.config.CachingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.Collection;
+
+/**
+ * Builds bounded in-process caches from {@link CachingProperties.Local}.
+ *
+ * Each cache is a Caffeine cache, which uses W-TinyLFU admission: a new
+ * entry only displaces a resident one if it is estimated to be accessed
+ * more often. A stream of one-off keys therefore cannot flush the hot set.
+ * Capacity is a byte budget enforced through {@link CacheWeigher}.
+ */
+public class LocalCacheFactory {
+
+    private static final Logger log = LoggerFactory.getLogger(LocalCacheFactory.class);
+
+    private final CachingProperties.Local properties;
+    private final MeterRegistry meterRegistry;
+    private final CacheWeigher weigher = new CacheWeigher();
+
+    public LocalCacheFactory(CachingProperties.Local properties, MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Build the native Caffeine cache for the given cache name.
+     *
+     * @param cacheName cache name used to look up its spec
+     * @return bounded Caffeine cache
+     */
+    public Cache<Object, Object> createNativeCache(String cacheName) {
+        CachingProperties.Spec spec = properties.specFor(cacheName);
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+            .maximumWeight(spec.getMaximumWeight().toBytes())
+            .weigher(weigher);
+        if (spec.getExpireAfterWrite() != null) {
+            builder.expireAfterWrite(spec.getExpireAfterWrite());
+        }
+        if (spec.getExpireAfterAccess() != null) {
+            builder.expireAfterAccess(spec.getExpireAfterAccess());
+        }
+        if (Boolean.TRUE.equals(spec.getRecordStats())) {
+            builder.recordStats();
+        }
+
+        Cache<Object, Object> cache = builder.build();
+        if (meterRegistry != null) {
+            CaffeineCacheMetrics.monitor(meterRegistry, cache, cacheName);
+        }
+        log.debug("Local cache '{}' created: maxWeight={}, ttl={}, tti={}",
+            cacheName, spec.getMaximumWeight(), spec.getExpireAfterWrite(), spec.getExpireAfterAccess());
+        return cache;
+    }
+
+    /**
+     * Build a cache manager with one bounded cache per name.
+     * Caches requested under other names are created on demand with the default spec.
+     *
+     * @param cacheNames caches to create eagerly
+     * @return configured cache manager
+     */
+    public CaffeineCacheManager createCacheManager(Collection<String> cacheNames) {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager() {
+            @Override
+            protected Cache<Object, Object> createNativeCaffeineCache(String name) {
+                return createNativeCache(name);
+            }
+        };
+        for (String name : cacheNames) {
+            cacheManager.registerCustomCache(name, createNativeCache(name));
+        }
+        return cacheManager;
+    }
+}
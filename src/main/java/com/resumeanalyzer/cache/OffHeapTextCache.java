@@ -0,0 +1,191 @@
+package com.resumeanalyzer.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+
+/**
+ * Cache decorator that keeps large text values in an {@link OffHeapTextStore}.
+ *
+ * Strings whose UTF-8 encoding is at least the threshold in bytes are
+ * stored off-heap and removed
+ * from the underlying cache; all other values go to the underlying cache
+ * unchanged. Reads check the off-heap store first. Off-heap entries expire
+ * after the given TTL, matching the underlying cache's expire-after-write.
+ *
+ * Store usage is published as {@code cache.offheap.bytes{cache, state}} and
+ * {@code cache.offheap.evictions{cache}} when a registry is available.
+ */
+public class OffHeapTextCache implements Cache {
+
+    private final Cache delegate;
+    private final OffHeapTextStore store;
+    private final int threshold;
+    private final Duration ttl;
+
+    public OffHeapTextCache(Cache delegate, OffHeapTextStore store, int threshold,
+                            Duration ttl, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.store = store;
+        this.threshold = threshold;
+        this.ttl = ttl;
+        if (meterRegistry != null) {
+            registerMeters(meterRegistry);
+        }
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    /**
+     * The off-heap store holding this cache's large values.
+     */
+    public OffHeapTextStore getStore() {
+        return store;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String text = store.get(key);
+        if (text != null) {
+            return new SimpleValueWrapper(text);
+        }
+        return delegate.get(key);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper stored = get(key);
+        if (stored != null) {
+            return (T) stored.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception e) {
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value instanceof String text && atLeastThreshold(text) && store.put(key, text, expiresAt())) {
+            delegate.evict(key);
+            return;
+        }
+        store.remove(key);
+        delegate.put(key, value);
+    }
+
+    /**
+     * Whether the text takes at least threshold bytes as UTF-8. A char is
+     * one to three bytes, so the exact count is only needed in between.
+     */
+    private boolean atLeastThreshold(String text) {
+        if (text.length() >= threshold) {
+            return true;
+        }
+        if ((long) text.length() * 3 < threshold) {
+            return false;
+        }
+        long bytes = 0;
+        for (int i = 0; i < text.length() && bytes < threshold; i++) {
+            char c = text.charAt(i);
+            if (c < 0x80) {
+                bytes += 1;
+            } else if (c < 0x800) {
+                bytes += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < text.length() && Character.isLowSurrogate(text.charAt(i + 1))) {
+                bytes += 4;
+                i++;
+            } else {
+                bytes += 3;
+            }
+        }
+        return bytes >= threshold;
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove(key);
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        boolean removed = store.remove(key);
+        return delegate.evictIfPresent(key) || removed;
+    }
+
+    @Override
+    public void clear() {
+        store.clear();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean notEmpty = store.size() > 0;
+        store.clear();
+        return delegate.invalidate() || notEmpty;
+    }
+
+    private long expiresAt() {
+        return ttl == null || ttl.isZero() ? 0 : System.currentTimeMillis() + ttl.toMillis();
+    }
+
+    private void registerMeters(MeterRegistry registry) {
+        Gauge.builder("cache.offheap.bytes", store, OffHeapTextStore::allocatedBytes)
+            .tag("cache", getName()).tag("state", "allocated")
+            .description("Direct memory held by off-heap cache slabs")
+            .register(registry);
+        Gauge.builder("cache.offheap.bytes", store, OffHeapTextStore::storedBytes)
+            .tag("cache", getName()).tag("state", "stored")
+            .description("Compressed bytes of values held off-heap")
+            .register(registry);
+        FunctionCounter.builder("cache.offheap.evictions", store, OffHeapTextStore::evictions)
+            .tag("cache", getName())
+            .description("Off-heap values evicted to make room")
+            .register(registry);
+    }
+}
@@ -0,0 +1,372 @@
+package com.resumeanalyzer.cache;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Stores large text values outside the Java heap.
+ *
+ * Values are UTF-8 encoded, deflated and copied into direct {@link ByteBuffer}
+ * slabs of a fixed size. Each slab is carved into equal chunks of one size
+ * class; classes grow by a factor of 1.25 from the minimum chunk up to the
+ * slab size, so a value wastes at most a fifth of its chunk. Only the key,
+ * a small slot record and the LRU links stay on the heap.
+ *
+ * Slabs are allocated on demand until the byte budget is reached. After that
+ * a value reuses the least recently used chunk of its own size class; if the
+ * class owns no entries yet, the slab holding the oldest entry of the class
+ * with the most slabs is emptied and re-carved for it.
+ *
+ * Values whose compressed form exceeds the slab size are rejected and left
+ * to the caller.
+ */
+public class OffHeapTextStore {
+
+    private static final double GROWTH_FACTOR = 1.25;
+
+    private final int slabSize;
+    private final int maxSlabs;
+    private final SizeClass[] classes;
+    private final List<ByteBuffer> slabs = new ArrayList<>();
+    private final List<SizeClass> slabOwners = new ArrayList<>();
+    private final Map<Object, Slot> index = new HashMap<>();
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long storedBytes;
+    private long evictions;
+
+    public OffHeapTextStore(long maxBytes, int slabSize, int minChunkSize) {
+        if (minChunkSize <= 0 || minChunkSize > slabSize) {
+            throw new IllegalArgumentException("Chunk size must be between 1 and the slab size " + slabSize);
+        }
+        this.slabSize = slabSize;
+        this.maxSlabs = (int) Math.max(1, Math.min(Integer.MAX_VALUE, maxBytes / slabSize));
+
+        List<SizeClass> sizes = new ArrayList<>();
+        long size = minChunkSize;
+        while (size < slabSize) {
+            sizes.add(new SizeClass((int) size));
+            size = (long) Math.ceil(size * GROWTH_FACTOR / 8) * 8;
+        }
+        sizes.add(new SizeClass(slabSize));
+        this.classes = sizes.toArray(new SizeClass[0]);
+    }
+
+    /**
+     * Text stored for a key, or null if absent or expired.
+     */
+    public String get(Object key) {
+        byte[] compressed;
+        int length;
+        lock.lock();
+        try {
+            Slot slot = index.get(key);
+            if (slot == null) {
+                return null;
+            }
+            if (slot.expiresAt != 0 && slot.expiresAt <= System.currentTimeMillis()) {
+                release(key, slot);
+                return null;
+            }
+            slot.sizeClass.lru.get(key);
+            compressed = new byte[slot.compressedLength];
+            slabs.get(slot.slab).get(slot.offset, compressed);
+            length = slot.length;
+        } finally {
+            lock.unlock();
+        }
+        return inflate(compressed, length);
+    }
+
+    /**
+     * Store text for a key, replacing any previous value.
+     *
+     * @param expiresAt epoch millis after which the value reads as missing, 0 for never
+     * @return false if the value is too large for a slab and was not stored
+     */
+    public boolean put(Object key, String value, long expiresAt) {
+        byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+        byte[] compressed = deflate(utf8);
+        SizeClass sizeClass = classFor(compressed.length);
+
+        lock.lock();
+        try {
+            Slot previous = index.get(key);
+            if (previous != null) {
+                release(key, previous);
+            }
+            if (sizeClass == null) {
+                return false;
+            }
+            long address = allocate(sizeClass);
+            if (address < 0) {
+                return false;
+            }
+            Slot slot = new Slot(sizeClass, (int) (address >>> 32), (int) address,
+                compressed.length, utf8.length, expiresAt);
+            slabs.get(slot.slab).put(slot.offset, compressed);
+            index.put(key, slot);
+            sizeClass.lru.put(key, slot);
+            storedBytes += compressed.length;
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Remove a key.
+     *
+     * @return true if a value was stored for it
+     */
+    public boolean remove(Object key) {
+        lock.lock();
+        try {
+            Slot slot = index.get(key);
+            if (slot == null) {
+                return false;
+            }
+            release(key, slot);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean containsKey(Object key) {
+        lock.lock();
+        try {
+            return index.containsKey(key);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Drop every value. Slabs stay allocated and are reused.
+     */
+    public void clear() {
+        lock.lock();
+        try {
+            index.clear();
+            storedBytes = 0;
+            for (SizeClass sizeClass : classes) {
+                sizeClass.lru.clear();
+                sizeClass.free.clear();
+                sizeClass.slabs.clear();
+            }
+            for (int slab = 0; slab < slabs.size(); slab++) {
+                slabOwners.set(slab, null);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return index.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Direct memory held by allocated slabs.
+     */
+    public long allocatedBytes() {
+        lock.lock();
+        try {
+            return (long) slabs.size() * slabSize;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Compressed bytes of the values currently stored.
+     */
+    public long storedBytes() {
+        lock.lock();
+        try {
+            return storedBytes;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Values dropped to make room for others.
+     */
+    public long evictions() {
+        lock.lock();
+        try {
+            return evictions;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private SizeClass classFor(int length) {
+        for (SizeClass sizeClass : classes) {
+            if (sizeClass.chunkSize >= length) {
+                return sizeClass;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Free chunk for the class as {@code slab << 32 | offset}, or -1.
+     */
+    private long allocate(SizeClass sizeClass) {
+        Long free = sizeClass.free.poll();
+        if (free != null) {
+            return free;
+        }
+        int unowned = slabOwners.indexOf(null);
+        if (unowned >= 0) {
+            carve(unowned, sizeClass);
+            return sizeClass.free.poll();
+        }
+        if (slabs.size() < maxSlabs) {
+            slabs.add(ByteBuffer.allocateDirect(slabSize));
+            slabOwners.add(null);
+            carve(slabs.size() - 1, sizeClass);
+            return sizeClass.free.poll();
+        }
+        if (!sizeClass.lru.isEmpty()) {
+            Map.Entry<Object, Slot> eldest = sizeClass.lru.entrySet().iterator().next();
+            release(eldest.getKey(), eldest.getValue());
+            evictions++;
+            return sizeClass.free.poll();
+        }
+        SizeClass victim = null;
+        for (SizeClass candidate : classes) {
+            if (!candidate.lru.isEmpty() && (victim == null || candidate.slabs.size() > victim.slabs.size())) {
+                victim = candidate;
+            }
+        }
+        if (victim == null) {
+            return -1;
+        }
+        int slab = victim.lru.values().iterator().next().slab;
+        reassign(slab, victim);
+        carve(slab, sizeClass);
+        return sizeClass.free.poll();
+    }
+
+    /**
+     * Empty a slab owned by another class so it can be re-carved.
+     */
+    private void reassign(int slab, SizeClass owner) {
+        Iterator<Map.Entry<Object, Slot>> entries = owner.lru.entrySet().iterator();
+        while (entries.hasNext()) {
+            Map.Entry<Object, Slot> entry = entries.next();
+            if (entry.getValue().slab == slab) {
+                entries.remove();
+                index.remove(entry.getKey());
+                storedBytes -= entry.getValue().compressedLength;
+                evictions++;
+            }
+        }
+        owner.free.removeIf(address -> (int) (address >>> 32) == slab);
+        owner.slabs.remove(Integer.valueOf(slab));
+        slabOwners.set(slab, null);
+    }
+
+    private void carve(int slab, SizeClass sizeClass) {
+        slabOwners.set(slab, sizeClass);
+        sizeClass.slabs.add(slab);
+        int chunks = slabSize / sizeClass.chunkSize;
+        for (int chunk = 0; chunk < chunks; chunk++) {
+            sizeClass.free.add(((long) slab << 32) | ((long) chunk * sizeClass.chunkSize));
+        }
+    }
+
+    private void release(Object key, Slot slot) {
+        index.remove(key);
+        slot.sizeClass.lru.remove(key);
+        slot.sizeClass.free.push(((long) slot.slab << 32) | slot.offset);
+        storedBytes -= slot.compressedLength;
+    }
+
+    private static byte[] deflate(byte[] input) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+        try {
+            deflater.setInput(input);
+            deflater.finish();
+            ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, input.length / 3));
+            byte[] buffer = new byte[8192];
+            while (!deflater.finished()) {
+                out.write(buffer, 0, deflater.deflate(buffer));
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private static String inflate(byte[] input, int length) {
+        Inflater inflater = new Inflater();
+        try {
+            inflater.setInput(input);
+            byte[] output = new byte[length];
+            int read = 0;
+            while (read < length && !inflater.finished()) {
+                int n = inflater.inflate(output, read, length - read);
+                if (n == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+                    throw new IllegalStateException("Truncated off-heap value: " + read + " of " + length + " bytes");
+                }
+                read += n;
+            }
+            return new String(output, 0, read, StandardCharsets.UTF_8);
+        } catch (DataFormatException e) {
+            throw new IllegalStateException("Corrupt off-heap value", e);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static final class SizeClass {
+        final int chunkSize;
+        final ArrayDeque<Long> free = new ArrayDeque<>();
+        final List<Integer> slabs = new ArrayList<>();
+        final LinkedHashMap<Object, Slot> lru = new LinkedHashMap<>(16, 0.75f, true);
+
+        SizeClass(int chunkSize) {
+            this.chunkSize = chunkSize;
+        }
+    }
+
+    private static final class Slot {
+        final SizeClass sizeClass;
+        final int slab;
+        final int offset;
+        final int compressedLength;
+        final int length;
+        final long expiresAt;
+
+        Slot(SizeClass sizeClass, int slab, int offset, int compressedLength, int length, long expiresAt) {
+            this.sizeClass = sizeClass;
+            this.slab = slab;
+            this.offset = offset;
+            this.compressedLength = compressedLength;
+            this.length = length;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.resumeanalyzer.cache;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Cache decorator that serves expired entries while one refresh runs in the background.
+ *
+ * Values are stored with their write time. Through {@link #get(Object, Callable)}:
+ * - younger than the soft TTL: returned as is
+ * - between soft and hard TTL: returned immediately, and the loader is run
+ *   once on the refresh executor to replace it
+ * - older than the hard TTL or absent: loaded on the caller's thread
+ *
+ * If a load fails, the last value is returned if it is no older than the
+ * hard TTL plus the stale-if-error window, so an outage of the backing
+ * service degrades to last-known-good results rather than errors. Plain
+ * {@link #get(Object)} lookups have no loader and treat entries past the
+ * hard TTL as missing.
+ *
+ * The underlying cache's own expiry must be at least the hard TTL plus the
+ * stale-if-error window, or entries are gone before the window ends.
+ */
+public class StaleWhileRevalidateCache implements Cache {
+
+    private static final Logger log = LoggerFactory.getLogger(StaleWhileRevalidateCache.class);
+
+    /**
+     * Stored form of a value: the value and when it was written (epoch millis).
+     */
+    public record Entry(Object value, long writtenAt) implements Serializable {
+    }
+
+    private final Cache delegate;
+    private final Duration softTtl;
+    private final Duration hardTtl;
+    private final Duration maxStaleOnError;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Map<Object, Boolean> refreshing = new ConcurrentHashMap<>();
+
+    /**
+     * @param staleIfError How long past the hard TTL an entry is still served when a reload fails
+     */
+    public StaleWhileRevalidateCache(Cache delegate, Duration softTtl, Duration hardTtl, Duration staleIfError,
+                                     Executor refreshExecutor) {
+        this(delegate, softTtl, hardTtl, staleIfError, refreshExecutor, Clock.systemUTC());
+    }
+
+    StaleWhileRevalidateCache(Cache delegate, Duration softTtl, Duration hardTtl, Duration staleIfError,
+                              Executor refreshExecutor, Clock clock) {
+        this.delegate = delegate;
+        this.softTtl = softTtl;
+        this.hardTtl = hardTtl;
+        this.maxStaleOnError = staleIfError != null ? hardTtl.plus(staleIfError) : hardTtl;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    public Cache getDelegate() {
+        return delegate;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        ValueWrapper stored = delegate.get(key);
+        if (stored == null) {
+            return null;
+        }
+        if (!(stored.get() instanceof Entry entry)) {
+            return stored;
+        }
+        return age(entry).compareTo(hardTtl) > 0 ? null : new SimpleValueWrapper(entry.value());
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper stored = delegate.get(key);
+        Entry entry = stored != null && stored.get() instanceof Entry e ? e : null;
+        if (stored != null && entry == null) {
+            return (T) stored.get();
+        }
+
+        if (entry != null) {
+            Duration age = age(entry);
+            if (age.compareTo(softTtl) <= 0) {
+                return (T) entry.value();
+            }
+            if (age.compareTo(hardTtl) <= 0) {
+                scheduleRefresh(key, valueLoader);
+                return (T) entry.value();
+            }
+        }
+
+        try {
+            T value = valueLoader.call();
+            put(key, value);
+            return value;
+        } catch (Exception e) {
+            if (entry != null && age(entry).compareTo(maxStaleOnError) <= 0) {
+                log.warn("Reload of '{}' in cache '{}' failed, serving last known value written {} ago: {}",
+                    key, getName(), age(entry), e.getMessage());
+                return (T) entry.value();
+            }
+            throw new ValueRetrievalException(key, valueLoader, e);
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        delegate.put(key, new Entry(value, clock.millis()));
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = delegate.putIfAbsent(key, new Entry(value, clock.millis()));
+        if (existing != null && existing.get() instanceof Entry entry) {
+            return new SimpleValueWrapper(entry.value());
+        }
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        return delegate.invalidate();
+    }
+
+    private Duration age(Entry entry) {
+        return Duration.ofMillis(clock.millis() - entry.writtenAt());
+    }
+
+    private void scheduleRefresh(Object key, Callable<?> valueLoader) {
+        if (refreshing.putIfAbsent(key, Boolean.TRUE) != null) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    put(key, valueLoader.call());
+                    log.debug("Refreshed stale entry '{}' in cache '{}'", key, getName());
+                } catch (Exception e) {
+                    log.warn("Background refresh of '{}' in cache '{}' failed, keeping stale value: {}",
+                        key, getName(), e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(key);
+            log.debug("Refresh executor saturated, skipping refresh of '{}' in cache '{}'", key, getName());
+        }
+    }
+}
@@ -0,0 +1,76 @@
+package com.resumeanalyzer.cache;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lookup outcome counters for one cache of a {@link TwoTierCacheManager}.
+ *
+ * Each read resolves at exactly one tier: the in-process L1, the Redis L2,
+ * or a miss on both. Counts are mirrored to Micrometer as
+ * {@code cache.tier.gets{cache, tier}} when a registry is available.
+ */
+public class TierStatistics {
+
+    private final LongAdder l1Hits = new LongAdder();
+    private final LongAdder l2Hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final Counter l1Counter;
+    private final Counter l2Counter;
+    private final Counter missCounter;
+
+    public TierStatistics(String cacheName, MeterRegistry meterRegistry) {
+        if (meterRegistry != null) {
+            this.l1Counter = counter(meterRegistry, cacheName, "l1");
+            this.l2Counter = counter(meterRegistry, cacheName, "l2");
+            this.missCounter = counter(meterRegistry, cacheName, "miss");
+        } else {
+            this.l1Counter = null;
+            this.l2Counter = null;
+            this.missCounter = null;
+        }
+    }
+
+    private static Counter counter(MeterRegistry registry, String cacheName, String tier) {
+        return Counter.builder("cache.tier.gets")
+            .tag("cache", cacheName)
+            .tag("tier", tier)
+            .description("Cache lookups by the tier that answered them")
+            .register(registry);
+    }
+
+    void recordL1Hit() {
+        l1Hits.increment();
+        if (l1Counter != null) {
+            l1Counter.increment();
+        }
+    }
+
+    void recordL2Hit() {
+        l2Hits.increment();
+        if (l2Counter != null) {
+            l2Counter.increment();
+        }
+    }
+
+    void recordMiss() {
+        misses.increment();
+        if (missCounter != null) {
+            missCounter.increment();
+        }
+    }
+
+    public long getL1Hits() {
+        return l1Hits.sum();
+    }
+
+    public long getL2Hits() {
+        return l2Hits.sum();
+    }
+
+    public long getMisses() {
+        return misses.sum();
+    }
+}
@@ -0,0 +1,191 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.concurrent.SingleFlight;
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+
+import java.util.concurrent.Callable;
+
+/**
+ * Cache with a bounded in-process L1 in front of a shared L2 (Redis).
+ *
+ * Reads try L1 first and only go over the network on an L1 miss; L2 hits
+ * are copied into L1. Writes go to both tiers and are broadcast through the
+ * {@link CacheInvalidationBus} so other nodes drop their now-stale L1 copy.
+ * L1 keys are the string form of the cache key, which matches how
+ * RedisCache renders keys and how invalidations are sent over the wire.
+ * Loads run outside the L1's own compute, deduplicated per key through a
+ * {@link SingleFlight}, so a slow L2 or loader never blocks other keys.
+ */
+public class TwoTierCache extends AbstractValueAdaptingCache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<Object, Object> l1;
+    private final Cache l2;
+    private final CacheInvalidationBus invalidationBus;
+    private final TierStatistics statistics;
+    private final SingleFlight<Object> loads;
+
+    public TwoTierCache(String name,
+                        com.github.benmanes.caffeine.cache.Cache<Object, Object> l1,
+                        Cache l2,
+                        CacheInvalidationBus invalidationBus,
+                        TierStatistics statistics,
+                        SingleFlight<Object> loads) {
+        super(true);
+        this.name = name;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.invalidationBus = invalidationBus;
+        this.statistics = statistics;
+        this.loads = loads;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return l2.getNativeCache();
+    }
+
+    /**
+     * The in-process L1.
+     */
+    public com.github.benmanes.caffeine.cache.Cache<Object, Object> getLocalCache() {
+        return l1;
+    }
+
+    public TierStatistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        String localKey = localKey(key);
+        Object stored = l1.getIfPresent(localKey);
+        if (stored != null) {
+            statistics.recordL1Hit();
+            return stored;
+        }
+
+        ValueWrapper remote = l2.get(key);
+        if (remote == null) {
+            statistics.recordMiss();
+            return null;
+        }
+        statistics.recordL2Hit();
+        Object storeValue = toStoreValue(remote.get());
+        l1.put(localKey, storeValue);
+        return storeValue;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        String localKey = localKey(key);
+        Object stored = l1.getIfPresent(localKey);
+        if (stored != null) {
+            statistics.recordL1Hit();
+            return (T) fromStoreValue(stored);
+        }
+
+        // Concurrent misses on this node share one L2 round-trip and one load
+        stored = loads.execute(localKey, () -> {
+            Object local = l1.getIfPresent(localKey);
+            if (local != null) {
+                statistics.recordL1Hit();
+                return local;
+            }
+            ValueWrapper remote = l2.get(key);
+            if (remote != null) {
+                statistics.recordL2Hit();
+                Object storeValue = toStoreValue(remote.get());
+                l1.put(localKey, storeValue);
+                return storeValue;
+            }
+            statistics.recordMiss();
+            T value;
+            try {
+                value = valueLoader.call();
+            } catch (Exception e) {
+                throw new ValueRetrievalException(key, valueLoader, e);
+            }
+            put(key, value);
+            return toStoreValue(value);
+        });
+        return (T) fromStoreValue(stored);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        String localKey = localKey(key);
+        l2.put(key, value);
+        l1.put(localKey, toStoreValue(value));
+        publishEvict(localKey);
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = localKey(key);
+        l2.evict(key);
+        l1.invalidate(localKey);
+        publishEvict(localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = localKey(key);
+        boolean present = l2.evictIfPresent(key);
+        l1.invalidate(localKey);
+        publishEvict(localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        l2.clear();
+        l1.invalidateAll();
+        publishClear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = l2.invalidate();
+        l1.invalidateAll();
+        publishClear();
+        return present;
+    }
+
+    /**
+     * Drop a key from L1 only, in response to a write on another node.
+     */
+    void evictLocal(String localKey) {
+        l1.invalidate(localKey);
+    }
+
+    /**
+     * Drop all L1 entries only, in response to a clear on another node.
+     */
+    void clearLocal() {
+        l1.invalidateAll();
+    }
+
+    private void publishEvict(String localKey) {
+        if (invalidationBus != null) {
+            invalidationBus.publishEvict(name, localKey);
+        }
+    }
+
+    private void publishClear() {
+        if (invalidationBus != null) {
+            invalidationBus.publishClear(name);
+        }
+    }
+
+    private static String localKey(Object key) {
+        return String.valueOf(key);
+    }
+}
@@ -0,0 +1,87 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.concurrent.SingleFlight;
+import com.resumeanalyzer.config.CachingProperties;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache manager that layers a bounded in-process L1 over a shared L2 manager.
+ *
+ * The L2 (a RedisCacheManager, or the disk tier on single-node installs)
+ * stays the source of truth and owns the set of cache names; L1 caches are
+ * built from cache.near.* (cache.local.* over disk) and wrapped around each
+ * L2 cache on first use. Invalidations from other nodes arrive through the
+ * {@link CacheInvalidationBus}, if any, and are applied to L1 only.
+ */
+public class TwoTierCacheManager implements CacheManager {
+
+    private static final Logger log = LoggerFactory.getLogger(TwoTierCacheManager.class);
+
+    private final CacheManager l2CacheManager;
+    private final LocalCacheFactory l1Factory;
+    private final CacheInvalidationBus invalidationBus;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, TwoTierCache> caches = new ConcurrentHashMap<>();
+
+    public TwoTierCacheManager(CacheManager l2CacheManager,
+                               CachingProperties.Local l1Properties,
+                               CacheInvalidationBus invalidationBus,
+                               MeterRegistry meterRegistry) {
+        this.l2CacheManager = l2CacheManager;
+        this.l1Factory = new LocalCacheFactory(l1Properties, meterRegistry);
+        this.invalidationBus = invalidationBus;
+        this.meterRegistry = meterRegistry;
+        if (invalidationBus != null) {
+            invalidationBus.addListener(this::applyRemoteInvalidation);
+        }
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoTierCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache l2 = l2CacheManager.getCache(name);
+        if (l2 == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new TwoTierCache(
+            n, l1Factory.createNativeCache(n), l2, invalidationBus, new TierStatistics(n, meterRegistry),
+            new SingleFlight<>("cache-load:" + n, meterRegistry)));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return l2CacheManager.getCacheNames();
+    }
+
+    /**
+     * Per-tier lookup statistics for a cache, or null if it has not been used yet.
+     */
+    public TierStatistics getStatistics(String cacheName) {
+        TwoTierCache cache = caches.get(cacheName);
+        return cache != null ? cache.getStatistics() : null;
+    }
+
+    private void applyRemoteInvalidation(CacheInvalidationBus.Invalidation invalidation) {
+        TwoTierCache cache = caches.get(invalidation.cacheName());
+        if (cache == null) {
+            return;
+        }
+        if (invalidation.key() == null) {
+            cache.clearLocal();
+            log.debug("Cleared L1 cache '{}' after remote invalidation", invalidation.cacheName());
+        } else {
+            cache.evictLocal(invalidation.key());
+        }
+    }
+}
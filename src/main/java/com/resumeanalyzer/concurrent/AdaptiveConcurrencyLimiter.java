@@ -0,0 +1,105 @@
+package com.resumeanalyzer.concurrent;
+
+import java.time.Clock;
+import java.time.Duration;
+
+/**
+ * Concurrency limit that adapts to latency (AIMD).
+ *
+ * A call is admitted while fewer than the current limit are in flight.
+ * When an admitted call completes within the latency target the limit grows
+ * by 1/limit, i.e. by about one per limit's worth of calls (additive
+ * increase), but only while the limit is actually being used: at least half
+ * of it in flight. A call slower than the target, or one that failed from
+ * overload, multiplies the limit by the backoff ratio (multiplicative
+ * decrease). Decreases are at most one per latency target, so one burst of
+ * slow calls that were all admitted under the old limit counts once.
+ *
+ * The limit stays between the configured minimum and maximum, so the
+ * service never stops admitting work altogether and never admits more than
+ * its worst case allows.
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final Duration latencyTarget;
+    private final double backoffRatio;
+    private final Clock clock;
+
+    private double limit;
+    private int inFlight;
+    private long decreasedAt;
+
+    /**
+     * @param initialLimit Limit to start from
+     * @param minLimit Lowest the limit may shrink to
+     * @param maxLimit Highest the limit may grow to
+     * @param latencyTarget Calls slower than this shrink the limit
+     * @param backoffRatio Factor (0-1) the limit is multiplied by on a decrease
+     */
+    public AdaptiveConcurrencyLimiter(int initialLimit, int minLimit, int maxLimit, Duration latencyTarget,
+                                      double backoffRatio, Clock clock) {
+        if (minLimit < 1 || maxLimit < minLimit || backoffRatio <= 0 || backoffRatio >= 1) {
+            throw new IllegalArgumentException("Invalid concurrency limits " + minLimit + ".." + maxLimit
+                + " or backoff ratio " + backoffRatio);
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.latencyTarget = latencyTarget;
+        this.backoffRatio = backoffRatio;
+        this.clock = clock;
+        this.limit = Math.max(minLimit, Math.min(maxLimit, initialLimit));
+        this.decreasedAt = Long.MIN_VALUE;
+    }
+
+    /**
+     * Admit a call if the limit allows. An admitted call must be followed by
+     * exactly one {@link #release} or {@link #releaseWithoutSample}.
+     *
+     * @return whether the call was admitted
+     */
+    public synchronized boolean tryAcquire() {
+        if (inFlight >= (int) limit) {
+            return false;
+        }
+        inFlight++;
+        return true;
+    }
+
+    /**
+     * Complete an admitted call and adjust the limit to its outcome.
+     *
+     * @param latency time the call took
+     * @param overloaded whether the call failed in a way that signals overload (e.g. a timeout)
+     */
+    public synchronized void release(Duration latency, boolean overloaded) {
+        int wasInFlight = inFlight;
+        inFlight--;
+        if (overloaded || latency.compareTo(latencyTarget) > 0) {
+            long now = clock.millis();
+            if (decreasedAt == Long.MIN_VALUE || now - decreasedAt >= latencyTarget.toMillis()) {
+                limit = Math.max(minLimit, limit * backoffRatio);
+                decreasedAt = now;
+            }
+        } else if (wasInFlight * 2 >= (int) limit) {
+            limit = Math.min(maxLimit, limit + 1 / limit);
+        }
+    }
+
+    /**
+     * Complete an admitted call whose latency says nothing about load,
+     * e.g. a long-running stream.
+     */
+    public synchronized void releaseWithoutSample() {
+        inFlight--;
+    }
+
+    public synchronized int getLimit() {
+        return (int) limit;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+}
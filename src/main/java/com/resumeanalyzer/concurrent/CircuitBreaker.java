@@ -0,0 +1,253 @@
+package com.resumeanalyzer.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.Closeable;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Count-based circuit breaker for calls to a remote dependency.
+ *
+ * The outcome of the last {@code windowSize} calls is kept; a call fails if
+ * it throws or takes longer than the slow-call threshold. Once at least
+ * {@code minimumCalls} outcomes are recorded and the failure rate reaches
+ * the threshold, the circuit opens and {@link #tryAcquire()} refuses calls,
+ * so callers fall back immediately instead of waiting on timeouts.
+ *
+ * An open circuit is never closed by caller traffic. A background probe,
+ * started with {@link #startProbing}, checks the dependency once the open
+ * duration has elapsed and closes the circuit when the probe succeeds.
+ *
+ * State and refused calls are published as {@code circuitbreaker.state{name}}
+ * (1 while open) and {@code circuitbreaker.rejected{name}}.
+ */
+public class CircuitBreaker implements Closeable {
+
+    private static final Logger log = LoggerFactory.getLogger(CircuitBreaker.class);
+
+    public enum State {
+        CLOSED, OPEN
+    }
+
+    /**
+     * Thrown by {@link #execute} while the circuit is open.
+     */
+    public static class OpenException extends RuntimeException {
+        public OpenException(String name) {
+            super("Circuit '" + name + "' is open", null, false, false);
+        }
+    }
+
+    private final String name;
+    private final boolean[] window;
+    private final int minimumCalls;
+    private final double failureRateThreshold;
+    private final long slowCallNanos;
+    private final long openMillis;
+    private final Clock clock;
+    private final LongAdder rejected = new LongAdder();
+    private final Counter rejectedCounter;
+
+    private int position;
+    private int recorded;
+    private int failures;
+    private volatile State state = State.CLOSED;
+    private volatile long openedAt;
+    private ScheduledExecutorService prober;
+
+    /**
+     * @param windowSize Number of recent calls the failure rate is computed over
+     * @param minimumCalls Calls recorded before the circuit may open
+     * @param failureRateThreshold Failure percentage (0-100) that opens the circuit
+     * @param slowCallThreshold Calls slower than this count as failures; null disables
+     * @param openDuration Time the circuit stays open before probing
+     */
+    public CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                          Duration slowCallThreshold, Duration openDuration, MeterRegistry meterRegistry) {
+        this(name, windowSize, minimumCalls, failureRateThreshold, slowCallThreshold, openDuration,
+            meterRegistry, Clock.systemUTC());
+    }
+
+    CircuitBreaker(String name, int windowSize, int minimumCalls, double failureRateThreshold,
+                   Duration slowCallThreshold, Duration openDuration, MeterRegistry meterRegistry, Clock clock) {
+        this.name = name;
+        this.window = new boolean[Math.max(1, windowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, window.length));
+        this.failureRateThreshold = failureRateThreshold;
+        this.slowCallNanos = slowCallThreshold != null ? slowCallThreshold.toNanos() : Long.MAX_VALUE;
+        this.openMillis = openDuration.toMillis();
+        this.clock = clock;
+        if (meterRegistry != null) {
+            Gauge.builder("circuitbreaker.state", this, breaker -> breaker.state == State.OPEN ? 1 : 0)
+                .tag("name", name)
+                .description("1 while the circuit is open and calls are refused")
+                .register(meterRegistry);
+            this.rejectedCounter = Counter.builder("circuitbreaker.rejected")
+                .tag("name", name)
+                .description("Calls refused while the circuit was open")
+                .register(meterRegistry);
+        } else {
+            this.rejectedCounter = null;
+        }
+    }
+
+    /**
+     * Whether a call may go to the dependency now. Callers that get true
+     * must report the outcome through {@link #onSuccess} or {@link #onError}.
+     */
+    public boolean tryAcquire() {
+        if (state == State.CLOSED) {
+            return true;
+        }
+        rejected.increment();
+        if (rejectedCounter != null) {
+            rejectedCounter.increment();
+        }
+        return false;
+    }
+
+    public void onSuccess(long durationNanos) {
+        record(durationNanos > slowCallNanos);
+    }
+
+    public void onError() {
+        record(true);
+    }
+
+    /**
+     * Run an operation through the breaker, recording its outcome.
+     *
+     * @throws OpenException if the circuit is open; the operation is not run
+     */
+    public <T> T execute(Supplier<T> operation) {
+        if (!tryAcquire()) {
+            throw new OpenException(name);
+        }
+        long start = System.nanoTime();
+        try {
+            T result = operation.get();
+            onSuccess(System.nanoTime() - start);
+            return result;
+        } catch (RuntimeException e) {
+            onError();
+            throw e;
+        }
+    }
+
+    public void run(Runnable operation) {
+        execute(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * Check the dependency if the circuit has been open for the open
+     * duration, and close it if the probe completes without an exception.
+     */
+    public void probe(Callable<?> probe) {
+        if (state != State.OPEN || clock.millis() - openedAt < openMillis) {
+            return;
+        }
+        try {
+            probe.call();
+            reset();
+            log.info("Circuit '{}' closed, dependency recovered", name);
+        } catch (Exception e) {
+            openedAt = clock.millis();
+            log.debug("Circuit '{}' probe failed, staying open: {}", name, e.getMessage());
+        }
+    }
+
+    /**
+     * Run {@link #probe} on a background thread every interval until closed.
+     */
+    public synchronized void startProbing(Callable<?> probe, Duration interval) {
+        if (prober != null) {
+            return;
+        }
+        prober = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "circuit-probe-" + name);
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = Math.max(1, interval.toMillis());
+        prober.scheduleWithFixedDelay(() -> probe(probe), millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Close the circuit and forget recorded outcomes.
+     */
+    public synchronized void reset() {
+        position = 0;
+        recorded = 0;
+        failures = 0;
+        state = State.CLOSED;
+    }
+
+    @Override
+    public synchronized void close() {
+        if (prober != null) {
+            prober.shutdownNow();
+            prober = null;
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public State getState() {
+        return state;
+    }
+
+    public boolean isOpen() {
+        return state == State.OPEN;
+    }
+
+    /**
+     * Failure percentage over the recorded window (0 while closed and empty).
+     */
+    public synchronized double getFailureRate() {
+        return recorded == 0 ? 0 : failures * 100.0 / recorded;
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+
+    private synchronized void record(boolean failed) {
+        if (state != State.CLOSED) {
+            return;
+        }
+        if (recorded == window.length) {
+            if (window[position]) {
+                failures--;
+            }
+        } else {
+            recorded++;
+        }
+        window[position] = failed;
+        if (failed) {
+            failures++;
+        }
+        position = (position + 1) % window.length;
+
+        if (recorded >= minimumCalls && failures * 100.0 / recorded >= failureRateThreshold) {
+            state = State.OPEN;
+            openedAt = clock.millis();
+            log.warn("Circuit '{}' opened: {} of the last {} calls failed", name, failures, recorded);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.resumeanalyzer.concurrent;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import com.resumeanalyzer.exception.DeadlineExceededException;
+
+/**
+ * Point in time by which a request must have been answered.
+ *
+ * A deadline is created once per request and handed to every stage of its
+ * work. Stages bound their wait with {@link #bound} or take a slice of what
+ * is left with {@link #share}, so a slow stage uses up its own budget rather
+ * than the whole request's.
+ */
+public final class Deadline {
+
+    private final long budgetMillis;
+    private final long deadlineNanos;
+
+    private Deadline(long budgetMillis, long deadlineNanos) {
+        this.budgetMillis = budgetMillis;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    public static Deadline after(Duration budget) {
+        long millis = Math.max(0, budget.toMillis());
+        return new Deadline(millis, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(millis));
+    }
+
+    /**
+     * A deadline for one stage: the given fraction of the time left, never
+     * later than this deadline.
+     */
+    public Deadline share(double fraction) {
+        long slice = (long) (remainingMillis() * Math.min(1.0, Math.max(0.0, fraction)));
+        return new Deadline(slice, System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(slice));
+    }
+
+    /**
+     * @return milliseconds left, 0 once passed
+     */
+    public long remainingMillis() {
+        return Math.max(0, TimeUnit.NANOSECONDS.toMillis(deadlineNanos - System.nanoTime()));
+    }
+
+    public boolean isExpired() {
+        return deadlineNanos - System.nanoTime() <= 0;
+    }
+
+    public long getBudgetMillis() {
+        return budgetMillis;
+    }
+
+    /**
+     * A view of the stage that fails with {@link DeadlineExceededException}
+     * if the stage has not completed by this deadline. The stage itself is
+     * left running.
+     */
+    public <T> CompletableFuture<T> bound(CompletableFuture<T> stage, String name) {
+        return stage.copy()
+                .orTimeout(remainingMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(e -> {
+                    Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+                    if (cause instanceof TimeoutException) {
+                        throw new DeadlineExceededException(
+                            name + " did not finish within the " + budgetMillis + " ms budget");
+                    }
+                    throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+                });
+    }
+}
@@ -0,0 +1,148 @@
+package com.resumeanalyzer.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collapses concurrent identical calls into one execution.
+ *
+ * The first caller for a key becomes the leader and runs the loader on its
+ * own thread; callers arriving while it is in flight wait on the same
+ * {@link CompletableFuture} and receive its result or exception. Once the
+ * call completes the key is released, so later callers start a fresh
+ * execution (normally answered by a cache by then).
+ *
+ * Keys should identify the input by content; {@link #contentKey} hashes
+ * request text so large payloads are not held as map keys.
+ *
+ * @param <V> Result type
+ */
+public class SingleFlight<V> {
+
+    /**
+     * Work to run once per key. May throw a checked exception, which is
+     * rethrown to the leader and every coalesced caller.
+     */
+    @FunctionalInterface
+    public interface Loader<V, E extends Exception> {
+        V load() throws E;
+    }
+
+    private final String name;
+    private final Map<String, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final Counter coalescedCounter;
+
+    public SingleFlight(String name, MeterRegistry meterRegistry) {
+        this.name = name;
+        this.coalescedCounter = meterRegistry == null ? null : Counter.builder("singleflight.coalesced")
+            .tag("operation", name)
+            .description("Callers that shared an identical in-flight call instead of running their own")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Run the loader for this key, or join the execution already in flight.
+     *
+     * @param key Content key of the call
+     * @param loader Work to run if no identical call is in flight
+     * @return The shared result
+     * @throws E If the shared execution failed with a checked exception
+     */
+    public <E extends Exception> V execute(String key, Loader<V, E> loader) throws E {
+        calls.increment();
+        CompletableFuture<V> flight = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            coalesced.increment();
+            if (coalescedCounter != null) {
+                coalescedCounter.increment();
+            }
+            return await(existing);
+        }
+
+        try {
+            V value = loader.load();
+            flight.complete(value);
+            return value;
+        } catch (Throwable t) {
+            flight.completeExceptionally(t);
+            throw t;
+        } finally {
+            inFlight.remove(key, flight);
+        }
+    }
+
+    /**
+     * Hash the given parts into a fixed-size key (SHA-256, hex).
+     */
+    public static String contentKey(Object... parts) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            for (Object part : parts) {
+                digest.update(String.valueOf(part).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0);
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /**
+     * Total calls, led or coalesced.
+     */
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    /**
+     * Calls that joined an in-flight execution instead of running their own.
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    /**
+     * Executions currently in flight.
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <V, E extends Exception> V await(CompletableFuture<V> flight) throws E {
+        try {
+            return flight.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CompletionException(e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            // Only the leader's loader can fail, and it declares E
+            throw (E) cause;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.resumeanalyzer.concurrent;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Named {@link SingleFlight} instances shared by the services that coalesce
+ * external calls (job description fetch, skill extraction, AI suggestions),
+ * so coalescing can be reported in one place.
+ */
+@Component
+public class SingleFlightRegistry {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, SingleFlight<?>> flights = new ConcurrentHashMap<>();
+
+    public SingleFlightRegistry(ObjectProvider<MeterRegistry> meterRegistry) {
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    /**
+     * Get or create the single-flight group for an operation.
+     */
+    @SuppressWarnings("unchecked")
+    public <V> SingleFlight<V> get(String operation) {
+        return (SingleFlight<V>) flights.computeIfAbsent(operation, name -> new SingleFlight<>(name, meterRegistry));
+    }
+
+    /**
+     * Number of coalesced callers per operation, sorted by operation name.
+     */
+    public Map<String, Long> getCoalescedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        flights.forEach((name, flight) -> counts.put(name, flight.getCoalesced()));
+        return counts;
+    }
+}
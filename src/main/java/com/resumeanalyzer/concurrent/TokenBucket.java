@@ -0,0 +1,49 @@
+package com.resumeanalyzer.concurrent;
+
+import java.time.Clock;
+
+/**
+ * Token bucket rate limiter.
+ *
+ * The bucket holds up to {@code capacity} tokens and refills continuously
+ * at {@code refillPerSecond}; each admitted call takes one token. A full
+ * bucket therefore allows a burst of {@code capacity} calls, after which
+ * calls are admitted at the refill rate. Refill is computed lazily from the
+ * elapsed time on each call, so idle buckets cost nothing.
+ */
+public class TokenBucket {
+
+    private final double capacity;
+    private final double refillPerMilli;
+    private final Clock clock;
+
+    private double tokens;
+    private long refilledAt;
+
+    public TokenBucket(int capacity, double refillPerSecond, Clock clock) {
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Token bucket needs a capacity of at least 1 and a positive refill rate");
+        }
+        this.capacity = capacity;
+        this.refillPerMilli = refillPerSecond / 1000.0;
+        this.clock = clock;
+        this.tokens = capacity;
+        this.refilledAt = clock.millis();
+    }
+
+    /**
+     * Take a token if one is available.
+     *
+     * @return 0 if a token was taken, otherwise the milliseconds until the next token is available
+     */
+    public synchronized long tryAcquire() {
+        long now = clock.millis();
+        tokens = Math.min(capacity, tokens + (now - refilledAt) * refillPerMilli);
+        refilledAt = now;
+        if (tokens >= 1) {
+            tokens -= 1;
+            return 0;
+        }
+        return (long) Math.ceil((1 - tokens) / refillPerMilli);
+    }
+}
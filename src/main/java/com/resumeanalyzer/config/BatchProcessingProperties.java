@@ -0,0 +1,242 @@
+package com.resumeanalyzer.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * Configuration properties for batch resume analysis: synchronous batches
+ * (POST /api/v1/batch) and asynchronous batch jobs (/api/v1/batch-jobs).
+ * Maps batch.processing.* from application.properties.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "batch.processing")
+public class BatchProcessingProperties {
+
+    private boolean enabled = true;
+
+    /**
+     * Maximum number of items accepted in one batch request
+     */
+    private int maxItems = 100;
+
+    /**
+     * Time limit for a whole batch; items still running after it are reported as timed out
+     */
+    private int timeoutSeconds = 300;
+
+    /**
+     * Time limit for one item, counted from when it starts running
+     */
+    private int itemTimeoutSeconds = 30;
+
+    /**
+     * Time an item waits for AI suggestions after its match; past it the item is returned without them
+     */
+    private int aiTimeoutSeconds = 10;
+
+    /**
+     * Worker threads shared by all batch requests
+     */
+    private int threadPoolSize = 5;
+
+    /**
+     * Items that may wait for a worker thread across all batches; items beyond it fail fast
+     */
+    private int queueCapacity = 500;
+
+    /**
+     * Streamed responses (job results, NDJSON uploads) open at a time, each holding a thread; further ones get 503
+     */
+    private int maxOpenStreams = 64;
+
+    private Jobs jobs = new Jobs();
+
+    private Streaming stream = new Streaming();
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getMaxItems() {
+        return maxItems;
+    }
+
+    public void setMaxItems(int maxItems) {
+        this.maxItems = maxItems;
+    }
+
+    public int getTimeoutSeconds() {
+        return timeoutSeconds;
+    }
+
+    public void setTimeoutSeconds(int timeoutSeconds) {
+        this.timeoutSeconds = timeoutSeconds;
+    }
+
+    public int getItemTimeoutSeconds() {
+        return itemTimeoutSeconds;
+    }
+
+    public void setItemTimeoutSeconds(int itemTimeoutSeconds) {
+        this.itemTimeoutSeconds = itemTimeoutSeconds;
+    }
+
+    public int getAiTimeoutSeconds() {
+        return aiTimeoutSeconds;
+    }
+
+    public void setAiTimeoutSeconds(int aiTimeoutSeconds) {
+        this.aiTimeoutSeconds = aiTimeoutSeconds;
+    }
+
+    public int getThreadPoolSize() {
+        return threadPoolSize;
+    }
+
+    public void setThreadPoolSize(int threadPoolSize) {
+        this.threadPoolSize = threadPoolSize;
+    }
+
+    public int getQueueCapacity() {
+        return queueCapacity;
+    }
+
+    public void setQueueCapacity(int queueCapacity) {
+        this.queueCapacity = queueCapacity;
+    }
+
+    public int getMaxOpenStreams() {
+        return maxOpenStreams;
+    }
+
+    public void setMaxOpenStreams(int maxOpenStreams) {
+        this.maxOpenStreams = maxOpenStreams;
+    }
+
+    public Jobs getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(Jobs jobs) {
+        this.jobs = jobs;
+    }
+
+    public Streaming getStream() {
+        return stream;
+    }
+
+    public void setStream(Streaming stream) {
+        this.stream = stream;
+    }
+
+    /**
+     * Asynchronous batch jobs (batch.processing.jobs.*).
+     * Item timeouts are shared with synchronous batches.
+     */
+    public static class Jobs {
+
+        /**
+         * Maximum number of items accepted in one job
+         */
+        private int maxItems = 10000;
+
+        /**
+         * Jobs that may be running at the same time; further submissions are refused
+         */
+        private int maxActiveJobs = 10;
+
+        /**
+         * Worker threads shared by all jobs (0 = one per available processor)
+         */
+        private int workerThreads = 0;
+
+        /**
+         * Items of one job queued or running at a time, so concurrent jobs share the workers
+         */
+        private int maxInFlightPerJob = 32;
+
+        /**
+         * How long a finished job and its results are kept
+         */
+        private Duration resultTtl = Duration.ofHours(1);
+
+        public int getMaxItems() {
+            return maxItems;
+        }
+
+        public void setMaxItems(int maxItems) {
+            this.maxItems = maxItems;
+        }
+
+        public int getMaxActiveJobs() {
+            return maxActiveJobs;
+        }
+
+        public void setMaxActiveJobs(int maxActiveJobs) {
+            this.maxActiveJobs = maxActiveJobs;
+        }
+
+        public int getWorkerThreads() {
+            return workerThreads;
+        }
+
+        public void setWorkerThreads(int workerThreads) {
+            this.workerThreads = workerThreads;
+        }
+
+        public int getMaxInFlightPerJob() {
+            return maxInFlightPerJob;
+        }
+
+        public void setMaxInFlightPerJob(int maxInFlightPerJob) {
+            this.maxInFlightPerJob = maxInFlightPerJob;
+        }
+
+        public Duration getResultTtl() {
+            return resultTtl;
+        }
+
+        public void setResultTtl(Duration resultTtl) {
+            this.resultTtl = resultTtl;
+        }
+    }
+
+    /**
+     * Streamed NDJSON batches (batch.processing.stream.*). They run on the
+     * batch job workers; item timeouts are shared with synchronous batches.
+     */
+    public static class Streaming {
+
+        /**
+         * Items of one upload parsed but not yet written back; reading pauses at this limit
+         */
+        private int maxInFlight = 32;
+
+        /**
+         * Distinct job descriptions whose extracted skills are shared within one upload
+         */
+        private int maxSharedJobDescriptions = 256;
+
+        public int getMaxInFlight() {
+            return maxInFlight;
+        }
+
+        public void setMaxInFlight(int maxInFlight) {
+            this.maxInFlight = maxInFlight;
+        }
+
+        public int getMaxSharedJobDescriptions() {
+            return maxSharedJobDescriptions;
+        }
+
+        public void setMaxSharedJobDescriptions(int maxSharedJobDescriptions) {
+            this.maxSharedJobDescriptions = maxSharedJobDescriptions;
+        }
+    }
+}
@@ -1,92 +1,361 @@
 package com.resumeanalyzer.config;
 
+import com.resumeanalyzer.cache.CacheInvalidationBus;
+import com.resumeanalyzer.cache.CacheStatisticsRegistry;
+import com.resumeanalyzer.cache.CircuitBreakingCache;
+import com.resumeanalyzer.cache.CompactValueSerializer;
+import com.resumeanalyzer.cache.DecoratingCacheManager;
+import com.resumeanalyzer.cache.DiskCacheManager;
+import com.resumeanalyzer.cache.LocalCacheFactory;
+import com.resumeanalyzer.cache.OffHeapTextCache;
+import com.resumeanalyzer.cache.OffHeapTextStore;
+import com.resumeanalyzer.cache.StaleWhileRevalidateCache;
+import com.resumeanalyzer.cache.TwoTierCacheManager;
+import com.resumeanalyzer.concurrent.CircuitBreaker;
 import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CachingConfigurer;
 import org.springframework.cache.annotation.EnableCaching;
-import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.interceptor.CacheErrorHandler;
+import org.springframework.cache.interceptor.LoggingCacheErrorHandler;
+import org.springframework.cache.support.CompositeCacheManager;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.Primary;
 import org.springframework.context.annotation.Profile;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisConnection;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
-import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
 
 /**
  * Cache configuration for Resume Analyzer.
  * 
- * This configuration supports both in-memory caching (for development/testing)
+ * This configuration supports both bounded in-memory caching (for development/testing)
  * and Redis-based distributed caching (for production).
  * 
  * The cache is enabled with @EnableCaching and can be switched between
  * implementations using Spring profiles (dev, test, prod).
  * 
- * Cache TTL (Time-To-Live) configuration:
+ * Cache TTL (Time-To-Live) configuration (cache.local.* / cache.redis.*):
  * - Skills cache: 1 hour
  * - Analysis results cache: 2 hours
  * - Job descriptions cache: 24 hours
  */
 @Configuration
 @EnableCaching
-public class CacheConfig {
+public class CacheConfig implements CachingConfigurer {
 
     /**
-     * Development cache manager using in-memory concurrent map.
-     * Fast, suitable for local development and testing.
+     * Names of the caches used by the application.
+     */
+    public static final List<String> CACHE_NAMES = List.of(
+        "skills",
+        "analysis-results",
+        "job-descriptions",
+        "resume-suggestions",
+        "skill-matches",
+        "all-skills",
+        "skill-count"
+    );
+
+    /**
+     * Local cache manager for single-node installs.
+     * Every cache is bounded by an estimated byte budget with W-TinyLFU
+     * admission, so sustained unique traffic cannot exhaust the heap.
+     * Sizes and expiry come from the cache.local.* properties.
      */
     @Bean
     @Profile({"dev", "test", "default"})
     @Primary
-    public CacheManager devCacheManager() {
-        return new ConcurrentMapCacheManager(
-            "skills",
-            "analysis-results",
-            "job-descriptions",
-            "resume-suggestions",
-            "skill-matches",
-            "all-skills",
-            "skill-count"
-        );
+    public CacheManager devCacheManager(CachingProperties cachingProperties,
+                                        ObjectProvider<MeterRegistry> meterRegistry,
+                                        ObjectProvider<DiskCacheManager> diskCacheManager,
+                                        CacheStatisticsRegistry cacheStatisticsRegistry,
+                                        @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        LocalCacheFactory factory = new LocalCacheFactory(
+            cachingProperties.getLocal(), meterRegistry.getIfAvailable());
+        CacheManager cacheManager = withOffHeapText(factory.createCacheManager(CACHE_NAMES),
+            cachingProperties, meterRegistry.getIfAvailable());
+
+        DiskCacheManager disk = diskCacheManager.getIfAvailable();
+        if (disk != null) {
+            // Disk-backed caches get the bounded in-memory cache as L1; the rest stay memory-only
+            cacheManager = new CompositeCacheManager(
+                new TwoTierCacheManager(disk, cachingProperties.getLocal(), null, meterRegistry.getIfAvailable()),
+                cacheManager);
+        }
+        return cacheStatisticsRegistry.instrument(
+            withStaleWhileRevalidate(cacheManager, cachingProperties.getRefresh(), cacheRefreshExecutor));
+    }
+
+    /**
+     * Persistent disk tier for single-node installs (cache.disk.enabled=true).
+     * Lets a restarted node come back with warm caches without Redis.
+     * Log compaction runs in the background on the cache refresh pool.
+     */
+    @Bean
+    @Profile({"dev", "test", "default"})
+    @ConditionalOnProperty(name = "cache.disk.enabled", havingValue = "true")
+    public DiskCacheManager diskCacheManager(CachingProperties cachingProperties,
+                                             @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        CachingProperties.Disk disk = cachingProperties.getDisk();
+        return new DiskCacheManager(disk, disk.getCaches(), cacheRefreshExecutor);
     }
 
     /**
      * Redis cache manager for production.
      * Provides distributed caching across multiple instances.
+     * Unless cache.near.enabled=false, a bounded in-process L1 sits in front
+     * of Redis so hot keys are served without a network round-trip.
      */
     @Bean
     @Profile("prod")
     @Primary
-    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory) {
+    public CacheManager redisCacheManager(RedisConnectionFactory connectionFactory,
+                                          CachingProperties cachingProperties,
+                                          ObjectProvider<CacheInvalidationBus> invalidationBus,
+                                          @Qualifier("redisCircuitBreaker") ObjectProvider<CircuitBreaker> circuitBreaker,
+                                          ObjectProvider<MeterRegistry> meterRegistry,
+                                          CacheStatisticsRegistry cacheStatisticsRegistry,
+                                          @Qualifier("cacheRefreshExecutor") Executor cacheRefreshExecutor) {
+        CachingProperties.Redis redis = cachingProperties.getRedis();
+        CompactValueSerializer valueSerializer = new CompactValueSerializer(
+            redis.getCompression().getAlgorithm(),
+            (int) redis.getCompression().getThreshold().toBytes());
+
+        Map<String, RedisCacheConfiguration> perCache = new LinkedHashMap<>();
+        for (String name : CACHE_NAMES) {
+            perCache.put(name, redisCacheConfiguration(redis, redis.specFor(name), name, valueSerializer));
+        }
+        for (String name : redis.getCaches().keySet()) {
+            perCache.putIfAbsent(name, redisCacheConfiguration(redis, redis.specFor(name), name, valueSerializer));
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(connectionFactory)
+            .cacheDefaults(redisCacheConfiguration(redis, redis.getDefaults(), null, valueSerializer))
+            .withInitialCacheConfigurations(perCache)
+            .build();
+        // Load the per-cache configurations now; caches created lazily would only get the defaults
+        redisCacheManager.afterPropertiesSet();
+
+        CacheManager cacheManager = withCircuitBreaker(redisCacheManager, circuitBreaker.getIfAvailable(),
+            cachingProperties);
+        if (cachingProperties.getNear().isEnabled()) {
+            cacheManager = new TwoTierCacheManager(cacheManager, cachingProperties.getNear(),
+                invalidationBus.getIfAvailable(), meterRegistry.getIfAvailable());
+        }
+        return cacheStatisticsRegistry.instrument(
+            withStaleWhileRevalidate(cacheManager, cachingProperties.getRefresh(), cacheRefreshExecutor));
+    }
+
+    /**
+     * Circuit breaker shared by the Redis caches, RedisCacheService and the
+     * invalidation bus. While open, Redis is pinged in the background and the
+     * circuit closes as soon as a ping succeeds.
+     */
+    @Bean
+    @Profile("prod")
+    @ConditionalOnProperty(name = "cache.circuit-breaker.enabled", havingValue = "true", matchIfMissing = true)
+    public CircuitBreaker redisCircuitBreaker(RedisConnectionFactory connectionFactory,
+                                              CachingProperties cachingProperties,
+                                              ObjectProvider<MeterRegistry> meterRegistry) {
+        CachingProperties.CircuitBreaker properties = cachingProperties.getCircuitBreaker();
+        CircuitBreaker circuitBreaker = new CircuitBreaker("redis", properties.getWindowSize(),
+            properties.getMinimumCalls(), properties.getFailureRateThreshold(), properties.getSlowCallThreshold(),
+            properties.getOpenDuration(), meterRegistry.getIfAvailable());
+        circuitBreaker.startProbing(() -> {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                return connection.ping();
+            }
+        }, properties.getProbeInterval());
+        return circuitBreaker;
+    }
+
+    /**
+     * Cache errors that get past the circuit breaker (or occur without one)
+     * are logged and treated as a miss instead of failing the request.
+     */
+    @Override
+    public CacheErrorHandler errorHandler() {
+        return new LoggingCacheErrorHandler();
+    }
+
+    /**
+     * Per-cache hit/miss/load/write statistics. Every cache handed out by the
+     * primary cache manager is instrumented; numbers are mirrored to
+     * Micrometer when a registry is available.
+     */
+    @Bean
+    public CacheStatisticsRegistry cacheStatisticsRegistry(ObjectProvider<CacheMetrics> cacheMetrics) {
+        return new CacheStatisticsRegistry(cacheMetrics.getIfAvailable());
+    }
+
+    /**
+     * Pool for stale-while-revalidate background refreshes. When it is
+     * saturated, refreshes are skipped and the stale value keeps being served.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor cacheRefreshExecutor(CachingProperties cachingProperties) {
+        CachingProperties.Refresh refresh = cachingProperties.getRefresh();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(refresh.getThreads());
+        executor.setMaxPoolSize(refresh.getThreads());
+        executor.setQueueCapacity(refresh.getQueueCapacity());
+        executor.setThreadNamePrefix("cache-refresh-");
+        executor.setDaemon(true);
+        return executor;
+    }
+
+    /**
+     * Keep large strings of the caches listed under cache.offheap.caches in
+     * direct memory slabs; the bounded heap cache keeps everything else.
+     */
+    private CacheManager withOffHeapText(CacheManager cacheManager,
+                                         CachingProperties cachingProperties,
+                                         MeterRegistry meterRegistry) {
+        CachingProperties.OffHeap offheap = cachingProperties.getOffheap();
+        if (!offheap.isEnabled() || offheap.getCaches().isEmpty()) {
+            return cacheManager;
+        }
+        return new DecoratingCacheManager(cacheManager, cache -> {
+            if (!offheap.getCaches().contains(cache.getName())) {
+                return cache;
+            }
+            OffHeapTextStore store = new OffHeapTextStore(offheap.getMaxSize().toBytes(),
+                (int) offheap.getSlabSize().toBytes(), (int) offheap.getMinChunkSize().toBytes());
+            return new OffHeapTextCache(cache, store, (int) offheap.getThreshold().toBytes(),
+                cachingProperties.getLocal().specFor(cache.getName()).getExpireAfterWrite(), meterRegistry);
+        });
+    }
+
+    /**
+     * Route Redis cache calls through the circuit breaker, answering from a
+     * bounded local cache (or not at all) while Redis is unavailable.
+     */
+    private CacheManager withCircuitBreaker(CacheManager cacheManager,
+                                            CircuitBreaker circuitBreaker,
+                                            CachingProperties cachingProperties) {
+        if (circuitBreaker == null) {
+            return cacheManager;
+        }
+        CachingProperties.CircuitBreaker.Fallback fallback = cachingProperties.getCircuitBreaker().getFallback();
+        LocalCacheFactory fallbackFactory = fallback == CachingProperties.CircuitBreaker.Fallback.LOCAL
+            ? new LocalCacheFactory(cachingProperties.getLocal(), null) : null;
+        return new DecoratingCacheManager(cacheManager, cache -> {
+            Cache local = fallbackFactory != null
+                ? new CaffeineCache(cache.getName(), fallbackFactory.createNativeCache(cache.getName())) : null;
+            return new CircuitBreakingCache(cache, local, circuitBreaker);
+        });
+    }
+
+    /**
+     * Serve the caches listed under cache.refresh.caches stale-while-revalidate.
+     */
+    private CacheManager withStaleWhileRevalidate(CacheManager cacheManager,
+                                                  CachingProperties.Refresh refresh,
+                                                  Executor refreshExecutor) {
+        if (refresh.getCaches().isEmpty()) {
+            return cacheManager;
+        }
+        return new DecoratingCacheManager(cacheManager, cache -> {
+            CachingProperties.RefreshSpec spec = refresh.getCaches().get(cache.getName());
+            if (spec == null) {
+                return cache;
+            }
+            return new StaleWhileRevalidateCache(cache, spec.getSoftTtl(), spec.getHardTtl(), spec.getStaleIfError(),
+                refreshExecutor);
+        });
+    }
+
+    /**
+     * Build the Redis configuration for one cache: TTL, null policy,
+     * namespaced key prefix and the compact binary value codec.
+     */
+    private RedisCacheConfiguration redisCacheConfiguration(CachingProperties.Redis redis,
+                                                            CachingProperties.RedisSpec spec,
+                                                            String cacheName,
+                                                            CompactValueSerializer valueSerializer) {
         RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
-            .entryTtl(Duration.ofHours(2))
+            .entryTtl(spec.getTtl() != null ? spec.getTtl() : Duration.ZERO)
             .serializeKeysWith(RedisSerializationContext.SerializationPair
                 .fromSerializer(new StringRedisSerializer()))
             .serializeValuesWith(RedisSerializationContext.SerializationPair
-                .fromSerializer(new GenericJackson2JsonRedisSerializer()))
-            .disableCachingNullValues();
+                .fromSerializer(valueSerializer));
+
+        if (spec.getKeyPrefix() != null && cacheName != null) {
+            config = config.computePrefixWith(name -> redis.getNamespace() + spec.getKeyPrefix());
+        } else {
+            config = config.prefixCacheNameWith(redis.getNamespace());
+        }
+        if (!Boolean.TRUE.equals(spec.getCacheNullValues())) {
+            config = config.disableCachingNullValues();
+        }
+        return config;
+    }
 
-        return RedisCacheManager.create(connectionFactory);
+    /**
+     * Pub/sub bus that evicts near-cache entries when another node writes.
+     */
+    @Bean
+    @Profile("prod")
+    @ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+    public CacheInvalidationBus cacheInvalidationBus(RedisConnectionFactory connectionFactory,
+                                                     CachingProperties cachingProperties,
+                                                     @Qualifier("redisCircuitBreaker") ObjectProvider<CircuitBreaker> circuitBreaker) {
+        return new CacheInvalidationBus(new StringRedisTemplate(connectionFactory),
+            cachingProperties.getNear().getChannel(), circuitBreaker.getIfAvailable());
+    }
+
+    /**
+     * Subscribes the invalidation bus to its Redis channel.
+     */
+    @Bean
+    @Profile("prod")
+    @ConditionalOnProperty(name = "cache.near.enabled", havingValue = "true", matchIfMissing = true)
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory connectionFactory,
+                                                                            CacheInvalidationBus invalidationBus) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(invalidationBus, invalidationBus.getTopic());
+        return container;
     }
 
     /**
      * Redis connection factory for distributed caching.
-     * Uses Lettuce as the Redis driver for connection management.
+     * Uses Lettuce as the Redis driver for connection management; commands
+     * time out after cache.redis.command-timeout.
      */
     @Bean
     @ConditionalOnProperty(
         name = "spring.data.redis.host",
         matchIfMissing = false
     )
-    public RedisConnectionFactory redisConnectionFactory() {
-        return new LettuceConnectionFactory();
+    public RedisConnectionFactory redisConnectionFactory(CachingProperties cachingProperties) {
+        LettuceClientConfiguration clientConfiguration = LettuceClientConfiguration.builder()
+            .commandTimeout(cachingProperties.getRedis().getCommandTimeout())
+            .build();
+        return new LettuceConnectionFactory(new RedisStandaloneConfiguration(), clientConfiguration);
     }
 
     /**
@@ -1,18 +1,27 @@
 package com.resumeanalyzer.config;
 
+import com.resumeanalyzer.cache.CacheStatistics;
+import io.micrometer.core.instrument.Gauge;
 import io.micrometer.core.instrument.MeterRegistry;
 import io.micrometer.core.instrument.Tag;
 import io.micrometer.core.instrument.Tags;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.concurrent.TimeUnit;
+
 /**
  * Cache metrics tracking service.
- * 
+ *
  * Monitors and records cache performance metrics including:
  * - Cache hits and misses
  * - Cache evictions
  * - Cache operation timings
+ * - Loader time, writes, and entries/bytes held per cache
+ *
+ * Fed by {@link com.resumeanalyzer.cache.InstrumentedCache}, which wraps
+ * every application cache. Names avoid the cache.gets/puts/evictions/size
+ * meters that Caffeine's own binder registers with different tags.
  */
 public class CacheMetrics {
     private static final Logger log = LoggerFactory.getLogger(CacheMetrics.class);
@@ -53,4 +62,48 @@ public class CacheMetrics {
             Tags.of(Tag.of("cache", cacheName))
         ).record(durationMs, java.util.concurrent.TimeUnit.MILLISECONDS);
     }
+
+    /**
+     * Record the time spent computing a value after a miss.
+     */
+    public void recordCacheLoad(String cacheName, long durationNanos, boolean success) {
+        meterRegistry.timer(
+            "cache.loader.duration",
+            Tags.of(Tag.of("cache", cacheName), Tag.of("result", success ? "success" : "failure"))
+        ).record(durationNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Record a value written to a cache.
+     */
+    public void recordCacheWrite(String cacheName) {
+        meterRegistry.counter(
+            "cache.writes",
+            Tags.of(Tag.of("cache", cacheName))
+        ).increment();
+    }
+
+    /**
+     * Record an explicit eviction (or clear) of a cache.
+     */
+    public void recordCacheRemoval(String cacheName) {
+        meterRegistry.counter(
+            "cache.removals",
+            Tags.of(Tag.of("cache", cacheName))
+        ).increment();
+    }
+
+    /**
+     * Publish entry count and estimated bytes held in this process for a cache.
+     */
+    public void monitor(CacheStatistics statistics) {
+        Gauge.builder("cache.entries", statistics, CacheStatistics::getEntryCount)
+            .tags(Tags.of(Tag.of("cache", statistics.getName())))
+            .description("Entries held in this process")
+            .register(meterRegistry);
+        Gauge.builder("cache.bytes", statistics, CacheStatistics::getEstimatedBytes)
+            .tags(Tags.of(Tag.of("cache", statistics.getName())))
+            .description("Estimated bytes held in this process")
+            .register(meterRegistry);
+    }
 }
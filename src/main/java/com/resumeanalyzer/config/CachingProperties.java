@@ -0,0 +1,424 @@
+package com.resumeanalyzer.config;
+
+import com.resumeanalyzer.cache.CompactValueSerializer;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Cache Configuration Properties
+ *
+ * Per-cache sizing and expiry for the application caches.
+ *
+ * Properties (application.properties):
+ * - cache.local.defaults.maximum-weight: Byte budget for caches without their own spec (default: 16MB)
+ * - cache.local.defaults.expire-after-write: TTL for local entries (default: 1h)
+ * - cache.local.defaults.expire-after-access: TTI for local entries (optional)
+ * - cache.local.defaults.record-stats: Record hit/miss/eviction statistics (default: true)
+ * - cache.local.caches.[name].*: Same keys, overriding the defaults for one cache
+ * - cache.near.enabled: Keep an in-process L1 in front of Redis in prod (default: true)
+ * - cache.near.channel: Redis pub/sub channel for cross-node L1 invalidation
+ * - cache.near.defaults.* / cache.near.caches.[name].*: L1 sizing, same keys as cache.local
+ * - cache.redis.namespace: Prefix for every key the application writes to Redis
+ * - cache.redis.batch-size: SCAN COUNT hint and multi-key batch size (default: 500)
+ * - cache.redis.defaults.ttl / key-prefix / cache-null-values: Redis cache policy
+ * - cache.redis.caches.[name].*: Same keys, overriding the defaults for one cache
+ * - cache.redis.command-timeout: Upper bound for a single Redis command (default: 500ms)
+ * - cache.circuit-breaker.enabled: Stop calling Redis while it is failing or slow (default: true)
+ * - cache.circuit-breaker.window-size / minimum-calls / failure-rate-threshold: When the circuit opens
+ * - cache.circuit-breaker.slow-call-threshold: Calls slower than this count as failures (default: 250ms)
+ * - cache.circuit-breaker.open-duration / probe-interval: When and how often Redis is probed to close it
+ * - cache.circuit-breaker.fallback: LOCAL (bounded local cache) or NONE (skip caching) while open
+ * - cache.redis.compression.algorithm: NONE or DEFLATE (default: DEFLATE)
+ * - cache.redis.compression.threshold: Values larger than this are compressed (default: 1KB)
+ * - cache.disk.enabled: Persist local caches to disk below the in-memory tier (default: false)
+ * - cache.disk.directory / max-size / ttl / compaction-ratio: Disk tier location and bounds, per cache
+ * - cache.disk.caches: Caches kept on disk; others stay memory-only
+ * - cache.offheap.enabled: Keep large text values of local caches in direct memory (default: true)
+ * - cache.offheap.max-size / slab-size / min-chunk-size: Direct memory budget and slab layout, per cache
+ * - cache.offheap.threshold: Strings of at least this many UTF-8 bytes go off-heap (default: 4KB)
+ * - cache.offheap.caches: Caches whose large text is stored off-heap
+ * - cache.refresh.threads: Background refresh threads for stale-while-revalidate caches (default: 2)
+ * - cache.refresh.caches.[name].soft-ttl / hard-ttl: Serve-stale window for one cache
+ * - cache.refresh.caches.[name].stale-if-error: How long past the hard TTL the last value covers failed reloads
+ *
+ * @author Resume Analyzer Team
+ * @version 1.0.0
+ */
+@Data
+@Configuration
+@ConfigurationProperties(prefix = "cache")
+public class CachingProperties {
+
+    /**
+     * In-process cache settings
+     */
+    private Local local = new Local();
+
+    /**
+     * Near-cache (L1) settings used in front of Redis
+     */
+    private Near near = new Near();
+
+    /**
+     * Redis cache policies and value encoding
+     */
+    private Redis redis = new Redis();
+
+    /**
+     * Circuit breaker guarding every Redis call
+     */
+    private CircuitBreaker circuitBreaker = new CircuitBreaker();
+
+    /**
+     * Persistent local tier for single-node installs
+     */
+    private Disk disk = new Disk();
+
+    /**
+     * Off-heap storage for large text values of local caches
+     */
+    private OffHeap offheap = new OffHeap();
+
+    /**
+     * Stale-while-revalidate caches and their refresh pool
+     */
+    private Refresh refresh = new Refresh();
+
+    @Data
+    public static class Local {
+
+        /**
+         * Spec applied to any cache without an entry in {@link #caches}
+         */
+        private Spec defaults = new Spec(DataSize.ofMegabytes(16), Duration.ofHours(1), null, true);
+
+        /**
+         * Per-cache overrides keyed by cache name
+         */
+        private Map<String, Spec> caches = new LinkedHashMap<>();
+
+        /**
+         * Resolve the effective spec for a cache, falling back field by field to the defaults.
+         */
+        public Spec specFor(String cacheName) {
+            Spec override = caches.get(cacheName);
+            if (override == null) {
+                return defaults;
+            }
+            Spec merged = new Spec();
+            merged.setMaximumWeight(override.getMaximumWeight() != null
+                ? override.getMaximumWeight() : defaults.getMaximumWeight());
+            merged.setExpireAfterWrite(override.getExpireAfterWrite() != null
+                ? override.getExpireAfterWrite() : defaults.getExpireAfterWrite());
+            merged.setExpireAfterAccess(override.getExpireAfterAccess() != null
+                ? override.getExpireAfterAccess() : defaults.getExpireAfterAccess());
+            merged.setRecordStats(override.getRecordStats() != null
+                ? override.getRecordStats() : defaults.getRecordStats());
+            return merged;
+        }
+    }
+
+    /**
+     * L1 tier of the two-tier cache. Smaller and shorter-lived than the
+     * standalone local caches since Redis remains the source of truth.
+     */
+    @Getter
+    @Setter
+    public static class Near extends Local {
+
+        /**
+         * Enable the L1 tier in front of the Redis cache manager
+         */
+        private boolean enabled = true;
+
+        /**
+         * Pub/sub channel used to invalidate L1 entries on other nodes
+         */
+        private String channel = "resume-analyzer:cache-invalidation";
+
+        public Near() {
+            setDefaults(new Spec(DataSize.ofMegabytes(4), Duration.ofMinutes(5), null, true));
+        }
+    }
+
+    @Data
+    public static class Redis {
+
+        /**
+         * Namespace prepended to every Redis key written by the application
+         */
+        private String namespace = "resume-analyzer:";
+
+        /**
+         * SCAN COUNT hint and maximum number of keys per MGET, pipelined SET or UNLINK batch
+         */
+        private int batchSize = 500;
+
+        /**
+         * Upper bound for a single Redis command before it fails
+         */
+        private Duration commandTimeout = Duration.ofMillis(500);
+
+        /**
+         * Policy applied to any cache without an entry in {@link #caches}
+         */
+        private RedisSpec defaults = new RedisSpec(Duration.ofHours(2), null, false);
+
+        /**
+         * Per-cache overrides keyed by cache name
+         */
+        private Map<String, RedisSpec> caches = new LinkedHashMap<>();
+
+        /**
+         * Compression of large cached values
+         */
+        private Compression compression = new Compression();
+
+        /**
+         * Resolve the effective policy for a cache, falling back field by field to the defaults.
+         */
+        public RedisSpec specFor(String cacheName) {
+            RedisSpec override = caches.get(cacheName);
+            if (override == null) {
+                return defaults;
+            }
+            return new RedisSpec(
+                override.getTtl() != null ? override.getTtl() : defaults.getTtl(),
+                override.getKeyPrefix() != null ? override.getKeyPrefix() : defaults.getKeyPrefix(),
+                override.getCacheNullValues() != null ? override.getCacheNullValues() : defaults.getCacheNullValues());
+        }
+    }
+
+    /**
+     * Redis policy for a single cache. Unset fields inherit from the defaults.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RedisSpec {
+
+        /**
+         * Entry time-to-live; zero disables expiry
+         */
+        private Duration ttl;
+
+        /**
+         * Key prefix after the namespace (default: the cache name followed by "::")
+         */
+        private String keyPrefix;
+
+        /**
+         * Store null results instead of recomputing them
+         */
+        private Boolean cacheNullValues;
+    }
+
+    @Data
+    public static class Compression {
+
+        /**
+         * Algorithm used for values above the threshold
+         */
+        private CompactValueSerializer.Compression algorithm = CompactValueSerializer.Compression.DEFLATE;
+
+        /**
+         * Encoded size above which values are compressed
+         */
+        private DataSize threshold = DataSize.ofKilobytes(1);
+    }
+
+    /**
+     * Sizing and expiry for a single cache. Unset fields inherit from the defaults.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        /**
+         * Upper bound on the estimated bytes held by the cache
+         */
+        private DataSize maximumWeight;
+
+        /**
+         * Time-to-live measured from the last write
+         */
+        private Duration expireAfterWrite;
+
+        /**
+         * Time-to-idle measured from the last read or write
+         */
+        private Duration expireAfterAccess;
+
+        /**
+         * Record hit, miss and eviction statistics
+         */
+        private Boolean recordStats;
+    }
+
+    @Data
+    public static class CircuitBreaker {
+
+        /**
+         * Wrap Redis caches and RedisCacheService in a circuit breaker
+         */
+        private boolean enabled = true;
+
+        /**
+         * Number of recent Redis calls the failure rate is computed over
+         */
+        private int windowSize = 20;
+
+        /**
+         * Calls recorded before the circuit may open
+         */
+        private int minimumCalls = 10;
+
+        /**
+         * Failure percentage that opens the circuit
+         */
+        private double failureRateThreshold = 50;
+
+        /**
+         * Calls slower than this count as failures
+         */
+        private Duration slowCallThreshold = Duration.ofMillis(250);
+
+        /**
+         * Time the circuit stays open before Redis is probed
+         */
+        private Duration openDuration = Duration.ofSeconds(10);
+
+        /**
+         * Interval between background probes while open
+         */
+        private Duration probeInterval = Duration.ofSeconds(2);
+
+        /**
+         * What serves cache operations while the circuit is open
+         */
+        private Fallback fallback = Fallback.LOCAL;
+
+        public enum Fallback {
+            /** A bounded local cache sized by cache.local.* */
+            LOCAL,
+            /** No cache: reads miss and writes are dropped */
+            NONE
+        }
+    }
+
+    @Data
+    public static class Disk {
+
+        /**
+         * Keep configured caches on disk below the in-memory tier
+         */
+        private boolean enabled = false;
+
+        /**
+         * Directory holding one log/index file pair per cache
+         */
+        private String directory = "data/cache";
+
+        /**
+         * Log size budget per cache; the oldest entries are evicted beyond it
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+
+        /**
+         * Entry time-to-live on disk; zero disables expiry
+         */
+        private Duration ttl = Duration.ofDays(7);
+
+        /**
+         * Fraction of dead records in the log that triggers compaction
+         */
+        private double compactionRatio = 0.5;
+
+        /**
+         * Caches persisted to disk
+         */
+        private List<String> caches = new ArrayList<>(List.of(
+            "skills", "skill-matches", "job-descriptions", "analysis-results"));
+    }
+
+    @Data
+    public static class OffHeap {
+
+        /**
+         * Store large text values in direct memory slabs instead of the heap
+         */
+        private boolean enabled = true;
+
+        /**
+         * Direct memory budget per cache; least recently used values are evicted beyond it
+         */
+        private DataSize maxSize = DataSize.ofMegabytes(256);
+
+        /**
+         * Size of each direct buffer slab; larger compressed values stay on the heap
+         */
+        private DataSize slabSize = DataSize.ofMegabytes(1);
+
+        /**
+         * Smallest chunk a slab is carved into
+         */
+        private DataSize minChunkSize = DataSize.ofBytes(256);
+
+        /**
+         * Minimum size of a string, encoded as UTF-8, for it to go off-heap
+         */
+        private DataSize threshold = DataSize.ofKilobytes(4);
+
+        /**
+         * Caches whose large text values are stored off-heap
+         */
+        private List<String> caches = new ArrayList<>(List.of("job-descriptions", "analysis-results"));
+    }
+
+    @Data
+    public static class Refresh {
+
+        /**
+         * Threads running background refreshes
+         */
+        private int threads = 2;
+
+        /**
+         * Refreshes waiting for a thread before further ones are skipped
+         */
+        private int queueCapacity = 100;
+
+        /**
+         * Caches served stale-while-revalidate, keyed by cache name
+         */
+        private Map<String, RefreshSpec> caches = new LinkedHashMap<>();
+    }
+
+    /**
+     * Serve-stale window for one cache. Entries older than the soft TTL are
+     * returned while a refresh runs; entries older than the hard TTL are reloaded.
+     * If a reload fails, the last value is served for up to stale-if-error
+     * past the hard TTL; the cache's own expiry must cover that too.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class RefreshSpec {
+        private Duration softTtl;
+        private Duration hardTtl;
+        private Duration staleIfError = Duration.ZERO;
+    }
+}
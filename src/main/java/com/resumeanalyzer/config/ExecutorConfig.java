@@ -0,0 +1,152 @@
+package com.resumeanalyzer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ListableBeanFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Thread pools for work that runs off the servlet thread.
+ *
+ * Each kind of work has its own pool (bulkhead) so one cannot starve
+ * another: interactive analysis stages, file parsing, outbound calls
+ * (Gemini, job description URLs), batch items and jobs, and scheduled
+ * jobs. Sizes are set under resume.analyzer.pipeline,
+ * resume.analyzer.bulkheads and batch.processing.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Pool for the CPU-bound stages of interactive analyses (text
+     * analysis, skill extraction, comparisons). When it is saturated,
+     * stages run on the calling request thread.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor analysisExecutor(ResumeAnalyzerProperties properties) {
+        ResumeAnalyzerProperties.Pipeline pipeline = properties.getPipeline();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pipeline.getThreads());
+        executor.setMaxPoolSize(pipeline.getThreads());
+        executor.setQueueCapacity(pipeline.getQueueCapacity());
+        executor.setThreadNamePrefix("analysis-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        return executor;
+    }
+
+    /**
+     * Pool for extracting the text of uploaded resumes (PDF, DOCX). Uploads
+     * that find it full are refused with 503 rather than parsed on the
+     * request thread.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor fileParsingExecutor(ResumeAnalyzerProperties properties) {
+        return bulkhead(properties.getBulkheads().getFileParsing(), "file-parsing-");
+    }
+
+    /**
+     * Pool for calls to other services: Gemini suggestions and job
+     * description URL fetches. These mostly wait on the network, so a slow
+     * dependency fills this pool and not the analysis or request threads.
+     * Calls that find it full are refused: AI suggestions are then skipped,
+     * a job description fetch fails.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor outboundExecutor(ResumeAnalyzerProperties properties) {
+        return bulkhead(properties.getBulkheads().getOutbound(), "outbound-");
+    }
+
+    /**
+     * Bounded pool for batch analysis items. Items that find the queue full
+     * are rejected and reported as failed rather than run on the caller.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchAnalysisExecutor(BatchProcessingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getThreadPoolSize());
+        executor.setMaxPoolSize(properties.getThreadPoolSize());
+        executor.setQueueCapacity(properties.getQueueCapacity());
+        executor.setThreadNamePrefix("batch-analysis-");
+        return executor;
+    }
+
+    /**
+     * Workers for asynchronous batch jobs. The queue is unbounded; each job
+     * keeps at most batch.processing.jobs.max-in-flight-per-job items in it.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor batchJobExecutor(BatchProcessingProperties properties) {
+        int threads = properties.getJobs().getWorkerThreads() > 0
+            ? properties.getJobs().getWorkerThreads()
+            : Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setThreadNamePrefix("batch-job-");
+        return executor;
+    }
+
+    /**
+     * Threads for streamed MVC responses (batch job results, NDJSON batch
+     * uploads), one per open stream. There is no queue: a stream that finds
+     * every thread busy is refused with 503 instead of waiting behind
+     * streams that may stay open for the whole async request timeout.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor streamingExecutor(BatchProcessingProperties properties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(properties.getMaxOpenStreams());
+        executor.setMaxPoolSize(properties.getMaxOpenStreams());
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("streaming-");
+        return executor;
+    }
+
+    /**
+     * Scheduler for {@code @Scheduled} jobs (alert runs, digests, batch job
+     * eviction), so they run on their own threads and one long run does not
+     * hold up the others.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(ResumeAnalyzerProperties properties) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getBulkheads().getScheduledThreads());
+        scheduler.setThreadNamePrefix("scheduled-");
+        return scheduler;
+    }
+
+    /**
+     * Publish saturation metrics for every pool and the scheduler once they
+     * are all initialized, when a meter registry is available.
+     */
+    @Bean
+    public SmartInitializingSingleton executorMetricsBinder(ObjectProvider<MeterRegistry> meterRegistry,
+                                                            ListableBeanFactory beanFactory) {
+        return () -> {
+            MeterRegistry registry = meterRegistry.getIfAvailable();
+            if (registry == null) {
+                return;
+            }
+            ExecutorMetrics metrics = new ExecutorMetrics(registry);
+            beanFactory.getBeansOfType(ThreadPoolTaskExecutor.class).forEach(
+                (name, executor) -> metrics.monitor(name, executor.getThreadPoolExecutor()));
+            beanFactory.getBeansOfType(ThreadPoolTaskScheduler.class).forEach(
+                (name, scheduler) -> metrics.monitor(name, scheduler.getScheduledThreadPoolExecutor()));
+        };
+    }
+
+    private static ThreadPoolTaskExecutor bulkhead(ResumeAnalyzerProperties.Bulkheads.Pool pool, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(pool.getThreads());
+        executor.setMaxPoolSize(pool.getThreads());
+        executor.setQueueCapacity(pool.getQueueCapacity());
+        executor.setThreadNamePrefix(threadNamePrefix);
+        return executor;
+    }
+}
@@ -0,0 +1,42 @@
+package com.resumeanalyzer.config;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Saturation metrics for thread pools.
+ *
+ * Each pool is published through Micrometer's executor binder
+ * (executor.active, executor.queued, executor.queue.remaining,
+ * executor.pool.size, executor.completed, ...) tagged with the pool's name,
+ * plus executor.rejected counting the tasks the pool had no room for,
+ * whatever its rejection policy then did with them.
+ */
+public class ExecutorMetrics {
+    private final MeterRegistry meterRegistry;
+
+    public ExecutorMetrics(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * Publish metrics for an initialized pool.
+     */
+    public void monitor(String name, ThreadPoolExecutor executor) {
+        new ExecutorServiceMetrics(executor, name, Tags.empty()).bindTo(meterRegistry);
+        Counter rejected = Counter.builder("executor.rejected")
+            .tag("name", name)
+            .description("Tasks submitted while the pool and its queue were full")
+            .register(meterRegistry);
+        RejectedExecutionHandler policy = executor.getRejectedExecutionHandler();
+        executor.setRejectedExecutionHandler((task, pool) -> {
+            rejected.increment();
+            policy.rejectedExecution(task, pool);
+        });
+    }
+}
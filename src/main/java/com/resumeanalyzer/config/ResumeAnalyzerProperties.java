@@ -1,5 +1,8 @@
 package com.resumeanalyzer.config;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.stereotype.Component;
@@ -19,6 +22,13 @@ public class ResumeAnalyzerProperties {
     private Skills skills = new Skills();
     private Match match = new Match();
     private AiSuggestions aiSuggestions = new AiSuggestions();
+    private Warmup warmup = new Warmup();
+    private Pipeline pipeline = new Pipeline();
+    private RequestDeadline deadline = new RequestDeadline();
+    private MultiJob multiJob = new MultiJob();
+    private Comparison comparison = new Comparison();
+    private Admission admission = new Admission();
+    private Bulkheads bulkheads = new Bulkheads();
 
     // Getters and Setters
     public int getMaxResumeSize() {
@@ -69,6 +79,62 @@ public class ResumeAnalyzerProperties {
         this.aiSuggestions = aiSuggestions;
     }
 
+    public Warmup getWarmup() {
+        return warmup;
+    }
+
+    public void setWarmup(Warmup warmup) {
+        this.warmup = warmup;
+    }
+
+    public Pipeline getPipeline() {
+        return pipeline;
+    }
+
+    public void setPipeline(Pipeline pipeline) {
+        this.pipeline = pipeline;
+    }
+
+    public RequestDeadline getDeadline() {
+        return deadline;
+    }
+
+    public void setDeadline(RequestDeadline deadline) {
+        this.deadline = deadline;
+    }
+
+    public MultiJob getMultiJob() {
+        return multiJob;
+    }
+
+    public void setMultiJob(MultiJob multiJob) {
+        this.multiJob = multiJob;
+    }
+
+    public Comparison getComparison() {
+        return comparison;
+    }
+
+    public void setComparison(Comparison comparison) {
+        this.comparison = comparison;
+    }
+
+    public Admission getAdmission() {
+        return admission;
+    }
+
+    public void setAdmission(Admission admission) {
+        this.admission = admission;
+    }
+
+    public Bulkheads getBulkheads() {
+        return bulkheads;
+    }
+
+    public void setBulkheads(Bulkheads bulkheads) {
+        this.bulkheads = bulkheads;
+    }
+
     /**
      * Skill extraction configuration properties.
      */
@@ -185,4 +251,349 @@ public class ResumeAnalyzerProperties {
             this.maxRetries = maxRetries;
         }
     }
+
+    /**
+     * Startup warm-up configuration properties.
+     */
+    public static class Warmup {
+        private boolean enabled = true;
+        private int iterations = 500;
+        private int maxDurationSeconds = 30;
+        private int jobDescriptions = 50;
+        private int lookbackDays = 7;
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getIterations() {
+            return iterations;
+        }
+
+        public void setIterations(int iterations) {
+            this.iterations = iterations;
+        }
+
+        public int getMaxDurationSeconds() {
+            return maxDurationSeconds;
+        }
+
+        public void setMaxDurationSeconds(int maxDurationSeconds) {
+            this.maxDurationSeconds = maxDurationSeconds;
+        }
+
+        public int getJobDescriptions() {
+            return jobDescriptions;
+        }
+
+        public void setJobDescriptions(int jobDescriptions) {
+            this.jobDescriptions = jobDescriptions;
+        }
+
+        public int getLookbackDays() {
+            return lookbackDays;
+        }
+
+        public void setLookbackDays(int lookbackDays) {
+            this.lookbackDays = lookbackDays;
+        }
+    }
+
+    /**
+     * Analysis pipeline stage executor configuration properties; this is the
+     * interactive analysis bulkhead.
+     * When all threads are busy and the queue is full, stages run on the
+     * request thread instead, i.e. the analysis degrades to sequential.
+     */
+    public static class Pipeline {
+        private int threads = Math.max(4, Runtime.getRuntime().availableProcessors() * 2);
+        private int queueCapacity = 200;
+
+        public int getThreads() {
+            return threads;
+        }
+
+        public void setThreads(int threads) {
+            this.threads = threads;
+        }
+
+        public int getQueueCapacity() {
+            return queueCapacity;
+        }
+
+        public void setQueueCapacity(int queueCapacity) {
+            this.queueCapacity = queueCapacity;
+        }
+    }
+
+    /**
+     * Per-request deadline configuration properties.
+     * Clients may ask for a shorter or longer budget up to maxMillis; the
+     * reserve is kept back from optional stages (AI suggestions) so the
+     * partial response can still be assembled in time.
+     */
+    public static class RequestDeadline {
+        private long defaultMillis = 2000;
+        private long maxMillis = 10000;
+        private long reserveMillis = 100;
+        private double jobDescriptionShare = 0.5;
+
+        public long getDefaultMillis() {
+            return defaultMillis;
+        }
+
+        public void setDefaultMillis(long defaultMillis) {
+            this.defaultMillis = defaultMillis;
+        }
+
+        public long getMaxMillis() {
+            return maxMillis;
+        }
+
+        public void setMaxMillis(long maxMillis) {
+            this.maxMillis = maxMillis;
+        }
+
+        public long getReserveMillis() {
+            return reserveMillis;
+        }
+
+        public void setReserveMillis(long reserveMillis) {
+            this.reserveMillis = reserveMillis;
+        }
+
+        public double getJobDescriptionShare() {
+            return jobDescriptionShare;
+        }
+
+        public void setJobDescriptionShare(double jobDescriptionShare) {
+            this.jobDescriptionShare = jobDescriptionShare;
+        }
+    }
+
+    /**
+     * Multi-job analysis configuration properties.
+     */
+    public static class MultiJob {
+        private int maxJobs = 50;
+
+        public int getMaxJobs() {
+            return maxJobs;
+        }
+
+        public void setMaxJobs(int maxJobs) {
+            this.maxJobs = maxJobs;
+        }
+    }
+
+    /**
+     * Shortlist comparison matrix configuration properties.
+     */
+    public static class Comparison {
+        private int maxCandidates = 200;
+        private double clusterThreshold = 0.5;
+
+        public int getMaxCandidates() {
+            return maxCandidates;
+        }
+
+        public void setMaxCandidates(int maxCandidates) {
+            this.maxCandidates = maxCandidates;
+        }
+
+        public double getClusterThreshold() {
+            return clusterThreshold;
+        }
+
+        public void setClusterThreshold(double clusterThreshold) {
+            this.clusterThreshold = clusterThreshold;
+        }
+    }
+
+    /**
+     * Admission control configuration properties.
+     */
+    public static class Admission {
+        private boolean enabled = true;
+        private int userCapacity = 60;
+        private double userRefillPerSecond = 10;
+        private int maxTrackedUsers = 100000;
+        private int initialLimit = 64;
+        private int minLimit = 8;
+        private int maxLimit = 256;
+        private long latencyTargetMillis = 1500;
+        private double backoffRatio = 0.9;
+        private int retryAfterSeconds = 1;
+        private List<String> paths = new ArrayList<>(List.of(
+            "/api/analyze", "/api/analyze-file", "/api/analyze/**", "/api/v1/analyze",
+            "/api/v1/batch", "/api/v1/batch/**", "/api/v1/batch-jobs", "/api/v1/compare/matrix"));
+        private List<String> latencyPaths = new ArrayList<>(List.of("/api/analyze", "/api/analyze-file", "/api/v1/analyze"));
+
+        public boolean isEnabled() {
+            return enabled;
+        }
+
+        public void setEnabled(boolean enabled) {
+            this.enabled = enabled;
+        }
+
+        public int getUserCapacity() {
+            return userCapacity;
+        }
+
+        public void setUserCapacity(int userCapacity) {
+            this.userCapacity = userCapacity;
+        }
+
+        public double getUserRefillPerSecond() {
+            return userRefillPerSecond;
+        }
+
+        public void setUserRefillPerSecond(double userRefillPerSecond) {
+            this.userRefillPerSecond = userRefillPerSecond;
+        }
+
+        public int getMaxTrackedUsers() {
+            return maxTrackedUsers;
+        }
+
+        public void setMaxTrackedUsers(int maxTrackedUsers) {
+            this.maxTrackedUsers = maxTrackedUsers;
+        }
+
+        public int getInitialLimit() {
+            return initialLimit;
+        }
+
+        public void setInitialLimit(int initialLimit) {
+            this.initialLimit = initialLimit;
+        }
+
+        public int getMinLimit() {
+            return minLimit;
+        }
+
+        public void setMinLimit(int minLimit) {
+            this.minLimit = minLimit;
+        }
+
+        public int getMaxLimit() {
+            return maxLimit;
+        }
+
+        public void setMaxLimit(int maxLimit) {
+            this.maxLimit = maxLimit;
+        }
+
+        public long getLatencyTargetMillis() {
+            return latencyTargetMillis;
+        }
+
+        public void setLatencyTargetMillis(long latencyTargetMillis) {
+            this.latencyTargetMillis = latencyTargetMillis;
+        }
+
+        public double getBackoffRatio() {
+            return backoffRatio;
+        }
+
+        public void setBackoffRatio(double backoffRatio) {
+            this.backoffRatio = backoffRatio;
+        }
+
+        public int getRetryAfterSeconds() {
+            return retryAfterSeconds;
+        }
+
+        public void setRetryAfterSeconds(int retryAfterSeconds) {
+            this.retryAfterSeconds = retryAfterSeconds;
+        }
+
+        public List<String> getPaths() {
+            return paths;
+        }
+
+        public void setPaths(List<String> paths) {
+            this.paths = paths;
+        }
+
+        public List<String> getLatencyPaths() {
+            return latencyPaths;
+        }
+
+        public void setLatencyPaths(List<String> latencyPaths) {
+            this.latencyPaths = latencyPaths;
+        }
+    }
+
+    /**
+     * Sizes of the pools that keep one kind of work from starving another.
+     * Interactive analysis stages use {@link Pipeline}; batch pools are
+     * configured under batch.processing.
+     */
+    public static class Bulkheads {
+        private Pool fileParsing = new Pool(Math.max(2, Runtime.getRuntime().availableProcessors()), 50);
+        private Pool outbound = new Pool(16, 100);
+        private int scheduledThreads = 2;
+
+        public Pool getFileParsing() {
+            return fileParsing;
+        }
+
+        public void setFileParsing(Pool fileParsing) {
+            this.fileParsing = fileParsing;
+        }
+
+        public Pool getOutbound() {
+            return outbound;
+        }
+
+        public void setOutbound(Pool outbound) {
+            this.outbound = outbound;
+        }
+
+        public int getScheduledThreads() {
+            return scheduledThreads;
+        }
+
+        public void setScheduledThreads(int scheduledThreads) {
+            this.scheduledThreads = scheduledThreads;
+        }
+
+        /**
+         * A fixed-size pool with a bounded queue.
+         */
+        public static class Pool {
+            private int threads;
+            private int queueCapacity;
+
+            public Pool() {
+            }
+
+            public Pool(int threads, int queueCapacity) {
+                this.threads = threads;
+                this.queueCapacity = queueCapacity;
+            }
+
+            public int getThreads() {
+                return threads;
+            }
+
+            public void setThreads(int threads) {
+                this.threads = threads;
+            }
+
+            public int getQueueCapacity() {
+                return queueCapacity;
+            }
+
+            public void setQueueCapacity(int queueCapacity) {
+                this.queueCapacity = queueCapacity;
+            }
+        }
+    }
 }
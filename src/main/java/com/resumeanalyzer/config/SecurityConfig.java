@@ -1,9 +1,13 @@
 package com.resumeanalyzer.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.security.AdmissionControlFilter;
 import com.resumeanalyzer.security.CustomUserDetailsService;
 import com.resumeanalyzer.security.JwtAuthenticationFilter;
 import com.resumeanalyzer.security.JwtTokenProvider;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -19,6 +23,8 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 
+import java.time.Clock;
+
 /**
  * Spring Security configuration for JWT-based authentication.
  * Configures authentication, authorization, and JWT token handling.
@@ -67,11 +73,21 @@ public class SecurityConfig {
         return new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService);
     }
 
+    /**
+     * Configure admission control for the analysis endpoints
+     */
+    @Bean
+    public AdmissionControlFilter admissionControlFilter(ResumeAnalyzerProperties properties,
+                                                         ObjectMapper objectMapper,
+                                                         ObjectProvider<MeterRegistry> meterRegistry) {
+        return new AdmissionControlFilter(properties, objectMapper, meterRegistry.getIfAvailable(), Clock.systemUTC());
+    }
+
     /**
      * Configure HTTP security with JWT authentication
      */
     @Bean
-    public SecurityFilterChain filterChain(HttpSecurity http) throws Exception {
+    public SecurityFilterChain filterChain(HttpSecurity http, AdmissionControlFilter admissionControlFilter) throws Exception {
         http
                 // Disable CSRF for JWT (stateless API)
                 .csrf(csrf -> csrf.disable())
@@ -96,11 +112,14 @@ public class SecurityConfig {
                         // Public analysis endpoints (backward compatibility)
                         .requestMatchers(HttpMethod.POST, "/api/v1/analyze").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/analyze").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/analyze/multi").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/api/analyses/*").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/v1/skills").permitAll()
                         .requestMatchers(HttpMethod.GET, "/api/skills").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/batch-analysis").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/analyze/batch").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/v1/compare").permitAll()
+                        .requestMatchers(HttpMethod.POST, "/api/v1/compare/matrix").permitAll()
                         .requestMatchers(HttpMethod.POST, "/api/compare").permitAll()
 
                         // Protected endpoints - require authentication
@@ -119,6 +138,9 @@ public class SecurityConfig {
                 // Add JWT filter before UsernamePasswordAuthenticationFilter
                 .addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
 
+                // Admit analysis requests once the caller is known
+                .addFilterAfter(admissionControlFilter, JwtAuthenticationFilter.class)
+
                 // Set authentication provider
                 .authenticationProvider(authenticationProvider());
 
@@ -0,0 +1,33 @@
+package com.resumeanalyzer.config;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Runs asynchronous MVC handlers (StreamingResponseBody) on the bounded
+ * streamingExecutor.
+ *
+ * Spring Boot only provides its applicationTaskExecutor when the context
+ * has no other Executor bean; without it MVC falls back to a
+ * SimpleAsyncTaskExecutor, which starts a new thread per stream with no
+ * limit. The async timeout still comes from spring.mvc.async.request-timeout.
+ * Contexts without the executor (e.g. MVC test slices) keep MVC's default.
+ */
+@Configuration
+public class WebAsyncConfig implements WebMvcConfigurer {
+
+    private final ObjectProvider<AsyncTaskExecutor> streamingExecutor;
+
+    public WebAsyncConfig(@Qualifier("streamingExecutor") ObjectProvider<AsyncTaskExecutor> streamingExecutor) {
+        this.streamingExecutor = streamingExecutor;
+    }
+
+    @Override
+    public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+        streamingExecutor.ifAvailable(configurer::setTaskExecutor);
+    }
+}
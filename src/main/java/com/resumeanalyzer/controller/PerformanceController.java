@@ -1,5 +1,6 @@
 package com.resumeanalyzer.controller;
 
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
 import com.resumeanalyzer.model.dto.PerformanceMetricsDto;
 import com.resumeanalyzer.service.PerformanceService;
 import com.resumeanalyzer.service.RedisCacheService;
@@ -38,12 +39,14 @@ public class PerformanceController {
 
     private final PerformanceService performanceService;
     private final Optional<RedisCacheService> cacheService;
+    private final Optional<SingleFlightRegistry> singleFlightRegistry;
 
-    @Autowired
     public PerformanceController(PerformanceService performanceService,
-                               @Autowired(required = false) RedisCacheService cacheService) {
+                               @Autowired(required = false) RedisCacheService cacheService,
+                               @Autowired(required = false) SingleFlightRegistry singleFlightRegistry) {
         this.performanceService = performanceService;
         this.cacheService = Optional.ofNullable(cacheService);
+        this.singleFlightRegistry = Optional.ofNullable(singleFlightRegistry);
     }
 
     /**
@@ -67,7 +70,7 @@ public class PerformanceController {
      */
     @GetMapping("/cache-stats")
     @PreAuthorize("hasRole('ADMIN')")
-    @Operation(summary = "Get cache statistics", description = "Returns Redis cache hit/miss ratios and memory usage")
+    @Operation(summary = "Get cache statistics", description = "Returns cache hit/miss ratios, memory usage and per-cache statistics")
     public ResponseEntity<PerformanceMetricsDto.CacheStats> getCacheStats() {
         log.info("Getting cache statistics");
         PerformanceMetricsDto metrics = performanceService.getPerformanceMetrics();
@@ -240,6 +243,8 @@ public class PerformanceController {
         } else {
             info.put("cache_status", "Redis cache not available");
         }
+        singleFlightRegistry.ifPresent(registry -> registry.getCoalescedCounts()
+            .forEach((operation, count) -> info.put("coalesced_" + operation, String.valueOf(count))));
         return ResponseEntity.ok(info);
     }
 
@@ -0,0 +1,13 @@
+package com.resumeanalyzer.exception;
+
+/**
+ * Exception thrown when a request's deadline passes before the parts of the
+ * analysis that the response cannot do without have finished.
+ */
+public class DeadlineExceededException extends RuntimeException {
+
+    public DeadlineExceededException(String message) {
+        super(message);
+    }
+
+}
@@ -6,6 +6,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import java.time.LocalDateTime;
+import java.util.Map;
 
 /**
  * DTO for Performance Metrics and Optimization Status
@@ -79,6 +80,27 @@ public class PerformanceMetricsDto {
         private double hitRatio;
         private String redisStatus;
         private long memoryUsedBytes;
+        private Map<String, CacheDetail> caches;
+    }
+
+    /**
+     * Measured statistics of one named cache
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class CacheDetail {
+        private long hits;
+        private long misses;
+        private double hitRatio;
+        private long loads;
+        private long loadFailures;
+        private double avgLoadTimeMs;
+        private long writes;
+        private long removals;
+        private long entries;
+        private long estimatedBytes;
     }
 
     @Data
@@ -1,6 +1,7 @@
 package com.resumeanalyzer.repository;
 
 import com.resumeanalyzer.model.entity.Analysis;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -79,4 +80,15 @@ public interface AnalysisRepository extends JpaRepository<Analysis, Long> {
      */
     @Query("SELECT AVG(a.matchPercentage) FROM Analysis a WHERE a.resume.user.id = :userId")
     Double getAverageMatchPercentageForUser(@Param("userId") Long userId);
+
+    /**
+     * Most frequently analyzed job descriptions since a given time, most frequent first
+     *
+     * @param since start of the window
+     * @param pageable number of job descriptions to return
+     * @return job description texts
+     */
+    @Query("SELECT a.jobDescription FROM Analysis a WHERE a.createdAt >= :since AND a.jobDescription IS NOT NULL " +
+           "GROUP BY a.jobDescription ORDER BY COUNT(a) DESC")
+    List<String> findMostFrequentJobDescriptions(@Param("since") LocalDateTime since, Pageable pageable);
 }
@@ -0,0 +1,220 @@
+package com.resumeanalyzer.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.resumeanalyzer.concurrent.AdaptiveConcurrencyLimiter;
+import com.resumeanalyzer.concurrent.TokenBucket;
+import com.resumeanalyzer.config.ResumeAnalyzerProperties;
+import com.resumeanalyzer.web.dto.ErrorResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.AsyncEvent;
+import jakarta.servlet.AsyncListener;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admission control for the expensive analysis endpoints
+ * (resume.analyzer.admission.paths), run after authentication.
+ *
+ * Each caller (the authenticated user, or the client IP when anonymous) has
+ * a {@link TokenBucket}; a caller whose bucket is empty gets 429 Too Many
+ * Requests with Retry-After set to when its next token is due. Admitted
+ * requests then need a slot under the global {@link AdaptiveConcurrencyLimiter};
+ * when none is free the request gets 503 Service Unavailable right away
+ * instead of queueing for a Tomcat thread until everything times out.
+ *
+ * The limiter learns from the latency of the single analyses
+ * (resume.analyzer.admission.latency-paths); batch, multi-job and streamed
+ * requests hold a slot but their duration scales with their size and is not
+ * taken as a load signal. A 503 or 504 from an admitted request is. Time a
+ * handler reports under {@link #EXCLUDED_LATENCY_NANOS}, such as an intended
+ * wait for AI suggestions up to the request deadline, is left out of the sample.
+ *
+ * Rejections are counted as {@code admission.rejected{reason}} (user-rate,
+ * concurrency); the current limit and slots in use are published as
+ * {@code admission.concurrency.limit} and {@code admission.concurrency.active}.
+ */
+@Slf4j
+public class AdmissionControlFilter extends OncePerRequestFilter {
+
+    /**
+     * Request attribute (Long, nanoseconds) of handler time that is not service latency.
+     */
+    public static final String EXCLUDED_LATENCY_NANOS = AdmissionControlFilter.class.getName() + ".excludedLatencyNanos";
+
+    private final ResumeAnalyzerProperties.Admission properties;
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final Cache<String, TokenBucket> buckets;
+    private final ObjectMapper objectMapper;
+    private final Clock clock;
+    private final AntPathMatcher pathMatcher = new AntPathMatcher();
+    private final Map<String, Counter> rejections = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+
+    public AdmissionControlFilter(ResumeAnalyzerProperties properties, ObjectMapper objectMapper,
+                                  MeterRegistry meterRegistry, Clock clock) {
+        this.properties = properties.getAdmission();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+        this.limiter = new AdaptiveConcurrencyLimiter(
+            this.properties.getInitialLimit(),
+            this.properties.getMinLimit(),
+            this.properties.getMaxLimit(),
+            Duration.ofMillis(this.properties.getLatencyTargetMillis()),
+            this.properties.getBackoffRatio(),
+            clock);
+        // Idle callers' buckets are full again after capacity / refill seconds; drop them then
+        long idleSeconds = (long) Math.ceil(this.properties.getUserCapacity() / this.properties.getUserRefillPerSecond());
+        this.buckets = Caffeine.newBuilder()
+            .maximumSize(this.properties.getMaxTrackedUsers())
+            .expireAfterAccess(Math.max(1, idleSeconds), TimeUnit.SECONDS)
+            .build();
+        if (meterRegistry != null) {
+            Gauge.builder("admission.concurrency.limit", limiter, AdaptiveConcurrencyLimiter::getLimit)
+                .description("Current adaptive concurrency limit of the analysis endpoints")
+                .register(meterRegistry);
+            Gauge.builder("admission.concurrency.active", limiter, AdaptiveConcurrencyLimiter::getInFlight)
+                .description("Analysis requests currently holding a concurrency slot")
+                .register(meterRegistry);
+        }
+    }
+
+    public AdaptiveConcurrencyLimiter getLimiter() {
+        return limiter;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !properties.isEnabled()
+            || !HttpMethod.POST.matches(request.getMethod())
+            || !matches(properties.getPaths(), path(request));
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        String caller = caller(request);
+        long waitMillis = buckets.get(caller, key -> new TokenBucket(
+            properties.getUserCapacity(), properties.getUserRefillPerSecond(), clock)).tryAcquire();
+        if (waitMillis > 0) {
+            long retryAfter = Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMillis + 999));
+            log.debug("Rate limit reached for {} on {}, retry after {} s", caller, path(request), retryAfter);
+            reject(request, response, HttpStatus.TOO_MANY_REQUESTS, retryAfter, "user-rate", "RATE_LIMITED",
+                "Too many analysis requests; retry in " + retryAfter + " s");
+            return;
+        }
+        if (!limiter.tryAcquire()) {
+            log.warn("Concurrency limit of {} reached, shedding {} from {}", limiter.getLimit(), path(request), caller);
+            reject(request, response, HttpStatus.SERVICE_UNAVAILABLE, properties.getRetryAfterSeconds(), "concurrency",
+                "OVERLOADED", "The analyzer is at capacity; retry in " + properties.getRetryAfterSeconds() + " s");
+            return;
+        }
+
+        long start = System.nanoTime();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            if (request.isAsyncStarted()) {
+                // Streams hold their slot until they finish
+                request.getAsyncContext().addListener(new ReleaseOnComplete());
+            } else if (matches(properties.getLatencyPaths(), path(request))) {
+                int status = response.getStatus();
+                long excluded = request.getAttribute(EXCLUDED_LATENCY_NANOS) instanceof Long nanos ? nanos : 0;
+                limiter.release(Duration.ofNanos(Math.max(0, System.nanoTime() - start - excluded)),
+                    status == HttpStatus.SERVICE_UNAVAILABLE.value() || status == HttpStatus.GATEWAY_TIMEOUT.value());
+            } else {
+                limiter.releaseWithoutSample();
+            }
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, HttpStatus status,
+                        long retryAfterSeconds, String reason, String code, String message) throws IOException {
+        rejected(reason);
+        response.setStatus(status.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(), new ErrorResponse(message, code, null, path(request)));
+    }
+
+    private void rejected(String reason) {
+        if (meterRegistry != null) {
+            rejections.computeIfAbsent(reason, key -> Counter.builder("admission.rejected")
+                .description("Analysis requests refused by admission control")
+                .tag("reason", key)
+                .register(meterRegistry)).increment();
+        }
+    }
+
+    /**
+     * @return the authenticated user, or the client address for anonymous requests.
+     *         Behind a proxy this is the X-Forwarded-For address, which
+     *         server.forward-headers-strategy=native applies for trusted
+     *         (private-network) proxies only.
+     */
+    private static String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private boolean matches(List<String> patterns, String path) {
+        for (String pattern : patterns) {
+            if (pathMatcher.match(pattern, path)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String path(HttpServletRequest request) {
+        return request.getRequestURI().substring(request.getContextPath().length());
+    }
+
+    private class ReleaseOnComplete implements AsyncListener {
+        @Override
+        public void onComplete(AsyncEvent event) {
+            limiter.releaseWithoutSample();
+        }
+
+        @Override
+        public void onTimeout(AsyncEvent event) {
+        }
+
+        @Override
+        public void onError(AsyncEvent event) {
+        }
+
+        @Override
+        public void onStartAsync(AsyncEvent event) {
+        }
+    }
+}
@@ -1,5 +1,7 @@
 package com.resumeanalyzer.service;
 
+import com.resumeanalyzer.analysis.TokenStream;
+import com.resumeanalyzer.analysis.pipeline.StructuredFieldsStage;
 import com.resumeanalyzer.model.dto.JobMatchResultDto;
 import com.resumeanalyzer.model.entity.*;
 import com.resumeanalyzer.repository.JobMatchRepository;
@@ -223,18 +225,9 @@ public class JobMatchingService {
      * Extract years of experience from resume
      */
     private int extractExperienceYears(Resume resume) {
-        // Simple heuristic: count mentions of years
-        String content = resume.getContent() != null ? resume.getContent() : "";
-        String[] patterns = {"1 year", "2 years", "3 years", "4 years", "5 years", 
-                           "6 years", "7 years", "8 years", "9 years", "10 years"};
-        
-        for (String pattern : patterns) {
-            if (content.toLowerCase().contains(pattern)) {
-                return Integer.parseInt(pattern.split(" ")[0]);
-            }
-        }
-
-        return 2; // Default assumption
+        // Largest "N years" stated, read from the resume's tokens
+        Integer years = StructuredFieldsStage.yearsOfExperience(TokenStream.of(resume.getContent()));
+        return years != null ? years : 2; // Default assumption
     }
 
     /**
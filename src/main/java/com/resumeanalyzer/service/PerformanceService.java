@@ -1,5 +1,7 @@
 package com.resumeanalyzer.service;
 
+import com.resumeanalyzer.cache.CacheStatistics;
+import com.resumeanalyzer.cache.CacheStatisticsRegistry;
 import com.resumeanalyzer.model.dto.PerformanceMetricsDto;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -10,7 +12,9 @@ import java.lang.management.MemoryMXBean;
 import java.lang.management.ThreadMXBean;
 import java.lang.management.GarbageCollectorMXBean;
 import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -18,6 +22,7 @@ import java.util.concurrent.atomic.AtomicLong;
  * Performance Metrics Service
  * 
  * Collects and aggregates performance metrics from:
+ * - Application caches (per-cache statistics from the instrumented cache manager)
  * - Redis cache
  * - Database connection pool
  * - Elasticsearch indexing
@@ -35,16 +40,18 @@ public class PerformanceService {
 
     private final Optional<RedisCacheService> redisCacheService;
     private final Optional<MeterRegistry> meterRegistry;
+    private final Optional<CacheStatisticsRegistry> cacheStatistics;
     private final AtomicLong cacheHits = new AtomicLong(0);
     private final AtomicLong cacheMisses = new AtomicLong(0);
     private final AtomicLong totalRequests = new AtomicLong(0);
     private final AtomicLong totalResponseTimeMs = new AtomicLong(0);
 
-    @Autowired
     public PerformanceService(@Autowired(required = false) RedisCacheService redisCacheService, 
-                            @Autowired(required = false) MeterRegistry meterRegistry) {
+                            @Autowired(required = false) MeterRegistry meterRegistry,
+                            @Autowired(required = false) CacheStatisticsRegistry cacheStatistics) {
         this.redisCacheService = Optional.ofNullable(redisCacheService);
         this.meterRegistry = Optional.ofNullable(meterRegistry);
+        this.cacheStatistics = Optional.ofNullable(cacheStatistics);
     }
 
     /**
@@ -54,15 +61,16 @@ public class PerformanceService {
      */
     public PerformanceMetricsDto getPerformanceMetrics() {
         try {
-            return PerformanceMetricsDto.builder()
+            PerformanceMetricsDto metrics = PerformanceMetricsDto.builder()
                 .cacheStats(getCacheStats())
                 .databaseStats(getDatabaseStats())
                 .elasticsearchStats(getElasticsearchStats())
                 .jvmStats(getJvmStats())
                 .responseTimeStats(getResponseTimeStats())
                 .updatedAt(LocalDateTime.now())
-                .healthStatus(calculateHealthStatus())
                 .build();
+            metrics.setHealthStatus(calculateHealthStatus(metrics));
+            return metrics;
         } catch (Exception e) {
             log.error("Error collecting performance metrics: {}", e.getMessage());
             return PerformanceMetricsDto.builder()
@@ -75,12 +83,20 @@ public class PerformanceService {
     /**
      * Get cache statistics
      * 
+     * Hits and misses are the totals measured on every application cache,
+     * plus any recorded through {@link #recordCacheHit()} / {@link #recordCacheMiss()}.
+     * 
      * @return Cache statistics
      */
     private PerformanceMetricsDto.CacheStats getCacheStats() {
         try {
+            Map<String, PerformanceMetricsDto.CacheDetail> caches = getCacheDetails();
             long hits = cacheHits.get();
             long misses = cacheMisses.get();
+            for (PerformanceMetricsDto.CacheDetail detail : caches.values()) {
+                hits += detail.getHits();
+                misses += detail.getMisses();
+            }
             long total = hits + misses;
             double hitRatio = total > 0 ? (double) hits / total : 0.0;
 
@@ -90,7 +106,8 @@ public class PerformanceService {
                 .cacheMisses(misses)
                 .hitRatio(hitRatio)
                 .redisStatus("CONNECTED")
-                .memoryUsedBytes(estimateCacheMemory())
+                .memoryUsedBytes(estimateCacheMemory(caches))
+                .caches(caches)
                 .build();
         } catch (Exception e) {
             log.warn("Error getting cache stats: {}", e.getMessage());
@@ -247,14 +264,13 @@ public class PerformanceService {
     }
 
     /**
-     * Calculate overall health status
+     * Calculate overall health status from already collected metrics
      * 
+     * @param metrics Collected metrics
      * @return Health status: HEALTHY, DEGRADED, or UNHEALTHY
      */
-    private String calculateHealthStatus() {
+    private String calculateHealthStatus(PerformanceMetricsDto metrics) {
         try {
-            PerformanceMetricsDto metrics = getPerformanceMetrics();
-            
             // Check various health indicators
             boolean cacheHealthy = metrics.getCacheStats().getHitRatio() > 0.5;
             boolean memoryHealthy = metrics.getJvmStats().getHeapUsagePercent() < 80;
@@ -273,41 +289,62 @@ public class PerformanceService {
     }
 
     /**
-     * Estimate cache keys count
+     * Cache keys count, read with DBSIZE rather than by listing keys
      * 
-     * @return Estimated number of cache keys
+     * @return Number of cache keys
      */
     private long estimateCacheKeys() {
         try {
-            if (!redisCacheService.isPresent()) {
-                return 0;
-            }
-            String stats = redisCacheService.get().getStats();
-            // Parse and extract keys count from stats
-            if (stats.contains("Keys=")) {
-                String[] parts = stats.split("Keys=");
-                if (parts.length > 1) {
-                    return Long.parseLong(parts[1].trim());
-                }
-            }
-            return 0;
+            return redisCacheService.map(RedisCacheService::getKeyCount).orElse(0L);
         } catch (Exception e) {
             return 0;
         }
     }
 
     /**
-     * Estimate cache memory usage
+     * Per-cache statistics measured by the instrumented cache manager
      * 
-     * @return Estimated memory usage in bytes
+     * @return Statistics keyed by cache name
      */
-    private long estimateCacheMemory() {
+    private Map<String, PerformanceMetricsDto.CacheDetail> getCacheDetails() {
+        Map<String, PerformanceMetricsDto.CacheDetail> details = new LinkedHashMap<>();
+        cacheStatistics.ifPresent(registry -> {
+            for (CacheStatistics statistics : registry.getAll().values()) {
+                details.put(statistics.getName(), PerformanceMetricsDto.CacheDetail.builder()
+                    .hits(statistics.getHits())
+                    .misses(statistics.getMisses())
+                    .hitRatio(statistics.getHitRatio())
+                    .loads(statistics.getLoads())
+                    .loadFailures(statistics.getLoadFailures())
+                    .avgLoadTimeMs(statistics.getAverageLoadMillis())
+                    .writes(statistics.getWrites())
+                    .removals(statistics.getRemovals())
+                    .entries(statistics.getEntryCount())
+                    .estimatedBytes(statistics.getEstimatedBytes())
+                    .build());
+            }
+        });
+        return details;
+    }
+
+    /**
+     * Cache memory usage: bytes held by the in-process caches plus the
+     * memory Redis reports for itself (INFO memory), when Redis is in use
+     * 
+     * @param caches Per-cache statistics
+     * @return Memory usage in bytes
+     */
+    private long estimateCacheMemory(Map<String, PerformanceMetricsDto.CacheDetail> caches) {
+        long bytes = 0;
+        for (PerformanceMetricsDto.CacheDetail detail : caches.values()) {
+            bytes += detail.getEstimatedBytes();
+        }
         try {
-            // Rough estimate: 1KB per cache key
-            return estimateCacheKeys() * 1024;
+            bytes += redisCacheService.map(RedisCacheService::getUsedMemory).orElse(0L);
         } catch (Exception e) {
-            return 0;
+            log.debug("Redis memory usage unavailable: {}", e.getMessage());
         }
+        return bytes;
     }
 
     /**
@@ -1,13 +1,33 @@
 package com.resumeanalyzer.service;
 
+import com.resumeanalyzer.concurrent.CircuitBreaker;
+import com.resumeanalyzer.config.CachingProperties;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnBean;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.stereotype.Service;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 import java.util.Optional;
+import java.util.Properties;
+import java.util.function.Supplier;
 
 /**
  * Enhanced Cache Service for Performance Optimization
@@ -24,6 +44,19 @@ import java.util.Optional;
  * - Distributes cache across Redis nodes
  * - Automatic cache expiration
  * - Manual cache invalidation support
+ *
+ * Keys passed to this service are logical keys; they are stored under the
+ * cache.redis.namespace prefix so pattern deletes, clearAll and statistics
+ * never touch data owned by anything else in the same Redis database.
+ * Key iteration uses cursor-based SCAN and deletes are sent as batched
+ * UNLINKs, so neither blocks the server for the whole keyspace. Multi-key
+ * reads, writes and deletes are chunked to cache.redis.batch-size and cost
+ * one round-trip per chunk.
+ *
+ * Calls go through the shared Redis circuit breaker: once Redis is failing
+ * or slow, operations return their empty result immediately (miss, no-op,
+ * false or 0) instead of waiting on client timeouts, until a background
+ * probe sees Redis recover.
  * 
  * @author Resume Analyzer Team
  * @version 1.0.0
@@ -33,10 +66,38 @@ import java.util.Optional;
 @ConditionalOnBean(RedisTemplate.class)
 public class RedisCacheService {
 
+    private static final int DEFAULT_BATCH_SIZE = 500;
+
     private final RedisTemplate<String, Object> redisTemplate;
+    private final String namespace;
+    private final int batchSize;
+    private final CircuitBreaker circuitBreaker;
+    private volatile boolean unlinkSupported = true;
 
+    /**
+     * Create a service that uses keys as given, without a namespace.
+     */
     public RedisCacheService(RedisTemplate<String, Object> redisTemplate) {
+        this(redisTemplate, "", DEFAULT_BATCH_SIZE, null);
+    }
+
+    @Autowired
+    public RedisCacheService(RedisTemplate<String, Object> redisTemplate, CachingProperties cachingProperties,
+                             @Qualifier("redisCircuitBreaker") ObjectProvider<CircuitBreaker> circuitBreaker) {
+        this(redisTemplate, cachingProperties.getRedis().getNamespace(), cachingProperties.getRedis().getBatchSize(),
+            circuitBreaker.getIfAvailable());
+    }
+
+    RedisCacheService(RedisTemplate<String, Object> redisTemplate, String namespace, int batchSize) {
+        this(redisTemplate, namespace, batchSize, null);
+    }
+
+    RedisCacheService(RedisTemplate<String, Object> redisTemplate, String namespace, int batchSize,
+                      CircuitBreaker circuitBreaker) {
         this.redisTemplate = redisTemplate;
+        this.namespace = namespace != null ? namespace : "";
+        this.batchSize = Math.max(1, batchSize);
+        this.circuitBreaker = circuitBreaker;
     }
 
     /**
@@ -47,7 +108,7 @@ public class RedisCacheService {
      */
     public Optional<Object> get(String key) {
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = guarded(() -> redisTemplate.opsForValue().get(namespaced(key)));
             if (value != null) {
                 log.debug("Cache hit for key: {}", key);
             } else {
@@ -55,7 +116,7 @@ public class RedisCacheService {
             }
             return Optional.ofNullable(value);
         } catch (Exception e) {
-            log.warn("Error retrieving cache value for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error retrieving cache value for key {}: {}", key);
             return Optional.empty();
         }
     }
@@ -71,7 +132,7 @@ public class RedisCacheService {
     @SuppressWarnings("unchecked")
     public <T> Optional<T> get(String key, Class<T> type) {
         try {
-            Object value = redisTemplate.opsForValue().get(key);
+            Object value = guarded(() -> redisTemplate.opsForValue().get(namespaced(key)));
             if (value != null && type.isInstance(value)) {
                 log.debug("Cache hit for key: {} (type: {})", key, type.getSimpleName());
                 return Optional.of((T) value);
@@ -79,7 +140,7 @@ public class RedisCacheService {
             log.debug("Cache miss or type mismatch for key: {}", key);
             return Optional.empty();
         } catch (Exception e) {
-            log.warn("Error retrieving typed cache value for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error retrieving typed cache value for key {}: {}", key);
             return Optional.empty();
         }
     }
@@ -104,10 +165,13 @@ public class RedisCacheService {
      */
     public void set(String key, Object value, long timeout, TimeUnit unit) {
         try {
-            redisTemplate.opsForValue().set(key, value, timeout, unit);
+            guarded(() -> {
+                redisTemplate.opsForValue().set(namespaced(key), value, timeout, unit);
+                return null;
+            });
             log.debug("Cache set for key: {} with TTL: {} {}", key, timeout, unit);
         } catch (Exception e) {
-            log.warn("Error setting cache value for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error setting cache value for key {}: {}", key);
         }
     }
 
@@ -119,10 +183,10 @@ public class RedisCacheService {
      */
     public boolean hasKey(String key) {
         try {
-            Boolean exists = redisTemplate.hasKey(key);
+            Boolean exists = guarded(() -> redisTemplate.hasKey(namespaced(key)));
             return exists != null && exists;
         } catch (Exception e) {
-            log.warn("Error checking cache key existence: {}", e.getMessage());
+            logFailure(e, "Error checking cache key existence: {}");
             return false;
         }
     }
@@ -134,10 +198,10 @@ public class RedisCacheService {
      */
     public void delete(String key) {
         try {
-            redisTemplate.delete(key);
+            guarded(() -> redisTemplate.delete(namespaced(key)));
             log.debug("Cache deleted for key: {}", key);
         } catch (Exception e) {
-            log.warn("Error deleting cache value for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error deleting cache value for key {}: {}", key);
         }
     }
 
@@ -147,30 +211,112 @@ public class RedisCacheService {
      * @param keys Cache keys to delete
      */
     public void deleteAll(String... keys) {
+        deleteAll(Arrays.asList(keys));
+    }
+
+    /**
+     * Delete multiple cache entries with one UNLINK per batch
+     * 
+     * @param keys Cache keys to delete
+     * @return Number of entries removed
+     */
+    public long deleteAll(Collection<String> keys) {
+        try {
+            long deleted = 0;
+            for (List<String> chunk : chunks(namespaced(keys))) {
+                deleted += unlink(chunk);
+            }
+            log.debug("Cache deleted {} of {} keys", deleted, keys.size());
+            return deleted;
+        } catch (Exception e) {
+            logFailure(e, "Error deleting multiple cache values: {}");
+            return 0;
+        }
+    }
+
+    /**
+     * Get several cached values with one MGET per batch
+     * 
+     * @param keys Cache keys
+     * @return Values found, keyed by cache key in request order; missing keys are absent
+     */
+    public Map<String, Object> getAll(Collection<String> keys) {
+        return getAll(keys, Object.class);
+    }
+
+    /**
+     * Get several cached values with one MGET per batch, keeping only values of the expected type
+     * 
+     * @param keys Cache keys
+     * @param type Expected value type
+     * @param <T> Generic type parameter
+     * @return Values found, keyed by cache key in request order; missing or mismatched keys are absent
+     */
+    public <T> Map<String, T> getAll(Collection<String> keys, Class<T> type) {
+        Map<String, T> result = new LinkedHashMap<>();
+        try {
+            for (List<String> chunk : chunks(new ArrayList<>(new LinkedHashSet<>(keys)))) {
+                List<Object> values = guarded(() -> redisTemplate.opsForValue().multiGet(namespaced(chunk)));
+                if (values == null) {
+                    continue;
+                }
+                for (int i = 0; i < chunk.size() && i < values.size(); i++) {
+                    Object value = values.get(i);
+                    if (value != null && type.isInstance(value)) {
+                        result.put(chunk.get(i), type.cast(value));
+                    }
+                }
+            }
+            log.debug("Cache multi-get: {} of {} keys hit", result.size(), keys.size());
+        } catch (Exception e) {
+            logFailure(e, "Error retrieving multiple cache values: {}");
+        }
+        return result;
+    }
+
+    /**
+     * Set several cache values with the same TTL, pipelined in batches
+     * 
+     * MSET cannot carry a TTL, so each batch is sent as pipelined SET ... EX
+     * commands: one round-trip per batch rather than one per key.
+     * 
+     * @param entries Values keyed by cache key
+     * @param timeout TTL duration
+     * @param unit TimeUnit for TTL
+     */
+    public void setAll(Map<String, ?> entries, long timeout, TimeUnit unit) {
         try {
-            for (String key : keys) {
-                redisTemplate.delete(key);
+            List<String> keys = new ArrayList<>(entries.keySet());
+            for (List<String> chunk : chunks(keys)) {
+                guarded(() -> redisTemplate.executePipelined(new SessionCallback<Object>() {
+                    @Override
+                    @SuppressWarnings("unchecked")
+                    public <K, V> Object execute(RedisOperations<K, V> operations) {
+                        ValueOperations<String, Object> ops = (ValueOperations<String, Object>) operations.opsForValue();
+                        for (String key : chunk) {
+                            ops.set(namespaced(key), entries.get(key), timeout, unit);
+                        }
+                        return null;
+                    }
+                }));
             }
-            log.debug("Cache deleted for {} keys", keys.length);
+            log.debug("Cache set for {} keys with TTL: {} {}", entries.size(), timeout, unit);
         } catch (Exception e) {
-            log.warn("Error deleting multiple cache values: {}", e.getMessage());
+            logFailure(e, "Error setting multiple cache values: {}");
         }
     }
 
     /**
      * Clear all cache entries matching a pattern
      * 
-     * @param pattern Key pattern (e.g., "user:*")
+     * @param pattern Key pattern (e.g., "user:*"), relative to the namespace
      */
     public void deleteByPattern(String pattern) {
         try {
-            var keys = redisTemplate.keys(pattern);
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.debug("Cache deleted {} entries matching pattern: {}", keys.size(), pattern);
-            }
+            long deleted = unlinkMatching(namespaced(pattern));
+            log.debug("Cache deleted {} entries matching pattern: {}", deleted, pattern);
         } catch (Exception e) {
-            log.warn("Error deleting cache entries by pattern {}: {}", pattern, e.getMessage());
+            logFailure(e, "Error deleting cache entries by pattern {}: {}", pattern);
         }
     }
 
@@ -184,10 +330,10 @@ public class RedisCacheService {
      */
     public boolean expire(String key, long timeout, TimeUnit unit) {
         try {
-            Boolean result = redisTemplate.expire(key, timeout, unit);
+            Boolean result = guarded(() -> redisTemplate.expire(namespaced(key), timeout, unit));
             return result != null && result;
         } catch (Exception e) {
-            log.warn("Error setting expiration for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error setting expiration for key {}: {}", key);
             return false;
         }
     }
@@ -200,10 +346,10 @@ public class RedisCacheService {
      */
     public long getExpire(String key) {
         try {
-            Long ttl = redisTemplate.getExpire(key, TimeUnit.SECONDS);
+            Long ttl = guarded(() -> redisTemplate.getExpire(namespaced(key), TimeUnit.SECONDS));
             return ttl != null ? ttl : -2;
         } catch (Exception e) {
-            log.warn("Error getting TTL for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error getting TTL for key {}: {}", key);
             return -2;
         }
     }
@@ -217,10 +363,10 @@ public class RedisCacheService {
      */
     public long increment(String key, long delta) {
         try {
-            Long result = redisTemplate.opsForValue().increment(key, delta);
+            Long result = guarded(() -> redisTemplate.opsForValue().increment(namespaced(key), delta));
             return result != null ? result : 0;
         } catch (Exception e) {
-            log.warn("Error incrementing cache value for key {}: {}", key, e.getMessage());
+            logFailure(e, "Error incrementing cache value for key {}: {}", key);
             return 0;
         }
     }
@@ -237,33 +383,168 @@ public class RedisCacheService {
     }
 
     /**
-     * Clear all cache entries
+     * Clear all cache entries in this service's namespace
      */
     public void clearAll() {
         try {
-            var keys = redisTemplate.keys("*");
-            if (keys != null && !keys.isEmpty()) {
-                redisTemplate.delete(keys);
-                log.info("All cache entries cleared ({} entries)", keys.size());
-            }
+            long deleted = unlinkMatching(namespaced("*"));
+            log.info("All cache entries cleared ({} entries)", deleted);
         } catch (Exception e) {
-            log.error("Error clearing all cache entries: {}", e.getMessage());
+            logFailure(e, "Error clearing all cache entries: {}");
         }
     }
 
     /**
-     * Get cache statistics (hit/miss ratio)
+     * Number of keys in the Redis database, read with DBSIZE (O(1))
+     * 
+     * @return Key count, or 0 if Redis is unavailable
+     */
+    public long getKeyCount() {
+        try {
+            return guarded(this::dbSize);
+        } catch (Exception e) {
+            logFailure(e, "Error reading cache key count: {}");
+            return 0;
+        }
+    }
+
+    /**
+     * Memory used by the Redis server, read from INFO memory
+     * 
+     * @return used_memory in bytes, or 0 if Redis is unavailable
+     */
+    public long getUsedMemory() {
+        try {
+            Properties info = guarded(() -> redisTemplate.execute(
+                (RedisCallback<Properties>) connection -> connection.serverCommands().info("memory")));
+            String usedMemory = info != null ? info.getProperty("used_memory") : null;
+            return usedMemory != null ? Long.parseLong(usedMemory.trim()) : 0;
+        } catch (Exception e) {
+            logFailure(e, "Error reading Redis memory usage: {}");
+            return 0;
+        }
+    }
+
+    /**
+     * Get cache statistics
      * 
      * @return Cache stats string
      */
     public String getStats() {
         try {
-            var keys = redisTemplate.keys("*");
-            int totalKeys = keys != null ? keys.size() : 0;
-            return String.format("Cache Statistics: Total Keys=%d", totalKeys);
+            return String.format("Cache Statistics: Total Keys=%d", guarded(this::dbSize));
         } catch (Exception e) {
-            log.warn("Error getting cache statistics: {}", e.getMessage());
+            logFailure(e, "Error getting cache statistics: {}");
             return "Cache Statistics: Unavailable";
         }
     }
+
+    private long dbSize() {
+        Long size = redisTemplate.execute((RedisCallback<Long>) connection -> connection.serverCommands().dbSize());
+        return size != null ? size : 0;
+    }
+
+    private String namespaced(String key) {
+        return namespace + key;
+    }
+
+    private List<String> namespaced(Collection<String> keys) {
+        List<String> result = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            result.add(namespaced(key));
+        }
+        return result;
+    }
+
+    private List<List<String>> chunks(List<String> keys) {
+        List<List<String>> chunks = new ArrayList<>((keys.size() + batchSize - 1) / batchSize);
+        for (int from = 0; from < keys.size(); from += batchSize) {
+            chunks.add(keys.subList(from, Math.min(from + batchSize, keys.size())));
+        }
+        return chunks;
+    }
+
+    /**
+     * Walk the keyspace with SCAN and remove matches in batches. Each batch
+     * read from the cursor counts as one call through the circuit breaker,
+     * like the UNLINK that follows it.
+     *
+     * @return Number of keys removed
+     */
+    private long unlinkMatching(String pattern) {
+        ScanOptions options = ScanOptions.scanOptions().match(pattern).count(batchSize).build();
+        long deleted = 0;
+        try (Cursor<String> cursor = guarded(() -> redisTemplate.scan(options))) {
+            List<String> batch = guarded(() -> nextBatch(cursor));
+            while (!batch.isEmpty()) {
+                deleted += unlink(batch);
+                batch = guarded(() -> nextBatch(cursor));
+            }
+        }
+        return deleted;
+    }
+
+    private List<String> nextBatch(Cursor<String> cursor) {
+        List<String> batch = new ArrayList<>(batchSize);
+        while (batch.size() < batchSize && cursor.hasNext()) {
+            batch.add(cursor.next());
+        }
+        return batch;
+    }
+
+    /**
+     * UNLINK frees values on a background thread; servers older than
+     * Redis 4 do not have it, so fall back to DEL once and remember.
+     * Any other failure (timeouts, lost connections) is rethrown and UNLINK
+     * is tried again next time.
+     */
+    private long unlink(List<String> keys) {
+        if (unlinkSupported) {
+            try {
+                Long removed = guarded(() -> redisTemplate.unlink(keys));
+                return removed != null ? removed : 0;
+            } catch (RuntimeException e) {
+                if (!isUnknownCommand(e)) {
+                    throw e;
+                }
+                unlinkSupported = false;
+                log.info("UNLINK not supported by Redis server, falling back to DEL: {}", e.getMessage());
+            }
+        }
+        Long removed = guarded(() -> redisTemplate.delete(keys));
+        return removed != null ? removed : 0;
+    }
+
+    /**
+     * @return whether the server replied that it does not know the command
+     */
+    private static boolean isUnknownCommand(Throwable error) {
+        for (Throwable cause = error; cause != null; cause = cause.getCause()) {
+            String message = cause.getMessage();
+            if (message != null && message.contains("ERR unknown command")) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Run a Redis call through the circuit breaker, if there is one.
+     */
+    private <T> T guarded(Supplier<T> operation) {
+        return circuitBreaker != null ? circuitBreaker.execute(operation) : operation.get();
+    }
+
+    /**
+     * Log a failed operation; calls refused by an open circuit are expected and only logged at debug.
+     */
+    private void logFailure(Exception e, String message, Object... args) {
+        Object[] arguments = Arrays.copyOf(args, args.length + 1);
+        arguments[args.length] = e.getMessage();
+        if (e instanceof CircuitBreaker.OpenException) {
+            log.debug(message, arguments);
+        } else {
+            log.warn(message, arguments);
+        }
+    }
 }
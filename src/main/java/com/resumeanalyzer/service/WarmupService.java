@@ -0,0 +1,224 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+import com.resumeanalyzer.analysis.SkillExtractor;
+import com.resumeanalyzer.analysis.SkillMatcher;
+import com.resumeanalyzer.analysis.SkillRegistry;
+import com.resumeanalyzer.config.ResumeAnalyzerProperties;
+import com.resumeanalyzer.report.ResumeReportGenerator;
+import com.resumeanalyzer.repository.AnalysisRepository;
+import com.resumeanalyzer.suggestions.ResumeSuggestionEngine;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Startup Warm-up Service
+ *
+ * Runs once at startup, before the application reports ready: Spring Boot
+ * publishes readiness (ACCEPTING_TRAFFIC) only after all ApplicationRunners
+ * have completed, so a rolling deploy keeps routing to the old instances
+ * until this finishes.
+ *
+ * Phases:
+ * - Skill registry: loads skills.json and initializes the extractor
+ * - JIT: runs a synthetic resume/job corpus through extraction, matching,
+ *   suggestions and report generation so the hot paths are compiled
+ * - Caches: extracts skills for the most frequent recent job descriptions
+ *   in the analyses table, filling the skills cache
+ *
+ * Gemini is never called during warm-up. The whole run is bounded by
+ * resume.analyzer.warmup.max-duration-seconds; duration per phase and
+ * coverage are published as warmup.duration{phase} and warmup.coverage{kind}.
+ *
+ * @author Resume Analyzer Team
+ * @version 1.0.0
+ */
+@Slf4j
+@Service
+public class WarmupService implements ApplicationRunner {
+
+    private final ResumeAnalyzerProperties.Warmup properties;
+    private final CacheableSkillExtractor cacheableSkillExtractor;
+    private final ObjectProvider<AnalysisRepository> analysisRepository;
+    private final MeterRegistry meterRegistry;
+
+    private volatile boolean completed;
+    private volatile long durationMs;
+    private volatile int skillCount;
+    private volatile int iterations;
+    private volatile int cachedJobDescriptions;
+
+    public WarmupService(ResumeAnalyzerProperties resumeAnalyzerProperties,
+                         CacheableSkillExtractor cacheableSkillExtractor,
+                         ObjectProvider<AnalysisRepository> analysisRepository,
+                         ObjectProvider<MeterRegistry> meterRegistry) {
+        this.properties = resumeAnalyzerProperties.getWarmup();
+        this.cacheableSkillExtractor = cacheableSkillExtractor;
+        this.analysisRepository = analysisRepository;
+        this.meterRegistry = meterRegistry.getIfAvailable();
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!properties.isEnabled()) {
+            log.info("Startup warm-up disabled");
+            return;
+        }
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(properties.getMaxDurationSeconds());
+        registerGauges();
+
+        List<String> skills = timed("registry", this::warmSkillRegistry);
+        timed("jit", () -> warmAnalysisPipeline(skills, deadline));
+        timed("caches", () -> warmCaches(deadline));
+
+        durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        completed = true;
+        log.info("Startup warm-up completed in {} ms: {} skills, {} synthetic analyses, {} job descriptions cached",
+            durationMs, skillCount, iterations, cachedJobDescriptions);
+    }
+
+    /**
+     * Load the skill registry and the cached skill list.
+     *
+     * @return Known skill names, sorted
+     */
+    private List<String> warmSkillRegistry() {
+        SkillRegistry.getInstance();
+        List<String> skills = new ArrayList<>(cacheableSkillExtractor.getKnownSkills());
+        Collections.sort(skills);
+        skillCount = cacheableSkillExtractor.getSkillCount();
+        return skills;
+    }
+
+    /**
+     * Run synthetic analyses through the uncached pipeline until the
+     * iteration count or the deadline is reached.
+     */
+    private int warmAnalysisPipeline(List<String> skills, long deadline) {
+        if (skills.isEmpty()) {
+            return 0;
+        }
+        SkillExtractor extractor = new SkillExtractor();
+        SkillMatcher matcher = new SkillMatcher();
+        ResumeSuggestionEngine suggestionEngine = new ResumeSuggestionEngine();
+        ResumeReportGenerator reportGenerator = new ResumeReportGenerator();
+
+        int done = 0;
+        while (done < properties.getIterations() && System.nanoTime() < deadline) {
+            String resumeText = syntheticText("Experienced engineer skilled in", skills, done, 12);
+            String jobText = syntheticText("We are hiring. Requirements include", skills, done + 6, 15);
+
+            Set<String> resumeSkills = extractor.extractSkills(resumeText);
+            Set<String> jobSkills = extractor.extractSkills(jobText);
+            SkillMatcher.Result result = matcher.match(resumeSkills, jobSkills);
+            reportGenerator.generateReport(result, suggestionEngine.generateSuggestions(result));
+            iterations = ++done;
+        }
+        return done;
+    }
+
+    /**
+     * Extract skills for the most frequent recent job descriptions through
+     * the cacheable extractor so the first real requests hit the cache.
+     */
+    private int warmCaches(long deadline) {
+        AnalysisRepository repository = analysisRepository.getIfAvailable();
+        if (repository == null || properties.getJobDescriptions() <= 0) {
+            return 0;
+        }
+        List<String> jobDescriptions;
+        try {
+            jobDescriptions = repository.findMostFrequentJobDescriptions(
+                LocalDateTime.now().minusDays(properties.getLookbackDays()),
+                PageRequest.of(0, properties.getJobDescriptions()));
+        } catch (Exception e) {
+            log.warn("Skipping cache warm-up, recent job descriptions unavailable: {}", e.getMessage());
+            return 0;
+        }
+
+        int cached = 0;
+        for (String jobDescription : jobDescriptions) {
+            if (System.nanoTime() >= deadline) {
+                log.info("Warm-up time budget reached after caching {} of {} job descriptions",
+                    cached, jobDescriptions.size());
+                break;
+            }
+            cacheableSkillExtractor.extractSkills(jobDescription);
+            cachedJobDescriptions = ++cached;
+        }
+        return cached;
+    }
+
+    private static String syntheticText(String lead, List<String> skills, int offset, int count) {
+        StringBuilder text = new StringBuilder(lead);
+        for (int i = 0; i < count; i++) {
+            text.append(i == 0 ? " " : ", ").append(skills.get((offset + i * 7) % skills.size()));
+        }
+        return text.append(". Strong communication and teamwork.").toString();
+    }
+
+    private <T> T timed(String phase, Supplier<T> work) {
+        long start = System.nanoTime();
+        try {
+            return work.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            log.debug("Warm-up phase '{}' took {} ms", phase, TimeUnit.NANOSECONDS.toMillis(elapsed));
+            if (meterRegistry != null) {
+                Timer.builder("warmup.duration")
+                    .tag("phase", phase)
+                    .description("Time spent in each startup warm-up phase")
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            }
+        }
+    }
+
+    private void registerGauges() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("warmup.coverage", this, WarmupService::getSkillCount)
+            .tag("kind", "skills").register(meterRegistry);
+        Gauge.builder("warmup.coverage", this, WarmupService::getIterations)
+            .tag("kind", "synthetic_analyses").register(meterRegistry);
+        Gauge.builder("warmup.coverage", this, WarmupService::getCachedJobDescriptions)
+            .tag("kind", "job_descriptions").register(meterRegistry);
+    }
+
+    public boolean isCompleted() {
+        return completed;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public int getSkillCount() {
+        return skillCount;
+    }
+
+    public int getIterations() {
+        return iterations;
+    }
+
+    public int getCachedJobDescriptions() {
+        return cachedJobDescriptions;
+    }
+}
@@ -1,12 +1,17 @@
 package com.resumeanalyzer.validation;
 
+import com.resumeanalyzer.analysis.TokenStream;
 import com.resumeanalyzer.exception.ValidationException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.function.Supplier;
+
 /**
  * Validates resume analysis requests.
  * Ensures that input data meets requirements before processing.
+ * Content checks run on the text's tokens; callers that already tokenized
+ * the text pass the tokens in so it is not tokenized again.
  */
 public class RequestValidator {
 
@@ -39,6 +44,18 @@ public class RequestValidator {
      * @throws ValidationException if resume text is invalid
      */
     public void validateResumeText(String resumeText) {
+        validateResumeText(resumeText, () -> TokenStream.of(resumeText));
+    }
+
+    /**
+     * Validates resume text, using its tokens for the content checks.
+     * The tokens are only requested once the size checks have passed.
+     *
+     * @param resumeText the resume text to validate
+     * @param tokens tokens of the resume text
+     * @throws ValidationException if resume text is invalid
+     */
+    public void validateResumeText(String resumeText, Supplier<TokenStream> tokens) {
         log.debug("Validating resume text");
         
         if (resumeText == null || resumeText.trim().isEmpty()) {
@@ -55,7 +72,7 @@ public class RequestValidator {
             );
         }
 
-        validateTextContent(resumeText, "Resume");
+        validateTextContent(tokens.get(), "Resume");
         log.debug("Resume text validation passed");
     }
 
@@ -66,6 +83,18 @@ public class RequestValidator {
      * @throws ValidationException if job description text is invalid
      */
     public void validateJobDescriptionText(String jobDescriptionText) {
+        validateJobDescriptionText(jobDescriptionText, () -> TokenStream.of(jobDescriptionText));
+    }
+
+    /**
+     * Validates job description text, using its tokens for the content checks.
+     * The tokens are only requested once the size checks have passed.
+     *
+     * @param jobDescriptionText the job description text to validate
+     * @param tokens tokens of the job description text
+     * @throws ValidationException if job description text is invalid
+     */
+    public void validateJobDescriptionText(String jobDescriptionText, Supplier<TokenStream> tokens) {
         log.debug("Validating job description text");
         
         if (jobDescriptionText == null || jobDescriptionText.trim().isEmpty()) {
@@ -82,22 +111,22 @@ public class RequestValidator {
             );
         }
 
-        validateTextContent(jobDescriptionText, "Job description");
+        validateTextContent(tokens.get(), "Job description");
         log.debug("Job description text validation passed");
     }
 
     /**
      * Validates text content for injection attacks and suspicious patterns.
      *
-     * @param text the text to validate
+     * @param tokens the tokenized text to validate
      * @param fieldName the name of the field (for error messages)
      * @throws ValidationException if text contains suspicious patterns
      */
-    private void validateTextContent(String text, String fieldName) {
+    private void validateTextContent(TokenStream tokens, String fieldName) {
         log.debug("Validating text content for field: {}", fieldName);
         
         // Check for common injection patterns
-        if (containsSuspiciousPatterns(text)) {
+        if (containsSuspiciousPatterns(tokens)) {
             log.warn("{} text validation failed: contains suspicious patterns", fieldName);
             throw new ValidationException(fieldName + " contains suspicious or invalid patterns");
         }
@@ -107,34 +136,32 @@ public class RequestValidator {
 
     /**
      * Checks if text contains suspicious patterns that might indicate injection attempts.
+     * Each pattern contains a word, so only the text around tokens is examined:
+     * "&lt;script" begins a token, "javascript:" and "onclick=" end one.
+     * SQL keywords are deliberately allowed, as resumes legitimately mention them.
      *
-     * @param text the text to check
+     * @param tokens the tokenized text to check
      * @return true if suspicious patterns are detected, false otherwise
      */
-    private boolean containsSuspiciousPatterns(String text) {
-        if (text == null) {
-            return false;
-        }
-
-        // Check for SQL injection patterns
-        if (text.toLowerCase().matches(".*(union|select|insert|update|delete|drop|create|alter)\\s+.*")) {
-            // This is a simple heuristic - might have false positives with legitimate text
-            // Consider adjusting based on actual requirements
-            return false; // Allow skill names like "SQL" and "SELECT" in resume text
-        }
-
-        // Check for script injection patterns
-        if (text.contains("<script") || text.contains("javascript:") || text.contains("onclick=")) {
-            log.debug("Detected script injection pattern in text");
-            return true;
-        }
-
+    private boolean containsSuspiciousPatterns(TokenStream tokens) {
         // Check for null bytes
-        if (text.contains("\0")) {
+        if (tokens.containsNullByte()) {
             log.debug("Detected null byte in text");
             return true;
         }
 
+        // Check for script injection patterns
+        for (int i = 0; i < tokens.size(); i++) {
+            int start = tokens.start(i);
+            int end = tokens.end(i);
+            if (tokens.textMatches(start - 1, "<script")
+                    || tokens.textMatches(end - "javascript".length(), "javascript:")
+                    || tokens.textMatches(end - "onclick".length(), "onclick=")) {
+                log.debug("Detected script injection pattern in text");
+                return true;
+            }
+        }
+
         return false;
     }
 
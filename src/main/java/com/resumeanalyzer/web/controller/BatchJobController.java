@@ -0,0 +1,288 @@
+package com.resumeanalyzer.web.controller;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+import com.resumeanalyzer.web.dto.BatchJobStatusResponse;
+import com.resumeanalyzer.web.service.BatchJob;
+import com.resumeanalyzer.web.service.BatchJobService;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * REST controller for asynchronous batch jobs.
+ * Large screening runs are submitted as a job, polled for progress and
+ * their results streamed back as NDJSON or Server-Sent Events while items finish.
+ * Base path: /api/v1/batch-jobs
+ */
+@RestController
+@RequestMapping("/api/v1/batch-jobs")
+@Tag(name = "Batch Jobs", description = "Asynchronous batch analysis with progress polling and result streaming")
+public class BatchJobController {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchJobController.class);
+    private static final long POLL_INTERVAL_MILLIS = 15000;
+
+    private final BatchJobService batchJobService;
+    private final ObjectMapper objectMapper;
+    private final Duration streamTimeout;
+
+    @Autowired
+    public BatchJobController(BatchJobService batchJobService,
+                              ObjectMapper objectMapper,
+                              @Value("${spring.mvc.async.request-timeout:30m}") Duration streamTimeout) {
+        this.batchJobService = batchJobService;
+        this.objectMapper = objectMapper;
+        this.streamTimeout = streamTimeout;
+    }
+
+    /**
+     * Submit a batch job.
+     * POST /api/v1/batch-jobs
+     *
+     * @param request resume-job pairs to analyze
+     * @return 202 Accepted with the job status and its location
+     */
+    @PostMapping
+    @Operation(
+        summary = "Submit an asynchronous batch job",
+        description = "Accepts up to batch.processing.jobs.max-items resume-job pairs and returns a job ID " +
+                      "immediately. Items are analyzed on a worker pool; poll the job for progress and stream " +
+                      "its results from the results URL.",
+        operationId = "submitBatchJob"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "202",
+            description = "Job accepted and running",
+            content = @Content(schema = @Schema(implementation = BatchJobStatusResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid job request - missing or empty items, or too many items"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Too many jobs running, retry later"
+        )
+    })
+    public ResponseEntity<BatchJobStatusResponse> submit(
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Batch job request containing list of resume-job pairs to analyze",
+                required = true
+            )
+            BatchAnalysisRequest request) {
+        int size = request.getItems() != null ? request.getItems().size() : 0;
+        log.info("Batch job requested for {} items", size);
+
+        if (size == 0 || size > batchJobService.getMaxItems()) {
+            log.warn("Batch job request with {} items rejected (limit {})", size, batchJobService.getMaxItems());
+            return ResponseEntity.badRequest().build();
+        }
+
+        BatchJob job;
+        try {
+            job = batchJobService.submit(request.getItems());
+        } catch (RejectedExecutionException e) {
+            log.warn("Batch job rejected: {}", e.getMessage());
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "30")
+                    .build();
+        }
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/batch-jobs/" + job.getId()))
+                .body(toStatus(job));
+    }
+
+    /**
+     * Get job status and progress.
+     * GET /api/v1/batch-jobs/{id}
+     */
+    @GetMapping("/{id}")
+    @Operation(
+        summary = "Get batch job progress",
+        description = "Returns the status and progress counters of a batch job",
+        operationId = "getBatchJob"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job found",
+            content = @Content(schema = @Schema(implementation = BatchJobStatusResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown or expired job"
+        )
+    })
+    public ResponseEntity<BatchJobStatusResponse> getStatus(@PathVariable String id) {
+        return batchJobService.get(id)
+                .map(job -> ResponseEntity.ok(toStatus(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Cancel a running job.
+     * DELETE /api/v1/batch-jobs/{id}
+     */
+    @DeleteMapping("/{id}")
+    @Operation(
+        summary = "Cancel a batch job",
+        description = "Stops a running job; items not started yet are skipped. Results so far remain available.",
+        operationId = "cancelBatchJob"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Job cancelled (or already finished)",
+            content = @Content(schema = @Schema(implementation = BatchJobStatusResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown or expired job"
+        )
+    })
+    public ResponseEntity<BatchJobStatusResponse> cancel(@PathVariable String id) {
+        return batchJobService.cancel(id)
+                .map(job -> ResponseEntity.ok(toStatus(job)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Stream results as newline-delimited JSON, one result per line in completion order.
+     * GET /api/v1/batch-jobs/{id}/results
+     */
+    @GetMapping(value = "/{id}/results", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Stream batch job results as NDJSON",
+        description = "Streams one JSON result per line as items finish, in completion order, and ends when " +
+                      "the job has finished. Use 'from' to resume after the results already received.",
+        operationId = "streamBatchJobResultsNdjson"
+    )
+    public ResponseEntity<StreamingResponseBody> streamNdjson(
+            @PathVariable String id,
+            @Parameter(description = "Number of results already received")
+            @RequestParam(defaultValue = "0") int from) {
+        return batchJobService.get(id)
+                .map(job -> ResponseEntity.ok()
+                        .contentType(MediaType.APPLICATION_NDJSON)
+                        .body((StreamingResponseBody) output -> stream(job, Math.max(0, from), output, false)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Stream results as Server-Sent Events: a "result" event per item, then a "done" event with the job status.
+     * GET /api/v1/batch-jobs/{id}/results
+     */
+    @GetMapping(value = "/{id}/results", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    @Operation(
+        summary = "Stream batch job results as Server-Sent Events",
+        description = "Sends a 'result' event per item as it finishes, with the result's position as event ID, " +
+                      "and a final 'done' event carrying the job status. Reconnecting clients resume from Last-Event-ID.",
+        operationId = "streamBatchJobResultsSse"
+    )
+    public ResponseEntity<StreamingResponseBody> streamEvents(
+            @PathVariable String id,
+            @Parameter(description = "Number of results already received")
+            @RequestParam(defaultValue = "0") int from,
+            @RequestHeader(value = "Last-Event-ID", required = false) Integer lastEventId) {
+        int start = lastEventId != null ? lastEventId + 1 : Math.max(0, from);
+        return batchJobService.get(id)
+                .map(job -> ResponseEntity.ok()
+                        .contentType(MediaType.TEXT_EVENT_STREAM)
+                        .header(HttpHeaders.CACHE_CONTROL, "no-cache")
+                        .body((StreamingResponseBody) output -> stream(job, start, output, true)))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Write results from {@code from} on as they arrive until the job has
+     * finished or the async request timeout is near. SSE streams send a
+     * comment while waiting so dead connections are noticed.
+     */
+    private void stream(BatchJob job, int from, OutputStream output, boolean events) throws IOException {
+        long deadline = System.currentTimeMillis() + streamTimeout.toMillis() - POLL_INTERVAL_MILLIS;
+        int cursor = from;
+        try {
+            while (true) {
+                long wait = Math.min(POLL_INTERVAL_MILLIS, Math.max(0, deadline - System.currentTimeMillis()));
+                boolean finished = job.isFinished();
+                List<BatchAnalysisResponse.Item> results = job.awaitResults(cursor, wait);
+                for (BatchAnalysisResponse.Item result : results) {
+                    String json = objectMapper.writeValueAsString(result);
+                    write(output, events ? "id: " + cursor + "\nevent: result\ndata: " + json + "\n\n" : json + "\n");
+                    cursor++;
+                }
+                if (finished && results.isEmpty()) {
+                    if (events) {
+                        write(output, "event: done\ndata: " + objectMapper.writeValueAsString(toStatus(job)) + "\n\n");
+                    }
+                    break;
+                }
+                if (System.currentTimeMillis() >= deadline) {
+                    break;
+                }
+                if (results.isEmpty() && events) {
+                    write(output, ": waiting\n\n");
+                }
+                output.flush();
+            }
+            output.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void write(OutputStream output, String text) throws IOException {
+        output.write(text.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BatchJobStatusResponse toStatus(BatchJob job) {
+        return new BatchJobStatusResponse(
+                job.getId(),
+                job.getStatus().name(),
+                job.getTotalItems(),
+                job.getCompletedItems(),
+                job.getSuccessCount(),
+                job.getFailureCount(),
+                job.getCreatedAt(),
+                job.getFinishedAt(),
+                job.getExpiresAt(),
+                "/api/v1/batch-jobs/" + job.getId() + "/results"
+        );
+    }
+}
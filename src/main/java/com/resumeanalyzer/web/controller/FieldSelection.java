@@ -0,0 +1,115 @@
+package com.resumeanalyzer.web.controller;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import com.resumeanalyzer.exception.ValidationException;
+import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
+
+/**
+ * Fields of {@link ResumeAnalysisResponse} a client asked for with the
+ * {@code fields} query parameter, e.g. {@code fields=matchPercentage,missingSkills}.
+ *
+ * The analysis consults the selection before doing optional work: the
+ * report is only generated when "report" is selected, rule-based
+ * suggestions only for "suggestions" or the report, and Gemini is only
+ * called for "aiSuggestions" or "aiSuggestionsStatus". Unselected fields
+ * are then left out of the response. matchPercentage is always included.
+ */
+final class FieldSelection {
+
+    static final List<String> FIELDS = List.of(
+        "analysisId", "matchPercentage", "matchedSkills", "missingSkills",
+        "suggestions", "aiSuggestions", "aiSuggestionsStatus", "report");
+
+    static final FieldSelection ALL = new FieldSelection(null);
+
+    /**
+     * Selected field names, or null for all fields.
+     */
+    private final Set<String> fields;
+
+    private FieldSelection(Set<String> fields) {
+        this.fields = fields;
+    }
+
+    /**
+     * Parse a comma-separated field list.
+     *
+     * @param fields the fields query parameter; null or blank selects all fields
+     * @return the selection
+     * @throws ValidationException if a field is unknown
+     */
+    static FieldSelection parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> selected = new LinkedHashSet<>();
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!FIELDS.contains(name)) {
+                throw new ValidationException("Unknown field '" + name + "'. Available fields: " + String.join(", ", FIELDS));
+            }
+            selected.add(name);
+        }
+        return selected.isEmpty() || selected.containsAll(FIELDS) ? ALL : new FieldSelection(selected);
+    }
+
+    boolean isAll() {
+        return fields == null;
+    }
+
+    boolean includes(String field) {
+        return fields == null || fields.contains(field);
+    }
+
+    boolean needsReport() {
+        return includes("report");
+    }
+
+    boolean needsSuggestions() {
+        return includes("suggestions") || needsReport();
+    }
+
+    boolean needsAiSuggestions() {
+        return includes("aiSuggestions") || includes("aiSuggestionsStatus");
+    }
+
+    /**
+     * @return the analysis itself if all fields are selected, otherwise a
+     *         copy holding only the selected fields
+     */
+    ResumeAnalysisResponse apply(ResumeAnalysisResponse analysis) {
+        if (isAll()) {
+            return analysis;
+        }
+        ResumeAnalysisResponse selected = new ResumeAnalysisResponse();
+        selected.setMatchPercentage(analysis.getMatchPercentage());
+        if (includes("analysisId")) {
+            selected.setAnalysisId(analysis.getAnalysisId());
+        }
+        if (includes("matchedSkills")) {
+            selected.setMatchedSkills(analysis.getMatchedSkills());
+        }
+        if (includes("missingSkills")) {
+            selected.setMissingSkills(analysis.getMissingSkills());
+        }
+        if (includes("suggestions")) {
+            selected.setSuggestions(analysis.getSuggestions());
+        }
+        if (includes("aiSuggestions")) {
+            selected.setAiSuggestions(analysis.getAiSuggestions());
+        }
+        if (includes("aiSuggestionsStatus")) {
+            selected.setAiSuggestionsStatus(analysis.getAiSuggestionsStatus());
+        }
+        if (includes("report")) {
+            selected.setReport(analysis.getReport());
+        }
+        return selected;
+    }
+}
@@ -1,18 +1,22 @@
 package com.resumeanalyzer.web.controller;
 
 import com.resumeanalyzer.exception.AnalysisException;
+import com.resumeanalyzer.exception.DeadlineExceededException;
 import com.resumeanalyzer.exception.FileProcessingException;
 import com.resumeanalyzer.exception.SkillExtractionException;
 import com.resumeanalyzer.exception.ValidationException;
 import com.resumeanalyzer.web.dto.ErrorResponse;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.context.request.WebRequest;
 
+import java.util.concurrent.RejectedExecutionException;
+
 /**
  * Global exception handler for REST API errors.
  * Centralizes exception handling across all controllers and returns consistent error responses.
@@ -22,6 +26,7 @@ import org.springframework.web.context.request.WebRequest;
 public class GlobalExceptionHandler {
 
     private static final Logger log = LoggerFactory.getLogger(GlobalExceptionHandler.class);
+    private static final int BUSY_RETRY_AFTER_SECONDS = 1;
 
     /**
      * Handles ValidationException - thrown when input validation fails.
@@ -127,6 +132,60 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(errorResponse, HttpStatus.INTERNAL_SERVER_ERROR);
     }
 
+    /**
+     * Handles DeadlineExceededException - thrown when the request deadline passes
+     * before the core analysis has finished.
+     * Returns 504 Gateway Timeout with error code DEADLINE_EXCEEDED.
+     *
+     * @param ex the DeadlineExceededException
+     * @param request the web request
+     * @return ResponseEntity with ErrorResponse and 504 status
+     */
+    @ExceptionHandler(DeadlineExceededException.class)
+    public ResponseEntity<ErrorResponse> handleDeadlineExceededException(
+            DeadlineExceededException ex,
+            WebRequest request) {
+        
+        log.warn("Deadline exceeded: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                ex.getMessage(),
+                "DEADLINE_EXCEEDED",
+                "The analysis could not be completed in time. Please try again.",
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return new ResponseEntity<>(errorResponse, HttpStatus.GATEWAY_TIMEOUT);
+    }
+
+    /**
+     * Handles RejectedExecutionException - thrown when the pool a request
+     * needs (file parsing, outbound calls) has no room left.
+     * Returns 503 Service Unavailable with error code BUSY and Retry-After.
+     *
+     * @param ex the RejectedExecutionException
+     * @param request the web request
+     * @return ResponseEntity with ErrorResponse and 503 status
+     */
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<ErrorResponse> handleRejectedExecutionException(
+            RejectedExecutionException ex,
+            WebRequest request) {
+        
+        log.warn("Work rejected, pool is full: {}", ex.getMessage());
+        
+        ErrorResponse errorResponse = new ErrorResponse(
+                "The analyzer is busy",
+                "BUSY",
+                "Please retry in " + BUSY_RETRY_AFTER_SECONDS + " s",
+                request.getDescription(false).replace("uri=", "")
+        );
+        
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(BUSY_RETRY_AFTER_SECONDS))
+                .body(errorResponse);
+    }
+
     /**
      * Handles IllegalArgumentException - thrown for illegal argument values.
      * Returns 400 Bad Request with error code ILLEGAL_ARGUMENT.
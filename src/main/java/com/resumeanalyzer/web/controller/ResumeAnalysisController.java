@@ -1,277 +1,829 @@
-package com.resumeanalyzer.web.controller;
-
-import java.io.IOException;
-import java.util.List;
-import java.util.Set;
-
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.http.ResponseEntity;
-import org.springframework.web.bind.annotation.PostMapping;
-import org.springframework.web.bind.annotation.RequestBody;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RequestParam;
-import org.springframework.web.bind.annotation.RestController;
-import org.springframework.web.multipart.MultipartFile;
-
-import io.swagger.v3.oas.annotations.Operation;
-import io.swagger.v3.oas.annotations.Parameter;
-import io.swagger.v3.oas.annotations.media.Content;
-import io.swagger.v3.oas.annotations.media.Schema;
-import io.swagger.v3.oas.annotations.responses.ApiResponse;
-import io.swagger.v3.oas.annotations.responses.ApiResponses;
-import io.swagger.v3.oas.annotations.tags.Tag;
-
-import com.resumeanalyzer.ai.GeminiSuggestionService;
-import com.resumeanalyzer.analysis.SkillExtractor;
-import com.resumeanalyzer.analysis.SkillMatcher;
-import com.resumeanalyzer.exception.FileProcessingException;
-import com.resumeanalyzer.report.ResumeReportGenerator;
-import com.resumeanalyzer.suggestions.ResumeSuggestionEngine;
-import com.resumeanalyzer.validation.RequestValidator;
-import com.resumeanalyzer.web.dto.ResumeAnalysisRequest;
-import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
-import com.resumeanalyzer.web.file.FileTextExtractorService;
-import com.resumeanalyzer.web.service.JobDescriptionFetcher;
-
-/**
- * REST controller for resume analysis API.
- * Exposes the analyzer logic through a clean, stateless HTTP interface.
- * Integrates both rule-based and AI-powered suggestions via Gemini LLM.
- * Base path: /api
- */
-@RestController
-@RequestMapping("/api")
-@Tag(name = "Resume Analysis", description = "Endpoints for analyzing resumes and matching against job descriptions")
-public class ResumeAnalysisController {
-
-    private static final Logger log = LoggerFactory.getLogger(ResumeAnalysisController.class);
-
-    private final SkillExtractor skillExtractor;
-    private final SkillMatcher skillMatcher;
-    private final ResumeSuggestionEngine suggestionEngine;
-    private final ResumeReportGenerator reportGenerator;
-    private final FileTextExtractorService fileTextExtractor;
-    private final GeminiSuggestionService geminiSuggestionService;
-    private final JobDescriptionFetcher jobDescriptionFetcher;
-    private final RequestValidator requestValidator;
-
-    @Autowired
-    public ResumeAnalysisController(FileTextExtractorService fileTextExtractor,
-                                    GeminiSuggestionService geminiSuggestionService,
-                                    JobDescriptionFetcher jobDescriptionFetcher) {
-        this.skillExtractor = new SkillExtractor();
-        this.skillMatcher = new SkillMatcher();
-        this.suggestionEngine = new ResumeSuggestionEngine();
-        this.reportGenerator = new ResumeReportGenerator();
-        this.fileTextExtractor = fileTextExtractor;
-        this.geminiSuggestionService = geminiSuggestionService;
-        this.jobDescriptionFetcher = jobDescriptionFetcher;
-        this.requestValidator = new RequestValidator();
-    }
-
-    /**
-     * Analyzes resume against job description.
-     * POST /api/analyze
-     * 
-     * Generates both rule-based and AI-enhanced suggestions.
-     * If LLM fails, gracefully falls back to rule-based suggestions only.
-     *
-     * @param request ResumeAnalysisRequest containing resume and job description text
-     * @return ResponseEntity with ResumeAnalysisResponse containing analysis results
-     * @throws ValidationException if input validation fails
-     */
-    @PostMapping("/analyze")
-    @Operation(
-        summary = "Analyze resume text against job description",
-        description = "Analyzes a resume and matches it against a job description. " +
-                      "Extracts skills, identifies matches/gaps, and provides both rule-based and " +
-                      "AI-enhanced suggestions. Returns a comprehensive analysis report.",
-        operationId = "analyzeResume"
-    )
-    @ApiResponses(value = {
-        @ApiResponse(
-            responseCode = "200",
-            description = "Resume analysis completed successfully",
-            content = @Content(schema = @Schema(implementation = ResumeAnalysisResponse.class))
-        ),
-        @ApiResponse(
-            responseCode = "400",
-            description = "Invalid input - resume or job description text is missing or too short"
-        ),
-        @ApiResponse(
-            responseCode = "500",
-            description = "Server error during analysis"
-        )
-    })
-    public ResponseEntity<ResumeAnalysisResponse> analyze(
-            @RequestBody 
-            @io.swagger.v3.oas.annotations.parameters.RequestBody(
-                description = "Resume analysis request containing resume text and job description",
-                required = true
-            )
-            ResumeAnalysisRequest request) {
-        log.info("Received resume analysis request");
-        
-        // Validate input
-        String resumeText = request.getResumeText();
-        String jobDescriptionText;
-        
-        try {
-            jobDescriptionText = resolveJobDescriptionText(
-                request.getJobDescriptionText(),
-                request.getJobDescriptionUrl()
-            );
-        } catch (IllegalArgumentException e) {
-            log.warn("Job description resolution failed: {}", e.getMessage());
-            throw e; // Let GlobalExceptionHandler handle it
-        } catch (IOException e) {
-            log.error("Failed to fetch job description from URL", e);
-            throw new FileProcessingException("Failed to fetch job description from URL", e);
-        }
-
-        // Validate both inputs
-        requestValidator.validateAnalysisRequest(resumeText, jobDescriptionText);
-
-        log.debug("Input validation passed, extracting skills");
-        
-        // Extract skills from resume and job description
-        Set<String> resumeSkills = skillExtractor.extractSkills(resumeText);
-        Set<String> jobSkills = skillExtractor.extractSkills(jobDescriptionText);
-        
-        log.debug("Extracted {} skills from resume and {} skills from job description", 
-                resumeSkills.size(), jobSkills.size());
-
-        // Match resume skills against job skills
-        SkillMatcher.Result matchResult = skillMatcher.match(resumeSkills, jobSkills);
-        log.info("Skill matching completed: {} matched, {} missing, {}% match rate",
-                matchResult.getMatchedSkills().size(),
-                matchResult.getMissingSkills().size(),
-                matchResult.getMatchPercentage());
-
-        // Generate rule-based improvement suggestions
-        List<String> suggestions = suggestionEngine.generateSuggestions(matchResult);
-        log.debug("Generated {} rule-based suggestions", suggestions.size());
-
-        // Generate AI-enhanced suggestions via Gemini API
-        List<String> aiSuggestions = geminiSuggestionService.generateAISuggestions(
-            resumeText,
-            jobDescriptionText,
-            matchResult.getMatchedSkills(),
-            matchResult.getMissingSkills(),
-            matchResult.getMatchPercentage()
-        );
-        log.debug("Generated {} AI-enhanced suggestions", aiSuggestions.size());
-
-        // Generate formatted report
-        String report = reportGenerator.generateReport(matchResult, suggestions);
-        log.debug("Report generated successfully");
-
-        // Populate response DTO with both rule-based and AI suggestions
-        ResumeAnalysisResponse response = new ResumeAnalysisResponse(
-                matchResult.getMatchPercentage(),
-                matchResult.getMatchedSkills(),
-                matchResult.getMissingSkills(),
-                suggestions,
-                aiSuggestions,
-                report
-        );
-
-        log.info("Resume analysis completed successfully");
-        return ResponseEntity.ok(response);
-    }
-
-    /**
-     * Analyzes uploaded resume file against job description.
-     * POST /api/analyze-file
-     * Supports PDF and TXT file uploads.
-     *
-     * @param resumeFile the uploaded resume file (PDF or TXT)
-     * @param jobDescriptionText the job description text
-     * @param jobDescriptionUrl the job description URL (alternative to text)
-     * @return ResponseEntity with ResumeAnalysisResponse containing analysis results
-     * @throws FileProcessingException if file processing fails
-     * @throws ValidationException if validation fails
-     */
-    @PostMapping("/analyze-file")
-    @Operation(
-        summary = "Analyze uploaded resume file against job description",
-        description = "Analyzes an uploaded resume file (PDF, DOCX, or TXT) and matches it against a job description. " +
-                      "Supports providing job description as text or URL. Returns the same comprehensive analysis " +
-                      "as the text-based endpoint.",
-        operationId = "analyzeResumeFile"
-    )
-    @ApiResponses(value = {
-        @ApiResponse(
-            responseCode = "200",
-            description = "File analysis completed successfully",
-            content = @Content(schema = @Schema(implementation = ResumeAnalysisResponse.class))
-        ),
-        @ApiResponse(
-            responseCode = "400",
-            description = "Invalid input - missing or invalid file, job description, or file too large"
-        ),
-        @ApiResponse(
-            responseCode = "413",
-            description = "File too large - resume file exceeds size limit"
-        ),
-        @ApiResponse(
-            responseCode = "500",
-            description = "Server error during file processing"
-        )
-    })
-    public ResponseEntity<ResumeAnalysisResponse> analyzeFile(
-            @RequestParam("resumeFile") 
-            @Parameter(description = "Resume file to analyze (PDF, DOCX, or TXT)")
-            MultipartFile resumeFile,
-            @RequestParam(value = "jobDescriptionText", required = false) 
-            @Parameter(description = "Job description text (alternative to URL)")
-            String jobDescriptionText,
-            @RequestParam(value = "jobDescriptionUrl", required = false) 
-            @Parameter(description = "URL to fetch job description from (alternative to text)")
-            String jobDescriptionUrl) {
-        
-        log.info("Received file upload analysis request");
-        
-        if (resumeFile == null || resumeFile.isEmpty()) {
-            log.warn("Resume file is empty or null");
-            throw new FileProcessingException("Resume file cannot be empty");
-        }
-
-        try {
-            log.debug("Extracting text from uploaded file: {}", resumeFile.getOriginalFilename());
-            
-            // Extract text from uploaded file
-            String resumeText = fileTextExtractor.extractText(resumeFile);
-            log.debug("Successfully extracted {} characters from file", resumeText.length());
-
-            // Validate extracted resume text
-            requestValidator.validateResumeText(resumeText);
-
-            String resolvedJobDescriptionText = resolveJobDescriptionText(jobDescriptionText, jobDescriptionUrl);
-            
-            // Validate job description
-            requestValidator.validateJobDescriptionText(resolvedJobDescriptionText);
-
-            // Create a request object with extracted text
-            ResumeAnalysisRequest request = new ResumeAnalysisRequest(resumeText, resolvedJobDescriptionText);
-
-            log.info("File validation passed, proceeding with analysis");
-            
-            // Reuse existing analysis logic
-            return analyze(request);
-
-        } catch (IllegalArgumentException e) {
-            log.warn("File analysis failed with illegal argument: {}", e.getMessage());
-            // Re-throw to let GlobalExceptionHandler handle it
-            throw e;
-        } catch (IOException e) {
-            // Wrap in FileProcessingException
-            log.error("Failed to process uploaded resume file: {}", e.getMessage(), e);
-            throw new FileProcessingException("Failed to process uploaded resume file", e);
-        }
-    }
+package com.resumeanalyzer.web.controller;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+
+import com.resumeanalyzer.ai.GeminiSuggestionService;
+import com.resumeanalyzer.analysis.SkillMatcher;
+import com.resumeanalyzer.analysis.pipeline.AnalysisContext;
+import com.resumeanalyzer.analysis.pipeline.AnalysisPipeline;
+import com.resumeanalyzer.concurrent.Deadline;
+import com.resumeanalyzer.config.BinaryFormatConfig;
+import com.resumeanalyzer.config.ResumeAnalyzerProperties;
+import com.resumeanalyzer.exception.AnalysisException;
+import com.resumeanalyzer.exception.FileProcessingException;
+import com.resumeanalyzer.exception.ValidationException;
+import com.resumeanalyzer.report.ResumeReportGenerator;
+import com.resumeanalyzer.security.AdmissionControlFilter;
+import com.resumeanalyzer.suggestions.ResumeSuggestionEngine;
+import com.resumeanalyzer.web.dto.MultiJobAnalysisRequest;
+import com.resumeanalyzer.web.dto.MultiJobAnalysisResponse;
+import com.resumeanalyzer.web.dto.ResumeAnalysisRequest;
+import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
+import com.resumeanalyzer.web.file.FileTextExtractorService;
+import com.resumeanalyzer.web.service.AnalysisResultStore;
+import com.resumeanalyzer.web.service.JobDescriptionFetcher;
+
+/**
+ * REST controller for resume analysis API.
+ * Exposes the analyzer logic through a clean, stateless HTTP interface.
+ * Integrates both rule-based and AI-powered suggestions via Gemini LLM.
+ *
+ * Each analysis runs as a small graph of CompletableFuture stages on the
+ * analysis executor: resume parsing and job description resolution run
+ * concurrently, the two skill extractions run in parallel, and the report is
+ * assembled while AI suggestions are still in flight. Latency approaches the
+ * slowest stage rather than the sum of all stages.
+ *
+ * Every analysis runs against a deadline, resume.analyzer.deadline.default-millis
+ * unless the client sends X-Request-Timeout-Ms. A job description URL may use
+ * a share of it; AI suggestions that are not ready shortly before the deadline
+ * are left out and the response is returned with aiSuggestionsStatus PENDING
+ * or SKIPPED, and ones Gemini failed to produce with FAILED. Only when the core analysis itself cannot finish in time is the
+ * request answered with 504.
+ *
+ * Single analyses are stored under an ID derived from the resume and job
+ * description text (see {@link AnalysisResultStore}). Submitting the same
+ * inputs again returns the stored result without recomputing it, and
+ * GET /api/analyses/{id} serves it with a strong ETag so clients that already
+ * have it get 304 Not Modified.
+ *
+ * A fields query parameter limits the response to the named fields; the
+ * report and AI suggestions are then only produced when selected (see
+ * {@link FieldSelection}).
+ * Base path: /api
+ */
+@RestController
+@RequestMapping("/api")
+@Tag(name = "Resume Analysis", description = "Endpoints for analyzing resumes and matching against job descriptions")
+public class ResumeAnalysisController {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeAnalysisController.class);
+    private static final String DEADLINE_HEADER = "X-Request-Timeout-Ms";
+    private static final String ANALYSES_PATH = "/api/analyses/";
+
+    private final AnalysisPipeline analysisPipeline;
+    private final SkillMatcher skillMatcher;
+    private final ResumeSuggestionEngine suggestionEngine;
+    private final ResumeReportGenerator reportGenerator;
+    private final FileTextExtractorService fileTextExtractor;
+    private final GeminiSuggestionService geminiSuggestionService;
+    private final JobDescriptionFetcher jobDescriptionFetcher;
+    private final AnalysisResultStore resultStore;
+    private final Executor analysisExecutor;
+    private final Executor fileParsingExecutor;
+    private final Executor outboundExecutor;
+    private final ResumeAnalyzerProperties.RequestDeadline deadlineProperties;
+    private final int maxJobs;
+
+    @Autowired
+    public ResumeAnalysisController(FileTextExtractorService fileTextExtractor,
+                                    GeminiSuggestionService geminiSuggestionService,
+                                    JobDescriptionFetcher jobDescriptionFetcher,
+                                    AnalysisPipeline analysisPipeline,
+                                    AnalysisResultStore resultStore,
+                                    @Qualifier("analysisExecutor") Executor analysisExecutor,
+                                    @Qualifier("fileParsingExecutor") Executor fileParsingExecutor,
+                                    @Qualifier("outboundExecutor") Executor outboundExecutor,
+                                    ResumeAnalyzerProperties properties) {
+        this.analysisPipeline = analysisPipeline;
+        this.skillMatcher = new SkillMatcher();
+        this.suggestionEngine = new ResumeSuggestionEngine();
+        this.reportGenerator = new ResumeReportGenerator();
+        this.fileTextExtractor = fileTextExtractor;
+        this.geminiSuggestionService = geminiSuggestionService;
+        this.jobDescriptionFetcher = jobDescriptionFetcher;
+        this.resultStore = resultStore;
+        this.analysisExecutor = analysisExecutor;
+        this.fileParsingExecutor = fileParsingExecutor;
+        this.outboundExecutor = outboundExecutor;
+        this.deadlineProperties = properties.getDeadline();
+        this.maxJobs = properties.getMultiJob().getMaxJobs();
+    }
+
+    /**
+     * Analyzes resume against job description.
+     * POST /api/analyze
+     * 
+     * Generates both rule-based and AI-enhanced suggestions.
+     * If LLM fails, gracefully falls back to rule-based suggestions only.
+     *
+     * @param request ResumeAnalysisRequest containing resume and job description text
+     * @return ResponseEntity with ResumeAnalysisResponse containing analysis results
+     * @throws ValidationException if input validation fails
+     */
+    @PostMapping("/analyze")
+    @Operation(
+        summary = "Analyze resume text against job description",
+        description = "Analyzes a resume and matches it against a job description. " +
+                      "Extracts skills, identifies matches/gaps, and provides both rule-based and " +
+                      "AI-enhanced suggestions. Returns a comprehensive analysis report.",
+        operationId = "analyzeResume"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resume analysis completed successfully",
+            content = @Content(schema = @Schema(implementation = ResumeAnalysisResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input - resume or job description text is missing or too short"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Server error during analysis"
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The analysis could not be completed within the request deadline"
+        )
+    })
+    public ResponseEntity<ResumeAnalysisResponse> analyze(
+            @RequestBody 
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Resume analysis request containing resume text and job description",
+                required = true
+            )
+            ResumeAnalysisRequest request,
+            @RequestParam(value = "fields", required = false)
+            @Parameter(description = "Comma-separated response fields to compute and return, e.g. matchPercentage,missingSkills " +
+                                     "(default all). The report and AI suggestions are only generated when selected.")
+            String fields,
+            @RequestHeader(value = DEADLINE_HEADER, required = false)
+            @Parameter(description = "Time budget for this request in milliseconds (default 2000)")
+            Long timeoutMillis) {
+        log.info("Received resume analysis request");
+        FieldSelection selection = FieldSelection.parse(fields);
+        Deadline deadline = newDeadline(timeoutMillis);
+        
+        CompletableFuture<String> jobDescriptionText = resolveJobDescriptionTextAsync(
+            request.getJobDescriptionText(),
+            request.getJobDescriptionUrl(),
+            deadline
+        );
+
+        AtomicLong aiWaitNanos = new AtomicLong();
+        ResumeAnalysisResponse analysis = join(analyzeOrReuseAsync(CompletableFuture.completedFuture(request.getResumeText()),
+            jobDescriptionText, selection, deadline, aiWaitNanos));
+        excludeFromLatencySample(aiWaitNanos.get());
+        return respond(analysis, selection);
+    }
+
+    /**
+     * Analyzes uploaded resume file against job description.
+     * POST /api/analyze-file
+     * Supports PDF and TXT file uploads.
+     *
+     * @param resumeFile the uploaded resume file (PDF or TXT)
+     * @param jobDescriptionText the job description text
+     * @param jobDescriptionUrl the job description URL (alternative to text)
+     * @return ResponseEntity with ResumeAnalysisResponse containing analysis results
+     * @throws FileProcessingException if file processing fails
+     * @throws ValidationException if validation fails
+     */
+    @PostMapping("/analyze-file")
+    @Operation(
+        summary = "Analyze uploaded resume file against job description",
+        description = "Analyzes an uploaded resume file (PDF, DOCX, or TXT) and matches it against a job description. " +
+                      "Supports providing job description as text or URL. Returns the same comprehensive analysis " +
+                      "as the text-based endpoint.",
+        operationId = "analyzeResumeFile"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "File analysis completed successfully",
+            content = @Content(schema = @Schema(implementation = ResumeAnalysisResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input - missing or invalid file, job description, or file too large"
+        ),
+        @ApiResponse(
+            responseCode = "413",
+            description = "File too large - resume file exceeds size limit"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Server error during file processing"
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The analysis could not be completed within the request deadline"
+        )
+    })
+    public ResponseEntity<ResumeAnalysisResponse> analyzeFile(
+            @RequestParam("resumeFile") 
+            @Parameter(description = "Resume file to analyze (PDF, DOCX, or TXT)")
+            MultipartFile resumeFile,
+            @RequestParam(value = "jobDescriptionText", required = false) 
+            @Parameter(description = "Job description text (alternative to URL)")
+            String jobDescriptionText,
+            @RequestParam(value = "jobDescriptionUrl", required = false) 
+            @Parameter(description = "URL to fetch job description from (alternative to text)")
+            String jobDescriptionUrl,
+            @RequestParam(value = "fields", required = false)
+            @Parameter(description = "Comma-separated response fields to compute and return, e.g. matchPercentage,missingSkills " +
+                                     "(default all). The report and AI suggestions are only generated when selected.")
+            String fields,
+            @RequestHeader(value = DEADLINE_HEADER, required = false)
+            @Parameter(description = "Time budget for this request in milliseconds (default 2000)")
+            Long timeoutMillis) {
+        
+        log.info("Received file upload analysis request");
+        FieldSelection selection = FieldSelection.parse(fields);
+        Deadline deadline = newDeadline(timeoutMillis);
+
+        // Parse the file while the job description is being resolved
+        CompletableFuture<String> resumeText = extractResumeTextAsync(resumeFile);
+
+        CompletableFuture<String> resolvedJobDescriptionText =
+            resolveJobDescriptionTextAsync(jobDescriptionText, jobDescriptionUrl, deadline);
+
+        AtomicLong aiWaitNanos = new AtomicLong();
+        ResumeAnalysisResponse analysis = join(analyzeOrReuseAsync(resumeText, resolvedJobDescriptionText, selection,
+            deadline, aiWaitNanos));
+        excludeFromLatencySample(aiWaitNanos.get());
+        return respond(analysis, selection);
+    }
+
+    /**
+     * Retrieves a stored analysis.
+     * GET /api/analyses/{id}
+     *
+     * Answers 304 Not Modified when If-None-Match carries the current ETag.
+     *
+     * @param id analysis ID as returned in analysisId
+     * @return ResponseEntity with the stored analysis JSON, or 404 if unknown or expired
+     */
+    @GetMapping(value = "/analyses/{id}", produces = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+        summary = "Get a stored analysis",
+        description = "Returns an analysis by the analysisId of an earlier POST /api/analyze or /api/analyze-file " +
+                      "response, byte for byte as stored, with a strong ETag. Send the ETag in If-None-Match to get " +
+                      "304 Not Modified while the analysis is unchanged.",
+        operationId = "getAnalysis"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Analysis found",
+            content = @Content(schema = @Schema(implementation = ResumeAnalysisResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Not modified - the analysis still matches the ETag in If-None-Match"
+        ),
+        @ApiResponse(
+            responseCode = "404",
+            description = "Unknown or expired analysis"
+        )
+    })
+    public ResponseEntity<String> getAnalysis(
+            @PathVariable
+            @Parameter(description = "Analysis ID")
+            String id) {
+        // Spring answers 304 itself when the ETag matches If-None-Match
+        return resultStore.get(id)
+                .map(stored -> ResponseEntity.ok()
+                    .eTag(stored.getEtag())
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .body(stored.getJson()))
+                .orElse(ResponseEntity.notFound().build());
+    }
+
+    /**
+     * Analyzes one resume against several job descriptions.
+     * POST /api/analyze/multi
+     *
+     * @param request resume text and the job descriptions to match it against
+     * @return ResponseEntity with the ranked per job description results
+     */
+    @PostMapping(value = "/analyze/multi", consumes = {MediaType.APPLICATION_JSON_VALUE,
+        BinaryFormatConfig.APPLICATION_SMILE_VALUE, MediaType.APPLICATION_CBOR_VALUE})
+    @Operation(
+        summary = "Analyze one resume against several job descriptions",
+        description = "Analyzes the resume once and matches it against up to resume.analyzer.multi-job.max-jobs " +
+                      "job descriptions, given as text or URL and fetched in parallel. Returns the results ranked " +
+                      "by match percentage with rule-based suggestions and a report per job description. " +
+                      "A job description that cannot be fetched or analyzed fails on its own.",
+        operationId = "analyzeResumeMulti"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resume matched against every job description; individual job descriptions may have failed",
+            content = @Content(schema = @Schema(implementation = MultiJobAnalysisResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input - resume missing or invalid, no job descriptions, or too many"
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The resume could not be analyzed within the request deadline"
+        )
+    })
+    public ResponseEntity<MultiJobAnalysisResponse> analyzeMulti(
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Resume text and the job descriptions to match it against",
+                required = true
+            )
+            MultiJobAnalysisRequest request,
+            @RequestParam(value = "fields", required = false)
+            @Parameter(description = "Comma-separated response fields to compute and return, e.g. matchPercentage,missingSkills " +
+                                     "(default all). The report and AI suggestions are only generated when selected.")
+            String fields,
+            @RequestHeader(value = DEADLINE_HEADER, required = false)
+            @Parameter(description = "Time budget for this request in milliseconds (default 2000)")
+            Long timeoutMillis) {
+        log.info("Received multi-job analysis request for {} job descriptions",
+                request.getJobs() != null ? request.getJobs().size() : 0);
+        FieldSelection selection = FieldSelection.parse(fields);
+        Deadline deadline = newDeadline(timeoutMillis);
+        validateJobCount(request.getJobs());
+
+        return ResponseEntity.ok(join(analyzeMultiAsync(
+            CompletableFuture.completedFuture(request.getResumeText()), request.getJobs(), selection, deadline)));
+    }
+
+    /**
+     * Analyzes an uploaded resume file against several job descriptions.
+     * POST /api/analyze/multi (multipart)
+     *
+     * @param resumeFile the uploaded resume file (PDF, DOCX or TXT)
+     * @param jobDescriptionTexts job description texts
+     * @param jobDescriptionUrls job description URLs, analyzed after the texts
+     * @return ResponseEntity with the ranked per job description results
+     */
+    @PostMapping(value = "/analyze/multi", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @Operation(
+        summary = "Analyze an uploaded resume file against several job descriptions",
+        description = "Same as the JSON variant for an uploaded resume file. Job descriptions are given as " +
+                      "repeated jobDescriptionText and jobDescriptionUrl parameters; results are indexed texts first, then URLs.",
+        operationId = "analyzeResumeFileMulti"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Resume matched against every job description; individual job descriptions may have failed",
+            content = @Content(schema = @Schema(implementation = MultiJobAnalysisResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid input - missing or invalid file, no job descriptions, or too many"
+        ),
+        @ApiResponse(
+            responseCode = "504",
+            description = "The resume could not be analyzed within the request deadline"
+        )
+    })
+    public ResponseEntity<MultiJobAnalysisResponse> analyzeFileMulti(
+            @RequestParam("resumeFile")
+            @Parameter(description = "Resume file to analyze (PDF, DOCX, or TXT)")
+            MultipartFile resumeFile,
+            @RequestParam(value = "jobDescriptionText", required = false)
+            @Parameter(description = "Job description texts")
+            List<String> jobDescriptionTexts,
+            @RequestParam(value = "jobDescriptionUrl", required = false)
+            @Parameter(description = "URLs to fetch job descriptions from")
+            List<String> jobDescriptionUrls,
+            @RequestParam(value = "fields", required = false)
+            @Parameter(description = "Comma-separated response fields to compute and return, e.g. matchPercentage,missingSkills " +
+                                     "(default all). The report and AI suggestions are only generated when selected.")
+            String fields,
+            @RequestHeader(value = DEADLINE_HEADER, required = false)
+            @Parameter(description = "Time budget for this request in milliseconds (default 2000)")
+            Long timeoutMillis) {
+        FieldSelection selection = FieldSelection.parse(fields);
+        Deadline deadline = newDeadline(timeoutMillis);
+        List<MultiJobAnalysisRequest.Job> jobs = new ArrayList<>();
+        if (jobDescriptionTexts != null) {
+            jobDescriptionTexts.forEach(text -> jobs.add(new MultiJobAnalysisRequest.Job(null, text, null)));
+        }
+        if (jobDescriptionUrls != null) {
+            jobDescriptionUrls.forEach(url -> jobs.add(new MultiJobAnalysisRequest.Job(null, null, url)));
+        }
+        log.info("Received multi-job file analysis request for {} job descriptions", jobs.size());
+        validateJobCount(jobs);
+
+        return ResponseEntity.ok(join(analyzeMultiAsync(extractResumeTextAsync(resumeFile), jobs, selection, deadline)));
+    }
+
+    /**
+     * Return the stored analysis of these inputs, or analyze them and store
+     * the result. A stored result whose AI suggestions did not make it in
+     * time is recomputed, giving the suggestions another chance. Resume
+     * parsing and job description resolution count against the deadline.
+     *
+     * With a field selection a stored analysis is still used, but a new one
+     * only computes what was selected and is not stored; it has no analysisId.
+     * The time spent waiting on AI suggestions alone is added to aiWaitNanos.
+     */
+    private CompletableFuture<ResumeAnalysisResponse> analyzeOrReuseAsync(CompletableFuture<String> resumeText,
+                                                                         CompletableFuture<String> jobDescriptionText,
+                                                                         FieldSelection selection,
+                                                                         Deadline deadline,
+                                                                         AtomicLong aiWaitNanos) {
+        CompletableFuture<ResumeAnalysisResponse> analysis = resumeText.thenCombine(jobDescriptionText, (resume, job) -> {
+            String id = AnalysisResultStore.idFor(resume, job);
+            Optional<AnalysisResultStore.StoredAnalysis> stored = resultStore.get(id)
+                .filter(AnalysisResultStore.StoredAnalysis::isComplete);
+            if (stored.isPresent()) {
+                log.info("Returning stored analysis {}", id);
+                return CompletableFuture.completedFuture(stored.get().getAnalysis());
+            }
+            CompletableFuture<ResumeAnalysisResponse> computed = analyzeAsync(
+                CompletableFuture.completedFuture(resume), CompletableFuture.completedFuture(job), selection, deadline,
+                aiWaitNanos);
+            return selection.isAll() ? computed.thenApply(result -> resultStore.put(id, result).getAnalysis()) : computed;
+        }).thenCompose(stage -> stage);
+        return deadline.bound(analysis, "Resume analysis");
+    }
+
+    /**
+     * Respond with the selected fields, pointing at the stored analysis if
+     * there is one. The ETag is left to GET /api/analyses/{id}: it validates
+     * the stored bytes, which this response is not guaranteed to reproduce.
+     */
+    private static ResponseEntity<ResumeAnalysisResponse> respond(ResumeAnalysisResponse analysis, FieldSelection selection) {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (analysis.getAnalysisId() != null) {
+            response.header(HttpHeaders.CONTENT_LOCATION, ANALYSES_PATH + analysis.getAnalysisId());
+        }
+        return response.body(selection.apply(analysis));
+    }
+
+    /**
+     * Build the analysis stage graph:
+     * <pre>
+     * resume text ──► analysis pipeline ─┐
+     *                                    ├─► match ─► rule suggestions ─► report ─┐
+     * JD text ──────► analysis pipeline ─┘        └─► AI suggestions ─────────────┴─► response
+     * </pre>
+     * Each document is tokenized once by its pipeline run, which validates
+     * it and extracts its skills from the same tokens.
+     *
+     * AI suggestions get whatever is left of the deadline minus the reserve;
+     * if they are not ready by then the response goes out without them while
+     * the Gemini call finishes in the background and fills the suggestions
+     * cache. The rest of the graph must finish by the deadline itself.
+     *
+     * Stages whose output the field selection does not include are not run.
+     * How long the response then waited on AI suggestions alone is added to
+     * aiWaitNanos.
+     */
+    private CompletableFuture<ResumeAnalysisResponse> analyzeAsync(CompletableFuture<String> resumeText,
+                                                                  CompletableFuture<String> jobDescriptionText,
+                                                                  FieldSelection selection,
+                                                                  Deadline deadline,
+                                                                  AtomicLong aiWaitNanos) {
+        CompletableFuture<AnalysisContext> resume = resumeText.thenApplyAsync(
+            text -> analysisPipeline.analyze(AnalysisContext.DocumentType.RESUME, text), analysisExecutor);
+        CompletableFuture<AnalysisContext> job = jobDescriptionText.thenApplyAsync(
+            text -> analysisPipeline.analyze(AnalysisContext.DocumentType.JOB_DESCRIPTION, text), analysisExecutor);
+
+        CompletableFuture<SkillMatcher.Result> matchResult = resume.thenCombine(job, (resumeContext, jobContext) -> {
+            log.debug("Extracted {} skills from resume and {} skills from job description",
+                    resumeContext.getSkills().size(), jobContext.getSkills().size());
+            SkillMatcher.Result result = skillMatcher.match(resumeContext.getSkills(), jobContext.getSkills());
+            log.info("Skill matching completed: {} matched, {} missing, {}% match rate",
+                    result.getMatchedSkills().size(),
+                    result.getMissingSkills().size(),
+                    result.getMatchPercentage());
+            return result;
+        });
+
+        // Generate AI-enhanced suggestions via Gemini API, concurrently with the report
+        AtomicBoolean aiStarted = new AtomicBoolean();
+        AtomicBoolean aiFailed = new AtomicBoolean();
+        CompletableFuture<List<String>> aiSuggestions = !selection.needsAiSuggestions()
+            ? CompletableFuture.completedFuture(null)
+            : matchResult.thenApplyAsync(result -> {
+                aiStarted.set(true);
+                List<String> generated = geminiSuggestionService.generateAISuggestions(
+                    resume.join().getText(),
+                    job.join().getText(),
+                    result.getMatchedSkills(),
+                    result.getMissingSkills(),
+                    result.getMatchPercentage()
+                );
+                log.debug("Generated {} AI-enhanced suggestions", generated.size());
+                return generated;
+            }, outboundExecutor);
+        // null marks suggestions that missed the deadline, found the outbound pool full or failed
+        CompletableFuture<List<String>> aiSuggestionsInTime = aiSuggestions.exceptionally(e -> {
+            if (e.getCause() instanceof RejectedExecutionException) {
+                log.warn("Outbound pool full, skipping AI suggestions");
+                return null;
+            }
+            if (e.getCause() instanceof AnalysisException) {
+                aiFailed.set(true);
+                return null;
+            }
+            throw e instanceof CompletionException completion ? completion : new CompletionException(e);
+        }).completeOnTimeout(null,
+            Math.max(0, deadline.remainingMillis() - deadlineProperties.getReserveMillis()), TimeUnit.MILLISECONDS);
+
+        // Generate rule-based improvement suggestions and the formatted report
+        CompletableFuture<List<String>> suggestions = !selection.needsSuggestions()
+            ? CompletableFuture.completedFuture(null)
+            : matchResult.thenApply(result -> {
+                List<String> generated = suggestionEngine.generateSuggestions(result);
+                log.debug("Generated {} rule-based suggestions", generated.size());
+                return generated;
+            });
+        CompletableFuture<String> report = !selection.needsReport()
+            ? CompletableFuture.completedFuture(null)
+            : suggestions.thenCombine(matchResult, (generated, result) -> reportGenerator.generateReport(result, generated));
+
+        CompletableFuture<Long> coreDoneNanos = CompletableFuture.allOf(matchResult, report).thenApply(done -> System.nanoTime());
+
+        CompletableFuture<ResumeAnalysisResponse> response = CompletableFuture.allOf(coreDoneNanos, aiSuggestionsInTime).thenApply(done -> {
+            aiWaitNanos.addAndGet(Math.max(0, System.nanoTime() - coreDoneNanos.join()));
+            SkillMatcher.Result result = matchResult.join();
+            List<String> generated = aiSuggestionsInTime.join();
+            ResumeAnalysisResponse analysis = new ResumeAnalysisResponse(
+                    result.getMatchPercentage(),
+                    result.getMatchedSkills(),
+                    result.getMissingSkills(),
+                    suggestions.join(),
+                    selection.needsAiSuggestions() && generated == null ? List.of() : generated,
+                    report.join()
+            );
+            if (!selection.needsAiSuggestions()) {
+                log.debug("AI suggestions not requested");
+            } else if (generated != null) {
+                analysis.setAiSuggestionsStatus("COMPLETED");
+            } else if (aiFailed.get()) {
+                analysis.setAiSuggestionsStatus("FAILED");
+            } else {
+                analysis.setAiSuggestionsStatus(aiStarted.get() ? "PENDING" : "SKIPPED");
+                // Nothing waits for them any more; do not start them if they have not started
+                aiSuggestions.cancel(false);
+                log.warn("AI suggestions not ready within the {} ms deadline, responding without them",
+                        deadline.getBudgetMillis());
+            }
+            log.info("Resume analysis completed successfully");
+            return analysis;
+        });
+
+        return deadline.bound(response, "Resume analysis").whenComplete((analysis, e) -> {
+            if (e != null) {
+                // Skip stages that have not started yet
+                resume.cancel(false);
+                job.cancel(false);
+                aiSuggestions.cancel(false);
+            }
+        });
+    }
+
+    /**
+     * Analyze the resume once and match it against every job description:
+     * <pre>
+     * resume text ──► analysis pipeline ────────────────────┐
+     * JD 1 ──► fetch? ──► analysis pipeline ──► match ◄─────┤──► result 1 ─┐
+     * ...                                                   │              ├─► ranking
+     * JD n ──► fetch? ──► analysis pipeline ──► match ◄─────┘──► result n ─┘
+     * </pre>
+     * Each job description costs one pipeline run (usually a skills cache hit)
+     * and a set comparison. AI suggestions are not generated here: one Gemini
+     * call per job description would dominate the request. A job description
+     * that fails or is not done shortly before the deadline is reported as
+     * failed; only the resume itself failing fails the request.
+     */
+    private CompletableFuture<MultiJobAnalysisResponse> analyzeMultiAsync(CompletableFuture<String> resumeText,
+                                                                        List<MultiJobAnalysisRequest.Job> jobs,
+                                                                        FieldSelection selection,
+                                                                        Deadline deadline) {
+        long start = System.nanoTime();
+        CompletableFuture<AnalysisContext> resume = resumeText.thenApplyAsync(
+            text -> analysisPipeline.analyze(AnalysisContext.DocumentType.RESUME, text), analysisExecutor);
+        long jobBudgetMillis = Math.max(0, deadline.remainingMillis() - deadlineProperties.getReserveMillis());
+
+        List<CompletableFuture<MultiJobAnalysisResponse.Result>> results = new ArrayList<>(jobs.size());
+        for (int i = 0; i < jobs.size(); i++) {
+            int index = i;
+            MultiJobAnalysisRequest.Job job = jobs.get(i);
+            String id = job != null ? job.getId() : null;
+            CompletableFuture<AnalysisContext> jobContext = jobDescriptionTextAsync(job, deadline)
+                .thenApplyAsync(text -> analysisPipeline.analyze(AnalysisContext.DocumentType.JOB_DESCRIPTION, text),
+                    analysisExecutor);
+            results.add(jobContext.thenCombine(resume, (jobAnalysis, resumeAnalysis) -> match(resumeAnalysis, jobAnalysis, selection))
+                .handle((analysis, error) -> error == null
+                    ? new MultiJobAnalysisResponse.Result(index, id, true, "Analysis completed", analysis)
+                    : new MultiJobAnalysisResponse.Result(index, id, false, "Analysis failed: " + describe(error), null))
+                .completeOnTimeout(new MultiJobAnalysisResponse.Result(index, id, false,
+                    "Analysis failed: not finished within the " + deadline.getBudgetMillis() + " ms deadline", null),
+                    jobBudgetMillis, TimeUnit.MILLISECONDS));
+        }
+
+        CompletableFuture<MultiJobAnalysisResponse> response = resume
+            .thenCompose(done -> CompletableFuture.allOf(results.toArray(CompletableFuture[]::new)))
+            .thenApply(done -> {
+                List<MultiJobAnalysisResponse.Result> ranked = rank(results.stream().map(CompletableFuture::join).toList());
+                int successful = (int) ranked.stream().filter(MultiJobAnalysisResponse.Result::isSuccess).count();
+                long durationMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+                log.info("Multi-job analysis of {} job descriptions completed in {} ms: {} successful, {} failed",
+                        ranked.size(), durationMs, successful, ranked.size() - successful);
+                return new MultiJobAnalysisResponse(ranked, successful, ranked.size() - successful, durationMs);
+            });
+
+        return deadline.bound(response, "Multi-job analysis").whenComplete((analysis, e) -> {
+            if (e != null) {
+                results.forEach(result -> result.cancel(false));
+            }
+        });
+    }
+
+    /**
+     * Match an analyzed resume against one analyzed job description, with
+     * rule-based suggestions and report as far as they are selected.
+     */
+    private ResumeAnalysisResponse match(AnalysisContext resume, AnalysisContext job, FieldSelection selection) {
+        SkillMatcher.Result result = skillMatcher.match(resume.getSkills(), job.getSkills());
+        List<String> suggestions = selection.needsSuggestions() ? suggestionEngine.generateSuggestions(result) : null;
+        ResumeAnalysisResponse analysis = new ResumeAnalysisResponse(
+                result.getMatchPercentage(),
+                result.getMatchedSkills(),
+                result.getMissingSkills(),
+                suggestions,
+                List.of(),
+                selection.needsReport() ? reportGenerator.generateReport(result, suggestions) : null
+        );
+        analysis.setAiSuggestionsStatus("SKIPPED");
+        return selection.apply(analysis);
+    }
+
+    /**
+     * Successful results by match percentage, best first and ranked from 1;
+     * then failed results in request order with rank 0.
+     */
+    private static List<MultiJobAnalysisResponse.Result> rank(List<MultiJobAnalysisResponse.Result> results) {
+        List<MultiJobAnalysisResponse.Result> ranked = new ArrayList<>(results);
+        ranked.sort(Comparator.comparing((MultiJobAnalysisResponse.Result result) -> !result.isSuccess())
+            .thenComparing(result -> result.isSuccess() ? -result.getAnalysis().getMatchPercentage() : 0.0)
+            .thenComparingInt(MultiJobAnalysisResponse.Result::getIndex));
+        for (int i = 0; i < ranked.size() && ranked.get(i).isSuccess(); i++) {
+            ranked.get(i).setRank(i + 1);
+        }
+        return ranked;
+    }
+
+    private void validateJobCount(List<MultiJobAnalysisRequest.Job> jobs) {
+        if (jobs == null || jobs.isEmpty()) {
+            throw new ValidationException("At least one job description is required");
+        }
+        if (jobs.size() > maxJobs) {
+            throw new ValidationException(String.format(
+                "At most %d job descriptions can be analyzed at once. Provided: %d", maxJobs, jobs.size()));
+        }
+    }
+
+    /**
+     * Resolve one job of a multi-job request. A job description URL that
+     * finds the outbound pool full fails that job only.
+     */
+    private CompletableFuture<String> jobDescriptionTextAsync(MultiJobAnalysisRequest.Job job, Deadline deadline) {
+        if (job == null) {
+            return CompletableFuture.failedFuture(new IllegalArgumentException("Job description text or URL is required"));
+        }
+        try {
+            return resolveJobDescriptionTextAsync(job.getJobDescriptionText(), job.getJobDescriptionUrl(), deadline);
+        } catch (RejectedExecutionException e) {
+            log.warn("Outbound pool full, not fetching job description {}", job.getJobDescriptionUrl());
+            return CompletableFuture.failedFuture(
+                new RejectedExecutionException("job description fetch refused, the server is busy"));
+        }
+    }
+
+    private static String describe(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        return cause.getMessage();
+    }
+
+    /**
+     * Extract the uploaded resume's text on the file parsing executor.
+     */
+    private CompletableFuture<String> extractResumeTextAsync(MultipartFile resumeFile) {
+        if (resumeFile == null || resumeFile.isEmpty()) {
+            log.warn("Resume file is empty or null");
+            throw new FileProcessingException("Resume file cannot be empty");
+        }
+
+        log.debug("Extracting text from uploaded file: {}", resumeFile.getOriginalFilename());
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                String text = fileTextExtractor.extractText(resumeFile);
+                log.debug("Successfully extracted {} characters from file", text.length());
+                return text;
+            } catch (IOException e) {
+                log.error("Failed to process uploaded resume file: {}", e.getMessage(), e);
+                throw new FileProcessingException("Failed to process uploaded resume file", e);
+            }
+        }, fileParsingExecutor);
+    }
+
+    /**
+     * Tell admission control not to count the given wait as service latency:
+     * waiting on AI suggestions up to the deadline is intended, not a sign of load.
+     */
+    private static void excludeFromLatencySample(long nanos) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null && nanos > 0) {
+            attributes.setAttribute(AdmissionControlFilter.EXCLUDED_LATENCY_NANOS, nanos, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+
+    private Deadline newDeadline(Long timeoutMillis) {
+        long budget = timeoutMillis != null && timeoutMillis > 0
+            ? Math.min(timeoutMillis, deadlineProperties.getMaxMillis())
+            : deadlineProperties.getDefaultMillis();
+        return Deadline.after(Duration.ofMillis(budget));
+    }
+
+    /**
+     * Resolve the job description: text is used as is, a URL is fetched on
+     * the outbound executor within its share of the deadline.
+     */
+    private CompletableFuture<String> resolveJobDescriptionTextAsync(String jobDescriptionText, String jobDescriptionUrl,
+                                                                     Deadline deadline) {
+        boolean hasText = jobDescriptionText != null && !jobDescriptionText.trim().isEmpty();
+        if (hasText) {
+            return CompletableFuture.completedFuture(jobDescriptionText);
+        }
+        CompletableFuture<String> fetched = CompletableFuture.supplyAsync(() -> {
+            try {
+                return resolveJobDescriptionText(jobDescriptionText, jobDescriptionUrl);
+            } catch (IllegalArgumentException e) {
+                log.warn("Job description resolution failed: {}", e.getMessage());
+                throw e;
+            } catch (IOException e) {
+                log.error("Failed to fetch job description from URL", e);
+                throw new FileProcessingException("Failed to fetch job description from URL", e);
+            }
+        }, outboundExecutor);
+        return deadline.share(deadlineProperties.getJobDescriptionShare()).bound(fetched, "Job description fetch");
+    }
+
+    /**
+     * Wait for a stage and rethrow its failure as thrown by the stage, so
+     * GlobalExceptionHandler maps it as before.
+     */
+    private static <T> T join(CompletableFuture<T> stage) {
+        try {
+            return stage.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
 
     private String resolveJobDescriptionText(String jobDescriptionText, String jobDescriptionUrl) throws IOException {
         boolean hasText = jobDescriptionText != null && !jobDescriptionText.trim().isEmpty();
@@ -3,10 +3,15 @@ package com.resumeanalyzer.web.controller;
 import com.resumeanalyzer.analysis.SkillExtractor;
 import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
 import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+import com.resumeanalyzer.web.dto.ComparisonMatrixRequest;
+import com.resumeanalyzer.web.dto.ComparisonMatrixResponse;
 import com.resumeanalyzer.web.dto.ComparisonRequest;
 import com.resumeanalyzer.web.dto.ComparisonResponse;
 import com.resumeanalyzer.web.dto.HealthResponse;
 import com.resumeanalyzer.web.dto.SkillListResponse;
+import com.resumeanalyzer.web.service.BatchAnalysisService;
+import com.resumeanalyzer.web.service.BatchStreamService;
+import com.resumeanalyzer.web.service.ResumeComparisonService;
 
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -15,19 +20,23 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 
+import jakarta.servlet.http.HttpServletRequest;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.List;
 
 /**
  * REST controller for utility and enhanced API endpoints.
@@ -41,9 +50,17 @@ public class UtilityController {
 
     private static final Logger log = LoggerFactory.getLogger(UtilityController.class);
     private final SkillExtractor skillExtractor;
+    private final BatchAnalysisService batchAnalysisService;
+    private final BatchStreamService batchStreamService;
+    private final ResumeComparisonService resumeComparisonService;
 
-    public UtilityController() {
+    @Autowired
+    public UtilityController(BatchAnalysisService batchAnalysisService, BatchStreamService batchStreamService,
+                             ResumeComparisonService resumeComparisonService) {
         this.skillExtractor = new SkillExtractor();
+        this.batchAnalysisService = batchAnalysisService;
+        this.batchStreamService = batchStreamService;
+        this.resumeComparisonService = resumeComparisonService;
     }
 
     /**
@@ -118,7 +135,8 @@ public class UtilityController {
 
     /**
      * Batch analyze multiple resumes against job descriptions.
-     * Processes multiple resume-job pairs in a single request.
+     * Processes multiple resume-job pairs in a single request, in parallel
+     * on the batch executor (batch.processing.*).
      * POST /api/v1/batch
      *
      * @param request the batch analysis request containing multiple resume-job pairs
@@ -128,8 +146,9 @@ public class UtilityController {
     @Operation(
         summary = "Batch analyze multiple resumes",
         description = "Analyzes multiple resumes against job descriptions in a single request. " +
-                      "Each item in the batch is processed independently and results are returned " +
-                      "with success/failure status for each item.",
+                      "Items are analyzed in parallel and independently; each has its own timeout. " +
+                      "Results are returned in request order with success/failure status, the full " +
+                      "analysis and the time spent for each item.",
         operationId = "batchAnalyzeResumes"
     )
     @ApiResponses(value = {
@@ -140,7 +159,11 @@ public class UtilityController {
         ),
         @ApiResponse(
             responseCode = "400",
-            description = "Invalid batch request - missing or empty items"
+            description = "Invalid batch request - missing or empty items, or more than batch.processing.max-items"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Batch processing is disabled"
         ),
         @ApiResponse(
             responseCode = "500",
@@ -156,53 +179,71 @@ public class UtilityController {
             BatchAnalysisRequest request) {
         log.info("Batch analysis requested for {} items", request.getItems() != null ? request.getItems().size() : 0);
         
+        if (!batchAnalysisService.isEnabled()) {
+            log.warn("Batch analysis request received while batch processing is disabled");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+
         if (request.getItems() == null || request.getItems().isEmpty()) {
             log.warn("Empty batch analysis request received");
             return ResponseEntity.badRequest().build();
         }
-        
-        List<BatchAnalysisResponse.Item> results = new ArrayList<>();
-        int successful = 0;
-        int failed = 0;
-        
-        for (int i = 0; i < request.getItems().size(); i++) {
-            BatchAnalysisRequest.Item item = request.getItems().get(i);
-            log.debug("Processing batch item {}/{}", i + 1, request.getItems().size());
-            
-            try {
-                // Process each item (placeholder - actual processing would be done here)
-                BatchAnalysisResponse.Item result = new BatchAnalysisResponse.Item(
-                        item.getId(),
-                        true,
-                        "Analysis completed",
-                        null
-                );
-                results.add(result);
-                successful++;
-            } catch (Exception e) {
-                log.error("Failed to process batch item {}", i, e);
-                BatchAnalysisResponse.Item result = new BatchAnalysisResponse.Item(
-                        item.getId(),
-                        false,
-                        "Analysis failed: " + e.getMessage(),
-                        null
-                );
-                results.add(result);
-                failed++;
-            }
+
+        if (request.getItems().size() > batchAnalysisService.getMaxItems()) {
+            log.warn("Batch analysis request with {} items exceeds the limit of {}",
+                    request.getItems().size(), batchAnalysisService.getMaxItems());
+            return ResponseEntity.badRequest().build();
         }
         
-        BatchAnalysisResponse response = new BatchAnalysisResponse(
-                results,
-                successful,
-                failed,
-                LocalDateTime.now()
-        );
+        BatchAnalysisResponse response = batchAnalysisService.analyze(request.getItems());
         
-        log.info("Batch analysis completed: {} successful, {} failed", successful, failed);
+        log.info("Batch analysis completed: {} successful, {} failed", response.getSuccessCount(), response.getFailureCount());
         return ResponseEntity.ok(response);
     }
 
+    /**
+     * Batch analyze resumes uploaded as NDJSON.
+     * Reads one resume-job pair per line and writes one result per line as
+     * items complete; the upload is throttled while workers are busy.
+     * POST /api/v1/batch/stream
+     *
+     * @param request the HTTP request whose body is read as it arrives
+     * @return ResponseEntity streaming NDJSON results
+     */
+    @PostMapping(value = "/batch/stream",
+                 consumes = MediaType.APPLICATION_NDJSON_VALUE,
+                 produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @Operation(
+        summary = "Batch analyze resumes streamed as NDJSON",
+        description = "Accepts any number of resume-job pairs as newline-delimited JSON (one BatchAnalysisItem " +
+                      "per line) and streams back one BatchAnalysisResultItem per line as items complete, in " +
+                      "completion order with the item's position as 'index'. Items are parsed as they arrive " +
+                      "and reading pauses while batch.processing.stream.max-in-flight items are pending, so " +
+                      "memory stays bounded for very large uploads. Each upload holds one of the " +
+                      "batch.processing.max-open-streams streaming threads until its last result is written.",
+        operationId = "batchAnalyzeResumesStream"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Results are streamed as items complete"
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Batch processing is disabled, or the maximum number of open streams is reached"
+        )
+    })
+    public ResponseEntity<StreamingResponseBody> batchAnalyzeStream(HttpServletRequest request) {
+        if (!batchAnalysisService.isEnabled()) {
+            log.warn("Streamed batch analysis request received while batch processing is disabled");
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE).build();
+        }
+        log.info("Streamed batch analysis requested");
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .body(output -> batchStreamService.analyze(request.getInputStream(), output));
+    }
+
     /**
      * Compare two resumes.
      * Analyzes the differences and similarities between two resumes.
@@ -262,10 +303,10 @@ public class UtilityController {
             commonSkills.retainAll(skills2);
             
             var uniqueToResume1 = new ArrayList<>(skills1);
-            uniqueToResume1.removeAll(commonSkills);
+            uniqueToResume1.removeAll(skills2);
             
             var uniqueToResume2 = new ArrayList<>(skills2);
-            uniqueToResume2.removeAll(commonSkills);
+            uniqueToResume2.removeAll(skills1);
             
             double similarityPercentage = commonSkills.isEmpty() ? 0 :
                     (commonSkills.size() * 100.0) / Math.max(skills1.size(), skills2.size());
@@ -288,4 +329,50 @@ public class UtilityController {
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
+
+    /**
+     * Compare a shortlist of resumes with each other.
+     * Extracts skills from every resume in parallel and computes the pairwise
+     * Jaccard and overlap similarity of all candidates.
+     * POST /api/v1/compare/matrix
+     *
+     * @param request the candidates to compare
+     * @return ResponseEntity with the similarity matrices, clusters and unique skills
+     */
+    @PostMapping("/compare/matrix")
+    @Operation(
+        summary = "Compare a shortlist of resumes",
+        description = "Extracts skills from every candidate's resume and compares all candidates pairwise. " +
+                      "Returns Jaccard and overlap similarity matrices in candidate order, clusters of candidates " +
+                      "whose Jaccard similarity reaches the threshold (directly or through other candidates), " +
+                      "and the skills only one candidate has.",
+        operationId = "compareResumeMatrix"
+    )
+    @ApiResponses(value = {
+        @ApiResponse(
+            responseCode = "200",
+            description = "Comparison completed successfully",
+            content = @Content(schema = @Schema(implementation = ComparisonMatrixResponse.class))
+        ),
+        @ApiResponse(
+            responseCode = "400",
+            description = "Invalid comparison request - fewer than 2 or too many candidates, " +
+                          "threshold out of range, or an invalid resume"
+        ),
+        @ApiResponse(
+            responseCode = "500",
+            description = "Server error during comparison"
+        )
+    })
+    public ResponseEntity<ComparisonMatrixResponse> compareResumeMatrix(
+            @RequestBody
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                description = "Candidates whose resumes are compared with each other",
+                required = true
+            )
+            ComparisonMatrixRequest request) {
+        int count = request.getCandidates() != null ? request.getCandidates().size() : 0;
+        log.info("Comparison matrix requested for {} candidates", count);
+        return ResponseEntity.ok(resumeComparisonService.compare(request));
+    }
 }
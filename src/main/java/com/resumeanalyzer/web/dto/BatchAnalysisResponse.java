@@ -39,6 +39,13 @@ public class BatchAnalysisResponse {
     )
     private LocalDateTime timestamp;
 
+    @Schema(
+        description = "Wall-clock time spent on the whole batch in milliseconds",
+        example = "1840",
+        minimum = "0"
+    )
+    private long durationMs;
+
     public BatchAnalysisResponse(List<Item> results, int successCount, int failureCount, LocalDateTime timestamp) {
         this.results = results;
         this.successCount = successCount;
@@ -46,6 +53,12 @@ public class BatchAnalysisResponse {
         this.timestamp = timestamp;
     }
 
+    public BatchAnalysisResponse(List<Item> results, int successCount, int failureCount,
+                                 LocalDateTime timestamp, long durationMs) {
+        this(results, successCount, failureCount, timestamp);
+        this.durationMs = durationMs;
+    }
+
     public List<Item> getResults() {
         return results;
     }
@@ -78,6 +91,14 @@ public class BatchAnalysisResponse {
         this.timestamp = timestamp;
     }
 
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
     /**
      * Represents the analysis result for a single batch item.
      */
@@ -86,6 +107,13 @@ public class BatchAnalysisResponse {
         description = "Result of analyzing a single batch item"
     )
     public static class Item {
+        @Schema(
+            description = "Position of the item in the request",
+            example = "0",
+            minimum = "0"
+        )
+        private int index;
+
         @Schema(
             description = "Item identifier matching the request",
             example = "item-1"
@@ -109,6 +137,13 @@ public class BatchAnalysisResponse {
         )
         private Object data;
 
+        @Schema(
+            description = "Time spent analyzing this item in milliseconds (excludes time queued)",
+            example = "85",
+            minimum = "0"
+        )
+        private long durationMs;
+
         public Item(String id, boolean success, String message, Object data) {
             this.id = id;
             this.success = success;
@@ -116,6 +151,19 @@ public class BatchAnalysisResponse {
             this.data = data;
         }
 
+        public Item(String id, boolean success, String message, Object data, long durationMs) {
+            this(id, success, message, data);
+            this.durationMs = durationMs;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
         public String getId() {
             return id;
         }
@@ -147,5 +195,13 @@ public class BatchAnalysisResponse {
         public void setData(Object data) {
             this.data = data;
         }
+
+        public long getDurationMs() {
+            return durationMs;
+        }
+
+        public void setDurationMs(long durationMs) {
+            this.durationMs = durationMs;
+        }
     }
 }
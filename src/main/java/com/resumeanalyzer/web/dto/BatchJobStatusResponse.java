@@ -0,0 +1,177 @@
+package com.resumeanalyzer.web.dto;
+
+import java.time.Instant;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for batch job status and progress.
+ */
+@Schema(
+    name = "BatchJobStatusResponse",
+    description = "Status and progress of an asynchronous batch job"
+)
+public class BatchJobStatusResponse {
+    @Schema(
+        description = "Job identifier",
+        example = "3f1c2a9e-8d4b-4c1e-9a57-0e2f7b6d1c88"
+    )
+    private String id;
+
+    @Schema(
+        description = "Job status",
+        example = "RUNNING",
+        allowableValues = {"RUNNING", "COMPLETED", "CANCELLED"}
+    )
+    private String status;
+
+    @Schema(
+        description = "Number of items in the job",
+        example = "2500",
+        minimum = "0"
+    )
+    private int totalItems;
+
+    @Schema(
+        description = "Number of items finished so far",
+        example = "1200",
+        minimum = "0"
+    )
+    private int completedItems;
+
+    @Schema(
+        description = "Number of successfully analyzed items",
+        example = "1180",
+        minimum = "0"
+    )
+    private int successCount;
+
+    @Schema(
+        description = "Number of failed items",
+        example = "20",
+        minimum = "0"
+    )
+    private int failureCount;
+
+    @Schema(
+        description = "When the job was submitted",
+        example = "2024-01-15T10:30:45.123Z"
+    )
+    private Instant createdAt;
+
+    @Schema(
+        description = "When the job completed or was cancelled (null while running)",
+        example = "2024-01-15T10:34:12.456Z"
+    )
+    private Instant finishedAt;
+
+    @Schema(
+        description = "When the job and its results will be discarded (null while running)",
+        example = "2024-01-15T11:34:12.456Z"
+    )
+    private Instant expiresAt;
+
+    @Schema(
+        description = "Where the job's results can be streamed from",
+        example = "/api/v1/batch-jobs/3f1c2a9e-8d4b-4c1e-9a57-0e2f7b6d1c88/results"
+    )
+    private String resultsUrl;
+
+    public BatchJobStatusResponse() {
+    }
+
+    public BatchJobStatusResponse(String id, String status, int totalItems, int completedItems,
+                                  int successCount, int failureCount, Instant createdAt,
+                                  Instant finishedAt, Instant expiresAt, String resultsUrl) {
+        this.id = id;
+        this.status = status;
+        this.totalItems = totalItems;
+        this.completedItems = completedItems;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.createdAt = createdAt;
+        this.finishedAt = finishedAt;
+        this.expiresAt = expiresAt;
+        this.resultsUrl = resultsUrl;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public void setId(String id) {
+        this.id = id;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    public void setTotalItems(int totalItems) {
+        this.totalItems = totalItems;
+    }
+
+    public int getCompletedItems() {
+        return completedItems;
+    }
+
+    public void setCompletedItems(int completedItems) {
+        this.completedItems = completedItems;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public void setSuccessCount(int successCount) {
+        this.successCount = successCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public void setFailureCount(int failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Instant createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public void setFinishedAt(Instant finishedAt) {
+        this.finishedAt = finishedAt;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public String getResultsUrl() {
+        return resultsUrl;
+    }
+
+    public void setResultsUrl(String resultsUrl) {
+        this.resultsUrl = resultsUrl;
+    }
+}
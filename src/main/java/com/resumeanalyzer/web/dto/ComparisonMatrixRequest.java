@@ -0,0 +1,97 @@
+package com.resumeanalyzer.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Request DTO for comparing a shortlist of resumes with each other.
+ */
+@Schema(
+    name = "ComparisonMatrixRequest",
+    description = "Request to compare every resume of a shortlist with every other one"
+)
+public class ComparisonMatrixRequest {
+    @Schema(
+        description = "Candidates to compare (minimum 2)"
+    )
+    private List<Candidate> candidates;
+
+    @Schema(
+        description = "Minimum Jaccard similarity for two candidates to share a cluster (default from configuration)",
+        example = "0.5",
+        minimum = "0",
+        maximum = "1"
+    )
+    private Double clusterThreshold;
+
+    public ComparisonMatrixRequest() {
+    }
+
+    public ComparisonMatrixRequest(List<Candidate> candidates, Double clusterThreshold) {
+        this.candidates = candidates;
+        this.clusterThreshold = clusterThreshold;
+    }
+
+    public List<Candidate> getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(List<Candidate> candidates) {
+        this.candidates = candidates;
+    }
+
+    public Double getClusterThreshold() {
+        return clusterThreshold;
+    }
+
+    public void setClusterThreshold(Double clusterThreshold) {
+        this.clusterThreshold = clusterThreshold;
+    }
+
+    /**
+     * One candidate's resume.
+     */
+    @Schema(
+        name = "ComparisonCandidate",
+        description = "Resume of one candidate"
+    )
+    public static class Candidate {
+        @Schema(
+            description = "Candidate identifier, echoed in the matrix and clusters (defaults to candidate-<position>)",
+            example = "jane-doe"
+        )
+        private String id;
+
+        @Schema(
+            description = "Resume text content",
+            example = "Senior Java Developer with 5 years experience...",
+            maxLength = 50000
+        )
+        private String resumeText;
+
+        public Candidate() {
+        }
+
+        public Candidate(String id, String resumeText) {
+            this.id = id;
+            this.resumeText = resumeText;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getResumeText() {
+            return resumeText;
+        }
+
+        public void setResumeText(String resumeText) {
+            this.resumeText = resumeText;
+        }
+    }
+}
@@ -0,0 +1,203 @@
+package com.resumeanalyzer.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for the pairwise comparison of a shortlist of resumes.
+ * Matrix rows and columns follow the order of {@code candidateIds}.
+ */
+@Schema(
+    name = "ComparisonMatrixResponse",
+    description = "Pairwise skill similarity, clusters and unique skills of a shortlist of candidates"
+)
+public class ComparisonMatrixResponse {
+    @Schema(
+        description = "Candidate identifiers in request order; the order of matrix rows and columns",
+        example = "[\"jane-doe\", \"john-roe\"]"
+    )
+    private List<String> candidateIds;
+
+    @Schema(
+        description = "Per candidate skill count and skills no other candidate has"
+    )
+    private List<CandidateSummary> candidates;
+
+    @Schema(
+        description = "Jaccard similarity |A ∩ B| / |A ∪ B| of every pair of candidates' skills",
+        example = "[[1.0, 0.42], [0.42, 1.0]]"
+    )
+    private double[][] jaccard;
+
+    @Schema(
+        description = "Overlap similarity |A ∩ B| / min(|A|, |B|) of every pair of candidates' skills",
+        example = "[[1.0, 0.8], [0.8, 1.0]]"
+    )
+    private double[][] overlap;
+
+    @Schema(
+        description = "Groups of candidates linked by Jaccard similarity at or above the threshold, largest first",
+        example = "[[\"jane-doe\", \"john-roe\"], [\"max-moe\"]]"
+    )
+    private List<List<String>> clusters;
+
+    @Schema(
+        description = "Jaccard similarity threshold used for clustering",
+        example = "0.5"
+    )
+    private double clusterThreshold;
+
+    @Schema(
+        description = "Time spent extracting skills from all resumes, in milliseconds",
+        example = "35"
+    )
+    private long extractionMs;
+
+    @Schema(
+        description = "Time spent computing the matrices and clusters, in milliseconds",
+        example = "2"
+    )
+    private long matrixMs;
+
+    public ComparisonMatrixResponse() {
+    }
+
+    public ComparisonMatrixResponse(List<String> candidateIds, List<CandidateSummary> candidates,
+                                    double[][] jaccard, double[][] overlap, List<List<String>> clusters,
+                                    double clusterThreshold, long extractionMs, long matrixMs) {
+        this.candidateIds = candidateIds;
+        this.candidates = candidates;
+        this.jaccard = jaccard;
+        this.overlap = overlap;
+        this.clusters = clusters;
+        this.clusterThreshold = clusterThreshold;
+        this.extractionMs = extractionMs;
+        this.matrixMs = matrixMs;
+    }
+
+    public List<String> getCandidateIds() {
+        return candidateIds;
+    }
+
+    public void setCandidateIds(List<String> candidateIds) {
+        this.candidateIds = candidateIds;
+    }
+
+    public List<CandidateSummary> getCandidates() {
+        return candidates;
+    }
+
+    public void setCandidates(List<CandidateSummary> candidates) {
+        this.candidates = candidates;
+    }
+
+    public double[][] getJaccard() {
+        return jaccard;
+    }
+
+    public void setJaccard(double[][] jaccard) {
+        this.jaccard = jaccard;
+    }
+
+    public double[][] getOverlap() {
+        return overlap;
+    }
+
+    public void setOverlap(double[][] overlap) {
+        this.overlap = overlap;
+    }
+
+    public List<List<String>> getClusters() {
+        return clusters;
+    }
+
+    public void setClusters(List<List<String>> clusters) {
+        this.clusters = clusters;
+    }
+
+    public double getClusterThreshold() {
+        return clusterThreshold;
+    }
+
+    public void setClusterThreshold(double clusterThreshold) {
+        this.clusterThreshold = clusterThreshold;
+    }
+
+    public long getExtractionMs() {
+        return extractionMs;
+    }
+
+    public void setExtractionMs(long extractionMs) {
+        this.extractionMs = extractionMs;
+    }
+
+    public long getMatrixMs() {
+        return matrixMs;
+    }
+
+    public void setMatrixMs(long matrixMs) {
+        this.matrixMs = matrixMs;
+    }
+
+    /**
+     * Skill summary of one candidate.
+     */
+    @Schema(
+        name = "ComparisonCandidateSummary",
+        description = "Skill count and unique skills of one candidate"
+    )
+    public static class CandidateSummary {
+        @Schema(
+            description = "Candidate identifier",
+            example = "jane-doe"
+        )
+        private String id;
+
+        @Schema(
+            description = "Number of skills found in the candidate's resume",
+            example = "14",
+            minimum = "0"
+        )
+        private int skillCount;
+
+        @Schema(
+            description = "Skills of this candidate that no other candidate has",
+            example = "[\"Kubernetes\", \"Terraform\"]"
+        )
+        private List<String> uniqueSkills;
+
+        public CandidateSummary() {
+        }
+
+        public CandidateSummary(String id, int skillCount, List<String> uniqueSkills) {
+            this.id = id;
+            this.skillCount = skillCount;
+            this.uniqueSkills = uniqueSkills;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public int getSkillCount() {
+            return skillCount;
+        }
+
+        public void setSkillCount(int skillCount) {
+            this.skillCount = skillCount;
+        }
+
+        public List<String> getUniqueSkills() {
+            return uniqueSkills;
+        }
+
+        public void setUniqueSkills(List<String> uniqueSkills) {
+            this.uniqueSkills = uniqueSkills;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.resumeanalyzer.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Request DTO for analyzing one resume against several job descriptions.
+ */
+@Schema(
+    name = "MultiJobAnalysisRequest",
+    description = "Request to analyze one resume against several job descriptions in one call"
+)
+public class MultiJobAnalysisRequest {
+    @Schema(
+        description = "Resume text content, analyzed once for all job descriptions",
+        example = "Senior Java Developer with 5 years experience...",
+        minLength = 50,
+        maxLength = 50000
+    )
+    private String resumeText;
+
+    @Schema(
+        description = "Job descriptions to match the resume against (minimum 1 required)"
+    )
+    private List<Job> jobs;
+
+    public MultiJobAnalysisRequest() {
+    }
+
+    public MultiJobAnalysisRequest(String resumeText, List<Job> jobs) {
+        this.resumeText = resumeText;
+        this.jobs = jobs;
+    }
+
+    public String getResumeText() {
+        return resumeText;
+    }
+
+    public void setResumeText(String resumeText) {
+        this.resumeText = resumeText;
+    }
+
+    public List<Job> getJobs() {
+        return jobs;
+    }
+
+    public void setJobs(List<Job> jobs) {
+        this.jobs = jobs;
+    }
+
+    /**
+     * A job description given as text or URL.
+     */
+    @Schema(
+        name = "MultiJobAnalysisJob",
+        description = "Job description to match the resume against, as text or URL"
+    )
+    public static class Job {
+        @Schema(
+            description = "Client identifier for this job description, echoed in the result",
+            example = "acme-backend"
+        )
+        private String id;
+
+        @Schema(
+            description = "Job description text. Alternative to jobDescriptionUrl",
+            example = "We are hiring a Java Developer with Spring Boot experience...",
+            minLength = 20,
+            maxLength = 50000
+        )
+        private String jobDescriptionText;
+
+        @Schema(
+            description = "URL to fetch job description from. Used if jobDescriptionText is not provided",
+            example = "https://www.linkedin.com/jobs/view/123"
+        )
+        private String jobDescriptionUrl;
+
+        public Job() {
+        }
+
+        public Job(String id, String jobDescriptionText, String jobDescriptionUrl) {
+            this.id = id;
+            this.jobDescriptionText = jobDescriptionText;
+            this.jobDescriptionUrl = jobDescriptionUrl;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public String getJobDescriptionText() {
+            return jobDescriptionText;
+        }
+
+        public void setJobDescriptionText(String jobDescriptionText) {
+            this.jobDescriptionText = jobDescriptionText;
+        }
+
+        public String getJobDescriptionUrl() {
+            return jobDescriptionUrl;
+        }
+
+        public void setJobDescriptionUrl(String jobDescriptionUrl) {
+            this.jobDescriptionUrl = jobDescriptionUrl;
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package com.resumeanalyzer.web.dto;
+
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for one resume analyzed against several job descriptions.
+ * Results are ranked by match percentage, best match first.
+ */
+@Schema(
+    name = "MultiJobAnalysisResponse",
+    description = "Ranked match results of one resume against several job descriptions"
+)
+public class MultiJobAnalysisResponse {
+    @Schema(
+        description = "Per job description results, best match first; failed ones last"
+    )
+    private List<Result> results;
+
+    @Schema(
+        description = "Number of job descriptions analyzed successfully",
+        example = "12",
+        minimum = "0"
+    )
+    private int successCount;
+
+    @Schema(
+        description = "Number of job descriptions that could not be analyzed",
+        example = "1",
+        minimum = "0"
+    )
+    private int failureCount;
+
+    @Schema(
+        description = "Wall-clock time taken to analyze all job descriptions, in milliseconds",
+        example = "184",
+        minimum = "0"
+    )
+    private long durationMs;
+
+    public MultiJobAnalysisResponse() {
+    }
+
+    public MultiJobAnalysisResponse(List<Result> results, int successCount, int failureCount, long durationMs) {
+        this.results = results;
+        this.successCount = successCount;
+        this.failureCount = failureCount;
+        this.durationMs = durationMs;
+    }
+
+    public List<Result> getResults() {
+        return results;
+    }
+
+    public void setResults(List<Result> results) {
+        this.results = results;
+    }
+
+    public int getSuccessCount() {
+        return successCount;
+    }
+
+    public void setSuccessCount(int successCount) {
+        this.successCount = successCount;
+    }
+
+    public int getFailureCount() {
+        return failureCount;
+    }
+
+    public void setFailureCount(int failureCount) {
+        this.failureCount = failureCount;
+    }
+
+    public long getDurationMs() {
+        return durationMs;
+    }
+
+    public void setDurationMs(long durationMs) {
+        this.durationMs = durationMs;
+    }
+
+    /**
+     * Result for one job description.
+     */
+    @Schema(
+        name = "MultiJobAnalysisResult",
+        description = "Match result of the resume against one job description"
+    )
+    public static class Result {
+        @Schema(
+            description = "Position of the job description in the request (0-based)",
+            example = "3",
+            minimum = "0"
+        )
+        private int index;
+
+        @Schema(
+            description = "Identifier of the job description from the request",
+            example = "acme-backend"
+        )
+        private String id;
+
+        @Schema(
+            description = "Rank by match percentage, 1 for the best match; 0 if the job description failed",
+            example = "1",
+            minimum = "0"
+        )
+        private int rank;
+
+        @Schema(
+            description = "Whether this job description was analyzed successfully",
+            example = "true"
+        )
+        private boolean success;
+
+        @Schema(
+            description = "Status message",
+            example = "Analysis completed"
+        )
+        private String message;
+
+        @Schema(
+            description = "Analysis of the resume against this job description, if successful"
+        )
+        private ResumeAnalysisResponse analysis;
+
+        public Result() {
+        }
+
+        public Result(int index, String id, boolean success, String message, ResumeAnalysisResponse analysis) {
+            this.index = index;
+            this.id = id;
+            this.success = success;
+            this.message = message;
+            this.analysis = analysis;
+        }
+
+        public int getIndex() {
+            return index;
+        }
+
+        public void setIndex(int index) {
+            this.index = index;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        public void setId(String id) {
+            this.id = id;
+        }
+
+        public int getRank() {
+            return rank;
+        }
+
+        public void setRank(int rank) {
+            this.rank = rank;
+        }
+
+        public boolean isSuccess() {
+            return success;
+        }
+
+        public void setSuccess(boolean success) {
+            this.success = success;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        public void setMessage(String message) {
+            this.message = message;
+        }
+
+        public ResumeAnalysisResponse getAnalysis() {
+            return analysis;
+        }
+
+        public void setAnalysis(ResumeAnalysisResponse analysis) {
+            this.analysis = analysis;
+        }
+    }
+}
@@ -1,57 +1,74 @@
-package com.resumeanalyzer.web.dto;
-
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Set;
-
-import io.swagger.v3.oas.annotations.media.Schema;
-
-/**
- * Response DTO for resume analysis results.
- * Contains the complete analysis output including match percentage,
- * matched/missing skills, suggestions (both rule-based and AI-enhanced), and the full report.
- */
-@Schema(
-    name = "ResumeAnalysisResponse",
-    description = "Complete analysis results for a resume matched against a job description"
-)
-public class ResumeAnalysisResponse {
-    @Schema(
-        description = "Overall match percentage between resume skills and job requirements",
-        example = "75.5",
-        minimum = "0",
-        maximum = "100"
-    )
-    private double matchPercentage;
-
-    @Schema(
-        description = "Set of skills found in both resume and job description",
-        example = "[\"Java\", \"Spring Boot\", \"SQL\"]"
-    )
-    private Set<String> matchedSkills;
-
-    @Schema(
-        description = "Set of skills required by job but missing from resume",
-        example = "[\"Docker\", \"Kubernetes\", \"AWS\"]"
-    )
-    private Set<String> missingSkills;
-
-    @Schema(
-        description = "Rule-based improvement suggestions generated by the analyzer",
-        example = "[\"Consider adding Docker to your skillset\", \"Highlight more database experience\"]"
-    )
-    private List<String> suggestions;
-
-    @Schema(
-        description = "AI-enhanced suggestions generated by Google Gemini API",
-        example = "[\"Consider getting AWS certification\", \"Add cloud deployment experience\"]"
-    )
-    private List<String> aiSuggestions;
-
-    @Schema(
-        description = "Formatted text report with detailed analysis and recommendations"
-    )
-    private String report;
+package com.resumeanalyzer.web.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+
+/**
+ * Response DTO for resume analysis results.
+ * Contains the complete analysis output including match percentage,
+ * matched/missing skills, suggestions (both rule-based and AI-enhanced), and the full report.
+ */
+@Schema(
+    name = "ResumeAnalysisResponse",
+    description = "Complete analysis results for a resume matched against a job description"
+)
+public class ResumeAnalysisResponse {
+    @Schema(
+        description = "ID of the stored analysis, derived from the analyzed resume and job description; " +
+                      "retrieve it again with GET /api/analyses/{analysisId}",
+        example = "3f2a9c0e7b1d4e5f8a6b2c9d0e1f3a4b5c6d7e8f9a0b1c2d3e4f5a6b7c8d9e0f"
+    )
+    private String analysisId;
+
+    @Schema(
+        description = "Overall match percentage between resume skills and job requirements",
+        example = "75.5",
+        minimum = "0",
+        maximum = "100"
+    )
+    private double matchPercentage;
+
+    @Schema(
+        description = "Set of skills found in both resume and job description",
+        example = "[\"Java\", \"Spring Boot\", \"SQL\"]"
+    )
+    private Set<String> matchedSkills;
+
+    @Schema(
+        description = "Set of skills required by job but missing from resume",
+        example = "[\"Docker\", \"Kubernetes\", \"AWS\"]"
+    )
+    private Set<String> missingSkills;
+
+    @Schema(
+        description = "Rule-based improvement suggestions generated by the analyzer",
+        example = "[\"Consider adding Docker to your skillset\", \"Highlight more database experience\"]"
+    )
+    private List<String> suggestions;
+
+    @Schema(
+        description = "AI-enhanced suggestions generated by Google Gemini API",
+        example = "[\"Consider getting AWS certification\", \"Add cloud deployment experience\"]"
+    )
+    private List<String> aiSuggestions;
+
+    @Schema(
+        description = "Whether AI suggestions made it into this response. PENDING: still being generated " +
+                      "when the request deadline was reached (repeat the request to pick them up); " +
+                      "SKIPPED: no time was left to start them; " +
+                      "FAILED: the AI service returned an error (repeat the request to retry)",
+        example = "COMPLETED",
+        allowableValues = {"COMPLETED", "PENDING", "SKIPPED", "FAILED"}
+    )
+    private String aiSuggestionsStatus;
+
+    @Schema(
+        description = "Formatted text report with detailed analysis and recommendations"
+    )
+    private String report;
 
     public ResumeAnalysisResponse() {
     }
@@ -77,6 +94,14 @@ public class ResumeAnalysisResponse {
         this.report = report;
     }
 
+    public String getAnalysisId() {
+        return analysisId;
+    }
+
+    public void setAnalysisId(String analysisId) {
+        this.analysisId = analysisId;
+    }
+
     public double getMatchPercentage() {
         return matchPercentage;
     }
@@ -117,6 +142,14 @@ public class ResumeAnalysisResponse {
         this.aiSuggestions = aiSuggestions;
     }
 
+    public String getAiSuggestionsStatus() {
+        return aiSuggestionsStatus;
+    }
+
+    public void setAiSuggestionsStatus(String aiSuggestionsStatus) {
+        this.aiSuggestionsStatus = aiSuggestionsStatus;
+    }
+
     public String getReport() {
         return report;
     }
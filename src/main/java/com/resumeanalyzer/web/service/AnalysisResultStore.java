@@ -0,0 +1,155 @@
+package com.resumeanalyzer.web.service;
+
+import java.util.Optional;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.concurrent.SingleFlight;
+import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
+
+/**
+ * Analysis results addressed by the content they were computed from.
+ *
+ * The ID of an analysis is a SHA-256 hash of the resume text and the
+ * resolved job description text, so submitting the same inputs again finds
+ * the stored result instead of recomputing it. Results are kept as their
+ * serialized JSON in the "analysis-results" cache (large ones off-heap, in
+ * Redis in production) and expire with it. The ETag is a hash of that JSON,
+ * so it is a strong validator: it changes exactly when the stored bytes do,
+ * e.g. when a result stored without AI suggestions is replaced by a complete one.
+ */
+@Service
+public class AnalysisResultStore {
+
+    private static final Logger log = LoggerFactory.getLogger(AnalysisResultStore.class);
+    private static final String RESULTS_CACHE = "analysis-results";
+
+    private final ObjectProvider<CacheManager> cacheManager;
+    private final ObjectMapper objectMapper;
+
+    @Autowired
+    public AnalysisResultStore(ObjectProvider<CacheManager> cacheManager, ObjectMapper objectMapper) {
+        this.cacheManager = cacheManager;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * @return the ID an analysis of these inputs is stored under
+     */
+    public static String idFor(String resumeText, String jobDescriptionText) {
+        return SingleFlight.contentKey("analysis", resumeText, jobDescriptionText);
+    }
+
+    /**
+     * Look up a stored analysis.
+     *
+     * @param id analysis ID
+     * @return the stored analysis, or empty if unknown or expired
+     */
+    public Optional<StoredAnalysis> get(String id) {
+        Cache cache = cache();
+        String json = cache != null ? cache.get(id, String.class) : null;
+        return Optional.ofNullable(json).map(body -> new StoredAnalysis(id, body));
+    }
+
+    /**
+     * Store an analysis under the given ID, replacing any previous result.
+     * The analysis gets the ID set before it is serialized.
+     *
+     * @param id analysis ID from {@link #idFor}
+     * @param analysis the analysis to store
+     * @return the stored analysis
+     */
+    public StoredAnalysis put(String id, ResumeAnalysisResponse analysis) {
+        analysis.setAnalysisId(id);
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(analysis);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Analysis result cannot be serialized", e);
+        }
+        Cache cache = cache();
+        if (cache != null) {
+            cache.put(id, json);
+        } else {
+            log.warn("Cache {} is not configured; analysis {} is not stored", RESULTS_CACHE, id);
+        }
+        return new StoredAnalysis(id, json, analysis);
+    }
+
+    private Cache cache() {
+        CacheManager manager = cacheManager.getIfAvailable();
+        return manager != null ? manager.getCache(RESULTS_CACHE) : null;
+    }
+
+    /**
+     * A stored analysis: its ID, serialized form and ETag.
+     */
+    public final class StoredAnalysis {
+        private final String id;
+        private final String json;
+        private final String etag;
+        private ResumeAnalysisResponse analysis;
+
+        private StoredAnalysis(String id, String json) {
+            this(id, json, null);
+        }
+
+        private StoredAnalysis(String id, String json, ResumeAnalysisResponse analysis) {
+            this.id = id;
+            this.json = json;
+            this.etag = "\"" + SingleFlight.contentKey(json).substring(0, 32) + "\"";
+            this.analysis = analysis;
+        }
+
+        public String getId() {
+            return id;
+        }
+
+        /**
+         * @return the analysis as JSON, exactly as stored
+         */
+        public String getJson() {
+            return json;
+        }
+
+        /**
+         * @return strong ETag of the JSON, quoted
+         */
+        public String getEtag() {
+            return etag;
+        }
+
+        /**
+         * @return the analysis, read from its JSON on first use
+         */
+        public ResumeAnalysisResponse getAnalysis() {
+            if (analysis == null) {
+                try {
+                    analysis = objectMapper.readValue(json, ResumeAnalysisResponse.class);
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Stored analysis " + id + " cannot be read", e);
+                }
+            }
+            return analysis;
+        }
+
+        /**
+         * Whether the analysis is final. Results whose AI suggestions were
+         * still pending, never started or failed are recomputed when
+         * submitted again.
+         */
+        public boolean isComplete() {
+            String status = getAnalysis().getAiSuggestionsStatus();
+            return !"PENDING".equals(status) && !"SKIPPED".equals(status) && !"FAILED".equals(status);
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.resumeanalyzer.web.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.resumeanalyzer.ai.GeminiSuggestionService;
+import com.resumeanalyzer.analysis.SkillMatcher;
+import com.resumeanalyzer.analysis.pipeline.AnalysisContext;
+import com.resumeanalyzer.analysis.pipeline.AnalysisPipeline;
+import com.resumeanalyzer.config.BatchProcessingProperties;
+import com.resumeanalyzer.report.ResumeReportGenerator;
+import com.resumeanalyzer.suggestions.ResumeSuggestionEngine;
+import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
+
+/**
+ * Analyzes batches of resume-job pairs in parallel on a bounded executor.
+ *
+ * Each distinct job description in a batch goes through the analysis
+ * pipeline once, and every item using it waits for that shared result. Items then run the same
+ * analysis as POST /api/analyze. An item's timeout starts when the item
+ * starts running, so items queued behind others are not penalised; the
+ * batch timeout, if any, bounds the batch as a whole. Timed-out work is
+ * abandoned, not interrupted.
+ *
+ * Gemini suggestions are requested on the outbound executor once an item's
+ * match is done, so the batch worker moves on to the next item. An item
+ * waits for them at most batch.processing.ai-timeout-seconds and is then
+ * returned without them (status PENDING; the call still fills the
+ * suggestions cache). If the outbound executor is full they are skipped
+ * (status SKIPPED).
+ *
+ * {@link #analyze(List)} serves synchronous batches; batch jobs drive
+ * {@link #analyze(Batch, int, BatchAnalysisRequest.Item)} item by item.
+ */
+@Service
+public class BatchAnalysisService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchAnalysisService.class);
+
+    private final AnalysisPipeline analysisPipeline;
+    private final GeminiSuggestionService geminiSuggestionService;
+    private final Executor executor;
+    private final Executor outboundExecutor;
+    private final BatchProcessingProperties properties;
+    private final SkillMatcher skillMatcher;
+    private final ResumeSuggestionEngine suggestionEngine;
+    private final ResumeReportGenerator reportGenerator;
+
+    @Autowired
+    public BatchAnalysisService(AnalysisPipeline analysisPipeline,
+                                GeminiSuggestionService geminiSuggestionService,
+                                @Qualifier("batchAnalysisExecutor") Executor executor,
+                                @Qualifier("outboundExecutor") Executor outboundExecutor,
+                                BatchProcessingProperties properties) {
+        this.analysisPipeline = analysisPipeline;
+        this.geminiSuggestionService = geminiSuggestionService;
+        this.executor = executor;
+        this.outboundExecutor = outboundExecutor;
+        this.properties = properties;
+        this.skillMatcher = new SkillMatcher();
+        this.suggestionEngine = new ResumeSuggestionEngine();
+        this.reportGenerator = new ResumeReportGenerator();
+    }
+
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    public int getMaxItems() {
+        return properties.getMaxItems();
+    }
+
+    /**
+     * Analyze every item of a batch on the batch executor, within
+     * batch.processing.timeout-seconds.
+     *
+     * @param items resume-job pairs, analyzed independently
+     * @return per-item results in request order
+     */
+    public BatchAnalysisResponse analyze(List<BatchAnalysisRequest.Item> items) {
+        long batchStart = System.nanoTime();
+        Batch batch = newBatch(executor, Duration.ofSeconds(properties.getTimeoutSeconds()));
+        List<CompletableFuture<BatchAnalysisResponse.Item>> pending = new ArrayList<>(items.size());
+        for (int i = 0; i < items.size(); i++) {
+            pending.add(analyze(batch, i, items.get(i)));
+        }
+
+        // Every item completes by the batch deadline at the latest
+        List<BatchAnalysisResponse.Item> results = new ArrayList<>(items.size());
+        int successful = 0;
+        for (CompletableFuture<BatchAnalysisResponse.Item> item : pending) {
+            BatchAnalysisResponse.Item result = item.join();
+            results.add(result);
+            if (result.isSuccess()) {
+                successful++;
+            }
+        }
+
+        long durationMs = toMillis(System.nanoTime() - batchStart);
+        log.info("Batch of {} items analyzed in {} ms: {} successful, {} failed, {} distinct job descriptions",
+                items.size(), durationMs, successful, items.size() - successful, batch.jobSkills.size());
+        return new BatchAnalysisResponse(results, successful, items.size() - successful, LocalDateTime.now(), durationMs);
+    }
+
+    /**
+     * Start a batch whose items run on the given executor.
+     *
+     * @param executor executor for the batch's items
+     * @param timeout time limit for the whole batch, or null for none
+     */
+    public Batch newBatch(Executor executor, Duration timeout) {
+        return new Batch(executor, timeout, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Start a batch that shares extracted skills for at most
+     * {@code maxSharedJobDescriptions} distinct job descriptions at a time,
+     * so its memory stays bounded however many items it has.
+     */
+    public Batch newBatch(Executor executor, Duration timeout, int maxSharedJobDescriptions) {
+        return new Batch(executor, timeout, maxSharedJobDescriptions);
+    }
+
+    /**
+     * Analyze one item of a batch. The returned future always completes
+     * normally, with a failed result if the item was invalid, failed, timed
+     * out or was cancelled.
+     *
+     * @param batch batch the item belongs to
+     * @param index position of the item in the batch
+     * @param item resume-job pair
+     * @return result of the item
+     */
+    public CompletableFuture<BatchAnalysisResponse.Item> analyze(Batch batch, int index, BatchAnalysisRequest.Item item) {
+        String resumeText = item.getResumeText();
+        String jobDescriptionText = item.getJobDescriptionText();
+        AtomicLong startedAt = new AtomicLong();
+        AtomicLong finishedAt = new AtomicLong();
+        CompletableFuture<ResumeAnalysisResponse> analysis = batch.arm(new CompletableFuture<>());
+        try {
+            if (batch.jobSkills.size() >= batch.maxSharedJobDescriptions) {
+                batch.jobSkills.clear();
+            }
+            // A missing job description is rejected by the pipeline like an empty one
+            CompletableFuture<Set<String>> jobSkills = batch.jobSkills.computeIfAbsent(
+                jobDescriptionText != null ? jobDescriptionText : "",
+                text -> submit(batch, new CompletableFuture<>(),
+                    () -> analysisPipeline.analyze(AnalysisContext.DocumentType.JOB_DESCRIPTION, text).getSkills()));
+            jobSkills.whenComplete((skills, error) -> {
+                if (error != null) {
+                    analysis.completeExceptionally(error);
+                    return;
+                }
+                CompletableFuture<ResumeAnalysisResponse> matched = new CompletableFuture<>();
+                // Not started yet when the batch times out: skip it
+                analysis.whenComplete((response, e) -> matched.cancel(false));
+                submit(batch, matched, () -> {
+                    startedAt.set(System.nanoTime());
+                    return analyzeItem(resumeText, jobDescriptionText, skills);
+                });
+                matched.thenCompose(response -> withAiSuggestions(response, resumeText, jobDescriptionText))
+                    .whenComplete((response, e) -> {
+                        finishedAt.set(System.nanoTime());
+                        if (e != null) {
+                            analysis.completeExceptionally(e);
+                        } else {
+                            analysis.complete(response);
+                        }
+                    });
+            });
+        } catch (RuntimeException e) {
+            analysis.completeExceptionally(e);
+        }
+
+        return analysis.handle((response, error) -> {
+            long start = startedAt.get();
+            long end = finishedAt.get();
+            long durationMs = start == 0 ? 0 : toMillis((end != 0 ? end : System.nanoTime()) - start);
+            BatchAnalysisResponse.Item result = error == null
+                ? new BatchAnalysisResponse.Item(item.getId(), true, "Analysis completed", response, durationMs)
+                : new BatchAnalysisResponse.Item(item.getId(), false, "Analysis failed: " + describe(batch, error), null, durationMs);
+            result.setIndex(index);
+            return result;
+        });
+    }
+
+    private ResumeAnalysisResponse analyzeItem(String resumeText, String jobDescriptionText, Set<String> jobSkills) {
+        AnalysisContext resume = analysisPipeline.analyze(AnalysisContext.DocumentType.RESUME, resumeText);
+        SkillMatcher.Result matchResult = skillMatcher.match(resume.getSkills(), jobSkills);
+        List<String> suggestions = suggestionEngine.generateSuggestions(matchResult);
+        String report = reportGenerator.generateReport(matchResult, suggestions);
+        return new ResumeAnalysisResponse(
+                matchResult.getMatchPercentage(),
+                matchResult.getMatchedSkills(),
+                matchResult.getMissingSkills(),
+                suggestions,
+                List.of(),
+                report
+        );
+    }
+
+    /**
+     * Add Gemini suggestions to an item's analysis, generated on the outbound
+     * executor within batch.processing.ai-timeout-seconds.
+     */
+    private CompletableFuture<ResumeAnalysisResponse> withAiSuggestions(ResumeAnalysisResponse analysis,
+                                                                        String resumeText,
+                                                                        String jobDescriptionText) {
+        CompletableFuture<List<String>> aiSuggestions;
+        try {
+            aiSuggestions = CompletableFuture.supplyAsync(() -> geminiSuggestionService.generateAISuggestions(
+                resumeText,
+                jobDescriptionText,
+                analysis.getMatchedSkills(),
+                analysis.getMissingSkills(),
+                analysis.getMatchPercentage()
+            ), outboundExecutor);
+        } catch (RejectedExecutionException e) {
+            log.warn("Outbound pool full, skipping AI suggestions for a batch item");
+            analysis.setAiSuggestionsStatus("SKIPPED");
+            return CompletableFuture.completedFuture(analysis);
+        }
+        // null marks suggestions that missed the timeout
+        return aiSuggestions.completeOnTimeout(null, properties.getAiTimeoutSeconds(), TimeUnit.SECONDS)
+            .handle((generated, e) -> {
+                if (e != null) {
+                    log.warn("AI suggestions failed for a batch item: {}", e.getMessage());
+                    analysis.setAiSuggestionsStatus("FAILED");
+                } else if (generated != null) {
+                    analysis.setAiSuggestions(generated);
+                    analysis.setAiSuggestionsStatus("COMPLETED");
+                } else {
+                    analysis.setAiSuggestionsStatus("PENDING");
+                }
+                return analysis;
+            });
+    }
+
+    /**
+     * Run the task on the batch's executor and complete the result with it.
+     * The item timeout is armed when the task starts; a task whose result was
+     * already completed (by the batch timeout) or whose batch was cancelled
+     * is skipped.
+     */
+    private <T> CompletableFuture<T> submit(Batch batch, CompletableFuture<T> result, Supplier<T> task) {
+        Duration itemTimeout = Duration.ofSeconds(properties.getItemTimeoutSeconds());
+        try {
+            batch.executor.execute(() -> {
+                if (batch.cancelled) {
+                    result.cancel(false);
+                }
+                if (result.isDone()) {
+                    return;
+                }
+                result.orTimeout(itemTimeout.toMillis(), TimeUnit.MILLISECONDS);
+                try {
+                    result.complete(task.get());
+                } catch (Throwable e) {
+                    result.completeExceptionally(e);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+        return result;
+    }
+
+    private static String describe(Batch batch, Throwable error) {
+        if (error instanceof CompletionException && error.getCause() != null) {
+            error = error.getCause();
+        }
+        if (error instanceof TimeoutException) {
+            return batch.isExpired() ? "batch timed out" : "item timed out";
+        }
+        if (error instanceof CancellationException) {
+            return "cancelled";
+        }
+        if (error instanceof RejectedExecutionException) {
+            return "batch capacity exceeded, retry later";
+        }
+        return error.getMessage();
+    }
+
+    private static long toMillis(long nanos) {
+        return TimeUnit.NANOSECONDS.toMillis(nanos);
+    }
+
+    /**
+     * State shared by the items of one batch: the executor they run on, the
+     * batch deadline, and job description skills by job description text.
+     */
+    public static final class Batch {
+        private final Executor executor;
+        private final long deadline;
+        private final boolean bounded;
+        private final int maxSharedJobDescriptions;
+        private final Map<String, CompletableFuture<Set<String>>> jobSkills = new ConcurrentHashMap<>();
+        private volatile boolean cancelled;
+
+        private Batch(Executor executor, Duration timeout, int maxSharedJobDescriptions) {
+            this.executor = executor;
+            this.maxSharedJobDescriptions = maxSharedJobDescriptions;
+            this.bounded = timeout != null;
+            this.deadline = bounded ? System.nanoTime() + timeout.toNanos() : 0;
+        }
+
+        /**
+         * Items not started yet are skipped and reported as cancelled;
+         * running items finish.
+         */
+        public void cancel() {
+            cancelled = true;
+        }
+
+        private boolean isExpired() {
+            return bounded && System.nanoTime() - deadline >= 0;
+        }
+
+        private <T> CompletableFuture<T> arm(CompletableFuture<T> future) {
+            return bounded ? future.orTimeout(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS) : future;
+        }
+    }
+}
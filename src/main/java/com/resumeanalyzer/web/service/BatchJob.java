@@ -0,0 +1,146 @@
+package com.resumeanalyzer.web.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+
+/**
+ * An asynchronous batch job: progress counters and the results of the items
+ * finished so far, in completion order.
+ *
+ * Results are appended by worker threads; readers either take a snapshot or
+ * block in {@link #awaitResults(int, long)} until results past their cursor
+ * are available, which is how result streams follow a running job.
+ */
+public class BatchJob {
+
+    public enum Status {
+        RUNNING,
+        COMPLETED,
+        CANCELLED
+    }
+
+    private final String id;
+    private final int totalItems;
+    private final Instant createdAt;
+    private final List<BatchAnalysisResponse.Item> results;
+    private final BatchAnalysisService.Batch batch;
+    private Status status = Status.RUNNING;
+    private int successCount;
+    private int failureCount;
+    private Instant finishedAt;
+    private Instant expiresAt;
+
+    BatchJob(String id, int totalItems, BatchAnalysisService.Batch batch) {
+        this.id = id;
+        this.totalItems = totalItems;
+        this.batch = batch;
+        this.createdAt = Instant.now();
+        this.results = new ArrayList<>(totalItems);
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getTotalItems() {
+        return totalItems;
+    }
+
+    public Instant getCreatedAt() {
+        return createdAt;
+    }
+
+    public synchronized Status getStatus() {
+        return status;
+    }
+
+    public synchronized int getCompletedItems() {
+        return results.size();
+    }
+
+    public synchronized int getSuccessCount() {
+        return successCount;
+    }
+
+    public synchronized int getFailureCount() {
+        return failureCount;
+    }
+
+    public synchronized Instant getFinishedAt() {
+        return finishedAt;
+    }
+
+    public synchronized Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public synchronized boolean isFinished() {
+        return status != Status.RUNNING;
+    }
+
+    /**
+     * Wait until results past {@code from} are available or the job has
+     * finished, for at most the given time.
+     *
+     * @param from number of results the caller has already seen
+     * @param timeoutMillis maximum time to wait
+     * @return results from position {@code from} on, possibly empty
+     */
+    public synchronized List<BatchAnalysisResponse.Item> awaitResults(int from, long timeoutMillis)
+            throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMillis;
+        long remaining = timeoutMillis;
+        while (results.size() <= from && status == Status.RUNNING && remaining > 0) {
+            wait(remaining);
+            remaining = deadline - System.currentTimeMillis();
+        }
+        return from < results.size() ? new ArrayList<>(results.subList(from, results.size())) : List.of();
+    }
+
+    /**
+     * Record a finished item.
+     *
+     * @return true if this was the job's last item
+     */
+    synchronized boolean add(BatchAnalysisResponse.Item result, Duration resultTtl) {
+        if (status != Status.RUNNING) {
+            return false;
+        }
+        results.add(result);
+        if (result.isSuccess()) {
+            successCount++;
+        } else {
+            failureCount++;
+        }
+        boolean last = results.size() == totalItems;
+        if (last) {
+            finish(Status.COMPLETED, resultTtl);
+        }
+        notifyAll();
+        return last;
+    }
+
+    synchronized boolean cancel(Duration resultTtl) {
+        if (status != Status.RUNNING) {
+            return false;
+        }
+        batch.cancel();
+        finish(Status.CANCELLED, resultTtl);
+        notifyAll();
+        return true;
+    }
+
+    synchronized boolean isExpired(Instant now) {
+        return expiresAt != null && now.isAfter(expiresAt);
+    }
+
+    private void finish(Status finalStatus, Duration resultTtl) {
+        status = finalStatus;
+        finishedAt = Instant.now();
+        expiresAt = finishedAt.plus(resultTtl);
+    }
+}
@@ -0,0 +1,147 @@
+package com.resumeanalyzer.web.service;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.resumeanalyzer.config.BatchProcessingProperties;
+import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+
+/**
+ * Runs asynchronous batch jobs on the batch job worker pool.
+ *
+ * A submitted job starts immediately. It keeps at most
+ * batch.processing.jobs.max-in-flight-per-job items queued or running, and
+ * starts the next item whenever one finishes, so concurrent jobs interleave
+ * on the workers instead of one job filling the queue. Jobs are kept in
+ * memory on the node that runs them; finished jobs are dropped once their
+ * result TTL has passed.
+ */
+@Service
+public class BatchJobService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchJobService.class);
+
+    private final BatchAnalysisService batchAnalysisService;
+    private final Executor workerExecutor;
+    private final BatchProcessingProperties.Jobs properties;
+    private final Map<String, BatchJob> jobs = new ConcurrentHashMap<>();
+
+    @Autowired
+    public BatchJobService(BatchAnalysisService batchAnalysisService,
+                           @Qualifier("batchJobExecutor") Executor workerExecutor,
+                           BatchProcessingProperties properties) {
+        this.batchAnalysisService = batchAnalysisService;
+        this.workerExecutor = workerExecutor;
+        this.properties = properties.getJobs();
+    }
+
+    public int getMaxItems() {
+        return properties.getMaxItems();
+    }
+
+    /**
+     * Start a job for the given items.
+     *
+     * @param items resume-job pairs, analyzed independently
+     * @return the running job
+     * @throws RejectedExecutionException if batch.processing.jobs.max-active-jobs jobs are already running
+     */
+    public synchronized BatchJob submit(List<BatchAnalysisRequest.Item> items) {
+        long active = jobs.values().stream().filter(job -> !job.isFinished()).count();
+        if (active >= properties.getMaxActiveJobs()) {
+            throw new RejectedExecutionException("Too many batch jobs running (" + active + "), retry later");
+        }
+        BatchAnalysisService.Batch batch = batchAnalysisService.newBatch(workerExecutor, null);
+        BatchJob job = new BatchJob(UUID.randomUUID().toString(), items.size(), batch);
+        jobs.put(job.getId(), job);
+        log.info("Batch job {} started with {} items", job.getId(), items.size());
+
+        AtomicInteger next = new AtomicInteger();
+        int lanes = Math.max(1, Math.min(properties.getMaxInFlightPerJob(), items.size()));
+        for (int i = 0; i < lanes; i++) {
+            runLane(job, batch, items, next);
+        }
+        return job;
+    }
+
+    public Optional<BatchJob> get(String id) {
+        BatchJob job = jobs.get(id);
+        if (job == null || job.isExpired(Instant.now())) {
+            return Optional.empty();
+        }
+        return Optional.of(job);
+    }
+
+    /**
+     * Cancel a running job. Items already running finish, but their results
+     * are discarded; the job keeps the results it had.
+     *
+     * @return the job, or empty if it does not exist
+     */
+    public Optional<BatchJob> cancel(String id) {
+        Optional<BatchJob> job = get(id);
+        job.ifPresent(found -> {
+            if (found.cancel(properties.getResultTtl())) {
+                log.info("Batch job {} cancelled after {}/{} items", id, found.getCompletedItems(), found.getTotalItems());
+            }
+        });
+        return job;
+    }
+
+    /**
+     * Drop finished jobs whose result TTL has passed.
+     */
+    @Scheduled(fixedDelay = 60000)
+    public void evictExpiredJobs() {
+        Instant now = Instant.now();
+        jobs.values().removeIf(job -> job.isExpired(now));
+    }
+
+    /**
+     * Start items one after another until none are left: each lane has one
+     * item in flight. Items that complete immediately (invalid input) are
+     * recorded inline; otherwise the lane continues from the item's
+     * completion callback.
+     */
+    private void runLane(BatchJob job, BatchAnalysisService.Batch batch,
+                         List<BatchAnalysisRequest.Item> items, AtomicInteger next) {
+        while (!job.isFinished()) {
+            int index = next.getAndIncrement();
+            if (index >= items.size()) {
+                return;
+            }
+            CompletableFuture<BatchAnalysisResponse.Item> result = batchAnalysisService.analyze(batch, index, items.get(index));
+            if (!result.isDone()) {
+                result.thenAccept(item -> {
+                    record(job, item);
+                    runLane(job, batch, items, next);
+                });
+                return;
+            }
+            record(job, result.join());
+        }
+    }
+
+    private void record(BatchJob job, BatchAnalysisResponse.Item item) {
+        if (job.add(item, properties.getResultTtl())) {
+            log.info("Batch job {} completed: {} successful, {} failed",
+                    job.getId(), job.getSuccessCount(), job.getFailureCount());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.resumeanalyzer.web.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.resumeanalyzer.config.BatchProcessingProperties;
+import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+
+/**
+ * Analyzes batches uploaded as NDJSON, one resume-job pair per line,
+ * writing one NDJSON result per item back as items complete.
+ *
+ * Items are parsed one at a time with the Jackson streaming parser and run
+ * on the batch job workers. At most batch.processing.stream.max-in-flight
+ * items are parsed but not yet written back; at that limit the reader stops
+ * consuming the request body until a result has been written, so a slow
+ * batch throttles the upload through TCP flow control. Memory per upload is
+ * therefore bounded by the in-flight limit, not by the number of items.
+ *
+ * Results are written in completion order and carry the item's position in
+ * the upload. A malformed line ends the upload: a failed result for that
+ * position is written after the results of the items already read.
+ */
+@Service
+public class BatchStreamService {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchStreamService.class);
+    private static final byte[] NEWLINE = {'\n'};
+
+    private final BatchAnalysisService batchAnalysisService;
+    private final Executor workerExecutor;
+    private final BatchProcessingProperties.Streaming properties;
+    private final ObjectMapper objectMapper;
+    private final ObjectReader itemReader;
+
+    @Autowired
+    public BatchStreamService(BatchAnalysisService batchAnalysisService,
+                              @Qualifier("batchJobExecutor") Executor workerExecutor,
+                              BatchProcessingProperties properties,
+                              ObjectMapper objectMapper) {
+        this.batchAnalysisService = batchAnalysisService;
+        this.workerExecutor = workerExecutor;
+        this.properties = properties.getStream();
+        this.objectMapper = objectMapper;
+        this.itemReader = objectMapper.readerFor(BatchAnalysisRequest.Item.class);
+    }
+
+    /**
+     * Analyze every item read from the input and write its result to the output.
+     *
+     * @param input NDJSON request body
+     * @param output NDJSON response body
+     * @return number of items read
+     * @throws IOException if the request body cannot be read or the client has gone away
+     */
+    public int analyze(InputStream input, OutputStream output) throws IOException {
+        long start = System.nanoTime();
+        int maxInFlight = Math.max(1, properties.getMaxInFlight());
+        BatchAnalysisService.Batch batch = batchAnalysisService.newBatch(
+            workerExecutor, null, properties.getMaxSharedJobDescriptions());
+        BlockingQueue<BatchAnalysisResponse.Item> completed = new LinkedBlockingQueue<>();
+        int index = 0;
+        int inFlight = 0;
+        int failed = 0;
+
+        try (MappingIterator<BatchAnalysisRequest.Item> items = itemReader.readValues(input)) {
+            while (true) {
+                BatchAnalysisRequest.Item item;
+                try {
+                    if (!items.hasNextValue()) {
+                        break;
+                    }
+                    item = items.nextValue();
+                } catch (JsonProcessingException e) {
+                    log.warn("Malformed NDJSON batch record at position {}: {}", index, e.getOriginalMessage());
+                    for (; inFlight > 0; inFlight--) {
+                        failed += write(output, completed.take());
+                    }
+                    BatchAnalysisResponse.Item invalid = new BatchAnalysisResponse.Item(
+                        null, false, "Analysis failed: malformed record, upload stopped: " + e.getOriginalMessage(), null, 0);
+                    invalid.setIndex(index);
+                    failed += write(output, invalid);
+                    break;
+                }
+
+                // Backpressure: stop reading until a slot is free
+                for (; inFlight >= maxInFlight; inFlight--) {
+                    output.flush();
+                    failed += write(output, completed.take());
+                }
+                batchAnalysisService.analyze(batch, index++, item).thenAccept(completed::add);
+                inFlight++;
+
+                BatchAnalysisResponse.Item done;
+                while ((done = completed.poll()) != null) {
+                    failed += write(output, done);
+                    inFlight--;
+                }
+            }
+
+            for (; inFlight > 0; inFlight--) {
+                output.flush();
+                failed += write(output, completed.take());
+            }
+            output.flush();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            // Skip whatever has not started if the client went away
+            batch.cancel();
+        }
+
+        log.info("Streamed batch of {} items analyzed in {} ms: {} failed",
+                index, (System.nanoTime() - start) / 1_000_000, failed);
+        return index;
+    }
+
+    /**
+     * @return 1 if the result is a failure, for counting
+     */
+    private int write(OutputStream output, BatchAnalysisResponse.Item result) throws IOException {
+        output.write(objectMapper.writeValueAsBytes(result));
+        output.write(NEWLINE);
+        return result.isSuccess() ? 0 : 1;
+    }
+}
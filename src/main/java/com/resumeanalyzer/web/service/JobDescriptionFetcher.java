@@ -8,11 +8,18 @@ import java.util.List;
 
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 
+import com.resumeanalyzer.concurrent.SingleFlight;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
+
 /**
  * Fetches and cleans job description text from supported job posting URLs.
  * Currently supports LinkedIn and Internshala job links.
+ * Concurrent requests for the same URL share a single fetch, and fetched
+ * text is cached per URL in the job-descriptions cache.
  */
 @Service
 public class JobDescriptionFetcher {
@@ -24,6 +31,15 @@ public class JobDescriptionFetcher {
             "www.internshala.com"
     );
 
+    private final SingleFlight<String> fetches;
+    private final int fetchTimeoutMillis;
+
+    public JobDescriptionFetcher(SingleFlightRegistry singleFlightRegistry,
+                                 @Value("${resume.analyzer.job-description.fetch-timeout-millis:8000}") int fetchTimeoutMillis) {
+        this.fetches = singleFlightRegistry.get("job-description-fetch");
+        this.fetchTimeoutMillis = fetchTimeoutMillis;
+    }
+
     /**
      * Retrieve visible text from a supported job description URL.
      *
@@ -32,6 +48,7 @@ public class JobDescriptionFetcher {
      * @throws IOException if the remote content cannot be fetched
      * @throws IllegalArgumentException if the URL is missing/unsupported
      */
+    @Cacheable(value = "job-descriptions", key = "#rawUrl", condition = "#rawUrl != null")
     public String fetchJobDescription(String rawUrl) throws IOException {
         if (rawUrl == null || rawUrl.isBlank()) {
             throw new IllegalArgumentException("Job description URL is required");
@@ -44,9 +61,13 @@ public class JobDescriptionFetcher {
             throw new IllegalArgumentException("Only LinkedIn or Internshala job URLs are supported");
         }
 
+        return fetches.execute(SingleFlight.contentKey(normalizedUrl), () -> fetch(normalizedUrl));
+    }
+
+    private String fetch(String normalizedUrl) throws IOException {
         Document document = Jsoup.connect(normalizedUrl)
                 .userAgent("Mozilla/5.0 (compatible; ResumeAnalyzer/1.0; +https://example.com)")
-                .timeout(8000)
+                .timeout(fetchTimeoutMillis)
                 .get();
 
         String text = extractVisibleText(document);
@@ -0,0 +1,135 @@
+package com.resumeanalyzer.web.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import com.resumeanalyzer.analysis.SkillSimilarityMatrix;
+import com.resumeanalyzer.analysis.pipeline.AnalysisContext;
+import com.resumeanalyzer.analysis.pipeline.AnalysisPipeline;
+import com.resumeanalyzer.config.ResumeAnalyzerProperties;
+import com.resumeanalyzer.exception.ValidationException;
+import com.resumeanalyzer.web.dto.ComparisonMatrixRequest;
+import com.resumeanalyzer.web.dto.ComparisonMatrixResponse;
+
+/**
+ * Compares every resume of a shortlist with every other one.
+ *
+ * Skills are extracted from all resumes in parallel on the analysis pool
+ * (and through the skill cache, so a shortlist compared twice is extracted
+ * once). The comparison itself runs on the calling thread over skill
+ * bitsets, see {@link SkillSimilarityMatrix}.
+ */
+@Service
+public class ResumeComparisonService {
+
+    private static final Logger log = LoggerFactory.getLogger(ResumeComparisonService.class);
+
+    private final AnalysisPipeline analysisPipeline;
+    private final Executor analysisExecutor;
+    private final ResumeAnalyzerProperties.Comparison properties;
+
+    @Autowired
+    public ResumeComparisonService(AnalysisPipeline analysisPipeline,
+                                   @Qualifier("analysisExecutor") Executor analysisExecutor,
+                                   ResumeAnalyzerProperties properties) {
+        this.analysisPipeline = analysisPipeline;
+        this.analysisExecutor = analysisExecutor;
+        this.properties = properties.getComparison();
+    }
+
+    /**
+     * Compare the candidates' skills pairwise.
+     *
+     * @param request candidates and an optional cluster threshold
+     * @return similarity matrices, clusters and unique skills in candidate order
+     * @throws ValidationException if there are fewer than 2 or too many candidates,
+     *         the threshold is out of range, or a resume is rejected
+     */
+    public ComparisonMatrixResponse compare(ComparisonMatrixRequest request) {
+        List<ComparisonMatrixRequest.Candidate> candidates = request.getCandidates();
+        int maxCandidates = properties.getMaxCandidates();
+        if (candidates == null || candidates.size() < 2) {
+            throw new ValidationException("At least 2 candidates are required for a comparison");
+        }
+        if (candidates.size() > maxCandidates) {
+            throw new ValidationException("Too many candidates: " + candidates.size() + " (maximum " + maxCandidates + ")");
+        }
+        double threshold = request.getClusterThreshold() != null
+                ? request.getClusterThreshold() : properties.getClusterThreshold();
+        if (threshold < 0 || threshold > 1) {
+            throw new ValidationException("Cluster threshold must be between 0 and 1");
+        }
+
+        long start = System.nanoTime();
+        List<String> ids = new ArrayList<>(candidates.size());
+        List<CompletableFuture<Set<String>>> extractions = new ArrayList<>(candidates.size());
+        for (int i = 0; i < candidates.size(); i++) {
+            ComparisonMatrixRequest.Candidate candidate = candidates.get(i);
+            String id = candidate != null && candidate.getId() != null ? candidate.getId() : "candidate-" + i;
+            String text = candidate != null ? candidate.getResumeText() : null;
+            ids.add(id);
+            extractions.add(CompletableFuture.supplyAsync(() -> extract(id, text), analysisExecutor));
+        }
+
+        List<Set<String>> profiles = new ArrayList<>(extractions.size());
+        try {
+            for (CompletableFuture<Set<String>> extraction : extractions) {
+                profiles.add(extraction.join());
+            }
+        } catch (CompletionException e) {
+            extractions.forEach(extraction -> extraction.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+        long extracted = System.nanoTime();
+
+        SkillSimilarityMatrix matrix = SkillSimilarityMatrix.of(profiles);
+        int n = matrix.size();
+        double[][] jaccard = new double[n][n];
+        double[][] overlap = new double[n][n];
+        List<ComparisonMatrixResponse.CandidateSummary> summaries = new ArrayList<>(n);
+        for (int i = 0; i < n; i++) {
+            for (int j = 0; j < n; j++) {
+                jaccard[i][j] = round(matrix.jaccard(i, j));
+                overlap[i][j] = round(matrix.overlap(i, j));
+            }
+            summaries.add(new ComparisonMatrixResponse.CandidateSummary(
+                    ids.get(i), matrix.skillCount(i), matrix.uniqueSkills(i)));
+        }
+        List<List<String>> clusters = matrix.clusters(threshold).stream()
+                .map(cluster -> cluster.stream().map(ids::get).toList())
+                .toList();
+        long finished = System.nanoTime();
+
+        long extractionMs = (extracted - start) / 1_000_000;
+        long matrixMs = (finished - extracted) / 1_000_000;
+        log.info("Compared {} candidates into {} clusters: extraction {} ms, matrix {} ms",
+                n, clusters.size(), extractionMs, matrixMs);
+        return new ComparisonMatrixResponse(ids, summaries, jaccard, overlap, clusters,
+                threshold, extractionMs, matrixMs);
+    }
+
+    private Set<String> extract(String id, String text) {
+        try {
+            return analysisPipeline.analyze(AnalysisContext.DocumentType.RESUME, text).getSkills();
+        } catch (ValidationException e) {
+            throw new ValidationException("Candidate " + id + ": " + e.getMessage(), e);
+        }
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 10_000) / 10_000.0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.resumeanalyzer.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for pairwise similarity, unique skills and clustering of {@link SkillSimilarityMatrix}.
+ */
+@DisplayName("SkillSimilarityMatrix Tests")
+class SkillSimilarityMatrixTest {
+
+    @Test
+    @DisplayName("Jaccard and overlap should match set arithmetic and be symmetric")
+    void testSimilarities() {
+        SkillSimilarityMatrix matrix = SkillSimilarityMatrix.of(List.of(
+            Set.of("Java", "Spring", "SQL", "Docker"),
+            Set.of("Java", "Spring"),
+            Set.of("Python"),
+            Set.of()));
+
+        assertEquals(4, matrix.skillCount(0));
+        assertEquals(0.5, matrix.jaccard(0, 1), 1e-9);
+        assertEquals(0.5, matrix.jaccard(1, 0), 1e-9);
+        assertEquals(1.0, matrix.overlap(0, 1), 1e-9);
+        assertEquals(0.0, matrix.jaccard(0, 2), 1e-9);
+        assertEquals(1.0, matrix.jaccard(2, 2), 1e-9);
+        assertEquals(0.0, matrix.jaccard(3, 3), 1e-9, "empty profiles are not similar");
+    }
+
+    @Test
+    @DisplayName("Unique skills should be those no other profile has")
+    void testUniqueSkills() {
+        SkillSimilarityMatrix matrix = SkillSimilarityMatrix.of(List.of(
+            Set.of("Java", "Spring", "Kafka"),
+            Set.of("Java", "Spring", "Go"),
+            Set.of("Go", "Terraform", "AWS")));
+
+        assertEquals(List.of("Kafka"), matrix.uniqueSkills(0));
+        assertEquals(List.of(), matrix.uniqueSkills(1));
+        assertEquals(List.of("AWS", "Terraform"), matrix.uniqueSkills(2));
+    }
+
+    @Test
+    @DisplayName("Clusters should link profiles transitively and put the largest first")
+    void testClusters() {
+        SkillSimilarityMatrix matrix = SkillSimilarityMatrix.of(List.of(
+            Set.of("Python", "Pandas"),
+            Set.of("Java", "Spring"),
+            Set.of("Java", "Spring", "SQL"),
+            Set.of("SQL", "Spring", "Docker")));
+
+        assertEquals(List.of(List.of(1, 2, 3), List.of(0)), matrix.clusters(0.5));
+        assertEquals(4, matrix.clusters(1.0).size());
+    }
+
+    @Test
+    @DisplayName("Profiles spanning several bitset words should be compared correctly")
+    void testManySkills() {
+        List<Set<String>> profiles = IntStream.range(0, 200)
+            .mapToObj(i -> IntStream.range(i, i + 100).mapToObj(s -> "skill-" + s).collect(Collectors.toSet()))
+            .collect(Collectors.toList());
+
+        SkillSimilarityMatrix matrix = SkillSimilarityMatrix.of(profiles);
+
+        assertEquals(200, matrix.size());
+        assertEquals(50.0 / 150.0, matrix.jaccard(0, 50), 1e-9);
+        assertEquals(0.5, matrix.overlap(10, 60), 1e-9);
+        assertEquals(0.0, matrix.jaccard(0, 150), 1e-9);
+        assertEquals(List.of("skill-0"), matrix.uniqueSkills(0));
+    }
+}
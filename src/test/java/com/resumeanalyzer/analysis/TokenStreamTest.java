@@ -0,0 +1,55 @@
+package com.resumeanalyzer.analysis;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for single-pass tokenization of {@link TokenStream}.
+ */
+@DisplayName("TokenStream Tests")
+class TokenStreamTest {
+
+    @Test
+    @DisplayName("Tokens should be lowercased alphanumeric runs with their offsets and lines")
+    void testTokensAndOffsets() {
+        String text = "Java/Spring-Boot dev\n5+ years, C++";
+        TokenStream tokens = TokenStream.of(text);
+
+        assertEquals(List.of("java", "spring", "boot", "dev", "5", "years", "c"),
+            IntStream.range(0, tokens.size()).mapToObj(tokens::token).toList());
+        assertEquals("Spring", text.substring(tokens.start(1), tokens.end(1)));
+        assertEquals(0, tokens.line(3));
+        assertEquals(1, tokens.line(4));
+        assertEquals(Set.of("java", "spring", "boot", "dev", "5", "years", "c"), tokens.tokenSet());
+    }
+
+    @Test
+    @DisplayName("Null and empty text should produce no tokens")
+    void testEmpty() {
+        assertEquals(0, TokenStream.of(null).size());
+        assertEquals(0, TokenStream.of("  -- \n").size());
+        assertFalse(TokenStream.of("plain").containsNullByte());
+        assertTrue(TokenStream.of("a\0b").containsNullByte());
+    }
+
+    @Test
+    @DisplayName("Short lines of heading words should start sections")
+    void testSections() {
+        TokenStream tokens = TokenStream.of("Jane Doe\nSUMMARY\nBackend engineer\nTechnical Skills:\nJava, SQL\n"
+            + "Work Experience\nAcme 2019-2024\nEducation\nBSc");
+
+        List<TokenStream.Section> sections = tokens.sections();
+
+        assertEquals(List.of("summary", "technical skills", "work experience", "education"),
+            sections.stream().map(TokenStream.Section::getHeading).toList());
+        TokenStream.Section skills = sections.get(1);
+        assertEquals(List.of("java", "sql"),
+            IntStream.range(skills.getFrom(), skills.getTo()).mapToObj(tokens::token).toList());
+    }
+}
@@ -0,0 +1,69 @@
+package com.resumeanalyzer.analysis.pipeline;
+
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
+import com.resumeanalyzer.exception.ValidationException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Tests for stage ordering and the shared token stream of {@link AnalysisPipeline}.
+ */
+@DisplayName("Analysis Pipeline Tests")
+class AnalysisPipelineTest {
+
+    private final List<String> tokenStreams = new ArrayList<>();
+    private AnalysisPipeline pipeline;
+
+    @BeforeEach
+    void setUp() {
+        AnalysisStage recorder = context -> tokenStreams.add(String.valueOf(System.identityHashCode(context.tokens())));
+        pipeline = new AnalysisPipeline(List.of(
+            new ValidationStage(),
+            recorder,
+            new SkillExtractionStage(new CacheableSkillExtractor(new SingleFlightRegistry(mock(ObjectProvider.class)))),
+            recorder,
+            new StructuredFieldsStage()));
+    }
+
+    @Test
+    @DisplayName("A resume should be validated, skill-extracted and structured from one token stream")
+    void testResumeStages() {
+        AnalysisContext context = pipeline.analyze(AnalysisContext.DocumentType.RESUME,
+            "Summary\nJava developer with 6 years of Spring and SQL experience, 2 years leading a team");
+
+        assertTrue(context.getSkills().contains("Java"));
+        assertTrue(context.getSkills().contains("SQL"));
+        assertEquals(6, context.getYearsOfExperience());
+        assertEquals(List.of("summary"), context.getSections());
+        assertEquals(2, tokenStreams.size());
+        assertEquals(tokenStreams.get(0), tokenStreams.get(1), "every stage should read the same tokens");
+    }
+
+    @Test
+    @DisplayName("Resume-only stages should not run for job descriptions")
+    void testJobDescriptionStages() {
+        AnalysisContext context = pipeline.analyze(AnalysisContext.DocumentType.JOB_DESCRIPTION,
+            "Hiring a Java engineer with 3 years of experience");
+
+        assertTrue(context.getSkills().contains("Java"));
+        assertNull(context.getYearsOfExperience());
+    }
+
+    @Test
+    @DisplayName("A rejected document should stop the pipeline")
+    void testValidationStopsPipeline() {
+        assertThrows(ValidationException.class, () -> pipeline.analyze(AnalysisContext.DocumentType.RESUME,
+            "Java developer <script>alert(1)</script>"));
+        assertThrows(ValidationException.class, () -> pipeline.analyze(AnalysisContext.DocumentType.JOB_DESCRIPTION, null));
+        assertTrue(tokenStreams.isEmpty());
+    }
+}
@@ -0,0 +1,140 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.concurrent.CircuitBreaker;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for fallback behaviour of {@link CircuitBreakingCache}.
+ */
+@DisplayName("Circuit Breaking Cache Tests")
+class CircuitBreakingCacheTest {
+
+    private FlakyCache remote;
+    private ConcurrentMapCache local;
+    private CircuitBreaker breaker;
+    private CircuitBreakingCache cache;
+
+    @BeforeEach
+    void setUp() {
+        remote = new FlakyCache();
+        local = new ConcurrentMapCache("skills");
+        breaker = new CircuitBreaker("redis", 10, 3, 50, null, Duration.ofSeconds(10), null);
+        cache = new CircuitBreakingCache(remote, local, breaker);
+    }
+
+    @Test
+    @DisplayName("Calls should reach the remote cache while it is healthy")
+    void testHealthyPassThrough() {
+        cache.put("k", "v");
+
+        assertEquals("v", remote.get("k").get());
+        assertEquals("v", cache.get("k").get());
+        assertNull(local.get("k"));
+    }
+
+    @Test
+    @DisplayName("Remote failures should fall back to the local cache and open the circuit")
+    void testFallsBackAndOpens() {
+        remote.down = true;
+
+        cache.put("k", "v");
+        assertEquals("v", cache.get("k").get());
+        assertNull(cache.get("missing"));
+        assertTrue(breaker.isOpen());
+
+        int attempts = remote.calls.get();
+        cache.put("k2", "v2");
+        cache.get("k2");
+        assertEquals(attempts, remote.calls.get(), "open circuit must not call the remote cache");
+        assertEquals("v2", local.get("k2").get());
+    }
+
+    @Test
+    @DisplayName("Loader results should be served and kept locally when the remote cache fails")
+    void testLoaderWhileDown() {
+        remote.down = true;
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("loaded", cache.get("k", () -> {
+            loads.incrementAndGet();
+            return "loaded";
+        }));
+        assertEquals("loaded", cache.get("k", () -> {
+            loads.incrementAndGet();
+            return "again";
+        }));
+        assertEquals(1, loads.get());
+    }
+
+    @Test
+    @DisplayName("Loader failures should propagate without counting against the remote cache")
+    void testLoaderFailureNotCharged() {
+        for (int i = 0; i < 5; i++) {
+            assertThrows(Cache.ValueRetrievalException.class,
+                () -> cache.get("k", () -> {
+                    throw new IllegalStateException("AI service down");
+                }));
+        }
+
+        assertFalse(breaker.isOpen());
+        assertEquals(0, breaker.getFailureRate());
+    }
+
+    @Test
+    @DisplayName("Without a fallback cache, reads should miss and writes be skipped")
+    void testSkipWithoutFallback() {
+        CircuitBreakingCache skipping = new CircuitBreakingCache(remote, null, breaker);
+        remote.down = true;
+
+        skipping.put("k", "v");
+        assertNull(skipping.get("k"));
+        assertEquals("direct", skipping.get("k", () -> "direct"));
+    }
+
+    /**
+     * In-memory cache that throws like an unreachable Redis when down.
+     */
+    private static final class FlakyCache extends ConcurrentMapCache {
+        final AtomicInteger calls = new AtomicInteger();
+        volatile boolean down;
+
+        FlakyCache() {
+            super("skills");
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            check();
+            return super.lookup(key);
+        }
+
+        @Override
+        public <T> T get(Object key, Callable<T> valueLoader) {
+            check();
+            return super.get(key, valueLoader);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            check();
+            super.put(key, value);
+        }
+
+        private void check() {
+            calls.incrementAndGet();
+            if (down) {
+                throw new IllegalStateException("Redis command timed out");
+            }
+        }
+    }
+}
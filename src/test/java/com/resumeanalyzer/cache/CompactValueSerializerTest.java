@@ -0,0 +1,96 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.analysis.SkillMatcher;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.serializer.JdkSerializationRedisSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the compact binary codec used for Redis cache values.
+ */
+@DisplayName("Compact Value Serializer Tests")
+class CompactValueSerializerTest {
+
+    private final CompactValueSerializer serializer = new CompactValueSerializer();
+
+    @Test
+    @DisplayName("Common cached value types should round-trip")
+    void testRoundTrip() {
+        SkillMatcher.Result result = new SkillMatcher.Result(
+            new LinkedHashSet<>(List.of("Java", "Spring")), new LinkedHashSet<>(List.of("Docker")), 66.7);
+
+        assertEquals("résumé text", roundTrip("résumé text"));
+        assertEquals(Set.of("Java", "Go"), roundTrip(new LinkedHashSet<>(List.of("Java", "Go"))));
+        assertEquals(List.of("b", "a", "b"), roundTrip(new ArrayList<>(List.of("b", "a", "b"))));
+        assertEquals(-42, roundTrip(-42));
+        assertEquals(Long.MAX_VALUE, roundTrip(Long.MAX_VALUE));
+        assertEquals(3.25, roundTrip(3.25));
+        assertEquals(true, roundTrip(true));
+        assertEquals(NullValue.INSTANCE, roundTrip(NullValue.INSTANCE));
+
+        SkillMatcher.Result copy = (SkillMatcher.Result) roundTrip(result);
+        assertEquals(result.getMatchedSkills(), copy.getMatchedSkills());
+        assertEquals(result.getMissingSkills(), copy.getMissingSkills());
+        assertEquals(result.getMatchPercentage(), copy.getMatchPercentage());
+    }
+
+    @Test
+    @DisplayName("Stale-while-revalidate entries should round-trip with the compact encoding")
+    void testRevalidateEntryRoundTrip() {
+        List<String> suggestions = new ArrayList<>(List.of("Add AWS certification", "Quantify your impact"));
+        StaleWhileRevalidateCache.Entry entry = new StaleWhileRevalidateCache.Entry(suggestions, 1_700_000_000_000L);
+
+        assertEquals(entry, roundTrip(entry));
+        assertEquals(new StaleWhileRevalidateCache.Entry(null, 5L),
+            roundTrip(new StaleWhileRevalidateCache.Entry(null, 5L)));
+
+        int compact = serializer.serialize(entry).length;
+        int jdk = new JdkSerializationRedisSerializer().serialize(entry).length;
+        assertTrue(compact * 3 < jdk, "compact=" + compact + " jdk=" + jdk);
+    }
+
+    @Test
+    @DisplayName("Large values should be compressed, small ones left as is")
+    void testCompressionThreshold() {
+        String large = "Experienced Java developer with Spring Boot and Kubernetes. ".repeat(200);
+
+        byte[] compressed = serializer.serialize(large);
+        assertTrue(compressed.length < large.length() / 4);
+        assertEquals(large, serializer.deserialize(compressed));
+
+        byte[] plain = new CompactValueSerializer(CompactValueSerializer.Compression.NONE, 1024).serialize(large);
+        assertTrue(plain.length > large.length());
+        assertEquals(large, serializer.deserialize(plain));
+    }
+
+    @Test
+    @DisplayName("Entries written by the JDK serializer should remain readable")
+    void testReadsLegacyJdkEntries() {
+        Set<String> skills = new LinkedHashSet<>(List.of("Python", "SQL"));
+        byte[] legacy = new JdkSerializationRedisSerializer().serialize(skills);
+
+        assertEquals(skills, serializer.deserialize(legacy));
+    }
+
+    @Test
+    @DisplayName("Skill sets should encode smaller than JDK serialization")
+    void testSmallerThanJdk() {
+        Set<String> skills = new LinkedHashSet<>(List.of("Java", "Spring", "Docker", "Kubernetes", "SQL"));
+
+        int compact = serializer.serialize(skills).length;
+        int jdk = new JdkSerializationRedisSerializer().serialize(skills).length;
+        assertTrue(compact * 3 < jdk, "compact=" + compact + " jdk=" + jdk);
+    }
+
+    private Object roundTrip(Object value) {
+        return serializer.deserialize(serializer.serialize(value));
+    }
+}
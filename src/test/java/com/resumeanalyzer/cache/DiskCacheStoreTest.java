@@ -0,0 +1,226 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.config.CachingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.cache.Cache;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for persistence, compaction and recovery of {@link DiskCacheStore}.
+ */
+@DisplayName("Disk Cache Store Tests")
+class DiskCacheStoreTest {
+
+    private static final long MAX_BYTES = 4L * 1024 * 1024;
+
+    @TempDir
+    Path directory;
+
+    private DiskCacheStore store;
+
+    @BeforeEach
+    void setUp() {
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.close();
+    }
+
+    @Test
+    @DisplayName("Stored values should be readable and overwritable")
+    void testPutAndGet() {
+        store.put("a", bytes("one"), 0);
+        store.put("b", bytes("two"), 0);
+        store.put("a", bytes("three"), 0);
+
+        assertEquals("three", text(store.get("a")));
+        assertEquals("two", text(store.get("b")));
+        assertNull(store.get("c"));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    @DisplayName("A grown and compacted index should replace the old one and survive a reopen")
+    void testIndexReplacedOnResizeAndCompaction() throws IOException {
+        for (int i = 0; i < 3000; i++) {
+            store.put("key-" + i, bytes("value-" + i), 0);
+        }
+        store.compact();
+        store.close();
+
+        store = open();
+
+        assertEquals(3000, store.size());
+        assertEquals("value-2999", text(store.get("key-2999")));
+        try (var files = Files.list(directory)) {
+            assertTrue(files.noneMatch(file -> file.getFileName().toString().endsWith(".tmp")));
+        }
+    }
+
+    @Test
+    @DisplayName("Entries and removals should survive a reopen")
+    void testSurvivesReopen() throws IOException {
+        store.put("kept", bytes("value"), 0);
+        store.put("removed", bytes("gone"), 0);
+        assertTrue(store.remove("removed"));
+        store.close();
+
+        store = open();
+
+        assertEquals("value", text(store.get("kept")));
+        assertNull(store.get("removed"));
+        assertEquals(1, store.size());
+    }
+
+    @Test
+    @DisplayName("Expired entries should read as missing")
+    void testExpiry() {
+        store.put("old", bytes("value"), System.currentTimeMillis() - 1);
+        store.put("fresh", bytes("value"), System.currentTimeMillis() + 60_000);
+
+        assertNull(store.get("old"));
+        assertEquals("value", text(store.get("fresh")));
+    }
+
+    @Test
+    @DisplayName("Overwritten records should be reclaimed by compaction")
+    void testCompactionReclaimsDeadRecords() throws IOException {
+        byte[] value = new byte[8 * 1024];
+        for (int i = 0; i < 300; i++) {
+            store.put("key-" + (i % 10), value, 0);
+        }
+        store.compact();
+
+        assertEquals(10, store.size());
+        assertTrue(store.logSize() < 20 * value.length, "log should hold little more than the live records");
+        store.close();
+
+        store = open();
+        assertEquals(10, store.size());
+        assertArrayEquals(value, store.get("key-3"));
+    }
+
+    @Test
+    @DisplayName("Writes made while a background compaction runs should be kept")
+    void testWritesDuringBackgroundCompaction() throws Exception {
+        store.close();
+        ExecutorService compactor = Executors.newSingleThreadExecutor();
+        store = new DiskCacheStore(directory, "skills", MAX_BYTES, 0.5, compactor);
+        Map<String, String> expected = new HashMap<>();
+        long written = 0;
+        for (int i = 0; i < 3000; i++) {
+            String key = "key-" + (i % 100);
+            if (i % 7 == 0) {
+                store.remove(key);
+                expected.remove(key);
+            } else {
+                byte[] value = Arrays.copyOf(bytes("value-" + i), 4096);
+                store.put(key, value, 0);
+                expected.put(key, "value-" + i);
+                written += value.length;
+            }
+        }
+        compactor.shutdown();
+        assertTrue(compactor.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertTrue(store.logSize() < written / 2, "compaction should have reclaimed overwritten records");
+        assertEquals(expected.size(), store.size());
+        for (int i = 0; i < 100; i++) {
+            String key = "key-" + i;
+            byte[] value = store.get(key);
+            assertEquals(expected.get(key), value != null ? text(value).trim() : null, key);
+        }
+        store.close();
+
+        store = open();
+        assertEquals(expected.size(), store.size());
+        expected.forEach((key, value) -> assertEquals(value, text(store.get(key)).trim()));
+    }
+
+    @Test
+    @DisplayName("The oldest entries should be evicted once the byte budget is exceeded")
+    void testEvictsOldestBeyondBudget() {
+        byte[] value = new byte[16 * 1024];
+        int count = (int) (MAX_BYTES / value.length) * 2;
+        for (int i = 0; i < count; i++) {
+            store.put("key-" + i, value, 0);
+        }
+
+        assertTrue(store.logSize() <= MAX_BYTES);
+        assertNull(store.get("key-0"));
+        assertNotNull(store.get("key-" + (count - 1)));
+    }
+
+    @Test
+    @DisplayName("A torn record at the tail of the log should be dropped on reopen")
+    void testRecoversFromTornTail() throws IOException {
+        store.put("complete", bytes("value"), 0);
+        store.close();
+
+        Files.write(directory.resolve("skills.log"), new byte[]{0x52, 0x41, 0x43, 0x52, 0, 0, 0, 9, 0},
+            StandardOpenOption.APPEND);
+
+        store = open();
+        assertEquals("value", text(store.get("complete")));
+        store.put("after", bytes("recovery"), 0);
+        store.close();
+
+        store = open();
+        assertEquals("recovery", text(store.get("after")));
+        assertEquals(2, store.size());
+    }
+
+    @Test
+    @DisplayName("Cached values should be served by a new manager after a restart")
+    void testManagerRestart() throws IOException {
+        store.close();
+        CachingProperties.Disk properties = new CachingProperties.Disk();
+        properties.setDirectory(directory.toString());
+
+        DiskCacheManager manager = new DiskCacheManager(properties, List.of("skills"), Runnable::run);
+        manager.getCache("skills").put("resume text", Set.of("Java", "Spring"));
+        manager.close();
+
+        manager = new DiskCacheManager(properties, List.of("skills"), Runnable::run);
+        Cache.ValueWrapper cached = manager.getCache("skills").get("resume text");
+        assertNotNull(cached);
+        assertEquals(Set.of("Java", "Spring"), cached.get());
+        assertNull(manager.getCache("resume-suggestions"));
+        manager.close();
+
+        store = open();
+    }
+
+    private DiskCacheStore open() {
+        return new DiskCacheStore(directory, "skills", MAX_BYTES, 0.5, Runnable::run);
+    }
+
+    private static byte[] bytes(String text) {
+        return text.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static String text(byte[] bytes) {
+        return bytes == null ? null : new String(bytes, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,92 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.config.CachingProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the counters and size estimates of {@link InstrumentedCache}.
+ */
+@DisplayName("Instrumented Cache Tests")
+class InstrumentedCacheTest {
+
+    private CacheStatisticsRegistry registry;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        CaffeineCacheManager local = new LocalCacheFactory(new CachingProperties.Local(), null)
+            .createCacheManager(List.of("skills"));
+        registry = new CacheStatisticsRegistry(null);
+        CacheManager instrumented = registry.instrument(local);
+        cache = instrumented.getCache("skills");
+    }
+
+    @Test
+    @DisplayName("Reads should be counted as hits or misses")
+    void testHitsAndMisses() {
+        cache.get("missing");
+        cache.put("java", "Java");
+        cache.get("java");
+        cache.get("java", String.class);
+
+        CacheStatistics statistics = registry.get("skills");
+        assertEquals(2, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertEquals(2.0 / 3, statistics.getHitRatio(), 1e-9);
+        assertEquals(1, statistics.getWrites());
+    }
+
+    @Test
+    @DisplayName("Loader calls should count as a miss and a timed load")
+    void testLoaderTiming() {
+        String first = cache.get("python", () -> {
+            Thread.sleep(5);
+            return "Python";
+        });
+        String second = cache.get("python", () -> "reloaded");
+
+        CacheStatistics statistics = registry.get("skills");
+        assertEquals("Python", first);
+        assertEquals("Python", second);
+        assertEquals(1, statistics.getLoads());
+        assertEquals(1, statistics.getHits());
+        assertEquals(1, statistics.getMisses());
+        assertTrue(statistics.getAverageLoadMillis() >= 5);
+    }
+
+    @Test
+    @DisplayName("Failed loads should be counted and rethrown")
+    void testLoadFailure() {
+        assertThrows(Cache.ValueRetrievalException.class, () -> cache.get("broken", () -> {
+            throw new IllegalStateException("boom");
+        }));
+
+        CacheStatistics statistics = registry.get("skills");
+        assertEquals(1, statistics.getLoads());
+        assertEquals(1, statistics.getLoadFailures());
+    }
+
+    @Test
+    @DisplayName("Entry count and bytes should come from the underlying Caffeine cache")
+    void testFootprint() {
+        cache.put("a", "x".repeat(1000));
+        cache.put("b", "y".repeat(1000));
+        cache.evict("b");
+        ((CaffeineCache) ((InstrumentedCache) cache).getDelegate()).getNativeCache().cleanUp();
+
+        CacheStatistics statistics = registry.get("skills");
+        assertEquals(1, statistics.getRemovals());
+        assertEquals(1, statistics.getEntryCount());
+        assertTrue(statistics.getEstimatedBytes() >= 1000);
+    }
+}
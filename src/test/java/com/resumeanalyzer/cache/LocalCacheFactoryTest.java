@@ -0,0 +1,86 @@
+package com.resumeanalyzer.cache;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.resumeanalyzer.analysis.SkillMatcher;
+import com.resumeanalyzer.config.CachingProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bounded local cache manager and its size estimates.
+ */
+@DisplayName("Local Cache Factory Tests")
+class LocalCacheFactoryTest {
+
+    private CaffeineCacheManager managerWithBudget(String cacheName, DataSize budget) {
+        CachingProperties.Local local = new CachingProperties.Local();
+        local.getCaches().put(cacheName, new CachingProperties.Spec(budget, null, Duration.ofMinutes(5), null));
+        return new LocalCacheFactory(local, null).createCacheManager(List.of(cacheName));
+    }
+
+    @Test
+    @DisplayName("Per-cache spec should inherit unset fields from defaults")
+    void testSpecMergesWithDefaults() {
+        CachingProperties.Local local = new CachingProperties.Local();
+        local.getCaches().put("skills", new CachingProperties.Spec(DataSize.ofMegabytes(2), null, null, null));
+
+        CachingProperties.Spec spec = local.specFor("skills");
+
+        assertEquals(DataSize.ofMegabytes(2), spec.getMaximumWeight());
+        assertEquals(local.getDefaults().getExpireAfterWrite(), spec.getExpireAfterWrite());
+        assertTrue(spec.getRecordStats());
+        assertSame(local.getDefaults(), local.specFor("unknown"));
+    }
+
+    @Test
+    @DisplayName("Cache should stay within its byte budget under unique traffic")
+    void testCacheIsBoundedByWeight() {
+        CaffeineCacheManager manager = managerWithBudget("skills", DataSize.ofKilobytes(64));
+        CaffeineCache cache = (CaffeineCache) manager.getCache("skills");
+        assertNotNull(cache);
+
+        for (int i = 0; i < 5_000; i++) {
+            cache.put(i, Set.of("Java" + i, "Spring" + i, "Docker" + i));
+        }
+        cache.getNativeCache().cleanUp();
+
+        var policy = cache.getNativeCache().policy().eviction().orElseThrow();
+        assertTrue(policy.weightedSize().orElseThrow() <= DataSize.ofKilobytes(64).toBytes());
+        CacheStats stats = cache.getNativeCache().stats();
+        assertTrue(stats.evictionCount() > 0, "Unique traffic should trigger evictions");
+    }
+
+    @Test
+    @DisplayName("Unknown cache names should be created with the default spec")
+    void testDynamicCacheCreation() {
+        CaffeineCacheManager manager = managerWithBudget("skills", DataSize.ofKilobytes(64));
+        Cache cache = manager.getCache("job-descriptions");
+
+        assertNotNull(cache);
+        cache.put("k", "v");
+        assertEquals("v", cache.get("k", String.class));
+    }
+
+    @Test
+    @DisplayName("Weigher should grow with collection contents")
+    void testWeigherEstimates() {
+        long small = CacheWeigher.estimate(Set.of("Java"));
+        long large = CacheWeigher.estimate(Set.of("Java", "Python", "Kubernetes", "Spring Boot"));
+        long result = CacheWeigher.estimate(new SkillMatcher().match(Set.of("Java"), Set.of("Java", "Go")));
+
+        assertTrue(large > small);
+        assertTrue(result > CacheWeigher.estimate(Set.of("Java")));
+        assertEquals(0, CacheWeigher.estimate(null));
+        assertTrue(new CacheWeigher().weigh("key", "value") > 0);
+    }
+}
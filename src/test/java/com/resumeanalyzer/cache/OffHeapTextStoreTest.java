@@ -0,0 +1,143 @@
+package com.resumeanalyzer.cache;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for slab allocation, eviction and the cache decorator of {@link OffHeapTextStore}.
+ */
+@DisplayName("Off-Heap Text Store Tests")
+class OffHeapTextStoreTest {
+
+    private static final int SLAB = 64 * 1024;
+
+    @Test
+    @DisplayName("Stored text should round-trip and be replaceable")
+    void testPutAndGet() {
+        OffHeapTextStore store = new OffHeapTextStore(4 * SLAB, SLAB, 64);
+        String report = "Résumé report: Java, Spring, Kubernetes. ".repeat(200);
+
+        assertTrue(store.put("r1", report, 0));
+        assertEquals(report, store.get("r1"));
+        assertTrue(store.storedBytes() < report.length(), "repetitive text should be stored compressed");
+
+        assertTrue(store.put("r1", "short replacement", 0));
+        assertEquals("short replacement", store.get("r1"));
+        assertEquals(1, store.size());
+
+        assertTrue(store.remove("r1"));
+        assertNull(store.get("r1"));
+        assertEquals(0, store.storedBytes());
+    }
+
+    @Test
+    @DisplayName("Expired text should read as missing")
+    void testExpiry() {
+        OffHeapTextStore store = new OffHeapTextStore(SLAB, SLAB, 64);
+        store.put("old", "value", System.currentTimeMillis() - 1);
+
+        assertNull(store.get("old"));
+        assertEquals(0, store.size());
+    }
+
+    @Test
+    @DisplayName("Direct memory should stay within budget, evicting least recently used text")
+    void testEvictsWithinBudget() {
+        OffHeapTextStore store = new OffHeapTextStore(4 * SLAB, SLAB, 64);
+        for (int i = 0; i < 500; i++) {
+            store.put("jd-" + i, randomText(4000), 0);
+            store.get("jd-0");
+        }
+
+        assertEquals(4L * SLAB, store.allocatedBytes());
+        assertTrue(store.evictions() > 0);
+        assertNotNull(store.get("jd-0"), "recently read text should survive eviction");
+        assertNull(store.get("jd-1"));
+        assertNotNull(store.get("jd-499"));
+    }
+
+    @Test
+    @DisplayName("Slabs should move to a size class that has none once memory is full")
+    void testReassignsSlabsBetweenSizeClasses() {
+        OffHeapTextStore store = new OffHeapTextStore(2 * SLAB, SLAB, 64);
+        for (int i = 0; i < 200; i++) {
+            store.put("small-" + i, randomText(500), 0);
+        }
+        String large = randomText(20_000);
+
+        assertTrue(store.put("large", large, 0));
+        assertEquals(large, store.get("large"));
+        assertEquals(2L * SLAB, store.allocatedBytes());
+    }
+
+    @Test
+    @DisplayName("Text larger than a slab should be rejected")
+    void testRejectsOversizedText() {
+        OffHeapTextStore store = new OffHeapTextStore(2 * SLAB, SLAB, 64);
+
+        assertFalse(store.put("huge", randomText(2 * SLAB), 0));
+        assertNull(store.get("huge"));
+    }
+
+    @Test
+    @DisplayName("The cache decorator should keep only large strings off-heap")
+    void testCacheDecorator() {
+        OffHeapTextStore store = new OffHeapTextStore(4 * SLAB, SLAB, 64);
+        ConcurrentMapCache heap = new ConcurrentMapCache("job-descriptions");
+        OffHeapTextCache cache = new OffHeapTextCache(heap, store, 1024, Duration.ofHours(1), null);
+        String jobDescription = randomText(5000);
+
+        cache.put("url", jobDescription);
+        cache.put("skills", Set.of("Java"));
+        cache.put("note", "short");
+
+        assertNull(heap.get("url"));
+        assertEquals(jobDescription, cache.get("url", String.class));
+        assertEquals(Set.of("Java"), cache.get("skills").get());
+        assertEquals("short", heap.get("note").get());
+        assertEquals(1, store.size());
+
+        cache.put("url", "now short");
+        assertEquals(0, store.size());
+        assertEquals("now short", cache.get("url").get());
+
+        Cache.ValueWrapper loaded = cache.putIfAbsent("other", randomText(2000));
+        assertNull(loaded);
+        cache.clear();
+        assertNull(cache.get("other"));
+        assertNull(cache.get("skills"));
+    }
+
+    @Test
+    @DisplayName("The off-heap threshold should count UTF-8 bytes, not characters")
+    void testThresholdInBytes() {
+        OffHeapTextStore store = new OffHeapTextStore(4 * SLAB, SLAB, 64);
+        ConcurrentMapCache heap = new ConcurrentMapCache("job-descriptions");
+        OffHeapTextCache cache = new OffHeapTextCache(heap, store, 1024, Duration.ofHours(1), null);
+
+        cache.put("small", "\u00e9".repeat(400));
+        cache.put("large", "\u00e9".repeat(600));
+
+        assertNotNull(heap.get("small"));
+        assertNull(heap.get("large"));
+        assertEquals("\u00e9".repeat(600), cache.get("large", String.class));
+        assertEquals(1, store.size());
+    }
+
+    private static String randomText(int length) {
+        StringBuilder text = new StringBuilder(length);
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for (int i = 0; i < length; i++) {
+            text.append((char) ('a' + random.nextInt(26)));
+        }
+        return text.toString();
+    }
+}
@@ -0,0 +1,126 @@
+package com.resumeanalyzer.cache;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for serve-stale behaviour of {@link StaleWhileRevalidateCache}.
+ */
+@DisplayName("Stale-While-Revalidate Cache Tests")
+class StaleWhileRevalidateCacheTest {
+
+    private MutableClock clock;
+    private List<Runnable> scheduled;
+    private StaleWhileRevalidateCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        scheduled = new ArrayList<>();
+        cache = new StaleWhileRevalidateCache(new ConcurrentMapCache("resume-suggestions"),
+            Duration.ofMinutes(30), Duration.ofHours(2), Duration.ofHours(24), scheduled::add, clock);
+    }
+
+    @Test
+    @DisplayName("Stale entries should be served immediately with a single background refresh")
+    void testServesStaleAndRefreshesOnce() {
+        cache.put("k", "v1");
+        clock.advance(Duration.ofMinutes(45));
+        AtomicInteger loads = new AtomicInteger();
+
+        assertEquals("v1", cache.get("k", () -> { loads.incrementAndGet(); return "v2"; }));
+        assertEquals("v1", cache.get("k", () -> { loads.incrementAndGet(); return "v2"; }));
+        assertEquals(1, scheduled.size());
+        assertEquals(0, loads.get());
+
+        scheduled.get(0).run();
+
+        assertEquals(1, loads.get());
+        assertEquals("v2", cache.get("k", () -> "unused"));
+    }
+
+    @Test
+    @DisplayName("Entries past the hard TTL should be reloaded on the caller's thread")
+    void testReloadsAfterHardTtl() {
+        cache.put("k", "v1");
+        clock.advance(Duration.ofHours(3));
+
+        assertNull(cache.get("k"));
+        assertEquals("v2", cache.get("k", () -> "v2"));
+        assertTrue(scheduled.isEmpty());
+    }
+
+    @Test
+    @DisplayName("A failed reload should serve the last known value")
+    void testFailedReloadServesLastKnownGood() {
+        cache.put("k", List.of("keep this"));
+        clock.advance(Duration.ofHours(3));
+
+        assertEquals(List.of("keep this"), cache.get("k", () -> { throw new IllegalStateException("down"); }));
+    }
+
+    @Test
+    @DisplayName("A failed reload past the stale-if-error window should surface the error")
+    void testFailedReloadPastStaleIfErrorThrows() {
+        cache.put("k", List.of("too old"));
+        clock.advance(Duration.ofHours(27));
+
+        assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get("k", () -> { throw new IllegalStateException("down"); }));
+    }
+
+    @Test
+    @DisplayName("A failed load with nothing cached should surface the error")
+    void testFailedLoadWithoutValueThrows() {
+        assertThrows(Cache.ValueRetrievalException.class,
+            () -> cache.get("missing", () -> { throw new IllegalStateException("down"); }));
+    }
+
+    @Test
+    @DisplayName("A failed background refresh should keep the stale value")
+    void testFailedRefreshKeepsStaleValue() {
+        cache.put("k", "v1");
+        clock.advance(Duration.ofMinutes(45));
+
+        cache.get("k", () -> { throw new IllegalStateException("down"); });
+        scheduled.get(0).run();
+
+        assertEquals("v1", cache.get("k").get());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.resumeanalyzer.cache;
+
+import com.resumeanalyzer.config.CachingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import redis.embedded.RedisServer;
+
+import java.net.ServerSocket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Tests for the two-tier (L1 in-process, L2 shared) cache manager.
+ * The cross-node test runs against the embedded Redis server.
+ */
+@DisplayName("Two-Tier Cache Tests")
+class TwoTierCacheTest {
+
+    private final List<AutoCloseable> resources = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (int i = resources.size() - 1; i >= 0; i--) {
+            resources.get(i).close();
+        }
+    }
+
+    @Test
+    @DisplayName("Hot keys should be served from L1 after the first L2 hit")
+    void testL1ServesRepeatedReads() {
+        ConcurrentMapCacheManager l2Manager = new ConcurrentMapCacheManager("all-skills");
+        l2Manager.getCache("all-skills").put("all", Set.of("Java", "Go"));
+        TwoTierCacheManager manager = new TwoTierCacheManager(l2Manager, new CachingProperties.Near(), null, null);
+
+        Cache cache = manager.getCache("all-skills");
+        for (int i = 0; i < 10; i++) {
+            assertEquals(Set.of("Java", "Go"), cache.get("all").get());
+        }
+
+        TierStatistics stats = manager.getStatistics("all-skills");
+        assertEquals(1, stats.getL2Hits());
+        assertEquals(9, stats.getL1Hits());
+        assertEquals(0, stats.getMisses());
+    }
+
+    @Test
+    @DisplayName("Loader should run once and write through to L2")
+    void testValueLoaderWritesThrough() {
+        ConcurrentMapCacheManager l2Manager = new ConcurrentMapCacheManager("skills");
+        TwoTierCacheManager manager = new TwoTierCacheManager(l2Manager, new CachingProperties.Near(), null, null);
+        AtomicInteger loads = new AtomicInteger();
+
+        Cache cache = manager.getCache("skills");
+        assertEquals("v", cache.get(42, () -> { loads.incrementAndGet(); return "v"; }));
+        assertEquals("v", cache.get(42, () -> { loads.incrementAndGet(); return "other"; }));
+
+        assertEquals(1, loads.get());
+        assertEquals("v", l2Manager.getCache("skills").get(42).get());
+        assertEquals(1, manager.getStatistics("skills").getMisses());
+    }
+
+    @Test
+    @DisplayName("Loader may read the same cache without a recursive update")
+    void testLoaderReadsSameCache() {
+        ConcurrentMapCacheManager l2Manager = new ConcurrentMapCacheManager("skills");
+        TwoTierCacheManager manager = new TwoTierCacheManager(l2Manager, new CachingProperties.Near(), null, null);
+
+        Cache cache = manager.getCache("skills");
+        String outer = cache.get("outer", () -> cache.get("inner", () -> "Java") + ", Go");
+
+        assertEquals("Java, Go", outer);
+        assertEquals("Java", cache.get("inner").get());
+        assertEquals("Java, Go", l2Manager.getCache("skills").get("outer").get());
+    }
+
+    @Test
+    @DisplayName("Unknown caches should not be created by the L1 tier")
+    void testUnknownCacheDelegatesToL2() {
+        TwoTierCacheManager manager = new TwoTierCacheManager(
+            new ConcurrentMapCacheManager("skills"), new CachingProperties.Near(), null, null);
+
+        assertNull(manager.getCache("missing"));
+        assertTrue(manager.getCacheNames().contains("skills"));
+    }
+
+    @Test
+    @DisplayName("A write on one node should invalidate the other node's L1 via Redis pub/sub")
+    void testCrossNodeInvalidation() throws Exception {
+        int port = freePort();
+        RedisServer server = startRedis(port);
+        assumeTrue(server != null, "Embedded Redis is not available on this platform");
+        resources.add(server::stop);
+
+        LettuceConnectionFactory connectionFactory = new LettuceConnectionFactory(
+            new RedisStandaloneConfiguration("localhost", port));
+        connectionFactory.afterPropertiesSet();
+        resources.add(connectionFactory::destroy);
+
+        TwoTierCacheManager nodeA = node(connectionFactory);
+        TwoTierCacheManager nodeB = node(connectionFactory);
+
+        nodeA.getCache("skills").put("resume-1", "Java");
+        assertEquals("Java", nodeB.getCache("skills").get("resume-1").get());
+
+        // nodeA's own broadcast may still be in flight and drop nodeB's fresh L1 copy once
+        long deadline = System.currentTimeMillis() + 5000;
+        while (nodeB.getStatistics("skills").getL1Hits() == 0 && System.currentTimeMillis() < deadline) {
+            assertEquals("Java", nodeB.getCache("skills").get("resume-1").get());
+            Thread.sleep(20);
+        }
+        assertTrue(nodeB.getStatistics("skills").getL1Hits() > 0);
+
+        nodeA.getCache("skills").put("resume-1", "Kotlin");
+
+        deadline = System.currentTimeMillis() + 5000;
+        Object seen = nodeB.getCache("skills").get("resume-1").get();
+        while (!"Kotlin".equals(seen) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            seen = nodeB.getCache("skills").get("resume-1").get();
+        }
+        assertEquals("Kotlin", seen);
+    }
+
+    private TwoTierCacheManager node(LettuceConnectionFactory connectionFactory) throws Exception {
+        CachingProperties.Near near = new CachingProperties.Near();
+        CacheInvalidationBus bus = new CacheInvalidationBus(new StringRedisTemplate(connectionFactory), near.getChannel());
+
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(connectionFactory);
+        container.addMessageListener(bus, bus.getTopic());
+        container.afterPropertiesSet();
+        container.start();
+        resources.add(container::destroy);
+
+        return new TwoTierCacheManager(RedisCacheManager.create(connectionFactory), near, bus, null);
+    }
+
+    private static RedisServer startRedis(int port) {
+        try {
+            RedisServer server = new RedisServer(port);
+            server.start();
+            return server;
+        } catch (Exception e) {
+            return null;
+        }
+    }
+
+    private static int freePort() throws Exception {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,105 @@
+package com.resumeanalyzer.concurrent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for admission and AIMD adjustment of {@link AdaptiveConcurrencyLimiter}.
+ */
+@DisplayName("Adaptive Concurrency Limiter Tests")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final Duration FAST = Duration.ofMillis(10);
+    private static final Duration SLOW = Duration.ofSeconds(2);
+
+    private MutableClock clock;
+    private AdaptiveConcurrencyLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        limiter = new AdaptiveConcurrencyLimiter(10, 2, 20, Duration.ofSeconds(1), 0.5, clock);
+    }
+
+    @Test
+    @DisplayName("Calls beyond the limit should be refused until a slot is released")
+    void testRefusesAtLimit() {
+        for (int i = 0; i < 10; i++) {
+            assertTrue(limiter.tryAcquire());
+        }
+        assertFalse(limiter.tryAcquire());
+
+        limiter.releaseWithoutSample();
+        assertTrue(limiter.tryAcquire());
+        assertEquals(10, limiter.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Slow calls should halve the limit at most once per latency target, down to the minimum")
+    void testMultiplicativeDecrease() {
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+        limiter.release(SLOW, false);
+        limiter.release(SLOW, false);
+        assertEquals(5, limiter.getLimit(), "one decrease for one burst of slow calls");
+
+        clock.advance(Duration.ofSeconds(1));
+        limiter.release(FAST, true);
+        assertEquals(2, limiter.getLimit(), "overload counts as slow");
+
+        clock.advance(Duration.ofSeconds(1));
+        limiter.release(SLOW, false);
+        assertEquals(2, limiter.getLimit(), "never below the minimum");
+    }
+
+    @Test
+    @DisplayName("Fast calls should grow a busy limit additively, but not an idle one")
+    void testAdditiveIncrease() {
+        limiter.tryAcquire();
+        limiter.release(FAST, false);
+        assertEquals(10, limiter.getLimit(), "a mostly idle limit does not grow");
+
+        for (int round = 0; round < 10; round++) {
+            for (int i = 0; i < 10; i++) {
+                limiter.tryAcquire();
+            }
+            for (int i = 0; i < 10; i++) {
+                limiter.release(FAST, false);
+            }
+        }
+        assertTrue(limiter.getLimit() > 10 && limiter.getLimit() <= 20, "grew to " + limiter.getLimit());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,121 @@
+package com.resumeanalyzer.concurrent;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for opening and probe-based recovery of {@link CircuitBreaker}.
+ */
+@DisplayName("Circuit Breaker Tests")
+class CircuitBreakerTest {
+
+    private MutableClock clock;
+    private CircuitBreaker breaker;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock();
+        breaker = new CircuitBreaker("redis", 10, 4, 50, Duration.ofMillis(100),
+            Duration.ofSeconds(10), null, clock);
+    }
+
+    @Test
+    @DisplayName("The circuit should open once the failure rate reaches the threshold")
+    void testOpensOnFailureRate() {
+        breaker.onSuccess(0);
+        breaker.onError();
+        breaker.onSuccess(0);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState(), "below minimum calls");
+
+        breaker.onError();
+
+        assertTrue(breaker.isOpen());
+        assertFalse(breaker.tryAcquire());
+        assertEquals(1, breaker.getRejectedCount());
+    }
+
+    @Test
+    @DisplayName("Slow calls should count as failures")
+    void testSlowCallsCountAsFailures() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onSuccess(TimeUnit.MILLISECONDS.toNanos(500));
+        }
+
+        assertTrue(breaker.isOpen());
+    }
+
+    @Test
+    @DisplayName("Open circuits should refuse calls without running them")
+    void testExecuteRefusedWhileOpen() {
+        AtomicInteger calls = new AtomicInteger();
+        for (int i = 0; i < 4; i++) {
+            assertThrows(IllegalStateException.class, () -> breaker.execute(() -> {
+                calls.incrementAndGet();
+                throw new IllegalStateException("connection refused");
+            }));
+        }
+
+        assertThrows(CircuitBreaker.OpenException.class, () -> breaker.execute(calls::incrementAndGet));
+        assertEquals(4, calls.get());
+    }
+
+    @Test
+    @DisplayName("A successful probe after the open duration should close the circuit")
+    void testProbeCloses() {
+        for (int i = 0; i < 4; i++) {
+            breaker.onError();
+        }
+        AtomicInteger probes = new AtomicInteger();
+
+        breaker.probe(probes::incrementAndGet);
+        assertEquals(0, probes.get(), "probe must wait for the open duration");
+
+        clock.advance(Duration.ofSeconds(11));
+        breaker.probe(() -> {
+            probes.incrementAndGet();
+            throw new IllegalStateException("still down");
+        });
+        assertTrue(breaker.isOpen());
+
+        clock.advance(Duration.ofSeconds(11));
+        breaker.probe(probes::incrementAndGet);
+
+        assertEquals(2, probes.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.getState());
+        assertEquals(0, breaker.getFailureRate());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
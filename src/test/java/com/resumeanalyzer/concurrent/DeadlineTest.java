@@ -0,0 +1,67 @@
+package com.resumeanalyzer.concurrent;
+
+import com.resumeanalyzer.exception.DeadlineExceededException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for request deadlines and stage budgets of {@link Deadline}.
+ */
+@DisplayName("Deadline Tests")
+class DeadlineTest {
+
+    @Test
+    @DisplayName("A stage finishing in time should pass its value through")
+    void testStageInTime() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(2));
+
+        assertEquals("done", deadline.bound(CompletableFuture.completedFuture("done"), "stage").join());
+        assertFalse(deadline.isExpired());
+    }
+
+    @Test
+    @DisplayName("A stage still running at the deadline should fail without being completed itself")
+    void testStageTooSlow() {
+        Deadline deadline = Deadline.after(Duration.ofMillis(50));
+        CompletableFuture<String> stage = new CompletableFuture<>();
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> deadline.bound(stage, "Slow stage").join());
+
+        assertInstanceOf(DeadlineExceededException.class, e.getCause());
+        assertTrue(e.getCause().getMessage().contains("Slow stage"));
+        assertFalse(stage.isDone(), "the stage itself keeps running");
+        assertTrue(deadline.isExpired());
+    }
+
+    @Test
+    @DisplayName("A share should never outlast its deadline")
+    void testShare() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(2));
+
+        Deadline half = deadline.share(0.5);
+        Deadline all = deadline.share(5);
+
+        assertTrue(half.remainingMillis() <= 1000);
+        assertTrue(all.remainingMillis() <= deadline.remainingMillis() + 1);
+        assertTrue(Deadline.after(Duration.ZERO).isExpired());
+    }
+
+    @Test
+    @DisplayName("Stage failures should not be reported as deadline misses")
+    void testStageFailure() {
+        Deadline deadline = Deadline.after(Duration.ofSeconds(2));
+        CompletableFuture<String> stage = CompletableFuture.failedFuture(new IllegalArgumentException("bad input"));
+
+        CompletionException e = assertThrows(CompletionException.class,
+            () -> deadline.bound(stage, "stage").join());
+
+        assertInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+}
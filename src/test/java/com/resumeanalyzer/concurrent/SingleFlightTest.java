@@ -0,0 +1,96 @@
+package com.resumeanalyzer.concurrent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for request coalescing with {@link SingleFlight}.
+ */
+@DisplayName("SingleFlight Tests")
+class SingleFlightTest {
+
+    @Test
+    @DisplayName("Concurrent identical calls should share one execution")
+    void testConcurrentCallsCoalesce() throws Exception {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        SingleFlight<String> flight = new SingleFlight<>("test", meterRegistry);
+        AtomicInteger executions = new AtomicInteger();
+        CountDownLatch release = new CountDownLatch(1);
+        int callers = 8;
+
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> flight.execute("same-key", () -> {
+                    executions.incrementAndGet();
+                    release.await();
+                    return "result";
+                })));
+            }
+
+            long deadline = System.currentTimeMillis() + 5000;
+            while (flight.getCoalesced() < callers - 1 && System.currentTimeMillis() < deadline) {
+                Thread.sleep(5);
+            }
+            release.countDown();
+
+            for (Future<String> result : results) {
+                assertEquals("result", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        assertEquals(1, executions.get());
+        assertEquals(callers - 1, flight.getCoalesced());
+        assertEquals(callers - 1, meterRegistry.get("singleflight.coalesced").counter().count());
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Sequential calls should each run once the previous flight has landed")
+    void testSequentialCallsDoNotCoalesce() {
+        SingleFlight<Integer> flight = new SingleFlight<>("test", null);
+        AtomicInteger executions = new AtomicInteger();
+
+        flight.execute("key", executions::incrementAndGet);
+        flight.execute("key", executions::incrementAndGet);
+
+        assertEquals(2, executions.get());
+        assertEquals(0, flight.getCoalesced());
+    }
+
+    @Test
+    @DisplayName("Checked exceptions should propagate to the caller")
+    void testCheckedExceptionPropagates() {
+        SingleFlight<String> flight = new SingleFlight<>("test", null);
+
+        IOException thrown = assertThrows(IOException.class,
+            () -> flight.execute("key", () -> { throw new IOException("fetch failed"); }));
+
+        assertEquals("fetch failed", thrown.getMessage());
+        assertEquals(0, flight.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Content keys should be stable and distinguish their parts")
+    void testContentKey() {
+        assertEquals(SingleFlight.contentKey("resume", "job"), SingleFlight.contentKey("resume", "job"));
+        assertNotEquals(SingleFlight.contentKey("resume", "job"), SingleFlight.contentKey("resumejob"));
+        assertEquals(64, SingleFlight.contentKey("x").length());
+    }
+}
@@ -0,0 +1,71 @@
+package com.resumeanalyzer.concurrent;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bursts and refill of {@link TokenBucket}.
+ */
+@DisplayName("Token Bucket Tests")
+class TokenBucketTest {
+
+    @Test
+    @DisplayName("A full bucket should admit a burst of its capacity, then report the wait for the next token")
+    void testBurstThenWait() {
+        TokenBucket bucket = new TokenBucket(3, 2, new MutableClock());
+
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(500, bucket.tryAcquire(), "one token every 500 ms at 2/s");
+    }
+
+    @Test
+    @DisplayName("Tokens should refill with elapsed time up to the capacity")
+    void testRefill() {
+        MutableClock clock = new MutableClock();
+        TokenBucket bucket = new TokenBucket(2, 10, clock);
+        bucket.tryAcquire();
+        bucket.tryAcquire();
+
+        clock.advance(Duration.ofMillis(100));
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0);
+
+        clock.advance(Duration.ofSeconds(60));
+        assertEquals(0, bucket.tryAcquire());
+        assertEquals(0, bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire() > 0, "refill is capped at the capacity");
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = Instant.parse("2024-01-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -3,8 +3,10 @@ package com.resumeanalyzer.config;
 import com.resumeanalyzer.analysis.CacheableSkillExtractor;
 import com.resumeanalyzer.analysis.CacheableSkillMatcher;
 import com.resumeanalyzer.analysis.SkillMatcher;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.cache.Cache;
 import org.springframework.cache.CacheManager;
 import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
@@ -13,6 +15,7 @@ import java.util.HashSet;
 import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 /**
  * Unit tests for caching functionality without Spring context.
@@ -25,7 +28,7 @@ class CachingTest {
         "skills", "skill-matches", "all-skills", "skill-count"
     );
 
-    private final CacheableSkillExtractor skillExtractor = new CacheableSkillExtractor();
+    private final CacheableSkillExtractor skillExtractor = new CacheableSkillExtractor(new SingleFlightRegistry(mock(ObjectProvider.class)));
     private final CacheableSkillMatcher skillMatcher = new CacheableSkillMatcher();
 
     @Test
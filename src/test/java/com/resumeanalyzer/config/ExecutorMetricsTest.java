@@ -0,0 +1,54 @@
+package com.resumeanalyzer.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the pool saturation metrics of {@link ExecutorMetrics}.
+ */
+@DisplayName("Executor Metrics Tests")
+class ExecutorMetricsTest {
+
+    @Test
+    @DisplayName("A full pool should report its active and queued tasks and count rejections without changing the policy")
+    void testSaturation() throws InterruptedException {
+        MeterRegistry registry = new SimpleMeterRegistry();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(1), new ThreadPoolExecutor.AbortPolicy());
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        try {
+            new ExecutorMetrics(registry).monitor("outboundExecutor", executor);
+
+            executor.execute(() -> {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            executor.execute(() -> { });
+            assertThrows(RejectedExecutionException.class, () -> executor.execute(() -> { }));
+
+            assertEquals(1, registry.get("executor.active").tag("name", "outboundExecutor").gauge().value());
+            assertEquals(1, registry.get("executor.queued").tag("name", "outboundExecutor").gauge().value());
+            assertEquals(0, registry.get("executor.queue.remaining").tag("name", "outboundExecutor").gauge().value());
+            assertEquals(1, registry.get("executor.rejected").tag("name", "outboundExecutor").counter().count());
+        } finally {
+            release.countDown();
+            executor.shutdown();
+        }
+    }
+}
@@ -45,7 +45,7 @@ class PerformanceControllerTest {
 
     @BeforeEach
     void setUp() {
-        controller = new PerformanceController(performanceService, cacheService);
+        controller = new PerformanceController(performanceService, cacheService, null);
         mockMvc = MockMvcBuilders.standaloneSetup(controller).build();
     }
 
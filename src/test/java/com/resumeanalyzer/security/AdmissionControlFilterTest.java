@@ -0,0 +1,108 @@
+package com.resumeanalyzer.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.config.ResumeAnalyzerProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for per-caller rate limiting and load shedding of {@link AdmissionControlFilter}.
+ */
+@DisplayName("Admission Control Filter Tests")
+class AdmissionControlFilterTest {
+
+    private ResumeAnalyzerProperties properties;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResumeAnalyzerProperties();
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private AdmissionControlFilter filter() {
+        return new AdmissionControlFilter(properties, new ObjectMapper().findAndRegisterModules(), meterRegistry, Clock.systemUTC());
+    }
+
+    private static MockHttpServletResponse post(AdmissionControlFilter filter, String path, String address) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", path);
+        request.setRemoteAddr(address);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    @Test
+    @DisplayName("A caller over its rate should get 429 with Retry-After while others are admitted")
+    void testPerCallerRateLimit() throws Exception {
+        properties.getAdmission().setUserCapacity(2);
+        properties.getAdmission().setUserRefillPerSecond(0.5);
+        AdmissionControlFilter filter = filter();
+
+        assertEquals(200, post(filter, "/api/analyze", "10.0.0.1").getStatus());
+        assertEquals(200, post(filter, "/api/analyze", "10.0.0.1").getStatus());
+        MockHttpServletResponse limited = post(filter, "/api/analyze", "10.0.0.1");
+
+        assertEquals(429, limited.getStatus());
+        assertEquals("2", limited.getHeader("Retry-After"));
+        assertTrue(limited.getContentAsString().contains("RATE_LIMITED"));
+        assertEquals(200, post(filter, "/api/analyze", "10.0.0.2").getStatus());
+        assertEquals(200, post(filter, "/api/v1/health", "10.0.0.1").getStatus(), "other paths are not limited");
+        assertEquals(1, meterRegistry.get("admission.rejected").tag("reason", "user-rate").counter().count());
+    }
+
+    @Test
+    @DisplayName("Requests beyond the concurrency limit should be shed with 503")
+    void testShedsAtConcurrencyLimit() throws Exception {
+        properties.getAdmission().setInitialLimit(1);
+        properties.getAdmission().setMinLimit(1);
+        AdmissionControlFilter filter = filter();
+        assertTrue(filter.getLimiter().tryAcquire(), "occupy the only slot");
+
+        MockHttpServletResponse shed = post(filter, "/api/analyze-file", "10.0.0.1");
+
+        assertEquals(503, shed.getStatus());
+        assertEquals("1", shed.getHeader("Retry-After"));
+        assertEquals(1, meterRegistry.get("admission.rejected").tag("reason", "concurrency").counter().count());
+        filter.getLimiter().releaseWithoutSample();
+        assertEquals(200, post(filter, "/api/analyze-file", "10.0.0.1").getStatus());
+        assertEquals(0, filter.getLimiter().getInFlight(), "the slot is released after the request");
+    }
+
+    @Test
+    @DisplayName("Time the handler excludes from the latency sample should not shrink the limit")
+    void testExcludedLatency() throws Exception {
+        properties.getAdmission().setLatencyTargetMillis(50);
+        AdmissionControlFilter filter = filter();
+        int initialLimit = filter.getLimiter().getLimit();
+
+        MockHttpServletRequest waiting = new MockHttpServletRequest("POST", "/api/analyze");
+        filter.doFilter(waiting, new MockHttpServletResponse(), (request, response) -> {
+            pause(200);
+            request.setAttribute(AdmissionControlFilter.EXCLUDED_LATENCY_NANOS, TimeUnit.MILLISECONDS.toNanos(200));
+        });
+        assertEquals(initialLimit, filter.getLimiter().getLimit(), "an intended wait is not a load signal");
+
+        MockHttpServletRequest slow = new MockHttpServletRequest("POST", "/api/analyze");
+        filter.doFilter(slow, new MockHttpServletResponse(), (request, response) -> pause(200));
+        assertTrue(filter.getLimiter().getLimit() < initialLimit, "a slow request still shrinks the limit");
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -36,8 +36,8 @@ class PerformanceServiceTest {
     @BeforeEach
     void setUp() {
         meterRegistry = new SimpleMeterRegistry();
-        performanceService = new PerformanceService(cacheService, meterRegistry);
-        when(cacheService.getStats()).thenReturn("Cache Statistics: Total Keys=10");
+        performanceService = new PerformanceService(cacheService, meterRegistry, null);
+        when(cacheService.getKeyCount()).thenReturn(10L);
     }
 
     @Test
@@ -183,7 +183,7 @@ class PerformanceServiceTest {
     @Test
     @DisplayName("Should handle errors gracefully")
     void testErrorHandling() {
-        when(cacheService.getStats()).thenThrow(new RuntimeException("Cache error"));
+        when(cacheService.getKeyCount()).thenThrow(new RuntimeException("Cache error"));
 
         // Should not throw exception
         assertDoesNotThrow(() -> performanceService.getPerformanceMetrics());
@@ -1,14 +1,25 @@
 package com.resumeanalyzer.service;
 
+import com.resumeanalyzer.concurrent.CircuitBreaker;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.SessionCallback;
 import org.springframework.data.redis.core.ValueOperations;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.TimeUnit;
 
@@ -23,7 +34,10 @@ import static org.mockito.Mockito.*;
  * - Get/Set operations
  * - Type-safe retrieval
  * - TTL management
- * - Pattern-based deletion
+ * - Pattern-based deletion (SCAN + batched UNLINK)
+ * - Batched multi-key get/set/delete
+ * - Key namespacing
+ * - Circuit breaking
  * - Error handling
  */
 @ExtendWith(MockitoExtension.class)
@@ -40,7 +54,7 @@ class RedisCacheServiceTest {
 
     @BeforeEach
     void setUp() {
-        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
         cacheService = new RedisCacheService(redisTemplate);
     }
 
@@ -158,7 +172,8 @@ class RedisCacheServiceTest {
 
         cacheService.deleteAll(key1, key2, key3);
 
-        verify(redisTemplate, times(3)).delete(anyString());
+        verify(redisTemplate).unlink(List.of(key1, key2, key3));
+        verify(redisTemplate, never()).delete(anyString());
     }
 
     @Test
@@ -226,4 +241,158 @@ class RedisCacheServiceTest {
         assertNotNull(stats);
         assertTrue(stats.contains("Cache Statistics"));
     }
+
+    @Test
+    @DisplayName("Should count keys with DBSIZE instead of listing them")
+    @SuppressWarnings("unchecked")
+    void testGetKeyCount() {
+        when(redisTemplate.execute(any(RedisCallback.class))).thenReturn(42L);
+
+        assertEquals(42L, cacheService.getKeyCount());
+        assertTrue(cacheService.getStats().contains("Total Keys=42"));
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("Should delete by pattern with SCAN and batched UNLINK within the namespace")
+    void testDeleteByPatternScansNamespace() {
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 2);
+        stubScan(List.of("app:user:1", "app:user:2", "app:user:3"));
+        when(redisTemplate.unlink(anyCollection())).thenAnswer(inv -> (long) inv.<List<?>>getArgument(0).size());
+
+        service.deleteByPattern("user:*");
+
+        verify(redisTemplate).scan(argThat(options -> "app:user:*".equals(options.getPattern())));
+        verify(redisTemplate).unlink(List.of("app:user:1", "app:user:2"));
+        verify(redisTemplate).unlink(List.of("app:user:3"));
+        verify(redisTemplate, never()).keys(anyString());
+    }
+
+    @Test
+    @DisplayName("Should fall back to DEL when the server does not support UNLINK")
+    void testClearAllFallsBackToDelete() {
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 500);
+        stubScan(List.of("app:a", "app:b"));
+        when(redisTemplate.unlink(anyCollection())).thenThrow(new RuntimeException("ERR unknown command 'UNLINK'"));
+
+        service.clearAll();
+
+        verify(redisTemplate).scan(argThat(options -> "app:*".equals(options.getPattern())));
+        verify(redisTemplate).delete(List.of("app:a", "app:b"));
+    }
+
+    @Test
+    @DisplayName("Should keep using UNLINK after a transient failure")
+    void testUnlinkTransientFailureDoesNotFallBack() {
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 500);
+        stubScan(List.of("app:a"));
+        when(redisTemplate.unlink(anyCollection()))
+            .thenThrow(new RuntimeException("Command timed out after 2 second(s)"))
+            .thenReturn(1L);
+
+        service.clearAll();
+        stubScan(List.of("app:a"));
+        service.clearAll();
+
+        verify(redisTemplate, times(2)).unlink(List.of("app:a"));
+        verify(redisTemplate, never()).delete(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should prefix single-key operations with the namespace")
+    void testNamespacedKeys() {
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 500);
+        when(valueOperations.get("app:test:key")).thenReturn("v");
+
+        assertEquals(Optional.of("v"), service.get("test:key"));
+        service.delete("test:key");
+
+        verify(redisTemplate).delete("app:test:key");
+    }
+
+    @Test
+    @DisplayName("Should multi-get values with one MGET per batch")
+    void testGetAllChunked() {
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 2);
+        when(valueOperations.multiGet(List.of("app:a", "app:b"))).thenReturn(Arrays.asList("A", null));
+        when(valueOperations.multiGet(List.of("app:c"))).thenReturn(List.of("C"));
+
+        Map<String, Object> result = service.getAll(List.of("a", "b", "c"));
+
+        assertEquals(List.of("a", "c"), List.copyOf(result.keySet()));
+        assertEquals("A", result.get("a"));
+        assertEquals("C", result.get("c"));
+        verify(valueOperations, times(2)).multiGet(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should drop multi-get values of the wrong type")
+    void testGetAllTyped() {
+        when(valueOperations.multiGet(List.of("n", "s"))).thenReturn(List.of(7, "seven"));
+
+        Map<String, Integer> result = cacheService.getAll(List.of("n", "s"), Integer.class);
+
+        assertEquals(Map.of("n", 7), result);
+    }
+
+    @Test
+    @DisplayName("Should pipeline multi-set in batches")
+    @SuppressWarnings("unchecked")
+    void testSetAllPipelined() {
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 2);
+        Map<String, Object> entries = new LinkedHashMap<>();
+        entries.put("a", 1);
+        entries.put("b", 2);
+        entries.put("c", 3);
+
+        service.setAll(entries, 10, TimeUnit.MINUTES);
+
+        verify(redisTemplate, times(2)).executePipelined(any(SessionCallback.class));
+        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    }
+
+    @Test
+    @DisplayName("SCAN failures should count towards opening the circuit")
+    @SuppressWarnings("unchecked")
+    void testScanFailuresOpenCircuit() {
+        CircuitBreaker breaker = new CircuitBreaker("redis", 10, 2, 50, null, Duration.ofMinutes(1), null);
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 500, breaker);
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenThrow(new RuntimeException("Command timed out"));
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+
+        service.deleteByPattern("user:*");
+        service.clearAll();
+
+        assertTrue(breaker.isOpen());
+        verify(redisTemplate, never()).unlink(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Should stop calling Redis once the circuit opens")
+    void testOpenCircuitSkipsRedis() {
+        CircuitBreaker breaker = new CircuitBreaker("redis", 10, 2, 50, null, Duration.ofMinutes(1), null);
+        RedisCacheService service = new RedisCacheService(redisTemplate, "app:", 500, breaker);
+        when(valueOperations.get(anyString())).thenThrow(new RuntimeException("Command timed out"));
+
+        assertFalse(service.get("a").isPresent());
+        assertFalse(service.get("b").isPresent());
+        assertTrue(breaker.isOpen());
+
+        assertFalse(service.get("c").isPresent());
+        service.set("c", "value");
+        assertEquals(0, service.getKeyCount());
+
+        verify(valueOperations, times(2)).get(anyString());
+        verify(valueOperations, never()).set(anyString(), any(), anyLong(), any(TimeUnit.class));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void stubScan(List<String> keys) {
+        Iterator<String> iterator = keys.iterator();
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenAnswer(inv -> iterator.hasNext());
+        when(cursor.next()).thenAnswer(inv -> iterator.next());
+        when(redisTemplate.scan(any(ScanOptions.class))).thenReturn(cursor);
+    }
 }
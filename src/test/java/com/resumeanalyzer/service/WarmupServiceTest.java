@@ -0,0 +1,92 @@
+package com.resumeanalyzer.service;
+
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
+import com.resumeanalyzer.config.ResumeAnalyzerProperties;
+import com.resumeanalyzer.repository.AnalysisRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the startup warm-up.
+ */
+@DisplayName("WarmupService Tests")
+class WarmupServiceTest {
+
+    private ResumeAnalyzerProperties properties;
+    private AnalysisRepository analysisRepository;
+    private SimpleMeterRegistry meterRegistry;
+    private CacheableSkillExtractor skillExtractor;
+
+    @BeforeEach
+    void setUp() {
+        properties = new ResumeAnalyzerProperties();
+        properties.getWarmup().setIterations(20);
+        analysisRepository = mock(AnalysisRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        skillExtractor = spy(new CacheableSkillExtractor(new SingleFlightRegistry(mock(ObjectProvider.class))));
+    }
+
+    @Test
+    @DisplayName("Should run the synthetic corpus and warm frequent job descriptions")
+    void testWarmupRunsAllPhases() {
+        when(analysisRepository.findMostFrequentJobDescriptions(any(), any(Pageable.class)))
+            .thenReturn(List.of("Java and Spring developer", "Python data engineer"));
+
+        WarmupService warmup = warmupService();
+        warmup.run(null);
+
+        assertTrue(warmup.isCompleted());
+        assertTrue(warmup.getSkillCount() > 0);
+        assertEquals(20, warmup.getIterations());
+        assertEquals(2, warmup.getCachedJobDescriptions());
+        verify(skillExtractor).extractSkills("Java and Spring developer");
+        assertEquals(2.0, meterRegistry.get("warmup.coverage").tag("kind", "job_descriptions").gauge().value());
+        assertEquals(1, meterRegistry.get("warmup.duration").tag("phase", "jit").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should skip cache warming when recent analyses cannot be read")
+    void testWarmupToleratesRepositoryFailure() {
+        when(analysisRepository.findMostFrequentJobDescriptions(any(), any(Pageable.class)))
+            .thenThrow(new RuntimeException("database unavailable"));
+
+        WarmupService warmup = warmupService();
+        warmup.run(null);
+
+        assertTrue(warmup.isCompleted());
+        assertEquals(0, warmup.getCachedJobDescriptions());
+    }
+
+    @Test
+    @DisplayName("Should do nothing when disabled")
+    void testWarmupDisabled() {
+        properties.getWarmup().setEnabled(false);
+
+        WarmupService warmup = warmupService();
+        warmup.run(null);
+
+        assertFalse(warmup.isCompleted());
+        verifyNoInteractions(analysisRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private WarmupService warmupService() {
+        ObjectProvider<AnalysisRepository> repositoryProvider = mock(ObjectProvider.class);
+        when(repositoryProvider.getIfAvailable()).thenReturn(analysisRepository);
+        ObjectProvider<MeterRegistry> registryProvider = mock(ObjectProvider.class);
+        when(registryProvider.getIfAvailable()).thenReturn(meterRegistry);
+        return new WarmupService(properties, skillExtractor, repositoryProvider, registryProvider);
+    }
+}
@@ -1,6 +1,10 @@
 package com.resumeanalyzer.web.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.resumeanalyzer.web.dto.MultiJobAnalysisRequest;
+import com.resumeanalyzer.web.dto.MultiJobAnalysisResponse;
 import com.resumeanalyzer.web.dto.ResumeAnalysisRequest;
 import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
 import org.junit.jupiter.api.BeforeEach;
@@ -13,7 +17,10 @@ import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.MvcResult;
 
+import java.util.List;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -280,4 +287,178 @@ class ResumeAnalysisControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @Test
+    @DisplayName("Should reject an empty job description with 400")
+    void testEmptyJobDescriptionRejected() throws Exception {
+        ResumeAnalysisRequest request = new ResumeAnalysisRequest("Java developer with SQL", "   ");
+
+        mockMvc.perform(post("/api/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should rank several job descriptions against one resume")
+    void testMultiJobAnalysis() throws Exception {
+        MultiJobAnalysisRequest request = new MultiJobAnalysisRequest(
+                "Java developer with Spring Boot, SQL and Docker experience",
+                List.of(
+                        new MultiJobAnalysisRequest.Job("python", "Hiring a Python engineer with Django and AWS", null),
+                        new MultiJobAnalysisRequest.Job("java", "Hiring a Java engineer with SQL and Docker", null),
+                        new MultiJobAnalysisRequest.Job("missing", null, null)));
+
+        MvcResult result = mockMvc.perform(post("/api/analyze/multi")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        MultiJobAnalysisResponse response = objectMapper.readValue(
+                result.getResponse().getContentAsString(), MultiJobAnalysisResponse.class);
+        assertEquals(2, response.getSuccessCount());
+        assertEquals(1, response.getFailureCount());
+        assertEquals(List.of("java", "python", "missing"),
+                response.getResults().stream().map(MultiJobAnalysisResponse.Result::getId).toList());
+        assertEquals(1, response.getResults().get(0).getRank());
+        assertEquals(1, response.getResults().get(0).getIndex());
+        assertFalse(response.getResults().get(2).isSuccess());
+        assertNotNull(response.getResults().get(0).getAnalysis().getReport());
+    }
+
+    @Test
+    @DisplayName("Should reject a multi-job request without job descriptions with 400")
+    void testMultiJobAnalysisWithoutJobs() throws Exception {
+        MultiJobAnalysisRequest request = new MultiJobAnalysisRequest("Java developer with SQL", List.of());
+
+        mockMvc.perform(post("/api/analyze/multi")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Analyses should be stored by content and served with a strong ETag")
+    void testStoredAnalysis() throws Exception {
+        ResumeAnalysisRequest request = new ResumeAnalysisRequest(
+                "Stored analysis: Java developer with Docker and Kubernetes",
+                "We need a Java engineer with Kubernetes and AWS"
+        );
+        String body = objectMapper.writeValueAsString(request);
+
+        MvcResult first = mockMvc.perform(post("/api/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        String id = objectMapper.readValue(first.getResponse().getContentAsString(), ResumeAnalysisResponse.class)
+                .getAnalysisId();
+        assertNotNull(id, "Analysis ID should be returned");
+        assertEquals("/api/analyses/" + id, first.getResponse().getHeader("Content-Location"));
+
+        MvcResult again = mockMvc.perform(post("/api/analyze")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(body))
+                .andExpect(status().isOk())
+                .andReturn();
+        assertEquals(id, objectMapper.readValue(again.getResponse().getContentAsString(), ResumeAnalysisResponse.class)
+                .getAnalysisId(), "Identical inputs should map to the same analysis");
+
+        MvcResult stored = mockMvc.perform(get("/api/analyses/" + id))
+                .andExpect(status().isOk())
+                .andExpect(header().exists("ETag"))
+                .andExpect(jsonPath("$.analysisId").value(id))
+                .andReturn();
+        String etag = stored.getResponse().getHeader("ETag");
+        assertFalse(etag.startsWith("W/"), "ETag should be strong");
+
+        mockMvc.perform(get("/api/analyses/" + id).header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+        mockMvc.perform(get("/api/analyses/unknown"))
+                .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Field selection should return only the selected fields")
+    void testFieldSelection() throws Exception {
+        ResumeAnalysisRequest request = new ResumeAnalysisRequest(
+                "Field selection: Java developer with SQL",
+                "We need a Java engineer with SQL and Docker"
+        );
+
+        mockMvc.perform(post("/api/analyze")
+                .param("fields", "matchPercentage,missingSkills")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.matchPercentage").exists())
+                .andExpect(jsonPath("$.missingSkills").isArray())
+                .andExpect(jsonPath("$.matchedSkills").doesNotExist())
+                .andExpect(jsonPath("$.report").doesNotExist())
+                .andExpect(jsonPath("$.aiSuggestions").doesNotExist())
+                .andExpect(jsonPath("$.aiSuggestionsStatus").doesNotExist());
+    }
+
+    @Test
+    @DisplayName("Unknown fields should be rejected with 400")
+    void testUnknownFieldRejected() throws Exception {
+        ResumeAnalysisRequest request = new ResumeAnalysisRequest(
+                "Java developer with SQL",
+                "We need a Java engineer with SQL"
+        );
+
+        mockMvc.perform(post("/api/analyze")
+                .param("fields", "matchPercentage,salary")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Smile requests and responses should carry the same analysis as JSON")
+    void testSmileContentNegotiation() throws Exception {
+        ObjectMapper smile = new ObjectMapper(new SmileFactory());
+        MediaType smileType = MediaType.parseMediaType("application/x-jackson-smile");
+        ResumeAnalysisRequest request = new ResumeAnalysisRequest(
+                "Java developer with SQL and REST API experience",
+                "We need a Java engineer with SQL and REST knowledge"
+        );
+
+        MvcResult result = mockMvc.perform(post("/api/analyze")
+                .contentType(smileType)
+                .accept(smileType)
+                .content(smile.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(smileType))
+                .andReturn();
+
+        ResumeAnalysisResponse response = smile.readValue(result.getResponse().getContentAsByteArray(),
+                ResumeAnalysisResponse.class);
+        assertTrue(response.getMatchedSkills().contains("Java"), "Java should be matched");
+        assertNotNull(response.getReport(), "Report should be included");
+    }
+
+    @Test
+    @DisplayName("Multi-job analysis should accept and return CBOR")
+    void testCborMultiJobAnalysis() throws Exception {
+        ObjectMapper cbor = new ObjectMapper(new CBORFactory());
+        MultiJobAnalysisRequest request = new MultiJobAnalysisRequest(
+                "Java developer with Spring Boot, SQL and Docker experience",
+                List.of(new MultiJobAnalysisRequest.Job("backend", "We need a Java engineer with Spring Boot and SQL", null),
+                        new MultiJobAnalysisRequest.Job("data", "Looking for a Python data engineer with Spark", null))
+        );
+
+        MvcResult result = mockMvc.perform(post("/api/analyze/multi")
+                .contentType(MediaType.APPLICATION_CBOR)
+                .accept(MediaType.APPLICATION_CBOR)
+                .content(cbor.writeValueAsBytes(request)))
+                .andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.APPLICATION_CBOR))
+                .andReturn();
+
+        MultiJobAnalysisResponse response = cbor.readValue(result.getResponse().getContentAsByteArray(),
+                MultiJobAnalysisResponse.class);
+        assertEquals(2, response.getSuccessCount());
+        assertEquals("backend", response.getResults().get(0).getId());
+    }
 }
@@ -45,7 +45,7 @@ class SwaggerAnnotationsTest {
     void testAnalyzeMethodHasOperationAnnotation() {
         try {
             Method analyzeMethod = ResumeAnalysisController.class.getDeclaredMethod(
-                "analyze", com.resumeanalyzer.web.dto.ResumeAnalysisRequest.class);
+                "analyze", com.resumeanalyzer.web.dto.ResumeAnalysisRequest.class, String.class, Long.class);
             
             Operation operation = analyzeMethod.getAnnotation(Operation.class);
             assertNotNull(operation, "analyze() method should have @Operation annotation");
@@ -61,7 +61,7 @@ class SwaggerAnnotationsTest {
     void testAnalyzeMethodHasApiResponsesAnnotation() {
         try {
             Method analyzeMethod = ResumeAnalysisController.class.getDeclaredMethod(
-                "analyze", com.resumeanalyzer.web.dto.ResumeAnalysisRequest.class);
+                "analyze", com.resumeanalyzer.web.dto.ResumeAnalysisRequest.class, String.class, Long.class);
             
             ApiResponse[] responses = analyzeMethod.getAnnotationsByType(ApiResponse.class);
             assertTrue(responses.length > 0, "analyze() method should have @ApiResponse annotations");
@@ -1,20 +1,28 @@
 package com.resumeanalyzer.web.controller;
 
 import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
 import com.resumeanalyzer.web.dto.ComparisonRequest;
+import com.resumeanalyzer.web.service.BatchAnalysisService;
+import com.resumeanalyzer.web.service.BatchStreamService;
+import com.resumeanalyzer.web.service.ResumeComparisonService;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
 import static org.hamcrest.Matchers.*;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -32,6 +40,29 @@ class UtilityControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @MockBean
+    private BatchAnalysisService batchAnalysisService;
+
+    @MockBean
+    private BatchStreamService batchStreamService;
+
+    @MockBean
+    private ResumeComparisonService resumeComparisonService;
+
+    @BeforeEach
+    void setUp() {
+        when(batchAnalysisService.isEnabled()).thenReturn(true);
+        when(batchAnalysisService.getMaxItems()).thenReturn(100);
+        when(batchAnalysisService.analyze(anyList())).thenAnswer(invocation -> {
+            List<BatchAnalysisRequest.Item> items = invocation.getArgument(0);
+            List<BatchAnalysisResponse.Item> results = new ArrayList<>();
+            for (BatchAnalysisRequest.Item item : items) {
+                results.add(new BatchAnalysisResponse.Item(item.getId(), true, "Analysis completed", null, 1));
+            }
+            return new BatchAnalysisResponse(results, results.size(), 0, LocalDateTime.now(), 1);
+        });
+    }
+
     // ===================== Health Check Endpoint Tests =====================
 
     @Test
@@ -0,0 +1,183 @@
+package com.resumeanalyzer.web.service;
+
+import com.resumeanalyzer.ai.GeminiSuggestionService;
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+import com.resumeanalyzer.analysis.TokenStream;
+import com.resumeanalyzer.analysis.pipeline.AnalysisPipeline;
+import com.resumeanalyzer.analysis.pipeline.SkillExtractionStage;
+import com.resumeanalyzer.analysis.pipeline.ValidationStage;
+import com.resumeanalyzer.concurrent.SingleFlightRegistry;
+import com.resumeanalyzer.config.BatchProcessingProperties;
+import com.resumeanalyzer.exception.AnalysisException;
+import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+import com.resumeanalyzer.web.dto.ResumeAnalysisResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.ObjectProvider;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for parallel execution of {@link BatchAnalysisService}.
+ */
+@DisplayName("Batch Analysis Service Tests")
+class BatchAnalysisServiceTest {
+
+    private static final String JOB = "We are hiring a Java developer with Spring Boot and SQL experience";
+
+    private ExecutorService executor;
+    private BatchProcessingProperties properties;
+    private GeminiSuggestionService gemini;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        properties = new BatchProcessingProperties();
+        gemini = mock(GeminiSuggestionService.class);
+        when(gemini.generateAISuggestions(anyString(), anyString(), anySet(), anySet(), anyDouble()))
+            .thenReturn(List.of());
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static TokenStream textStartingWith(String prefix) {
+        return argThat(tokens -> tokens != null && tokens.getText().startsWith(prefix));
+    }
+
+    private BatchAnalysisService service(CacheableSkillExtractor extractor) {
+        return new BatchAnalysisService(new AnalysisPipeline(List.of(new ValidationStage(), new SkillExtractionStage(extractor))), gemini, executor, executor, properties);
+    }
+
+    @Test
+    @DisplayName("Results should come back in request order with per-item analysis")
+    void testResultsInOrder() {
+        List<BatchAnalysisRequest.Item> items = List.of(
+            new BatchAnalysisRequest.Item("a", "Java developer with Spring Boot and SQL", JOB),
+            new BatchAnalysisRequest.Item("b", "Python developer with Django", JOB),
+            new BatchAnalysisRequest.Item("c", "Java and SQL engineer", JOB));
+
+        BatchAnalysisResponse response = service(new CacheableSkillExtractor(new SingleFlightRegistry(mock(ObjectProvider.class)))).analyze(items);
+
+        assertEquals(3, response.getSuccessCount());
+        assertEquals(0, response.getFailureCount());
+        assertEquals(List.of("a", "b", "c"), response.getResults().stream().map(BatchAnalysisResponse.Item::getId).toList());
+        ResumeAnalysisResponse first = (ResumeAnalysisResponse) response.getResults().get(0).getData();
+        assertTrue(first.getMatchedSkills().contains("Java"));
+    }
+
+    @Test
+    @DisplayName("A job description shared by several items should be extracted once")
+    void testJobDescriptionExtractedOnce() {
+        CacheableSkillExtractor extractor = mock(CacheableSkillExtractor.class);
+        when(extractor.extractSkillsFromTokens(any(TokenStream.class))).thenReturn(Set.of("Java"));
+        List<BatchAnalysisRequest.Item> items = List.of(
+            new BatchAnalysisRequest.Item("1", "Java developer one", JOB),
+            new BatchAnalysisRequest.Item("2", "Java developer two", JOB),
+            new BatchAnalysisRequest.Item("3", "Java developer three", JOB));
+
+        BatchAnalysisResponse response = service(extractor).analyze(items);
+
+        assertEquals(3, response.getSuccessCount());
+        verify(extractor, times(1)).extractSkillsFromTokens(textStartingWith(JOB));
+    }
+
+    @Test
+    @DisplayName("Invalid items should fail without affecting the others")
+    void testInvalidItemFailsAlone() {
+        List<BatchAnalysisRequest.Item> items = List.of(
+            new BatchAnalysisRequest.Item("ok", "Java developer", JOB),
+            new BatchAnalysisRequest.Item("empty", "", JOB));
+
+        BatchAnalysisResponse response = service(new CacheableSkillExtractor(new SingleFlightRegistry(mock(ObjectProvider.class)))).analyze(items);
+
+        assertEquals(1, response.getSuccessCount());
+        assertTrue(response.getResults().get(0).isSuccess());
+        assertFalse(response.getResults().get(1).isSuccess());
+        assertTrue(response.getResults().get(1).getMessage().startsWith("Analysis failed"));
+    }
+
+    @Test
+    @DisplayName("An item exceeding its timeout should be reported as timed out")
+    void testItemTimeout() {
+        properties.setItemTimeoutSeconds(1);
+        AtomicInteger calls = new AtomicInteger();
+        CacheableSkillExtractor extractor = mock(CacheableSkillExtractor.class);
+        when(extractor.extractSkillsFromTokens(any(TokenStream.class))).thenAnswer(invocation -> {
+            if ("Slow resume text".equals(invocation.<TokenStream>getArgument(0).getText()) && calls.incrementAndGet() == 1) {
+                Thread.sleep(3000);
+            }
+            return Set.of("Java");
+        });
+        List<BatchAnalysisRequest.Item> items = List.of(
+            new BatchAnalysisRequest.Item("slow", "Slow resume text", JOB),
+            new BatchAnalysisRequest.Item("fast", "Fast resume text", JOB));
+
+        BatchAnalysisResponse response = service(extractor).analyze(items);
+
+        assertEquals("Analysis failed: item timed out", response.getResults().get(0).getMessage());
+        assertTrue(response.getResults().get(0).getDurationMs() >= 900);
+        assertTrue(response.getResults().get(1).isSuccess());
+    }
+
+    @Test
+    @DisplayName("Slow AI suggestions should not hold the item past the AI timeout")
+    void testSlowAiSuggestions() {
+        properties.setAiTimeoutSeconds(1);
+        when(gemini.generateAISuggestions(anyString(), anyString(), anySet(), anySet(), anyDouble())).thenAnswer(invocation -> {
+            Thread.sleep(3000);
+            return List.of("Too late");
+        });
+        CacheableSkillExtractor extractor = mock(CacheableSkillExtractor.class);
+        when(extractor.extractSkillsFromTokens(any(TokenStream.class))).thenReturn(Set.of("Java"));
+        ExecutorService outbound = Executors.newSingleThreadExecutor();
+        try {
+            BatchAnalysisService service = new BatchAnalysisService(
+                new AnalysisPipeline(List.of(new ValidationStage(), new SkillExtractionStage(extractor))),
+                gemini, executor, outbound, properties);
+
+            BatchAnalysisResponse response = service.analyze(
+                List.of(new BatchAnalysisRequest.Item("1", "Java resume text", JOB)));
+
+            BatchAnalysisResponse.Item result = response.getResults().get(0);
+            assertTrue(result.isSuccess());
+            ResumeAnalysisResponse analysis = (ResumeAnalysisResponse) result.getData();
+            assertEquals("PENDING", analysis.getAiSuggestionsStatus());
+            assertTrue(analysis.getAiSuggestions().isEmpty());
+            assertTrue(response.getDurationMs() < 2500);
+        } finally {
+            outbound.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("A failed AI call should mark the item's AI suggestions as failed")
+    void testFailedAiSuggestions() {
+        when(gemini.generateAISuggestions(anyString(), anyString(), anySet(), anySet(), anyDouble()))
+            .thenThrow(new AnalysisException("AI suggestions failed"));
+        CacheableSkillExtractor extractor = mock(CacheableSkillExtractor.class);
+        when(extractor.extractSkillsFromTokens(any(TokenStream.class))).thenReturn(Set.of("Java"));
+
+        BatchAnalysisResponse response = service(extractor).analyze(
+            List.of(new BatchAnalysisRequest.Item("1", "Java resume text", JOB)));
+
+        BatchAnalysisResponse.Item result = response.getResults().get(0);
+        assertTrue(result.isSuccess());
+        ResumeAnalysisResponse analysis = (ResumeAnalysisResponse) result.getData();
+        assertEquals("FAILED", analysis.getAiSuggestionsStatus());
+        assertTrue(analysis.getAiSuggestions().isEmpty());
+    }
+}
@@ -0,0 +1,154 @@
+package com.resumeanalyzer.web.service;
+
+import com.resumeanalyzer.ai.GeminiSuggestionService;
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+import com.resumeanalyzer.analysis.TokenStream;
+import com.resumeanalyzer.analysis.pipeline.AnalysisPipeline;
+import com.resumeanalyzer.analysis.pipeline.SkillExtractionStage;
+import com.resumeanalyzer.analysis.pipeline.ValidationStage;
+import com.resumeanalyzer.config.BatchProcessingProperties;
+import com.resumeanalyzer.web.dto.BatchAnalysisRequest;
+import com.resumeanalyzer.web.dto.BatchAnalysisResponse;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for job lifecycle and progress of {@link BatchJobService}.
+ */
+@DisplayName("Batch Job Service Tests")
+class BatchJobServiceTest {
+
+    private static final String JOB = "We are hiring a Java developer with Spring Boot and SQL experience";
+
+    private ExecutorService executor;
+    private BatchProcessingProperties properties;
+    private CacheableSkillExtractor extractor;
+    private BatchJobService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(4);
+        properties = new BatchProcessingProperties();
+        properties.getJobs().setMaxInFlightPerJob(3);
+        extractor = mock(CacheableSkillExtractor.class);
+        when(extractor.extractSkillsFromTokens(any(TokenStream.class))).thenReturn(Set.of("Java"));
+        GeminiSuggestionService gemini = mock(GeminiSuggestionService.class);
+        when(gemini.generateAISuggestions(anyString(), anyString(), anySet(), anySet(), anyDouble()))
+            .thenReturn(List.of());
+        BatchAnalysisService analysis = new BatchAnalysisService(new AnalysisPipeline(List.of(new ValidationStage(), new SkillExtractionStage(extractor))), gemini, executor, executor, properties);
+        service = new BatchJobService(analysis, executor, properties);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static TokenStream textStartingWith(String prefix) {
+        return argThat(tokens -> tokens != null && tokens.getText().startsWith(prefix));
+    }
+
+    private static List<BatchAnalysisRequest.Item> items(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> new BatchAnalysisRequest.Item("item-" + i, "Java developer number " + i, JOB))
+            .toList();
+    }
+
+    private static List<BatchAnalysisResponse.Item> drain(BatchJob job) throws InterruptedException {
+        List<BatchAnalysisResponse.Item> results = new ArrayList<>();
+        long deadline = System.currentTimeMillis() + 10000;
+        while (System.currentTimeMillis() < deadline) {
+            boolean finished = job.isFinished();
+            List<BatchAnalysisResponse.Item> more = job.awaitResults(results.size(), 1000);
+            results.addAll(more);
+            if (finished && more.isEmpty()) {
+                break;
+            }
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("A job should run every item and count results")
+    void testJobCompletes() throws Exception {
+        List<BatchAnalysisRequest.Item> items = new ArrayList<>(items(20));
+        items.add(new BatchAnalysisRequest.Item("invalid", "", JOB));
+
+        BatchJob job = service.submit(items);
+        List<BatchAnalysisResponse.Item> results = drain(job);
+
+        assertEquals(BatchJob.Status.COMPLETED, job.getStatus());
+        assertEquals(21, results.size());
+        assertEquals(20, job.getSuccessCount());
+        assertEquals(1, job.getFailureCount());
+        assertEquals(IntStream.range(0, 21).boxed().toList(),
+            results.stream().map(BatchAnalysisResponse.Item::getIndex).sorted().toList());
+        assertNotNull(job.getExpiresAt());
+        verify(extractor, times(1)).extractSkillsFromTokens(textStartingWith(JOB));
+        assertTrue(service.get(job.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Cancelling a job should stop items that have not started")
+    void testCancel() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        when(extractor.extractSkillsFromTokens(textStartingWith("Java developer"))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Set.of("Java");
+        });
+
+        BatchJob job = service.submit(items(50));
+        service.cancel(job.getId());
+        release.countDown();
+
+        assertEquals(BatchJob.Status.CANCELLED, job.getStatus());
+        assertTrue(drain(job).size() < 50);
+        assertFalse(service.cancel(job.getId()).isEmpty(), "cancelled jobs stay retrievable");
+    }
+
+    @Test
+    @DisplayName("Submissions beyond the active job limit should be refused")
+    void testActiveJobLimit() {
+        properties.getJobs().setMaxActiveJobs(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(extractor.extractSkillsFromTokens(textStartingWith("Java developer"))).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return Set.of("Java");
+        });
+
+        BatchJob first = service.submit(items(5));
+        assertThrows(RejectedExecutionException.class, () -> service.submit(items(5)));
+
+        release.countDown();
+        service.cancel(first.getId());
+    }
+
+    @Test
+    @DisplayName("Expired jobs should no longer be found")
+    void testExpiry() throws Exception {
+        properties.getJobs().setResultTtl(java.time.Duration.ZERO);
+
+        BatchJob job = service.submit(items(2));
+        drain(job);
+        Thread.sleep(5);
+        service.evictExpiredJobs();
+
+        assertTrue(service.get(job.getId()).isEmpty());
+    }
+}
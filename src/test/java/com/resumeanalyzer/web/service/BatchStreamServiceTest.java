@@ -0,0 +1,128 @@
+package com.resumeanalyzer.web.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.resumeanalyzer.ai.GeminiSuggestionService;
+import com.resumeanalyzer.analysis.CacheableSkillExtractor;
+import com.resumeanalyzer.analysis.TokenStream;
+import com.resumeanalyzer.analysis.pipeline.AnalysisPipeline;
+import com.resumeanalyzer.analysis.pipeline.SkillExtractionStage;
+import com.resumeanalyzer.analysis.pipeline.ValidationStage;
+import com.resumeanalyzer.config.BatchProcessingProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests for NDJSON ingestion and backpressure of {@link BatchStreamService}.
+ */
+@DisplayName("Batch Stream Service Tests")
+class BatchStreamServiceTest {
+
+    private static final String JOB = "We are hiring a Java developer with Spring Boot and SQL experience";
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ExecutorService executor;
+    private BatchProcessingProperties properties;
+    private CacheableSkillExtractor extractor;
+    private BatchStreamService service;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(8);
+        properties = new BatchProcessingProperties();
+        properties.getStream().setMaxInFlight(2);
+        extractor = mock(CacheableSkillExtractor.class);
+        when(extractor.extractSkillsFromTokens(any(TokenStream.class))).thenReturn(Set.of("Java"));
+        GeminiSuggestionService gemini = mock(GeminiSuggestionService.class);
+        when(gemini.generateAISuggestions(anyString(), anyString(), anySet(), anySet(), anyDouble()))
+            .thenReturn(List.of());
+        BatchAnalysisService analysis = new BatchAnalysisService(new AnalysisPipeline(List.of(new ValidationStage(), new SkillExtractionStage(extractor))), gemini, executor, executor, properties);
+        service = new BatchStreamService(analysis, executor, properties, objectMapper);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    private static TokenStream textStartingWith(String prefix) {
+        return argThat(tokens -> tokens != null && tokens.getText().startsWith(prefix));
+    }
+
+    private static String ndjson(int count) {
+        return IntStream.range(0, count)
+            .mapToObj(i -> "{\"id\":\"item-" + i + "\",\"resumeText\":\"Java developer " + i + "\",\"jobDescriptionText\":\"" + JOB + "\"}")
+            .collect(Collectors.joining("\n", "", "\n"));
+    }
+
+    private List<JsonNode> analyze(String body) throws Exception {
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        service.analyze(new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8)), output);
+        List<JsonNode> results = new ArrayList<>();
+        for (String line : output.toString(StandardCharsets.UTF_8).split("\n")) {
+            if (!line.isBlank()) {
+                results.add(objectMapper.readTree(line));
+            }
+        }
+        return results;
+    }
+
+    @Test
+    @DisplayName("Every line should produce one result line carrying its position")
+    void testOneResultPerLine() throws Exception {
+        List<JsonNode> results = analyze(ndjson(25));
+
+        assertEquals(25, results.size());
+        assertEquals(IntStream.range(0, 25).boxed().collect(Collectors.toSet()),
+            results.stream().map(node -> node.get("index").asInt()).collect(Collectors.toSet()));
+        assertTrue(results.stream().allMatch(node -> node.get("success").asBoolean()));
+    }
+
+    @Test
+    @DisplayName("No more than max-in-flight items should be pending at once")
+    void testBackpressure() throws Exception {
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+        when(extractor.extractSkillsFromTokens(textStartingWith("Java developer"))).thenAnswer(invocation -> {
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            Thread.sleep(5);
+            running.decrementAndGet();
+            return Set.of("Java");
+        });
+
+        List<JsonNode> results = analyze(ndjson(30));
+
+        assertEquals(30, results.size());
+        assertTrue(maxRunning.get() <= 2, "at most 2 items in flight, saw " + maxRunning.get());
+    }
+
+    @Test
+    @DisplayName("A malformed line should stop the upload after the items before it")
+    void testMalformedLine() throws Exception {
+        List<JsonNode> results = analyze(ndjson(3) + "{not json}\n" + ndjson(2));
+
+        assertEquals(4, results.size());
+        JsonNode last = results.get(3);
+        assertFalse(last.get("success").asBoolean());
+        assertEquals(3, last.get("index").asInt());
+        assertTrue(last.get("message").asText().contains("malformed"));
+    }
+}